@@ -0,0 +1,42 @@
+package com.tension.gorani.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 번역 작업용 스레드 구성
+ * - spring.threads.virtual.enabled=true (Java 21) 이면 Tomcat 요청 처리와 아래 외부 호출 실행기가 모두 가상 스레드를 사용한다.
+ *   GlossaryService, AuthService의 RestTemplate 호출은 요청 스레드에서 실행되므로 함께 가상 스레드로 동작한다.
+ * - 꺼져 있으면 외부 호출은 translation.io.pool-size 크기의 플랫폼 스레드 풀에서 실행된다.
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    // 번역 상태 폴링 타이머 전용 스케줄러 (실제 HTTP 호출은 translationIoExecutor에서 실행)
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService translationScheduler(
+            @Value("${translation.scheduler.pool-size:2}") int poolSize) {
+        return Executors.newScheduledThreadPool(poolSize, new CustomizableThreadFactory("translation-poll-"));
+    }
+
+    // FastAPI 작업 제출 및 상태 조회 등 블로킹 외부 호출 실행기 (gateway.reactive.enabled=true 이면 번역 호출은 WebClient 사용)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService translationIoExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${translation.io.pool-size:32}") int poolSize) {
+        if (virtualThreads) {
+            log.info("번역 외부 호출 실행기: 가상 스레드");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("translation-io-", 0).factory());
+        }
+        log.info("번역 외부 호출 실행기: 플랫폼 스레드 {}개", poolSize);
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("translation-io-"));
+    }
+}
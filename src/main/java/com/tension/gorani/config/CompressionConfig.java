@@ -0,0 +1,288 @@
+package com.tension.gorani.config;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.AttributeKey;
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.HandlerMapping;
+import reactor.netty.Connection;
+import reactor.netty.NettyPipeline;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 응답 압축
+ * - 브라우저 응답: Tomcat gzip 압축. server.compression.enabled를 따로 지정하지 않으면 켠다.
+ *   기준 크기는 server.compression.min-response-size (기본 2KB). NDJSON 응답도 압축 대상에 추가한다.
+ *   SSE(text/event-stream)는 이벤트 단위 전송이 지연되지 않도록 압축하지 않는다.
+ * - FastAPI 호출: Accept-Encoding으로 gzip/deflate를 협상하고 받은 응답을 해제한다. (http.client.compression.enabled, 기본 true)
+ *   FastAPI 쪽에 GZipMiddleware가 있어야 실제로 압축된 응답이 온다. 요청 본문은 FastAPI가 해제하지 않으므로 압축하지 않는다.
+ * 압축 전/전송 크기는 {@link CompressionMetrics}로 경로별로 기록된다.
+ */
+@Configuration
+@Slf4j
+public class CompressionConfig {
+
+    private static final String[] EXTRA_MIME_TYPES = {"application/x-ndjson"};
+    private static final String ENCODING_ATTRIBUTE = CompressionConfig.class.getName() + ".encoding";
+    private static final AttributeKey<Exchange> EXCHANGE = AttributeKey.valueOf("gateway.response-bytes");
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> responseCompressionCustomizer(
+            Environment environment, CompressionMetrics compressionMetrics) {
+        return factory -> {
+            Compression compression = factory.getCompression() != null ? factory.getCompression() : new Compression();
+            if (!environment.containsProperty("server.compression.enabled")) {
+                compression.setEnabled(true);
+            }
+            if (!environment.containsProperty("server.compression.mime-types")) {
+                compression.setMimeTypes(Stream.concat(Arrays.stream(compression.getMimeTypes()), Arrays.stream(EXTRA_MIME_TYPES))
+                        .distinct().toArray(String[]::new));
+            }
+            factory.setCompression(compression);
+            factory.addContextValves(new ResponseBytesValve(compressionMetrics));
+            log.info("응답 압축: enabled={}, minResponseSize={}", compression.getEnabled(), compression.getMinResponseSize());
+        };
+    }
+
+    // ---- RestTemplate (Apache HttpClient 5) ----
+
+    /**
+     * 전송된 응답 본문 크기 기록 (압축 해제 전 단계, ChainElement.PROTOCOL 바로 앞에 둔다)
+     */
+    static ExecChainHandler wireBytesHandler(CompressionMetrics metrics, RestTemplateConfig.Downstreams downstreams) {
+        return (request, scope, chain) -> {
+            ClassicHttpResponse response = chain.proceed(request, scope);
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                String encoding = entity.getContentEncoding();
+                scope.clientContext.setAttribute(ENCODING_ATTRIBUTE, encoding);
+                String downstream = downstreamOf(downstreams, scope.route.getTargetHost().getHostName());
+                String route = CompressionMetrics.routeOf(request.getPath());
+                response.setEntity(new CountingEntity(entity,
+                        bytes -> metrics.recordClient(downstream, route, encoding, CompressionMetrics.WIRE, bytes)));
+            }
+            return response;
+        };
+    }
+
+    /**
+     * 애플리케이션이 읽은(압축 해제 후) 응답 본문 크기 기록 (실행 체인 가장 바깥에 둔다)
+     */
+    static ExecChainHandler contentBytesHandler(CompressionMetrics metrics, RestTemplateConfig.Downstreams downstreams) {
+        return (request, scope, chain) -> {
+            ClassicHttpResponse response = chain.proceed(request, scope);
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                String encoding = (String) scope.clientContext.getAttribute(ENCODING_ATTRIBUTE);
+                String downstream = downstreamOf(downstreams, scope.route.getTargetHost().getHostName());
+                String route = CompressionMetrics.routeOf(request.getPath());
+                response.setEntity(new CountingEntity(entity,
+                        bytes -> metrics.recordClient(downstream, route, encoding, CompressionMetrics.CONTENT, bytes)));
+            }
+            return response;
+        };
+    }
+
+    // ---- WebClient (Reactor Netty) ----
+
+    /**
+     * 응답 본문 크기를 압축 해제 전/후 단계에서 세어 응답 완료 시 기록
+     */
+    static HttpClient withResponseByteMetrics(HttpClient httpClient, CompressionMetrics metrics, String downstream) {
+        return httpClient
+                .doOnConnected(connection -> addCounters(connection))
+                .doOnRequest((request, connection) -> connection.channel().attr(EXCHANGE).set(new Exchange()))
+                .doAfterResponseSuccess((response, connection) -> {
+                    Exchange exchange = connection.channel().attr(EXCHANGE).getAndSet(null);
+                    if (exchange != null) {
+                        String route = CompressionMetrics.routeOf(response.fullPath());
+                        metrics.recordClient(downstream, route, exchange.encoding, CompressionMetrics.WIRE, exchange.wire.get());
+                        metrics.recordClient(downstream, route, exchange.encoding, CompressionMetrics.CONTENT, exchange.content.get());
+                    }
+                });
+    }
+
+    private static void addCounters(Connection connection) {
+        var pipeline = connection.channel().pipeline();
+        if (pipeline.get("gateway.wire-bytes") != null || pipeline.get(NettyPipeline.HttpCodec) == null) {
+            return;
+        }
+        boolean decompressing = pipeline.get(NettyPipeline.HttpDecompressor) != null;
+        pipeline.addAfter(NettyPipeline.HttpCodec, "gateway.wire-bytes", new BodyBytesCounter(true, !decompressing));
+        if (decompressing) {
+            pipeline.addAfter(NettyPipeline.HttpDecompressor, "gateway.content-bytes", new BodyBytesCounter(false, true));
+        }
+    }
+
+    private static String downstreamOf(RestTemplateConfig.Downstreams downstreams, String host) {
+        RestTemplateConfig.Downstream downstream = downstreams.forHost(host);
+        return downstream != null ? downstream.name() : "other";
+    }
+
+    // 요청 하나의 응답 본문 크기 (커넥션 속성)
+    private static final class Exchange {
+        private final AtomicLong wire = new AtomicLong();
+        private final AtomicLong content = new AtomicLong();
+        private volatile String encoding;
+    }
+
+    @ChannelHandler.Sharable
+    private static final class BodyBytesCounter extends ChannelInboundHandlerAdapter {
+        private final boolean wire;
+        private final boolean content;
+
+        private BodyBytesCounter(boolean wire, boolean content) {
+            this.wire = wire;
+            this.content = content;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            Exchange exchange = ctx.channel().attr(EXCHANGE).get();
+            if (exchange != null) {
+                if (wire && msg instanceof HttpResponse response) {
+                    exchange.encoding = response.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+                }
+                if (msg instanceof HttpContent httpContent) {
+                    int bytes = httpContent.content().readableBytes();
+                    if (wire) {
+                        exchange.wire.addAndGet(bytes);
+                    }
+                    if (content) {
+                        exchange.content.addAndGet(bytes);
+                    }
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    // ---- 공통 ----
+
+    /**
+     * 읽은 바이트 수를 세다가 스트림 끝(또는 close)에서 한 번 기록
+     */
+    private static final class CountingEntity extends HttpEntityWrapper {
+        private final LongConsumer onComplete;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private CountingEntity(HttpEntity entity, LongConsumer onComplete) {
+            super(entity);
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b < 0) {
+                        complete();
+                    } else {
+                        count.incrementAndGet();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n < 0) {
+                        complete();
+                    } else {
+                        count.addAndGet(n);
+                    }
+                    return n;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    complete();
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            try (InputStream in = getContent()) {
+                in.transferTo(outStream);
+            }
+        }
+
+        private void complete() {
+            if (recorded.compareAndSet(false, true)) {
+                onComplete.accept(count.get());
+            }
+        }
+    }
+
+    /**
+     * 브라우저 응답 크기 기록 (비동기 응답 포함, 요청 완료 시점에 Tomcat이 호출)
+     * 압축 전 크기는 애플리케이션이 쓴 바이트, 전송 크기는 압축/청크 인코딩 후 바이트 (헤더 제외)
+     */
+    static final class ResponseBytesValve extends ValveBase implements AccessLog {
+        private final CompressionMetrics metrics;
+        private boolean requestAttributesEnabled;
+
+        ResponseBytesValve(CompressionMetrics metrics) {
+            super(true);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void invoke(Request request, Response response) throws IOException, ServletException {
+            getNext().invoke(request, response);
+        }
+
+        @Override
+        public void log(Request request, Response response, long time) {
+            // 컨트롤러가 처리한 요청만 (URI 템플릿 기준)
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri) {
+                metrics.recordServer(uri, response.getHeader("Content-Encoding"),
+                        response.getContentWritten(), response.getBytesWritten(false));
+            }
+        }
+
+        @Override
+        public void setRequestAttributesEnabled(boolean requestAttributesEnabled) {
+            this.requestAttributesEnabled = requestAttributesEnabled;
+        }
+
+        @Override
+        public boolean getRequestAttributesEnabled() {
+            return requestAttributesEnabled;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tension.gorani.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 응답 본문 크기 메트릭 (압축 전 / 전송 크기)
+ * - http.client.response.bytes{downstream, route, encoding, stage}: 외부 호출(FastAPI 등) 응답
+ * - http.server.response.bytes{uri, encoding, stage}: 브라우저로 보낸 응답
+ * stage=content 는 압축 전(애플리케이션이 읽고 쓴) 본문, stage=wire 는 실제 전송된 본문이다. (헤더 제외)
+ * 두 값의 합계 차이가 압축으로 줄인 전송량이다.
+ */
+@Component
+public class CompressionMetrics {
+
+    public static final String CONTENT = "content";
+    public static final String WIRE = "wire";
+
+    // 경로의 ID 부분 (MongoDB ObjectId, UUID, 숫자)
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "^([0-9a-fA-F]{24}|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+)$");
+
+    private final MeterRegistry meterRegistry;
+
+    public CompressionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordClient(String downstream, String route, String encoding, String stage, long bytes) {
+        DistributionSummary.builder("http.client.response.bytes")
+                .baseUnit("bytes")
+                .tags("downstream", downstream, "route", route, "encoding", encoding(encoding), "stage", stage)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public void recordServer(String uri, String encoding, long contentBytes, long wireBytes) {
+        server(uri, encoding, CONTENT).record(contentBytes);
+        server(uri, encoding, WIRE).record(wireBytes);
+    }
+
+    private DistributionSummary server(String uri, String encoding, String stage) {
+        return DistributionSummary.builder("http.server.response.bytes")
+                .baseUnit("bytes")
+                .tags("uri", uri, "encoding", encoding(encoding), "stage", stage)
+                .register(meterRegistry);
+    }
+
+    // 메트릭 태그용 경로 (쿼리 제거, ID 부분은 {id})
+    public static String routeOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String[] segments = (query >= 0 ? path.substring(0, query) : path).split("/");
+        StringBuilder route = new StringBuilder();
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            route.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        return route.isEmpty() ? "/" : route.toString();
+    }
+
+    private static String encoding(String encoding) {
+        return encoding == null || encoding.isBlank() ? "identity" : encoding.trim().toLowerCase();
+    }
+}
@@ -1,14 +1,240 @@
 package com.tension.gorani.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.*;
+
+/**
+ * 외부 호출용 RestTemplate (Apache HttpClient 5 커넥션 풀)
+ * 호출 대상(fastapi, google, kakao, naver)별로 아래 속성을 둘 수 있다. (http.client.{대상}.*)
+ * - connect-timeout-ms: TCP 연결 제한 시간
+ * - read-timeout-ms: 응답 대기(소켓) 제한 시간
+ * - pool-acquire-timeout-ms: 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+ * - max-per-route: 호스트별 최대 커넥션 수
+ * - hosts: 대상 호스트 목록 (기본값은 각 서비스의 URL 속성에서 추출)
+ * 어느 대상에도 속하지 않는 호스트는 http.client.default.* (connect/read/pool-acquire timeout, max-per-route) 값을 쓴다.
+ * 그 밖에 http.client.max-total, http.client.idle-evict-seconds, http.client.keep-alive-seconds,
+ * http.client.compression.enabled (gzip/deflate 응답 협상, 기본 true).
+ * 풀 사용량은 httpcomponents.httpclient.pool.* 및 http.client.pool.route.* 메트릭으로 노출된다.
+ */
 @Configuration
+@Slf4j
 public class    RestTemplateConfig {
+
+    private static final Map<String, Downstream> DEFAULTS = Map.of(
+            "fastapi", new Downstream("fastapi", List.of(), 2000, 30000, 2000, 100),
+            "google", new Downstream("google", List.of("oauth2.googleapis.com", "www.googleapis.com"), 2000, 5000, 1000, 20),
+            "kakao", new Downstream("kakao", List.of("kauth.kakao.com", "kapi.kakao.com"), 2000, 5000, 1000, 20),
+            "naver", new Downstream("naver", List.of("nid.naver.com", "openapi.naver.com"), 2000, 5000, 1000, 20));
+    // 등록되지 않은 호스트용 (제한 시간 없이 무한 대기하지 않도록)
+    private static final Downstream FALLBACK = new Downstream("default", List.of(), 2000, 10000, 2000, 20);
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient, Downstreams downstreams) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(outboundHttpClient);
+        // 요청 대상 호스트에 맞는 응답/커넥션 획득 제한 시간 적용
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            Downstream downstream = downstreams.forHostOrDefault(uri.getHost());
+            context.setRequestConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(downstream.readTimeoutMs()))
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(downstream.poolAcquireTimeoutMs()))
+                    .build());
+            return context;
+        });
+        return new RestTemplate(requestFactory);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager,
+                                                  Downstreams downstreams,
+                                                  CompressionMetrics compressionMetrics,
+                                                  Environment environment) {
+        long idleEvictSeconds = environment.getProperty("http.client.idle-evict-seconds", Long.class, 30L);
+        boolean compression = environment.getProperty("http.client.compression.enabled", Boolean.class, true);
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                // 응답 본문 크기: 압축 해제 전(PROTOCOL 바로 앞) / 애플리케이션이 읽은 크기(가장 바깥)
+                .addExecInterceptorBefore(ChainElement.PROTOCOL.name(), "wire-bytes",
+                        CompressionConfig.wireBytesHandler(compressionMetrics, downstreams))
+                .addExecInterceptorFirst("content-bytes", CompressionConfig.contentBytesHandler(compressionMetrics, downstreams));
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager outboundConnectionManager(Downstreams downstreams,
+                                                                        Environment environment,
+                                                                        MeterRegistry meterRegistry) {
+        int maxTotal = environment.getProperty("http.client.max-total", Integer.class, 300);
+        long keepAliveSeconds = environment.getProperty("http.client.keep-alive-seconds", Long.class, 60L);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(downstreams.fallback().maxPerRoute())
+                .setConnectionConfigResolver(route -> {
+                    Downstream downstream = downstreams.forHostOrDefault(route.getTargetHost().getHostName());
+                    return ConnectionConfig.custom()
+                            .setTimeToLive(TimeValue.ofSeconds(keepAliveSeconds))
+                            .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                            .setConnectTimeout(Timeout.ofMilliseconds(downstream.connectTimeoutMs()))
+                            .setSocketTimeout(Timeout.ofMilliseconds(downstream.readTimeoutMs()))
+                            .build();
+                })
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+
+        for (Downstream downstream : downstreams.all()) {
+            List<HttpRoute> routes = downstream.hosts().stream().flatMap(host -> routes(host).stream()).toList();
+            routes.forEach(route -> connectionManager.setMaxPerRoute(route, downstream.maxPerRoute()));
+            // 대상별 풀 포화도 (leased / pending / max)
+            registerRouteGauges(meterRegistry, connectionManager, downstream.name(), routes);
+        }
+        return connectionManager;
+    }
+
+    // 호출 대상별 설정 (호스트 기준 조회)
+    @Bean
+    public Downstreams downstreams(Environment environment) {
+        Map<String, List<String>> defaultHosts = new HashMap<>();
+        defaultHosts.put("fastapi", hosts(environment.getProperty("fastapi.url")));
+        defaultHosts.put("google", concat(DEFAULTS.get("google").hosts(),
+                hosts(environment.getProperty("url.google.access-token")), hosts(environment.getProperty("url.google.profile"))));
+        defaultHosts.put("kakao", concat(DEFAULTS.get("kakao").hosts(), hosts(environment.getProperty("url.kakao.access-token"))));
+        defaultHosts.put("naver", DEFAULTS.get("naver").hosts());
+
+        List<Downstream> all = new ArrayList<>();
+        for (Downstream defaults : DEFAULTS.values()) {
+            String configuredHosts = environment.getProperty("http.client." + defaults.name() + ".hosts");
+            all.add(configure(environment, defaults,
+                    configuredHosts != null ? List.of(configuredHosts.split("\\s*,\\s*")) : defaultHosts.get(defaults.name())));
+        }
+        return new Downstreams(all, configure(environment, FALLBACK, List.of()));
+    }
+
+    private static Downstream configure(Environment environment, Downstream defaults, List<String> hosts) {
+        String prefix = "http.client." + defaults.name() + ".";
+        Downstream downstream = new Downstream(
+                defaults.name(),
+                hosts,
+                environment.getProperty(prefix + "connect-timeout-ms", Long.class, defaults.connectTimeoutMs()),
+                environment.getProperty(prefix + "read-timeout-ms", Long.class, defaults.readTimeoutMs()),
+                environment.getProperty(prefix + "pool-acquire-timeout-ms", Long.class, defaults.poolAcquireTimeoutMs()),
+                environment.getProperty(prefix + "max-per-route", Integer.class, defaults.maxPerRoute()));
+        log.info("외부 호출 설정 - {}: hosts={}, connect={}ms, read={}ms, acquire={}ms, maxPerRoute={}",
+                downstream.name(), downstream.hosts(), downstream.connectTimeoutMs(), downstream.readTimeoutMs(),
+                downstream.poolAcquireTimeoutMs(), downstream.maxPerRoute());
+        return downstream;
     }
 
+    private void registerRouteGauges(MeterRegistry meterRegistry, PoolingHttpClientConnectionManager connectionManager,
+                                     String name, List<HttpRoute> routes) {
+        Gauge.builder("http.client.pool.route.leased", connectionManager,
+                        cm -> routes.stream().mapToInt(r -> cm.getStats(r).getLeased()).sum())
+                .tag("downstream", name).register(meterRegistry);
+        Gauge.builder("http.client.pool.route.pending", connectionManager,
+                        cm -> routes.stream().mapToInt(r -> cm.getStats(r).getPending()).sum())
+                .tag("downstream", name).register(meterRegistry);
+        Gauge.builder("http.client.pool.route.max", connectionManager,
+                        cm -> routes.stream().mapToInt(r -> cm.getStats(r).getMax()).sum())
+                .tag("downstream", name).register(meterRegistry);
+    }
+
+    // 호스트에 대해 실제 사용될 수 있는 경로 (http 80 / https 443, 또는 URL에 명시된 포트)
+    private static List<HttpRoute> routes(String hostAndPort) {
+        String[] parts = hostAndPort.split(":");
+        if (parts.length == 2) {
+            int port = Integer.parseInt(parts[1]);
+            return List.of(new HttpRoute(new HttpHost("http", parts[0], port)),
+                    new HttpRoute(new HttpHost("https", parts[0], port), null, true));
+        }
+        return List.of(new HttpRoute(new HttpHost("http", hostAndPort, 80)),
+                new HttpRoute(new HttpHost("https", hostAndPort, 443), null, true));
+    }
+
+    private static List<String> hosts(String url) {
+        if (url == null || url.isBlank()) {
+            return List.of();
+        }
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() == null) {
+                return List.of();
+            }
+            return List.of(uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost());
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... lists) {
+        return Arrays.stream(lists).flatMap(List::stream).distinct().toList();
+    }
+
+    /**
+     * 호출 대상별 커넥션 설정 (hosts 항목은 "host" 또는 "host:port")
+     */
+    public record Downstream(String name, List<String> hosts, long connectTimeoutMs, long readTimeoutMs,
+                             long poolAcquireTimeoutMs, int maxPerRoute) {
+    }
+
+    public static class Downstreams {
+        private final List<Downstream> all;
+        private final Downstream fallback;
+        private final Map<String, Downstream> byHost = new HashMap<>();
+
+        public Downstreams(List<Downstream> all, Downstream fallback) {
+            this.all = List.copyOf(all);
+            this.fallback = fallback;
+            for (Downstream downstream : all) {
+                downstream.hosts().forEach(host -> byHost.put(host.split(":")[0], downstream));
+            }
+        }
+
+        public List<Downstream> all() {
+            return all;
+        }
+
+        public Downstream forHost(String host) {
+            return host == null ? null : byHost.get(host);
+        }
+
+        // 제한 시간 적용용: 등록되지 않은 호스트는 기본 설정
+        public Downstream forHostOrDefault(String host) {
+            Downstream downstream = forHost(host);
+            return downstream != null ? downstream : fallback;
+        }
+
+        public Downstream fallback() {
+            return fallback;
+        }
+    }
 }
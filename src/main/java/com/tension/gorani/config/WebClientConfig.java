@@ -0,0 +1,83 @@
+package com.tension.gorani.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 게이트웨이 모드 (gateway.reactive.enabled=true)
+ * 용어집/번역 프록시 호출을 Reactor Netty 이벤트 루프 몇 개에서 처리하여, 응답을 기다리는 동안 서블릿/작업 스레드를 점유하지 않는다.
+ * - gateway.reactive.event-loop-threads: 이벤트 루프 스레드 수 (기본값: CPU 코어 수)
+ * - gateway.reactive.max-connections: FastAPI 최대 커넥션 수
+ * - gateway.reactive.pending-acquire-max: 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+ * - gateway.reactive.max-in-memory-kb: 응답 디코딩 버퍼 상한 (배열 응답은 원소 단위로 적용)
+ * 연결/응답/커넥션 획득 제한 시간과 응답 압축 협상(http.client.compression.enabled)은 http.client.* 설정을 그대로 사용한다.
+ * 커넥션 풀 사용량은 reactor.netty.connection.provider.* 메트릭으로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "true")
+@Slf4j
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources gatewayLoopResources(
+            @Value("${gateway.reactive.event-loop-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads) {
+        log.info("게이트웨이 이벤트 루프 스레드: {}개", threads);
+        return LoopResources.create("gateway-http", threads, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fastApiConnectionProvider(
+            RestTemplateConfig.Downstreams downstreams,
+            @Value("${gateway.reactive.max-connections:1000}") int maxConnections,
+            @Value("${gateway.reactive.pending-acquire-max:10000}") int pendingAcquireMax,
+            @Value("${http.client.keep-alive-seconds:60}") long keepAliveSeconds) {
+        RestTemplateConfig.Downstream fastApi = fastApi(downstreams);
+        return ConnectionProvider.builder("fastapi")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(fastApi.poolAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(keepAliveSeconds))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient fastApiWebClient(WebClient.Builder webClientBuilder,
+                                      ConnectionProvider fastApiConnectionProvider,
+                                      LoopResources gatewayLoopResources,
+                                      RestTemplateConfig.Downstreams downstreams,
+                                      CompressionMetrics compressionMetrics,
+                                      @Value("${gateway.reactive.max-in-memory-kb:16384}") int maxInMemoryKb,
+                                      @Value("${http.client.compression.enabled:true}") boolean compression) {
+        RestTemplateConfig.Downstream fastApi = fastApi(downstreams);
+        HttpClient httpClient = HttpClient.create(fastApiConnectionProvider)
+                .runOn(gatewayLoopResources)
+                .compress(compression)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) fastApi.connectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(fastApi.readTimeoutMs()));
+        httpClient = CompressionConfig.withResponseByteMetrics(httpClient, compressionMetrics, fastApi.name());
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemoryKb * 1024))
+                .build();
+    }
+
+    private static RestTemplateConfig.Downstream fastApi(RestTemplateConfig.Downstreams downstreams) {
+        return downstreams.all().stream()
+                .filter(downstream -> "fastapi".equals(downstream.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
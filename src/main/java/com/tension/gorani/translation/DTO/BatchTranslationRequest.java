@@ -0,0 +1,19 @@
+package com.tension.gorani.translation.DTO;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class BatchTranslationRequest {
+    private List<String> segments; // 번역할 세그먼트 목록 (입력 순서대로 결과 반환)
+    private String sourceLang = "ko";
+    private String targetLang = "en";
+    private String model = "OpenAI";
+}
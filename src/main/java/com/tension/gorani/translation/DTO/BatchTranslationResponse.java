@@ -0,0 +1,38 @@
+package com.tension.gorani.translation.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTranslationResponse {
+
+    private List<SegmentResult> results; // 입력 순서와 동일
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SegmentResult {
+        private int index;
+
+        @JsonProperty("translated_text")
+        private String translatedText;
+
+        private String error; // 세그먼트 단위 실패 사유 (성공 시 null)
+
+        public static SegmentResult success(int index, String translatedText) {
+            return new SegmentResult(index, translatedText, null);
+        }
+
+        public static SegmentResult failure(int index, String error) {
+            return new SegmentResult(index, null, error);
+        }
+    }
+}
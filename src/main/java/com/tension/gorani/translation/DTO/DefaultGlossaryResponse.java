@@ -0,0 +1,44 @@
+package com.tension.gorani.translation.DTO;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI 기본 용어집 설정 응답 (갱신된 용어집 목록 또는 설정된 용어집)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DefaultGlossaryResponse {
+
+    private String message;
+
+    private List<GlossaryResponse> glossaries;
+
+    private GlossaryResponse glossary;
+
+    private final Map<String, Object> extra = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    public void putExtra(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getExtra() {
+        return extra;
+    }
+
+    public boolean hasGlossary() {
+        return glossaries != null || glossary != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tension.gorani.translation.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 용어집 변경분 (GET /api/v1/glossary/{id}/changes?since=)
+ * snapshot이 false면 since 이후의 changes를 순서대로 적용하고, true면 wordPairs로 전체를 교체한다.
+ * 다음 요청의 since에는 version을 넘긴다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlossaryChangesResponse {
+
+    private String glossaryId;
+    private long version;
+    private boolean snapshot;
+    private List<Change> changes;
+    private List<WordPairPageResponse.Item> wordPairs; // snapshot일 때만
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private long version;
+        private String type; // add / update / delete
+        private String id;
+        private String start;
+        private String arrival;
+    }
+}
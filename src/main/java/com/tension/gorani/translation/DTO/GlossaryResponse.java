@@ -0,0 +1,49 @@
+package com.tension.gorani.translation.DTO;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI 용어집 응답 (목록 조회 / 생성 / 기본 용어집 설정)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GlossaryResponse {
+
+    @JsonProperty("_id") // FastAPI(MongoDB)의 '_id'
+    @JsonAlias("id")
+    private String id;
+
+    private String name;
+
+    private Long userId;
+
+    private List<GlossaryRequest.WordPair> words;
+
+    private Boolean isDefault;
+
+    // 위에 없는 필드(생성일 등)는 그대로 보관했다가 다시 내려줌
+    private final Map<String, Object> extra = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    public void putExtra(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getExtra() {
+        return extra;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tension.gorani.translation.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationMemoryMatch {
+
+    @JsonProperty("source_text")
+    private String sourceText;  // TM에 저장된 원문
+
+    @JsonProperty("translated_text")
+    private String translatedText;  // TM에 저장된 번역문
+
+    private double similarity;  // 1.0 = 완전 일치
+
+    private boolean exact;
+}
@@ -0,0 +1,19 @@
+package com.tension.gorani.translation.DTO;
+
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class TranslationMemoryRequest {
+    private OwnerType ownerType = OwnerType.USER;  // 소유자는 로그인한 유저 (COMPANY면 유저의 소속 기업)
+    private String sourceLang = "ko";
+    private String targetLang = "en";
+    private String sourceText;
+    private String targetText;
+}
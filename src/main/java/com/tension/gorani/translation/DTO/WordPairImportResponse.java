@@ -0,0 +1,30 @@
+package com.tension.gorani.translation.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 단어쌍 일괄 가져오기 결과
+ * 잘못된 행은 건너뛰고, 사유는 앞에서부터 일부만 담는다. (errors 크기 ≤ skipped)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordPairImportResponse {
+
+    private long imported; // FastAPI에 반영된 단어쌍 수
+    private long skipped;  // 검증에 실패해 건너뛴 행 수
+    private int batches;   // FastAPI 일괄 추가 호출 수
+    private List<RowError> errors;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line; // 파일 기준 줄 번호 (1부터)
+        private String reason;
+    }
+}
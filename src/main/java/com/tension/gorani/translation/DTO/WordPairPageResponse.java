@@ -0,0 +1,35 @@
+package com.tension.gorani.translation.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 단어쌍 목록 한 페이지 (원문 기준 정렬)
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회한다. 마지막 페이지이면 null.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordPairPageResponse {
+
+    private List<Item> items;
+    private String nextCursor;
+    private int totalWordPairs; // 검색 조건과 무관한 용어집 전체 단어쌍 수
+
+    // React로 보내는 단어쌍 ('_id' 대신 'id')
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String id;
+        private String start;
+        private String arrival;
+
+        public static Item of(GlossaryRequest.WordPair wordPair) {
+            return new Item(wordPair.getId(), wordPair.getStart(), wordPair.getArrival());
+        }
+    }
+}
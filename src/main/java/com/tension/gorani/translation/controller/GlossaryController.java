@@ -1,7 +1,14 @@
 package com.tension.gorani.translation.controller;
 
+import com.tension.gorani.translation.DTO.GlossaryMessageResponse;
 import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import com.tension.gorani.translation.service.GlossaryETags;
+import com.tension.gorani.translation.service.GlossaryMutationGuard;
+import com.tension.gorani.translation.service.IdempotencyKeyReuseException;
 import com.tension.gorani.translation.service.GlossaryService;
+import com.tension.gorani.translation.service.WordPairSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,38 +16,49 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Tag(name = "Glossary")
 @RestController
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 @RequestMapping("/api/v1/glossary")
 public class GlossaryController {
 
+    // 목록 조회는 매번 ETag로 재검증 (사용자별 데이터이므로 공유 캐시에는 저장하지 않음)
+    private static final CacheControl LISTING_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final GlossaryService glossaryService;
+    private final GlossaryETags glossaryETags;
+    private final WordPairSearchService wordPairSearchService;
 
     // [1] 용어집 생성
     @Operation(summary = "용어집 저장", description = "새로운 용어집을 저장합니다.")
     @PostMapping
-    public ResponseEntity<Map<String, Object>> saveGlossary(@RequestBody GlossaryRequest glossaryRequest) {
+    public ResponseEntity<GlossaryResponse> saveGlossary(@RequestBody GlossaryRequest glossaryRequest,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
             log.info("Saving glossary: {}", glossaryRequest);
 
-            // FastAPI에서 생성된 용어집 데이터를 Map으로 반환받음
-            Map<String, Object> savedGlossary = glossaryService.saveGlossary(glossaryRequest);
+            // FastAPI에서 생성된 용어집 데이터
+            GlossaryResponse savedGlossary = glossaryService.saveGlossary(glossaryRequest, idempotencyKey);
 
             log.info("FastAPI Response: {}", savedGlossary);
 
             // React로 생성된 용어집 데이터를 그대로 반환
             return ResponseEntity.ok(savedGlossary);
+        } catch (IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(null);
         } catch (Exception e) {
             log.error("Failed to save glossary", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -63,13 +81,18 @@ public class GlossaryController {
     }
 
     // [3] 용어집 조회
+    // If-None-Match가 현재 ETag와 같으면 304 (캐시에 있는 목록이면 FastAPI 호출도 없음)
     @GetMapping
-    public ResponseEntity<?> getGlossaries(@RequestParam int userId) {
+    public ResponseEntity<?> getGlossaries(@RequestParam int userId, WebRequest webRequest) {
         try {
             log.info("Fetching glossaries for userId: {}", userId);
-            List<Map<String, Object>> glossaries = glossaryService.fetchUserGlossaries(userId);
-            // FastAPI로부터 받은 List<Map<String,Object>> 그대로 React에게 반환
-            return ResponseEntity.ok(glossaries);
+            List<GlossaryResponse> glossaries = glossaryService.fetchUserGlossaries(userId);
+            String etag = glossaryETags.of(glossaries);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+            // FastAPI로부터 받은 용어집 목록 그대로 React에게 반환
+            return ResponseEntity.ok().eTag(etag).cacheControl(LISTING_CACHE_CONTROL).body(glossaries);
         } catch (Exception e) {
             log.error("Failed to fetch glossaries for userId {}: {}", userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -81,7 +104,7 @@ public class GlossaryController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteGlossary(@PathVariable String id) {
         try {
-            Map<String, Object> response = glossaryService.deleteGlossary(id);
+            GlossaryMessageResponse response = glossaryService.deleteGlossary(id);
             // 예: {"message":"용어집 삭제 성공"} 를 FastAPI가 보내주면, 여기서 그대로 반환
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -105,10 +128,12 @@ public class GlossaryController {
 
         try {
             // FastAPI 호출을 통해 기본 용어집 설정 및 모든 용어집 반환
-            String updatedGlossariesJson = glossaryService.setDefaultGlossary(userId, glossaryId);
+            List<GlossaryResponse> glossaries = glossaryService.setDefaultGlossary(userId, glossaryId);
 
-            // 리액트에 전달할 JSON 문자열 반환
-            return ResponseEntity.ok(updatedGlossariesJson);
+            // 리액트에 전달할 JSON 문자열 반환 ('_id' 대신 'id')
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(GlossaryService.defaultGlossaryJson(glossaries));
         } catch (Exception e) {
             log.error("기본 용어집 설정 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -119,10 +144,13 @@ public class GlossaryController {
     // [4] 단어쌍 추가
     @Operation(summary = "단어쌍 추가", description = "특정 용어집에 단어쌍을 추가합니다.")
     @PostMapping("/{id}/word-pair")
-    public ResponseEntity<?> addWordPair(@PathVariable String id, @RequestBody GlossaryRequest.WordPair wordPair) {
+    public ResponseEntity<?> addWordPair(@PathVariable String id, @RequestBody GlossaryRequest.WordPair wordPair,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
-            glossaryService.addWordPair(id, wordPair);
+            glossaryService.addWordPair(id, wordPair, idempotencyKey);
             return ResponseEntity.ok(Map.of("message", "Word pair added successfully"));
+        } catch (IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to add word pair", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -136,10 +164,13 @@ public class GlossaryController {
     public ResponseEntity<?> updateWordPair(
             @PathVariable String glossaryId,
             @PathVariable String wordPairId,
-            @RequestBody GlossaryRequest.WordPair updatedWordPair) {
+            @RequestBody GlossaryRequest.WordPair updatedWordPair,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
-            glossaryService.updateWordPair(glossaryId, wordPairId, updatedWordPair);
+            glossaryService.updateWordPair(glossaryId, wordPairId, updatedWordPair, idempotencyKey);
             return ResponseEntity.ok(Map.of("message", "Word pair updated successfully"));
+        } catch (IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to update word pair", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -150,10 +181,13 @@ public class GlossaryController {
     // [6] 단어쌍 삭제
     @Operation(summary = "단어쌍 삭제", description = "특정 용어집에서 단어쌍을 삭제합니다.")
     @DeleteMapping("/{id}/word-pair/{index}")
-    public ResponseEntity<?> deleteWordPair(@PathVariable String id, @PathVariable int index) {
+    public ResponseEntity<?> deleteWordPair(@PathVariable String id, @PathVariable int index,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
-            glossaryService.deleteWordPair(id, index);
+            glossaryService.deleteWordPair(id, index, idempotencyKey);
             return ResponseEntity.ok(Map.of("message", "Word pair deleted successfully"));
+        } catch (IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to delete word pair", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -162,24 +196,45 @@ public class GlossaryController {
     }
 
     // [7] 단어쌍 조회
-    @Operation(summary = "단어쌍 조회", description = "특정 용어집의 모든 단어쌍을 조회합니다.")
+    // limit/cursor/q 중 하나라도 있으면 페이지 응답 {items, nextCursor, totalWordPairs}, 없으면 기존처럼 전체 배열
+    @Operation(summary = "단어쌍 조회", description = "특정 용어집의 단어쌍을 조회합니다. limit/cursor로 페이지를 나누고 q로 검색합니다. "
+            + "(match=prefix|contains, field=start|arrival|any)")
     @GetMapping("/{id}/word-pair")
-    public ResponseEntity<?> getWordPairs(@PathVariable String id) {
+    public ResponseEntity<?> getWordPairs(@PathVariable String id,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
         try {
+            if (q != null || cursor != null || limit != null) {
+                WordPairPageResponse page = wordPairSearchService.search(id, q, match, field, cursor, limit);
+                String etag = glossaryETags.of(page);
+                if (webRequest.checkNotModified(etag)) {
+                    return notModified(etag);
+                }
+                return ResponseEntity.ok().eTag(etag).cacheControl(LISTING_CACHE_CONTROL).body(page);
+            }
+
             List<GlossaryRequest.WordPair> wordPairs = glossaryService.getWordPairs(id);
+            String etag = glossaryETags.of(wordPairs);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
             // _id -> id 로 변환
-            List<Map<String, Object>> processedPairs = wordPairs.stream().map(pair -> {
-                Map<String, Object> map = new HashMap<>();
-                map.put("id", pair.getId());
-                map.put("start", pair.getStart());
-                map.put("arrival", pair.getArrival());
-                return map;
-            }).collect(Collectors.toList());
-            return ResponseEntity.ok(processedPairs);
+            List<WordPairPageResponse.Item> items = wordPairs.stream().map(WordPairPageResponse.Item::of).toList();
+            return ResponseEntity.ok().eTag(etag).cacheControl(LISTING_CACHE_CONTROL).body(items);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to fetch word pairs for glossaryId {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error fetching word pairs: " + e.getMessage());
         }
     }
+
+    private static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LISTING_CACHE_CONTROL).build();
+    }
 }
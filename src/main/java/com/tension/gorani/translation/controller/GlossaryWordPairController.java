@@ -0,0 +1,122 @@
+package com.tension.gorani.translation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryChangesResponse;
+import com.tension.gorani.translation.DTO.WordPairImportResponse;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import com.tension.gorani.translation.service.GlossaryChangeLog;
+import com.tension.gorani.translation.service.GlossaryMutationGuard;
+import com.tension.gorani.translation.service.GlossaryService;
+import com.tension.gorani.translation.service.IdempotencyKeyReuseException;
+import com.tension.gorani.translation.service.WordPairFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서블릿/게이트웨이 모드 공통 단어쌍 API
+ * gateway.reactive.enabled 값과 관계없이 항상 등록된다. (GlossaryController / ReactiveGlossaryController 어느 쪽이든 같은 URL)
+ * - 원문으로 찾기: GlossaryService 캐시의 목록(스냅샷이면 이진 탐색)에서 찾는다.
+ * - 가져오기/내보내기: 파일 본문을 서블릿 스트림으로 읽고 쓴다.
+ * - 변경분 조회: GlossaryService 캐시의 목록을 비교해 기록하는 {@link GlossaryChangeLog}를 쓴다.
+ * 게이트웨이 모드에서도 요청 스레드에서 블로킹으로 처리한다. (spring.threads.virtual.enabled=true 이면 가상 스레드)
+ */
+@Tag(name = "Glossary")
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/v1/glossary")
+public class GlossaryWordPairController {
+
+    private final GlossaryService glossaryService;
+    private final GlossaryChangeLog glossaryChangeLog;
+    private final ObjectMapper objectMapper;
+
+    // [7-1] 원문으로 단어쌍 찾기
+    @Operation(summary = "단어쌍 찾기", description = "원문(대소문자/앞뒤 공백 무시)이 term과 같은 단어쌍을 반환합니다.")
+    @GetMapping("/{id}/word-pair/lookup")
+    public ResponseEntity<?> lookupWordPairs(@PathVariable String id, @RequestParam String term) {
+        try {
+            List<WordPairPageResponse.Item> items = glossaryService.lookupWordPairs(id, term).stream()
+                    .map(WordPairPageResponse.Item::of).toList();
+            return ResponseEntity.ok(items);
+        } catch (Exception e) {
+            log.error("Failed to look up word pairs for glossaryId {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // [8] 단어쌍 일괄 가져오기 (CSV / TSV / JSONL)
+    // 요청 본문을 multipart가 아닌 파일 그대로 받아 스트림으로 읽는다. 예) curl --data-binary @terms.csv -H 'Content-Type: text/csv'
+    @Operation(summary = "단어쌍 가져오기", description = "CSV/TSV/JSONL 파일의 단어쌍을 용어집에 일괄 추가합니다. 잘못된 행은 건너뜁니다.")
+    @PostMapping("/{id}/word-pair/import")
+    public ResponseEntity<?> importWordPairs(@PathVariable String id,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) {
+        try {
+            WordPairFormat wordPairFormat = WordPairFormat.resolve(format, request.getContentType());
+            WordPairImportResponse response = glossaryService.importWordPairs(id, request.getInputStream(), wordPairFormat, idempotencyKey);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to import word pairs for glossaryId {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // [9] 단어쌍 내보내기 (CSV / TSV / JSONL, 기본 CSV)
+    // 반환 타입이 ResponseEntity<StreamingResponseBody>여야 스트리밍 핸들러가 처리하므로 오류 응답도 같은 타입으로 쓴다
+    @Operation(summary = "단어쌍 내보내기", description = "용어집의 단어쌍을 CSV/TSV/JSONL 파일로 내려받습니다.")
+    @GetMapping("/{id}/word-pair/export")
+    public ResponseEntity<StreamingResponseBody> exportWordPairs(@PathVariable String id, @RequestParam(required = false) String format) {
+        WordPairFormat wordPairFormat;
+        try {
+            wordPairFormat = WordPairFormat.resolve(format, null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, Map.of("error", e.getMessage())));
+        }
+        StreamingResponseBody body = out -> glossaryService.exportWordPairs(id, wordPairFormat, out);
+        return ResponseEntity.ok()
+                .contentType(wordPairFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("glossary-" + id + "." + wordPairFormat.extension()).build().toString())
+                .body(body);
+    }
+
+    // [10] 단어쌍 변경분 조회
+    // since 이후의 추가/수정/삭제만 반환. since가 없거나 기록이 잘려 나간 세대이면 전체 목록(snapshot=true)
+    @Operation(summary = "단어쌍 변경분 조회", description = "since(이전 응답의 version) 이후 바뀐 단어쌍만 반환합니다. "
+            + "기록이 남아 있지 않으면 전체 목록을 snapshot으로 반환합니다.")
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<?> getChanges(@PathVariable String id, @RequestParam(required = false) Long since) {
+        try {
+            GlossaryChangesResponse changes = glossaryChangeLog.changesSince(id, since);
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(changes);
+        } catch (Exception e) {
+            log.error("Failed to fetch changes for glossaryId {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
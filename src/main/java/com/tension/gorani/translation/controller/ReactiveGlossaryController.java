@@ -0,0 +1,228 @@
+package com.tension.gorani.translation.controller;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import com.tension.gorani.translation.service.GlossaryETags;
+import com.tension.gorani.translation.service.GlossaryMutationGuard;
+import com.tension.gorani.translation.service.IdempotencyKeyReuseException;
+import com.tension.gorani.translation.service.ReactiveGlossaryService;
+import com.tension.gorani.translation.service.WordPairSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * 논블로킹 게이트웨이 모드의 용어집 API (gateway.reactive.enabled=true 일 때 {@link GlossaryController} 대신 등록)
+ * URL과 응답 형식은 GlossaryController와 같다. Mono/Flux를 반환하므로 FastAPI 응답을 기다리는 동안 서블릿 스레드를 반환한다.
+ * 원문으로 단어쌍 찾기, 가져오기/내보내기, 변경분 조회는 두 모드 공통인 {@link GlossaryWordPairController}에 있다.
+ * 목록 조회는 Accept: application/x-ndjson 으로 요청하면 한 건씩 흘려보내며, 클라이언트가 읽는 속도에 맞춰 FastAPI에서 읽는다.
+ */
+@Tag(name = "Glossary")
+@RestController
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/v1/glossary")
+public class ReactiveGlossaryController {
+
+    private static final CacheControl LISTING_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ReactiveGlossaryService glossaryService;
+    private final GlossaryETags glossaryETags;
+    private final WordPairSearchService wordPairSearchService;
+
+    // [1] 용어집 생성
+    @Operation(summary = "용어집 저장", description = "새로운 용어집을 저장합니다.")
+    @PostMapping
+    public Mono<ResponseEntity<GlossaryResponse>> saveGlossary(@RequestBody GlossaryRequest glossaryRequest,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        log.info("Saving glossary: {}", glossaryRequest);
+        return glossaryService.saveGlossary(glossaryRequest, idempotencyKey)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IdempotencyKeyReuseException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).<GlossaryResponse>body(null)))
+                .onErrorResume(e -> {
+                    log.error("Failed to save glossary", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null));
+                });
+    }
+
+    // [2] 용어집 이름 변경
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<?>> updateGlossaryName(
+            @PathVariable String id,
+            @RequestBody Map<String, String> requestBody) {
+        String name = requestBody.get("name");
+        return glossaryService.updateGlossaryName(id, name)
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() ->
+                        ResponseEntity.ok(Map.of("message", "용어집 이름 업데이트 성공", "updatedName", name))))
+                .onErrorResume(e -> {
+                    log.error("Failed to update glossary name", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("업데이트 실패: " + e.getMessage()));
+                });
+    }
+
+    // [3] 용어집 조회
+    @GetMapping
+    public Mono<ResponseEntity<?>> getGlossaries(@RequestParam int userId) {
+        log.info("Fetching glossaries for userId: {}", userId);
+        return glossaryService.fetchUserGlossaries(userId)
+                .collectList()
+                .<ResponseEntity<?>>map(this::withETag)
+                .onErrorResume(e -> {
+                    log.error("Failed to fetch glossaries for userId {}: {}", userId, e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("error", e.getMessage())));
+                });
+    }
+
+    // [3] 용어집 조회 (NDJSON 스트리밍)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<GlossaryResponse> streamGlossaries(@RequestParam int userId) {
+        return glossaryService.fetchUserGlossaries(userId);
+    }
+
+    // [4] 용어집 삭제
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<?>> deleteGlossary(@PathVariable String id) {
+        return glossaryService.deleteGlossary(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("Failed to delete glossary", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("error", e.getMessage())));
+                });
+    }
+
+    @Operation(summary = "기본 용어집 설정", description = "특정 사용자의 기본 용어집을 설정합니다.")
+    @PutMapping("/{userId}/default")
+    public Mono<ResponseEntity<?>> setDefaultGlossary(
+            @PathVariable String userId,
+            @RequestBody Map<String, String> requestBody) {
+
+        String glossaryId = requestBody.get("glossaryId");
+
+        if (glossaryId == null || glossaryId.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("Glossary ID is missing"));
+        }
+
+        // 리액트에 전달할 JSON 문자열 반환 ('_id' 대신 'id')
+        return glossaryService.setDefaultGlossary(userId, glossaryId)
+                .<ResponseEntity<?>>map(json -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json))
+                .onErrorResume(e -> {
+                    log.error("기본 용어집 설정 실패", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("기본 용어집 설정 실패: " + e.getMessage()));
+                });
+    }
+
+    // [4] 단어쌍 추가
+    @Operation(summary = "단어쌍 추가", description = "특정 용어집에 단어쌍을 추가합니다.")
+    @PostMapping("/{id}/word-pair")
+    public Mono<ResponseEntity<?>> addWordPair(@PathVariable String id, @RequestBody GlossaryRequest.WordPair wordPair,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return glossaryService.addWordPair(id, wordPair, idempotencyKey)
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() ->
+                        ResponseEntity.ok(Map.of("message", "Word pair added successfully"))))
+                .onErrorResume(IdempotencyKeyReuseException.class, ReactiveGlossaryController::idempotencyKeyReused)
+                .onErrorResume(e -> {
+                    log.error("Failed to add word pair", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("Failed to add word pair: " + e.getMessage()));
+                });
+    }
+
+    // [5] 단어쌍 수정
+    @Operation(summary = "단어쌍 수정", description = "특정 용어집의 단어쌍을 수정합니다.")
+    @PutMapping("/{glossaryId}/word-pair/{wordPairId}")
+    public Mono<ResponseEntity<?>> updateWordPair(
+            @PathVariable String glossaryId,
+            @PathVariable String wordPairId,
+            @RequestBody GlossaryRequest.WordPair updatedWordPair,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return glossaryService.updateWordPair(glossaryId, wordPairId, updatedWordPair, idempotencyKey)
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() ->
+                        ResponseEntity.ok(Map.of("message", "Word pair updated successfully"))))
+                .onErrorResume(IdempotencyKeyReuseException.class, ReactiveGlossaryController::idempotencyKeyReused)
+                .onErrorResume(e -> {
+                    log.error("Failed to update word pair", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("Failed to update word pair: " + e.getMessage()));
+                });
+    }
+
+    // [6] 단어쌍 삭제
+    @Operation(summary = "단어쌍 삭제", description = "특정 용어집에서 단어쌍을 삭제합니다.")
+    @DeleteMapping("/{id}/word-pair/{index}")
+    public Mono<ResponseEntity<?>> deleteWordPair(@PathVariable String id, @PathVariable int index,
+            @RequestHeader(value = GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return glossaryService.deleteWordPair(id, index, idempotencyKey)
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() ->
+                        ResponseEntity.ok(Map.of("message", "Word pair deleted successfully"))))
+                .onErrorResume(IdempotencyKeyReuseException.class, ReactiveGlossaryController::idempotencyKeyReused)
+                .onErrorResume(e -> {
+                    log.error("Failed to delete word pair", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("Failed to delete word pair: " + e.getMessage()));
+                });
+    }
+
+    // [7] 단어쌍 조회
+    // limit/cursor/q 중 하나라도 있으면 GlossaryController와 같은 페이지 응답 {items, nextCursor, totalWordPairs}
+    // (검색 색인은 GlossaryService 캐시의 목록으로 만들므로 boundedElastic에서 실행), 없으면 기존처럼 FastAPI 응답을 그대로 흘려 전체 배열
+    @Operation(summary = "단어쌍 조회", description = "특정 용어집의 단어쌍을 조회합니다. limit/cursor로 페이지를 나누고 q로 검색합니다. "
+            + "(match=prefix|contains, field=start|arrival|any)")
+    @GetMapping("/{id}/word-pair")
+    public Mono<ResponseEntity<?>> getWordPairs(@PathVariable String id,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (q != null || cursor != null || limit != null) {
+            return Mono.fromCallable(() -> wordPairSearchService.search(id, q, match, field, cursor, limit))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .<ResponseEntity<?>>map(this::withETag)
+                    .onErrorResume(IllegalArgumentException.class,
+                            e -> Mono.just(ResponseEntity.badRequest().body(Map.of("error", e.getMessage()))))
+                    .onErrorResume(e -> {
+                        log.error("Failed to fetch word pairs for glossaryId {}: {}", id, e.getMessage());
+                        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body("Error fetching word pairs: " + e.getMessage()));
+                    });
+        }
+        return glossaryService.getWordPairs(id)
+                // _id -> id 로 변환
+                .map(WordPairPageResponse.Item::of)
+                .collectList()
+                .<ResponseEntity<?>>map(this::withETag)
+                .onErrorResume(e -> {
+                    log.error("Failed to fetch word pairs for glossaryId {}: {}", id, e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("Error fetching word pairs: " + e.getMessage()));
+                });
+    }
+
+    // ETag가 있는 ResponseEntity는 If-None-Match가 같으면 Spring이 본문 없이 304로 응답한다
+    private ResponseEntity<?> withETag(Object listing) {
+        return ResponseEntity.ok().eTag(glossaryETags.of(listing)).cacheControl(LISTING_CACHE_CONTROL).body(listing);
+    }
+
+    // 같은 Idempotency-Key로 내용이 다른 변경 요청 → 422
+    private static Mono<ResponseEntity<?>> idempotencyKeyReused(IdempotencyKeyReuseException e) {
+        return Mono.just(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of("error", e.getMessage())));
+    }
+}
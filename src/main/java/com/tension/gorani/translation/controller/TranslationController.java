@@ -1,14 +1,38 @@
 package com.tension.gorani.translation.controller;
 
+import com.tension.gorani.auth.service.CustomUserDetails;
+import com.tension.gorani.translation.DTO.BatchTranslationRequest;
+import com.tension.gorani.translation.DTO.BatchTranslationResponse;
+import com.tension.gorani.translation.DTO.BatchTranslationResponse.SegmentResult;
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import com.tension.gorani.translation.service.BatchTranslationService;
+import com.tension.gorani.translation.service.DocumentTranslationService;
+import com.tension.gorani.translation.service.TranslationException;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import com.tension.gorani.translation.service.TranslationModelGuard;
+import com.tension.gorani.translation.service.TranslationProgressListener;
 import com.tension.gorani.translation.service.TranslationService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Tag(name = "Translation")
 @RestController
@@ -17,32 +41,314 @@ import java.util.Map;
 @RequestMapping("/api/translation")
 public class TranslationController {
 
+    // SSE는 번역 기한(timeout-ms)이 지나 error 이벤트를 보낸 뒤 닫히도록 연결 자체의 타임아웃을 조금 더 길게 둔다
+    // (SseEmitter는 자체 타임아웃 콜백을 부르기 전에 완료 상태가 되어 그 안에서는 이벤트를 보낼 수 없음)
+    private static final long STREAM_TIMEOUT_GRACE_MS = 1000;
+    // 응답 대기 시간은 모델의 결과 대기 기한 + 여유 이상 (작업 제출 시간과 기한 직전 마지막 조회까지 받도록)
+    private static final long POLL_DEADLINE_HEADROOM_MS = 2000;
+    private static final String PENDING_MESSAGE = "번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요.";
+
     private final TranslationService translationService;
+    private final BatchTranslationService batchTranslationService;
+    private final DocumentTranslationService documentTranslationService;
+    private final TranslationMemoryService translationMemoryService;
+    private final TranslationModelGuard translationModelGuard;
+
+    @Value("${translation.async.timeout-ms:30000}")  // ✅ 비동기 응답 대기 최대 시간
+    private long asyncTimeoutMs;
+
+    @Value("${translation.document.timeout-ms:300000}")  // ✅ 문서 번역 응답 대기 최대 시간
+    private long documentTimeoutMs;
 
     @PostMapping("")
-    public ResponseEntity<?> translate(@RequestBody Map<String, String> request) {
+    public DeferredResult<ResponseEntity<?>> translate(@RequestBody Map<String, String> request,
+                                                       @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        DeferredResult<ResponseEntity<?>> deferredResult =
+                new DeferredResult<>(requestTimeoutMs(request.getOrDefault("model", "OpenAI")));
+        deferredResult.onTimeout(() -> deferredResult.setResult(
+                ResponseEntity.ok(Map.of("translated_text", PENDING_MESSAGE))));
+
         try {
             // ✅ 입력 값 검증 (text 필수)
             if (!request.containsKey("text") || request.get("text").isBlank()) {
-                return ResponseEntity.badRequest().body("❌ 'text' 값이 필요합니다.");
+                deferredResult.setResult(ResponseEntity.badRequest().body("❌ 'text' 값이 필요합니다."));
+                return deferredResult;
             }
 
             String text = request.get("text");
             String sourceLang = request.getOrDefault("sourceLang", "ko");
             String targetLang = request.getOrDefault("targetLang", "en");
             String model = request.getOrDefault("model", "OpenAI"); // ✅ 기본값 OpenAI (FastAPI에서 처리)
+            String glossaryId = request.get("glossaryId"); // ✅ 지정 시 용어집 용어를 강제 적용
+            translationModelGuard.requireSupported(model); // ✅ translation.models 에 없는 모델은 400
 
-            log.info("🔹 번역 요청 - Text: {}, Source: {}, Target: {}, Model: {}", text, sourceLang, targetLang, model);
+            log.info("🔹 번역 요청 - Text: {}, Source: {}, Target: {}, Model: {}, Glossary: {}", text, sourceLang, targetLang, model, glossaryId);
 
-            // ✅ FastAPI로 번역 요청 (OpenAI도 FastAPI에서 수행)
-            String translatedText = translationService.translateText(text, sourceLang, targetLang, model);
-
-            log.info("✅ 번역 완료 - Result: {}", translatedText);
+            // ✅ 번역 메모리 완전 일치가 있으면 FastAPI 호출 없이 반환 (로그인한 유저, companyMemory=true면 소속 기업 TM)
+            Optional<TranslationMemoryMatch> memoryMatch =
+                    findTranslationMemory(customUserDetails, request, text, sourceLang, targetLang);
+            if (memoryMatch.isPresent()) {
+                log.info("✅ 번역 메모리 일치 - Result: {}", memoryMatch.get().getTranslatedText());
+                deferredResult.setResult(ResponseEntity.ok(Map.of(
+                        "translated_text", memoryMatch.get().getTranslatedText(), "tm_match", "exact")));
+                return deferredResult;
+            }
 
-            return ResponseEntity.ok(Map.of("translated_text", translatedText));
+            // ✅ FastAPI로 번역 요청 (요청 스레드는 즉시 반환, 결과는 스케줄러에서 완료)
+            // 요청이 먼저 끝나면(타임아웃, 연결 끊김) 번역을 취소하여 상태 조회를 멈춤
+            CompletableFuture<String> translation = translationService.translateTextAsync(text, sourceLang, targetLang, model, glossaryId);
+            deferredResult.onCompletion(() -> translation.cancel(false));
+            translation
+                    .whenComplete((translatedText, ex) -> {
+                        if (ex == null) {
+                            log.info("✅ 번역 완료 - Result: {}", translatedText);
+                            deferredResult.setResult(ResponseEntity.ok(Map.of("translated_text", translatedText)));
+                            return;
+                        }
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        if (cause instanceof TranslationException) {
+                            // 기존 응답 형식 유지: 실패 안내 문구를 번역 결과 자리에 담아 반환
+                            deferredResult.setResult(ResponseEntity.ok(Map.of("translated_text", cause.getMessage())));
+                        } else {
+                            log.error("❌ 번역 오류: {}", cause.getMessage(), cause);
+                            deferredResult.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                    .body("Translation failed: " + cause.getMessage()));
+                        }
+                    });
+        } catch (IllegalArgumentException e) {
+            deferredResult.setResult(ResponseEntity.badRequest().body(e.getMessage()));
         } catch (Exception e) {
             log.error("❌ 번역 오류: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Translation failed: " + e.getMessage());
+            deferredResult.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Translation failed: " + e.getMessage()));
+        }
+        return deferredResult;
+    }
+
+    /**
+     * ✅ 여러 세그먼트 일괄 번역 (동일 언어쌍/모델 공유)
+     * 결과는 입력 순서대로 반환되며, 실패한 세그먼트는 error 필드로 개별 표시된다.
+     */
+    @PostMapping("/batch")
+    public DeferredResult<ResponseEntity<?>> translateBatch(@RequestBody BatchTranslationRequest request) {
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>(requestTimeoutMs(request.getModel()));
+        deferredResult.onTimeout(() -> deferredResult.setResult(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(PENDING_MESSAGE)));
+
+        if (request.getSegments() == null || request.getSegments().isEmpty()) {
+            deferredResult.setResult(ResponseEntity.badRequest().body("❌ 'segments' 값이 필요합니다."));
+            return deferredResult;
+        }
+
+        try {
+            translationModelGuard.requireSupported(request.getModel());
+            log.info("🔹 배치 번역 요청 - Segments: {}, Source: {}, Target: {}, Model: {}",
+                    request.getSegments().size(), request.getSourceLang(), request.getTargetLang(), request.getModel());
+
+            CompletableFuture<List<SegmentResult>> translation = batchTranslationService.translateBatch(
+                    request.getSegments(), request.getSourceLang(), request.getTargetLang(), request.getModel());
+            deferredResult.onCompletion(() -> translation.cancel(false));
+            translation
+                    .whenComplete((results, ex) -> {
+                        if (ex == null) {
+                            deferredResult.setResult(ResponseEntity.ok(new BatchTranslationResponse(results)));
+                        } else {
+                            log.error("❌ 배치 번역 오류: {}", ex.getMessage(), ex);
+                            deferredResult.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                    .body("Translation failed: " + ex.getMessage()));
+                        }
+                    });
+        } catch (IllegalArgumentException e) {
+            deferredResult.setResult(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+        return deferredResult;
+    }
+
+    /**
+     * ✅ 번역 진행 상황 스트리밍 (Accept: text/event-stream)
+     * queued → running/partial → result → done 순서로 이벤트를 보내며, 실패 시 error 이벤트 후 종료한다.
+     * (마지막 이벤트는 항상 done 또는 error, 응답 대기 시간이 지나도 error 이벤트)
+     */
+    @PostMapping(value = "", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter translateStream(@RequestBody Map<String, String> request) {
+        long timeoutMs = requestTimeoutMs(request.getOrDefault("model", "OpenAI"));
+        SseEmitter emitter = new SseEmitter(timeoutMs + STREAM_TIMEOUT_GRACE_MS);
+
+        if (!request.containsKey("text") || request.get("text").isBlank()) {
+            sendEvent(emitter, "error", Map.of("message", "❌ 'text' 값이 필요합니다."));
+            emitter.complete();
+            return emitter;
+        }
+
+        String text = request.get("text");
+        String sourceLang = request.getOrDefault("sourceLang", "ko");
+        String targetLang = request.getOrDefault("targetLang", "en");
+        String model = request.getOrDefault("model", "OpenAI");
+        String glossaryId = request.get("glossaryId");
+        if (!translationModelGuard.isSupported(model)) {
+            sendEvent(emitter, "error", Map.of("message", "❌ 지원하지 않는 모델입니다: " + model));
+            emitter.complete();
+            return emitter;
+        }
+
+        log.info("🔹 번역 스트리밍 요청 - Source: {}, Target: {}, Model: {}, Glossary: {}", sourceLang, targetLang, model, glossaryId);
+
+        TranslationProgressListener listener = new TranslationProgressListener() {
+            @Override
+            public void onQueued(String taskId) {
+                sendEvent(emitter, "queued", Map.of("task_id", taskId));
+            }
+
+            @Override
+            public void onStatus(String taskId, String status) {
+                sendEvent(emitter, "running", Map.of("task_id", taskId, "status", status));
+            }
+
+            @Override
+            public void onPartialResult(String taskId, String partialResult) {
+                sendEvent(emitter, "partial", Map.of("task_id", taskId, "translated_text", partialResult));
+            }
+        };
+
+        CompletableFuture<String> translation =
+                translationService.translateTextStreaming(text, sourceLang, targetLang, model, glossaryId, listener);
+        cancelWhenClosed(emitter, translation, timeoutMs);
+        translation.whenComplete((translatedText, ex) -> {
+            if (ex == null) {
+                sendEvent(emitter, "result", Map.of("translated_text", translatedText));
+                sendEvent(emitter, "done", Map.of());
+            } else {
+                sendEvent(emitter, "error", Map.of("message", errorMessage(ex)));
+            }
+            emitter.complete();
+        });
+
+        return emitter;
+    }
+
+    /**
+     * ✅ 긴 문서 번역 (문장/문단 단위로 나누어 병렬 번역 후 순서대로 재조립)
+     */
+    @PostMapping("/document")
+    public DeferredResult<ResponseEntity<?>> translateDocument(@RequestBody Map<String, String> request) {
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>(documentTimeoutMs);
+        deferredResult.onTimeout(() -> deferredResult.setResult(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(PENDING_MESSAGE)));
+
+        if (!request.containsKey("text") || request.get("text").isBlank()) {
+            deferredResult.setResult(ResponseEntity.badRequest().body("❌ 'text' 값이 필요합니다."));
+            return deferredResult;
+        }
+        try {
+            translationModelGuard.requireSupported(request.getOrDefault("model", "OpenAI"));
+        } catch (IllegalArgumentException e) {
+            deferredResult.setResult(ResponseEntity.badRequest().body(e.getMessage()));
+            return deferredResult;
+        }
+
+        CompletableFuture<String> translation = documentTranslationService.translateDocument(request.get("text"),
+                request.getOrDefault("sourceLang", "ko"), request.getOrDefault("targetLang", "en"),
+                request.getOrDefault("model", "OpenAI"));
+        deferredResult.onCompletion(() -> translation.cancel(false));
+        translation
+                .whenComplete((translatedText, ex) -> {
+                    if (ex == null) {
+                        deferredResult.setResult(ResponseEntity.ok(Map.of("translated_text", translatedText)));
+                    } else {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        log.error("❌ 문서 번역 오류: {}", cause.getMessage());
+                        deferredResult.setResult(ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                                .body(Map.of("error", String.valueOf(cause.getMessage()))));
+                    }
+                });
+        return deferredResult;
+    }
+
+    /**
+     * ✅ 긴 문서 번역 스트리밍 (Accept: text/event-stream)
+     * 앞부분부터 순서대로 확정된 chunk를 chunk 이벤트로 보내고, 마지막에 전체 result 이벤트를 보낸다.
+     */
+    @PostMapping(value = "/document", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter translateDocumentStream(@RequestBody Map<String, String> request) {
+        SseEmitter emitter = new SseEmitter(documentTimeoutMs + STREAM_TIMEOUT_GRACE_MS);
+
+        if (!request.containsKey("text") || request.get("text").isBlank()) {
+            sendEvent(emitter, "error", Map.of("message", "❌ 'text' 값이 필요합니다."));
+            emitter.complete();
+            return emitter;
+        }
+        if (!translationModelGuard.isSupported(request.getOrDefault("model", "OpenAI"))) {
+            sendEvent(emitter, "error", Map.of("message", "❌ 지원하지 않는 모델입니다: " + request.get("model")));
+            emitter.complete();
+            return emitter;
+        }
+
+        CompletableFuture<String> translation = documentTranslationService.translateDocument(request.get("text"),
+                request.getOrDefault("sourceLang", "ko"), request.getOrDefault("targetLang", "en"),
+                request.getOrDefault("model", "OpenAI"),
+                (index, translatedChunk) -> sendEvent(emitter, "chunk",
+                        Map.of("index", String.valueOf(index), "translated_text", translatedChunk)));
+        cancelWhenClosed(emitter, translation, documentTimeoutMs);
+        translation.whenComplete((translatedText, ex) -> {
+            if (ex == null) {
+                sendEvent(emitter, "result", Map.of("translated_text", translatedText));
+            } else {
+                sendEvent(emitter, "error", Map.of("message", errorMessage(ex)));
+            }
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    /**
+     * ✅ 모델별 Bulkhead / Circuit Breaker 상태 조회
+     */
+    @GetMapping("/models/status")
+    public ResponseEntity<?> modelStatus() {
+        return ResponseEntity.ok(translationModelGuard.status());
+    }
+
+    // 설정한 응답 대기 시간이 모델의 결과 대기 기한보다 짧으면 기한 + 여유까지 늘림
+    private long requestTimeoutMs(String model) {
+        return Math.max(asyncTimeoutMs, translationService.resultDeadlineMs(model) + POLL_DEADLINE_HEADROOM_MS);
+    }
+
+    private Optional<TranslationMemoryMatch> findTranslationMemory(CustomUserDetails customUserDetails,
+                                                                   Map<String, String> request, String text,
+                                                                   String sourceLang, String targetLang) {
+        if (customUserDetails == null || customUserDetails.getUserInfo() == null) {
+            return Optional.empty();
+        }
+        try {
+            OwnerType ownerType = Boolean.parseBoolean(request.get("companyMemory")) ? OwnerType.COMPANY : OwnerType.USER;
+            return translationMemoryService.findExact(customUserDetails.getUserInfo().getId(), ownerType,
+                    sourceLang, targetLang, text);
+        } catch (Exception e) {
+            // 번역 메모리 조회 실패는 번역 자체를 막지 않음
+            log.warn("⚠️ 번역 메모리 조회 실패: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // timeoutMs가 지나면 번역을 끝내 error 이벤트를 보내고, 스트림이 어떤 이유로든 먼저 닫히면 진행 중인 번역을 취소
+    // (번역이 결과 없이 끝나면 FastAPI 상태 조회도 멈춤)
+    private void cancelWhenClosed(SseEmitter emitter, CompletableFuture<String> translation, long timeoutMs) {
+        translation.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        emitter.onTimeout(() -> translation.cancel(false));
+        emitter.onError(ex -> translation.cancel(false));
+        emitter.onCompletion(() -> translation.cancel(false));
+    }
+
+    private static String errorMessage(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof TimeoutException ? PENDING_MESSAGE : String.valueOf(cause.getMessage());
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Map<String, String> data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우: 번역 작업은 계속 진행되고 이후 이벤트만 버려진다.
+            log.debug("SSE 전송 실패 ({}): {}", name, e.getMessage());
         }
     }
 }
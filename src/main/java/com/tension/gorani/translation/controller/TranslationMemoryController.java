@@ -0,0 +1,78 @@
+package com.tension.gorani.translation.controller;
+
+import com.tension.gorani.auth.service.CustomUserDetails;
+import com.tension.gorani.translation.DTO.TranslationMemoryRequest;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Translation Memory")
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/v1/translation-memory")
+public class TranslationMemoryController {
+
+    private final TranslationMemoryService translationMemoryService;
+
+    // [1] 원문-번역문 쌍 저장 (소유자는 로그인한 유저 또는 유저의 소속 기업)
+    @Operation(summary = "번역 메모리 저장", description = "확정된 원문/번역문 쌍을 로그인한 유저 또는 소속 기업의 번역 메모리에 저장합니다. 같은 원문은 번역문을 갱신합니다.")
+    @PostMapping
+    public ResponseEntity<?> save(@RequestBody TranslationMemoryRequest request,
+                                  @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        if (request.getSourceText() == null || request.getSourceText().isBlank()
+                || request.getTargetText() == null || request.getTargetText().isBlank()) {
+            return ResponseEntity.badRequest().body("sourceText, targetText 값이 필요합니다.");
+        }
+        try {
+            TranslationMemoryEntry saved = translationMemoryService.save(customUserDetails.getUserInfo().getId(), request);
+            return ResponseEntity.ok(Map.of("message", "번역 메모리 저장 성공", "id", saved.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Failed to save translation memory", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // [2] 완전/유사 일치 조회 (인덱스 로드를 요청 스레드에서 기다리지 않음)
+    @Operation(summary = "번역 메모리 조회", description = "로그인한 유저 또는 소속 기업의 번역 메모리에서 완전 일치 또는 유사도 기준 이상인 후보를 조회합니다.")
+    @GetMapping("/lookup")
+    public CompletableFuture<ResponseEntity<?>> lookup(@RequestParam(defaultValue = "USER") OwnerType ownerType,
+                                                       @RequestParam(defaultValue = "ko") String sourceLang,
+                                                       @RequestParam(defaultValue = "en") String targetLang,
+                                                       @RequestParam String text,
+                                                       @RequestParam(defaultValue = "5") int limit,
+                                                       @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다."));
+        }
+        Long userId = customUserDetails.getUserInfo().getId();
+        try {
+            return translationMemoryService.lookup(userId, ownerType, sourceLang, targetLang, text, limit)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(ex -> {
+                        log.error("Failed to look up translation memory for userId {}: {}", userId, ex.getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body(Map.of("error", String.valueOf(ex.getMessage())));
+                    });
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+}
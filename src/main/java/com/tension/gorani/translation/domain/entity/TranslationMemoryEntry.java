@@ -0,0 +1,61 @@
+package com.tension.gorani.translation.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "translation_memory",
+        indexes = @Index(name = "idx_tm_owner_lang", columnList = "owner_type, owner_id, source_lang, target_lang"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_tm_owner_lang_source",
+                columnNames = {"owner_type", "owner_id", "source_lang", "target_lang", "source_hash"}))
+public class TranslationMemoryEntry {
+
+    public enum OwnerType {
+        USER, COMPANY
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 10)
+    private OwnerType ownerType;  // 소유자 구분 (유저 / 기업)
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;  // 유저 ID 또는 기업 ID
+
+    @Column(name = "source_lang", nullable = false, length = 10)
+    private String sourceLang;
+
+    @Column(name = "target_lang", nullable = false, length = 10)
+    private String targetLang;
+
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;  // 공백 정규화한 원문의 SHA-256 (같은 원문은 한 행만 유지)
+
+    @Lob
+    @Column(name = "source_text", nullable = false)
+    private String sourceText;  // 원문 세그먼트
+
+    @Lob
+    @Column(name = "target_text", nullable = false)
+    private String targetText;  // 확정된 번역문
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.tension.gorani.translation.repository;
+
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, Long> {
+
+    // 인덱스 로드용: 같은 원문이 여러 행이면 나중에 저장된 번역이 남도록 id 오름차순
+    List<TranslationMemoryEntry> findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(
+            OwnerType ownerType, Long ownerId, String sourceLang, String targetLang);
+
+    // upsert용: 소유자 + 언어쌍 + 정규화한 원문 해시
+    Optional<TranslationMemoryEntry> findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+            OwnerType ownerType, Long ownerId, String sourceLang, String targetLang, String sourceHash);
+}
@@ -0,0 +1,306 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.BatchTranslationResponse.SegmentResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 세그먼트를 한 번에 번역하는 배치 처리
+ * 1. 동일한 세그먼트는 한 번만 번역 (중복 제거)
+ * 2. 캐시에 있는 세그먼트는 FastAPI 호출 없이 사용
+ * 3. 나머지는 크기 제한이 있는 그룹으로 묶어 {@code <seg id="n">...</seg>} 형식의 단일 /translate 작업으로 전송
+ * 4. 모델이 세그먼트 태그를 보존하지 않은 그룹은 세그먼트 단위로 다시 번역
+ * 그룹 작업과 개별 재번역은 배치당 동시 요청 수(translation.batch.max-concurrency) 안에서만 실행한다.
+ * (한꺼번에 보내면 모델별 Bulkhead가 대기 없이 대부분을 거절함)
+ * 반환된 future가 결과 없이 끝나면(취소 등) 대기 중인 작업은 시작하지 않고 실행 중인 작업도 취소한다.
+ * 묶음 원문은 결과 캐시에 넣지 않고, 나눈 세그먼트 결과만 캐시한다.
+ * 원문에 세그먼트 태그({@code <seg}, {@code </seg>})가 들어 있는 세그먼트는 묶지 않고 따로 번역한다.
+ * (묶으면 결과를 나눌 때 경계가 어긋남)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchTranslationService {
+
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("<seg id=\"(\\d{1,9})\">(.*?)</seg>", Pattern.DOTALL);
+    private static final Pattern SEGMENT_TAG = Pattern.compile("</?seg\\b", Pattern.CASE_INSENSITIVE);
+
+    @Value("${translation.batch.max-segments:1000}")  // ✅ 요청당 최대 세그먼트 수
+    private int maxSegments;
+
+    @Value("${translation.batch.max-group-chars:4000}")  // ✅ FastAPI 작업 하나에 묶을 최대 글자 수
+    private int maxGroupChars;
+
+    @Value("${translation.batch.max-group-segments:50}")  // ✅ FastAPI 작업 하나에 묶을 최대 세그먼트 수
+    private int maxGroupSegments;
+
+    @Value("${translation.batch.max-concurrency:4}")  // ✅ 배치당 동시에 실행할 FastAPI 작업 수
+    private int maxConcurrency = 4;
+
+    private final TranslationService translationService;
+    private final TranslationResultCache translationResultCache;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+
+    public CompletableFuture<List<SegmentResult>> translateBatch(List<String> segments, String sourceLang,
+                                                                 String targetLang, String model) {
+        if (segments.size() > maxSegments) {
+            throw new IllegalArgumentException("세그먼트는 최대 " + maxSegments + "개까지 요청할 수 있습니다.");
+        }
+
+        // 배치 번역은 용어집을 지정하지 않으므로 용어집 변경과 관계없는 세대
+        long glossaryVersion = glossaryVersionTracker.versionFor(null);
+        Map<String, String> translated = new HashMap<>();
+        List<String> pending = new ArrayList<>();
+
+        // 중복 제거 + 캐시 조회
+        for (String segment : new LinkedHashSet<>(segments)) {
+            if (segment == null || segment.isBlank()) {
+                continue;
+            }
+            String cached = translationResultCache.get(TranslationKey.of(segment, sourceLang, targetLang, model, glossaryVersion));
+            if (cached != null) {
+                translated.put(segment, cached);
+            } else {
+                pending.add(segment);
+            }
+        }
+
+        List<List<String>> groups = group(pending);
+        log.info("🔹 배치 번역 요청 - 세그먼트: {}, 고유: {}, 캐시 적중: {}, FastAPI 작업: {}",
+                segments.size(), pending.size() + translated.size(), translated.size(), groups.size());
+
+        Map<String, String> errors = new HashMap<>();
+        CallLimiter limiter = new CallLimiter(Math.max(1, maxConcurrency));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<String> group : groups) {
+            futures.add(translateGroup(group, sourceLang, targetLang, model, limiter)
+                    .thenAccept(groupResults -> {
+                        synchronized (translated) {
+                            groupResults.forEach((segment, result) -> {
+                                if (result.error() == null) {
+                                    translated.put(segment, result.text());
+                                    translationResultCache.put(
+                                            TranslationKey.of(segment, sourceLang, targetLang, model, glossaryVersion), result.text());
+                                } else {
+                                    errors.put(segment, result.error());
+                                }
+                            });
+                        }
+                    }));
+        }
+
+        CompletableFuture<List<SegmentResult>> batch = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<SegmentResult> results = new ArrayList<>(segments.size());
+                    for (int i = 0; i < segments.size(); i++) {
+                        String segment = segments.get(i);
+                        if (segment == null || segment.isBlank()) {
+                            results.add(SegmentResult.success(i, segment == null ? "" : segment));
+                        } else if (translated.containsKey(segment)) {
+                            results.add(SegmentResult.success(i, translated.get(segment)));
+                        } else {
+                            results.add(SegmentResult.failure(i, errors.getOrDefault(segment, "번역 요청 실패")));
+                        }
+                    }
+                    return results;
+                });
+        batch.whenComplete((results, ex) -> {
+            if (ex != null) {
+                limiter.cancel();
+            }
+        });
+        return batch;
+    }
+
+    // 글자 수 / 세그먼트 수 제한에 맞춰 그룹 분할 (세그먼트 태그가 들어 있으면 단독 그룹)
+    private List<List<String>> group(List<String> segments) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentChars = 0;
+        for (String segment : segments) {
+            if (SEGMENT_TAG.matcher(segment).find()) {
+                groups.add(List.of(segment));
+                continue;
+            }
+            boolean full = current.size() >= maxGroupSegments || currentChars + segment.length() > maxGroupChars;
+            if (!current.isEmpty() && full) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentChars = 0;
+            }
+            current.add(segment);
+            currentChars += segment.length();
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private CompletableFuture<Map<String, SegmentOutcome>> translateGroup(List<String> group, String sourceLang,
+                                                                          String targetLang, String model, CallLimiter limiter) {
+        if (group.size() == 1) {
+            return translateEach(group, sourceLang, targetLang, model, limiter);
+        }
+
+        StringBuilder packed = new StringBuilder();
+        for (int i = 0; i < group.size(); i++) {
+            packed.append("<seg id=\"").append(i).append("\">").append(group.get(i)).append("</seg>\n");
+        }
+
+        // 묶음 작업이 끝나면 자리를 반납한 뒤 개별 재번역을 다시 대기열에 넣음 (자리를 쥔 채 기다리면 교착)
+        return limiter.submit(() -> translationService.translateTextUncachedAsync(packed.toString(), sourceLang, targetLang, model))
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        String message = errorMessage(ex);
+                        Map<String, SegmentOutcome> failed = new HashMap<>();
+                        group.forEach(segment -> failed.put(segment, new SegmentOutcome(null, message)));
+                        return CompletableFuture.completedFuture(failed);
+                    }
+                    Map<String, SegmentOutcome> unpacked = unpack(group, result);
+                    if (unpacked != null) {
+                        return CompletableFuture.completedFuture(unpacked);
+                    }
+                    log.warn("⚠️ 세그먼트 태그가 보존되지 않아 개별 번역으로 재시도합니다. (세그먼트 {}개)", group.size());
+                    return translateEach(group, sourceLang, targetLang, model, limiter);
+                })
+                .thenCompose(future -> future);
+    }
+
+    // 번역 결과에서 세그먼트 태그를 찾아 분리. 누락/중복/범위 밖 id가 있으면 null
+    private Map<String, SegmentOutcome> unpack(List<String> group, String result) {
+        String[] parts = new String[group.size()];
+        Matcher matcher = SEGMENT_PATTERN.matcher(result);
+        while (matcher.find()) {
+            int id = Integer.parseInt(matcher.group(1));
+            if (id >= parts.length || parts[id] != null) {
+                return null;
+            }
+            parts[id] = matcher.group(2).strip();
+        }
+        Map<String, SegmentOutcome> unpacked = new HashMap<>();
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] == null) {
+                return null;
+            }
+            unpacked.put(group.get(i), new SegmentOutcome(parts[i], null));
+        }
+        return unpacked;
+    }
+
+    private CompletableFuture<Map<String, SegmentOutcome>> translateEach(List<String> group, String sourceLang,
+                                                                         String targetLang, String model, CallLimiter limiter) {
+        Map<String, SegmentOutcome> results = new HashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (String segment : group) {
+            futures.add(limiter.submit(() -> translationService.translateTextAsync(segment, sourceLang, targetLang, model))
+                    .handle((result, ex) -> {
+                        synchronized (results) {
+                            results.put(segment, ex == null
+                                    ? new SegmentOutcome(result, null)
+                                    : new SegmentOutcome(null, errorMessage(ex)));
+                        }
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> results);
+    }
+
+    private String errorMessage(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof TranslationException ? cause.getMessage() : "번역 요청 실패";
+    }
+
+    private record SegmentOutcome(String text, String error) {
+    }
+
+    /**
+     * 배치 하나의 FastAPI 작업 동시 실행 수 제한
+     * 자리가 없으면 대기열에 넣고, 앞선 작업이 끝날 때 다음 작업을 시작한다. (호출 스레드는 대기하지 않음)
+     */
+    private static final class CallLimiter {
+        private final int maxConcurrency;
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private final Set<CompletableFuture<?>> calls = ConcurrentHashMap.newKeySet();
+        private int running;
+        private volatile boolean cancelled;
+
+        private CallLimiter(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable start = () -> {
+                if (cancelled) {
+                    result.cancel(false);
+                    release();
+                    return;
+                }
+                CompletableFuture<T> future;
+                try {
+                    future = call.get();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                CompletableFuture<T> started = future;
+                calls.add(started);
+                if (cancelled) {
+                    started.cancel(false);
+                }
+                started.whenComplete((value, ex) -> {
+                    calls.remove(started);
+                    release();
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            };
+            boolean startNow;
+            synchronized (this) {
+                startNow = running < maxConcurrency;
+                if (startNow) {
+                    running++;
+                } else {
+                    waiting.add(start);
+                }
+            }
+            if (startNow) {
+                start.run();
+            }
+            return result;
+        }
+
+        // 실행 중인 작업을 취소 (대기 중인 작업은 차례가 오면 시작하지 않고 취소로 끝남)
+        private void cancel() {
+            cancelled = true;
+            calls.forEach(call -> call.cancel(false));
+        }
+
+        // 대기 중인 작업이 있으면 자리를 그대로 넘김
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.tension.gorani.translation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 문서를 번역 단위(chunk)로 분할
+ * 1. 빈 줄 기준으로 문단 분리
+ * 2. 문단 안에서 문장 분리
+ *    - 종결 부호(. ! ? … 。 ！ ？) 뒤 공백
+ *    - 부호 없이 끝나는 한국어 종결 어미: 니다/니까/~요/죠/~었다·한다 등은 같은 줄에서도,
+ *      그 밖의 다/요/까/음/함/됨은 줄바꿈이 뒤따를 때만 (바다, 모두 등 문장 중간 단어와 구분)
+ * 3. 문장들을 최대 글자 수(translation.document.max-chunk-chars) 안에서 묶음 (문단 경계는 넘지 않음)
+ * 각 chunk는 원문에서 뒤따르던 공백/줄바꿈(separator)을 기억하여 재조립 시 그대로 복원한다.
+ */
+@Component
+public class DocumentSegmenter {
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n[ \\t\\x0B\\f\\r]*\\n\\s*");
+    private static final Pattern SENTENCE_END = Pattern.compile(
+            "(?:[.!?…。！？]+[\"'”’)\\]」』]*|(?<=[다요죠까음함됨]))(\\s+)");
+    // 줄바꿈 없이도 문장 끝으로 보는 종결 어미 (문장 중간에 거의 오지 않는 형태)
+    private static final Pattern KOREAN_FINAL_ENDING = Pattern.compile(
+            "(?:니다|니까|[까어아여해세에예]요|죠|[었았였했왔갔졌웠겠는한된있없같이]다)$");
+
+    private final int maxChunkChars;
+
+    public DocumentSegmenter(@Value("${translation.document.max-chunk-chars:1500}") int maxChunkChars) {
+        this.maxChunkChars = maxChunkChars;
+    }
+
+    public List<Chunk> split(String text) {
+        List<Chunk> chunks = new ArrayList<>();
+        Matcher paragraphs = PARAGRAPH_BREAK.matcher(text);
+        int start = 0;
+        while (paragraphs.find()) {
+            addParagraph(chunks, text.substring(start, paragraphs.start()), paragraphs.group());
+            start = paragraphs.end();
+        }
+        addParagraph(chunks, text.substring(start), "");
+        return chunks;
+    }
+
+    private void addParagraph(List<Chunk> chunks, String paragraph, String paragraphSeparator) {
+        if (paragraph.isBlank()) {
+            if (!chunks.isEmpty()) {
+                Chunk last = chunks.remove(chunks.size() - 1);
+                chunks.add(new Chunk(last.text(), last.separator() + paragraph + paragraphSeparator));
+            } else if (!(paragraph + paragraphSeparator).isEmpty()) {
+                chunks.add(new Chunk("", paragraph + paragraphSeparator));
+            }
+            return;
+        }
+
+        List<Chunk> sentences = sentences(paragraph);
+        StringBuilder current = new StringBuilder();
+        String currentSeparator = "";
+        for (Chunk sentence : sentences) {
+            if (current.length() > 0 && current.length() + currentSeparator.length() + sentence.text().length() > maxChunkChars) {
+                chunks.add(new Chunk(current.toString(), currentSeparator));
+                current.setLength(0);
+                currentSeparator = "";
+            }
+            if (current.length() > 0) {
+                current.append(currentSeparator);
+            }
+            current.append(sentence.text());
+            currentSeparator = sentence.separator();
+
+            // 한 문장이 제한을 넘는 경우 공백 위치에서 강제로 나눔
+            while (current.length() > maxChunkChars) {
+                int cut = current.lastIndexOf(" ", maxChunkChars);
+                if (cut <= 0) {
+                    cut = maxChunkChars;
+                }
+                String head = current.substring(0, cut);
+                int next = cut;
+                while (next < current.length() && Character.isWhitespace(current.charAt(next))) {
+                    next++;
+                }
+                chunks.add(new Chunk(head, current.substring(cut, next)));
+                current.delete(0, next);
+            }
+        }
+        if (current.length() > 0) {
+            chunks.add(new Chunk(current.toString(), currentSeparator + paragraphSeparator));
+        } else if (!chunks.isEmpty()) {
+            Chunk last = chunks.remove(chunks.size() - 1);
+            chunks.add(new Chunk(last.text(), last.separator() + paragraphSeparator));
+        }
+    }
+
+    private List<Chunk> sentences(String paragraph) {
+        List<Chunk> sentences = new ArrayList<>();
+        Matcher matcher = SENTENCE_END.matcher(paragraph);
+        int start = 0;
+        while (matcher.find()) {
+            String whitespace = matcher.group(1);
+            // 부호 없는 한국어 종결 어미는 확실한 종결형이거나 줄바꿈이 뒤따를 때만 문장 끝으로 봄
+            boolean punctuated = matcher.start(1) > matcher.start();
+            if (!punctuated && whitespace.indexOf('\n') < 0 && !finalEnding(paragraph, start, matcher.start())) {
+                continue;
+            }
+            sentences.add(new Chunk(paragraph.substring(start, matcher.start(1)), whitespace));
+            start = matcher.end();
+        }
+        if (start < paragraph.length()) {
+            sentences.add(new Chunk(paragraph.substring(start), ""));
+        }
+        return sentences;
+    }
+
+    private static boolean finalEnding(String paragraph, int sentenceStart, int end) {
+        return KOREAN_FINAL_ENDING.matcher(paragraph).region(Math.max(sentenceStart, end - 2), end).find();
+    }
+
+    /**
+     * @param text      번역할 본문
+     * @param separator 원문에서 본문 뒤에 오던 공백/줄바꿈 (번역하지 않고 그대로 복원)
+     */
+    public record Chunk(String text, String separator) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.service.DocumentSegmenter.Chunk;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 긴 문서 번역 파이프라인
+ * 분할({@link DocumentSegmenter}) → chunk별 병렬 번역(문서당 동시 요청 수 제한) → 원래 순서대로 재조립
+ * - 실패한 chunk는 해당 chunk만 재시도 (translation.document.chunk-retries)
+ *   재시도 전에 translationScheduler에서 지수 백오프 + 지터만큼 기다린다. (translation.document.retry-backoff-ms, retry-max-backoff-ms)
+ *   모델 보호 장치가 거절한 요청({@link TranslationRejectedException}: 서킷 브레이커 열림, Bulkhead 가득 참)은 재시도하지 않는다.
+ * - 앞선 chunk가 모두 끝난 순서대로 onChunk 콜백을 호출하여 스트리밍 전송에 사용
+ *   (콜백은 잠금 밖에서 한 번에 한 스레드만 호출하므로, 느린 SSE 클라이언트가 다른 chunk 완료를 막지 않음)
+ * - 동시 요청 수(translation.document.max-concurrency)는 FastAPI 워커 수에 맞춰 조정
+ * - 반환된 future가 결과 없이 끝나면(실패, 취소, 호출자의 orTimeout) 남은 chunk는 시작하지 않고, 진행 중인 chunk 번역도 취소한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentTranslationService {
+
+    @Value("${translation.document.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${translation.document.chunk-retries:2}")
+    private int chunkRetries;
+
+    @Value("${translation.document.retry-backoff-ms:200}")
+    private long retryBackoffMs = 200;
+
+    @Value("${translation.document.retry-max-backoff-ms:2000}")
+    private long retryMaxBackoffMs = 2000;
+
+    private final DocumentSegmenter documentSegmenter;
+    private final TranslationService translationService;
+    private final ScheduledExecutorService translationScheduler;
+
+    public CompletableFuture<String> translateDocument(String text, String sourceLang, String targetLang, String model) {
+        return translateDocument(text, sourceLang, targetLang, model, (index, translated) -> {
+        });
+    }
+
+    /**
+     * @param onChunk 순서대로 확정된 chunk의 (index, 번역문 + 원래 구분자) 콜백
+     */
+    public CompletableFuture<String> translateDocument(String text, String sourceLang, String targetLang, String model,
+                                                       BiConsumer<Integer, String> onChunk) {
+        List<Chunk> chunks = documentSegmenter.split(text);
+        log.info("📄 문서 번역 시작 - {}자, chunk {}개, 동시 요청 {}개", text.length(), chunks.size(), maxConcurrency);
+
+        DocumentJob job = new DocumentJob(chunks, sourceLang, targetLang, model, onChunk);
+        job.result.whenComplete((translated, ex) -> {
+            if (ex != null) {
+                job.cancelRunning();
+            }
+        });
+        for (int i = 0; i < Math.min(maxConcurrency, chunks.size()); i++) {
+            job.startNext();
+        }
+        if (chunks.isEmpty()) {
+            job.result.complete("");
+        }
+        return job.result;
+    }
+
+    // attempt번째 재시도 대기 시간: 상한 안에서 두 배씩 늘리고 [상한/2, 상한] 사이에서 무작위 (같은 시점 실패의 재시도가 몰리지 않도록)
+    private long retryBackoffMs(int attempt) {
+        long cap = Math.min(retryMaxBackoffMs, retryBackoffMs << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    private class DocumentJob {
+        private final List<Chunk> chunks;
+        private final String sourceLang;
+        private final String targetLang;
+        private final String model;
+        private final BiConsumer<Integer, String> onChunk;
+        private final String[] translated;
+        private final AtomicInteger nextToStart = new AtomicInteger();
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final ArrayDeque<Integer> ready = new ArrayDeque<>();
+        private final Set<CompletableFuture<String>> running = ConcurrentHashMap.newKeySet();
+        private int nextToEmit;
+        private boolean emitting;
+
+        private DocumentJob(List<Chunk> chunks, String sourceLang, String targetLang, String model,
+                            BiConsumer<Integer, String> onChunk) {
+            this.chunks = chunks;
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
+            this.model = model;
+            this.onChunk = onChunk;
+            this.translated = new String[chunks.size()];
+        }
+
+        private void startNext() {
+            int index = nextToStart.getAndIncrement();
+            if (index >= chunks.size() || result.isDone()) {
+                return;
+            }
+            Chunk chunk = chunks.get(index);
+            if (chunk.text().isBlank()) {
+                onTranslated(index, chunk.text() + chunk.separator());
+                return;
+            }
+            translateChunk(chunk.text(), 0).whenComplete((translatedText, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    log.error("❌ 문서 chunk {} 번역 실패: {}", index, cause.getMessage());
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                onTranslated(index, translatedText + chunk.separator());
+            });
+        }
+
+        private CompletableFuture<String> translateChunk(String text, int attempt) {
+            CompletableFuture<String> call = translationService.translateTextAsync(text, sourceLang, targetLang, model);
+            running.add(call);
+            if (result.isDone()) {
+                call.cancel(false);
+            }
+            return call
+                    .handle((translatedText, ex) -> {
+                        running.remove(call);
+                        if (ex == null) {
+                            return CompletableFuture.completedFuture(translatedText);
+                        }
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        if (attempt < chunkRetries && !result.isDone() && !(cause instanceof TranslationRejectedException)) {
+                            return retryChunk(text, attempt + 1);
+                        }
+                        return CompletableFuture.<String>failedFuture(ex);
+                    })
+                    .thenCompose(future -> future);
+        }
+
+        // 백오프 후 재시도 (기다리는 동안 문서 번역이 끝나면 시작하지 않음)
+        private CompletableFuture<String> retryChunk(String text, int attempt) {
+            long delayMs = retryBackoffMs(attempt);
+            log.warn("⚠️ chunk 번역 재시도 ({}/{}) - {} ms 후", attempt, chunkRetries, delayMs);
+            CompletableFuture<String> retried = new CompletableFuture<>();
+            try {
+                translationScheduler.schedule(() -> {
+                    if (result.isDone()) {
+                        retried.cancel(false);
+                        return;
+                    }
+                    translateChunk(text, attempt).whenComplete((translatedText, ex) -> {
+                        if (ex != null) {
+                            retried.completeExceptionally(ex);
+                        } else {
+                            retried.complete(translatedText);
+                        }
+                    });
+                }, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                retried.completeExceptionally(e);
+            }
+            return retried;
+        }
+
+        // 문서 번역이 결과 없이 끝나면 진행 중인 chunk 번역도 취소 (같은 원문을 기다리는 다른 요청이 없으면 상태 조회 중단)
+        private void cancelRunning() {
+            running.forEach(call -> call.cancel(false));
+        }
+
+        private void onTranslated(int index, String translatedChunk) {
+            boolean emit;
+            boolean allTranslated;
+            synchronized (this) {
+                translated[index] = translatedChunk;
+                // 앞선 chunk가 모두 끝났으면 순서대로 내보낼 목록에 추가
+                while (nextToEmit < translated.length && translated[nextToEmit] != null) {
+                    ready.add(nextToEmit++);
+                }
+                allTranslated = nextToEmit == translated.length;
+                emit = !emitting && !ready.isEmpty();
+                if (emit) {
+                    emitting = true;
+                }
+            }
+            if (!allTranslated) {
+                startNext();
+            }
+            if (emit) {
+                emitReady();
+            }
+        }
+
+        // 내보낼 chunk를 순서대로 콜백에 전달 (잠금 밖, 한 번에 한 스레드)
+        private void emitReady() {
+            while (true) {
+                Integer index;
+                synchronized (this) {
+                    index = ready.poll();
+                    if (index == null) {
+                        emitting = false;
+                        return;
+                    }
+                }
+                try {
+                    onChunk.accept(index, translated[index]);
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ 문서 chunk {} 전달 실패: {}", index, e.getMessage());
+                }
+                if (index == translated.length - 1) {
+                    result.complete(String.join("", translated));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tension.gorani.translation.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * FastAPI 번역 작업 제출 / 상태 조회용 HTTP 호출
+ * - {@link RestTemplateFastApiTransport}: 기본값. 블로킹 호출을 translationIoExecutor에서 실행
+ * - {@link WebClientFastApiTransport}: gateway.reactive.enabled=true. 이벤트 루프에서 논블로킹으로 실행
+ * 실패(4xx/5xx, 타임아웃 등)는 예외로 완료된다.
+ */
+public interface FastApiTransport {
+
+    CompletableFuture<Map<String, Object>> post(String url, Object body);
+
+    CompletableFuture<Map<String, Object>> get(String url);
+}
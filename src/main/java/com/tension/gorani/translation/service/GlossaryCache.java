@@ -0,0 +1,339 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 용어집 조회 캐시 (read-through)
+ * - 사용자별 용어집 목록(userId), 용어집별 단어쌍 목록(glossaryId)을 캐시한다.
+ * - 크기 제한: 항목별 추정 바이트 가중치 (glossary.cache.max-bytes, 캐시마다 적용)
+ * - glossary.cache.refresh-after-seconds가 지난 항목은 그대로 응답하고 백그라운드에서 다시 읽는다. (stale-while-refresh)
+ *   glossary.cache.ttl-seconds가 지나면 만료되어 다음 조회가 FastAPI를 기다린다.
+ * - 단어쌍이 많은 용어집은 {@link GlossarySnapshotStore}의 메모리 매핑 목록으로 바꿔 캐시한다. (힙 가중치는 고정값)
+ * - 게이트웨이 모드(ReactiveGlossaryService)는 같은 항목을 CompletableFuture로 조회한다. (*Async, 조회 대기와 다시 읽기에 스레드를 붙잡지 않음)
+ * - 변경 요청 후에는 해당 사용자 목록과 용어집 단어쌍만 무효화한다. 무효화 전에 시작된 조회 결과는 캐시에 넣지 않는다.
+ *   (다른 인스턴스에서 변경한 내용은 refresh/ttl 주기로 반영된다)
+ * 메트릭: cache.*(cache=glossary.user-glossaries / glossary.word-pairs), glossary.cache.hit.ratio,
+ * glossary.cache.stale.served, glossary.cache.refreshes{result}
+ */
+@Component
+@Slf4j
+public class GlossaryCache {
+
+    // 스냅샷(메모리 매핑) 목록의 힙 가중치: 목록 보기 객체와 매핑 정보만 힙에 있음
+    private static final int SNAPSHOT_WEIGHT = 256;
+
+    private final boolean enabled;
+    private final GlossarySnapshotStore glossarySnapshotStore;
+    private final ExecutorService translationIoExecutor;
+    private final ReadThrough<Integer, List<GlossaryResponse>> userGlossaries;
+    private final ReadThrough<String, List<GlossaryRequest.WordPair>> wordPairs;
+
+    public GlossaryCache(MeterRegistry meterRegistry,
+                         ExecutorService translationIoExecutor,
+                         GlossarySnapshotStore glossarySnapshotStore,
+                         @Value("${glossary.cache.enabled:true}") boolean enabled,
+                         @Value("${glossary.cache.max-bytes:33554432}") long maxBytes,
+                         @Value("${glossary.cache.ttl-seconds:600}") long ttlSeconds,
+                         @Value("${glossary.cache.refresh-after-seconds:60}") long refreshAfterSeconds) {
+        this.enabled = enabled;
+        this.glossarySnapshotStore = glossarySnapshotStore;
+        this.translationIoExecutor = translationIoExecutor;
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Duration refreshAfter = Duration.ofSeconds(Math.min(refreshAfterSeconds, ttlSeconds));
+        this.userGlossaries = new ReadThrough<>("glossary.user-glossaries", maxBytes, ttl, refreshAfter,
+                GlossaryCache::estimatedBytes, translationIoExecutor, meterRegistry);
+        this.wordPairs = new ReadThrough<>("glossary.word-pairs", maxBytes, ttl, refreshAfter,
+                GlossaryCache::estimatedWordPairBytes, translationIoExecutor, meterRegistry);
+        log.info("용어집 캐시: enabled={}, maxBytes={}, ttl={}s, refreshAfter={}s", enabled, maxBytes, ttlSeconds, refreshAfter.toSeconds());
+    }
+
+    public List<GlossaryResponse> userGlossaries(int userId, Supplier<List<GlossaryResponse>> loader) {
+        return enabled ? userGlossaries.get(userId, loader) : loader.get();
+    }
+
+    public List<GlossaryRequest.WordPair> wordPairs(String glossaryId, Supplier<List<GlossaryRequest.WordPair>> loader) {
+        return enabled ? wordPairs.get(glossaryId, () -> glossarySnapshotStore.compact(glossaryId, loader.get())) : loader.get();
+    }
+
+    // 논블로킹 조회: loader는 FastAPI 응답 목록을 future로 반환 (블로킹 조회와 같은 항목, 같은 조회 중복 제거)
+    public CompletableFuture<List<GlossaryResponse>> userGlossariesAsync(int userId,
+                                                                       Supplier<CompletableFuture<List<GlossaryResponse>>> loader) {
+        return enabled ? userGlossaries.getAsync(userId, loader) : loader.get();
+    }
+
+    // 스냅샷 변환(파일 쓰기)은 translationIoExecutor에서 실행
+    public CompletableFuture<List<GlossaryRequest.WordPair>> wordPairsAsync(String glossaryId,
+                                                                          Supplier<CompletableFuture<List<GlossaryRequest.WordPair>>> loader) {
+        return enabled
+                ? wordPairs.getAsync(glossaryId, () -> loader.get()
+                        .thenApplyAsync(words -> glossarySnapshotStore.compact(glossaryId, words), translationIoExecutor))
+                : loader.get();
+    }
+
+    // 캐시에 있는 사용자 용어집 목록 (없으면 null, FastAPI를 부르지 않고 통계에도 넣지 않음)
+    public List<GlossaryResponse> peekUserGlossaries(int userId) {
+        return enabled ? userGlossaries.peek(userId) : null;
+    }
+
+    // 사용자 용어집 목록 무효화 (userId를 모르면 전체)
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            userGlossaries.invalidateAll();
+        } else {
+            userGlossaries.invalidate(userId.intValue());
+        }
+    }
+
+    // 용어집 하나의 단어쌍과, 그 용어집이 들어 있는 사용자 목록 무효화
+    public void invalidateGlossary(String glossaryId) {
+        if (glossaryId == null) {
+            return;
+        }
+        wordPairs.invalidate(glossaryId);
+        userGlossaries.invalidateMatching(list -> list.stream().anyMatch(glossary -> glossaryId.equals(glossary.getId())));
+    }
+
+    private static int estimatedBytes(List<GlossaryResponse> glossaries) {
+        long bytes = 64;
+        for (GlossaryResponse glossary : glossaries) {
+            bytes += 120 + length(glossary.getId()) * 2L + length(glossary.getName()) * 2L;
+            if (glossary.getWords() != null) {
+                bytes += estimatedWordPairBytes(glossary.getWords());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int estimatedWordPairBytes(List<GlossaryRequest.WordPair> words) {
+        if (GlossarySnapshot.of(words) != null) {
+            return SNAPSHOT_WEIGHT;
+        }
+        long bytes = 64;
+        for (GlossaryRequest.WordPair word : words) {
+            bytes += 100 + 2L * (length(word.getId()) + length(word.getStart()) + length(word.getArrival()));
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 키별 단일 조회(single-flight) + stale-while-refresh 캐시
+     * 조회 완료와 무효화는 같은 키의 loading 항목에서 직렬화되어, 무효화 이전에 시작된 조회 결과는 저장되지 않는다.
+     */
+    private static final class ReadThrough<K, V> {
+        private final String name;
+        private final Cache<K, Entry<V>> cache;
+        private final ConcurrentMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+        private final long refreshAfterNanos;
+        private final ExecutorService refreshExecutor;
+        private final Counter staleServed;
+        private final Counter refreshSuccess;
+        private final Counter refreshFailure;
+        private final Counter refreshDiscarded;
+
+        private ReadThrough(String name, long maxBytes, Duration ttl, Duration refreshAfter, ToIntFunction<V> weigher,
+                            ExecutorService refreshExecutor, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.refreshAfterNanos = refreshAfter.toNanos();
+            this.refreshExecutor = refreshExecutor;
+            this.cache = Caffeine.newBuilder()
+                    .maximumWeight(maxBytes)
+                    .weigher((K key, Entry<V> entry) -> weigher.applyAsInt(entry.value))
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+            Gauge.builder("glossary.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .tag("cache", name).register(meterRegistry);
+            this.staleServed = meterRegistry.counter("glossary.cache.stale.served", "cache", name);
+            this.refreshSuccess = meterRegistry.counter("glossary.cache.refreshes", "cache", name, "result", "success");
+            this.refreshFailure = meterRegistry.counter("glossary.cache.refreshes", "cache", name, "result", "failure");
+            this.refreshDiscarded = meterRegistry.counter("glossary.cache.refreshes", "cache", name, "result", "discarded");
+        }
+
+        V get(K key, Supplier<V> loader) {
+            Entry<V> entry = cache.getIfPresent(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAtNanos >= refreshAfterNanos) {
+                    staleServed.increment();
+                    refreshAsync(key, loader);
+                }
+                return entry.value;
+            }
+
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = loading.putIfAbsent(key, mine);
+            if (existing != null) {
+                return join(existing);
+            }
+            load(key, loader, mine);
+            return join(mine);
+        }
+
+        CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+            Entry<V> entry = cache.getIfPresent(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAtNanos >= refreshAfterNanos) {
+                    staleServed.increment();
+                    CompletableFuture<V> mine = new CompletableFuture<>();
+                    if (loading.putIfAbsent(key, mine) == null) {
+                        loadAsync(key, loader, mine);
+                        mine.whenComplete((value, ex) -> {
+                            if (ex != null) {
+                                refreshFailure.increment();
+                            }
+                        });
+                    }
+                }
+                return CompletableFuture.completedFuture(entry.value);
+            }
+
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = loading.putIfAbsent(key, mine);
+            if (existing != null) {
+                return existing.copy();
+            }
+            loadAsync(key, loader, mine);
+            return mine.copy();
+        }
+
+        private void refreshAsync(K key, Supplier<V> loader) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            if (loading.putIfAbsent(key, mine) != null) {
+                return; // 이미 다시 읽는 중
+            }
+            try {
+                refreshExecutor.execute(() -> {
+                    load(key, loader, mine);
+                    if (mine.isCompletedExceptionally()) {
+                        refreshFailure.increment();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                loading.remove(key, mine);
+                mine.completeExceptionally(e);
+            }
+        }
+
+        private void load(K key, Supplier<V> loader, CompletableFuture<V> mine) {
+            V value;
+            try {
+                value = loader.get();
+            } catch (RuntimeException e) {
+                failed(key, mine, e);
+                return;
+            }
+            loaded(key, mine, value);
+        }
+
+        private void loadAsync(K key, Supplier<CompletableFuture<V>> loader, CompletableFuture<V> mine) {
+            CompletableFuture<V> future;
+            try {
+                future = loader.get();
+            } catch (RuntimeException e) {
+                failed(key, mine, e);
+                return;
+            }
+            future.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    failed(key, mine, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                } else {
+                    loaded(key, mine, value);
+                }
+            });
+        }
+
+        private void failed(K key, CompletableFuture<V> mine, Throwable e) {
+            loading.remove(key, mine);
+            log.warn("⚠️ 용어집 캐시 조회 실패 ({}): {}", name, e.getMessage());
+            mine.completeExceptionally(e);
+        }
+
+        private void loaded(K key, CompletableFuture<V> mine, V value) {
+            V stored = value instanceof List<?> list ? unmodifiable(list, value) : value;
+            boolean[] cached = {false};
+            loading.computeIfPresent(key, (k, current) -> {
+                if (current != mine) {
+                    return current;
+                }
+                cache.put(key, new Entry<>(stored, System.nanoTime()));
+                cached[0] = true;
+                return null;
+            });
+            if (cached[0]) {
+                refreshSuccess.increment();
+            } else {
+                refreshDiscarded.increment(); // 조회 중 무효화됨
+            }
+            mine.complete(stored);
+        }
+
+        V peek(K key) {
+            Entry<V> entry = cache.asMap().get(key);
+            return entry != null ? entry.value : null;
+        }
+
+        void invalidate(K key) {
+            loading.compute(key, (k, current) -> {
+                cache.invalidate(key);
+                return null;
+            });
+        }
+
+        void invalidateMatching(Predicate<V> predicate) {
+            cache.asMap().forEach((key, entry) -> {
+                if (predicate.test(entry.value)) {
+                    invalidate(key);
+                }
+            });
+        }
+
+        void invalidateAll() {
+            loading.clear();
+            cache.invalidateAll();
+        }
+
+        // 스냅샷 목록 보기는 원래 읽기 전용이고, 목록 객체로 스냅샷을 찾으므로 감싸지 않는다
+        @SuppressWarnings("unchecked")
+        private static <V> V unmodifiable(List<?> list, V value) {
+            return GlossarySnapshot.of(list) != null ? value : (V) Collections.unmodifiableList(list);
+        }
+
+        private static <V> V join(CompletableFuture<V> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAtNanos) {
+    }
+}
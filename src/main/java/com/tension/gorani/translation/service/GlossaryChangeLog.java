@@ -0,0 +1,161 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tension.gorani.translation.DTO.GlossaryChangesResponse;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 용어집별 단어쌍 변경 기록 (GET /api/v1/glossary/{id}/changes?since=)
+ * FastAPI는 단어쌍 추가 시 새 ID를 돌려주지 않고 삭제는 인덱스 기준이므로, 변경 요청을 그대로 기록하지 않고
+ * {@link GlossaryService#getWordPairs}(용어집 캐시)의 목록 객체가 바뀔 때마다 이전 목록과 ID 기준으로 비교해 추가/수정/삭제를 기록한다.
+ * 다른 인스턴스나 FastAPI에서 직접 바뀐 내용도 목록을 다시 읽는 시점에 함께 잡힌다.
+ * - 세대(version): 이 인스턴스에서 변경했으면 {@link GlossaryVersionTracker}의 용어집 세대를 그대로 쓰고,
+ *   밖에서 바뀐 것을 발견하면 세대를 올린다. (번역 결과 캐시/용어 매처도 함께 무효화됨)
+ * - 용어집마다 최근 glossary.changes.max-entries개만 보관한다. 잘려 나간 세대보다 이전(since)이거나 기록이 없는 세대이면
+ *   전체 목록(snapshot)으로 응답한다.
+ * 기록은 인스턴스 메모리에만 있으므로 다른 인스턴스가 준 version으로 요청하면 대부분 전체 목록으로 응답한다.
+ * 메트릭: glossary.changes{result=delta|snapshot}, cache.* (cache=glossary.changes)
+ */
+@Service
+@Slf4j
+public class GlossaryChangeLog {
+
+    public enum Type {
+        ADD, UPDATE, DELETE
+    }
+
+    private final GlossaryService glossaryService;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final int maxEntries;
+    private final Cache<String, History> histories;
+    private final Counter deltaResponses;
+    private final Counter snapshotResponses;
+
+    public GlossaryChangeLog(GlossaryService glossaryService,
+                             GlossaryVersionTracker glossaryVersionTracker,
+                             MeterRegistry meterRegistry,
+                             @Value("${glossary.changes.max-entries:1000}") int maxEntries,
+                             @Value("${glossary.changes.max-glossaries:10000}") long maxGlossaries) {
+        this.glossaryService = glossaryService;
+        this.glossaryVersionTracker = glossaryVersionTracker;
+        this.maxEntries = maxEntries;
+        this.histories = Caffeine.newBuilder()
+                .maximumSize(maxGlossaries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, histories, "glossary.changes");
+        this.deltaResponses = meterRegistry.counter("glossary.changes", "result", "delta");
+        this.snapshotResponses = meterRegistry.counter("glossary.changes", "result", "snapshot");
+    }
+
+    /**
+     * since 이후의 변경분
+     *
+     * @param since 이전 응답의 version (없으면 전체 목록)
+     */
+    public GlossaryChangesResponse changesSince(String glossaryId, Long since) {
+        List<GlossaryRequest.WordPair> wordPairs = glossaryService.getWordPairs(glossaryId);
+        History history = histories.get(glossaryId, id -> new History());
+        synchronized (history) {
+            observe(glossaryId, history, wordPairs);
+            if (since != null && since >= history.floor && since <= history.version) {
+                List<GlossaryChangesResponse.Change> changes = new ArrayList<>();
+                for (Change change : history.changes) {
+                    if (change.version() > since) {
+                        changes.add(new GlossaryChangesResponse.Change(change.version(), change.type().name().toLowerCase(),
+                                change.wordPair().getId(), change.wordPair().getStart(), change.wordPair().getArrival()));
+                    }
+                }
+                deltaResponses.increment();
+                return new GlossaryChangesResponse(glossaryId, history.version, false, changes, null);
+            }
+            snapshotResponses.increment();
+            return new GlossaryChangesResponse(glossaryId, history.version, true, List.of(),
+                    wordPairs.stream().map(WordPairPageResponse.Item::of).toList());
+        }
+    }
+
+    // 목록 객체가 바뀌었으면 이전 목록과 비교해 변경분을 기록한다
+    private void observe(String glossaryId, History history, List<GlossaryRequest.WordPair> wordPairs) {
+        if (history.snapshot == wordPairs) {
+            return;
+        }
+        long trackedVersion = glossaryVersionTracker.version(glossaryId);
+        if (history.snapshot == null) {
+            // 처음 보는 용어집: 이 시점부터 기록 (세대 초기값이 시작 시각 기반이므로 재시작 전 세대는 모두 floor보다 작다)
+            history.version = trackedVersion > 0 ? trackedVersion : glossaryVersionTracker.globalVersion();
+            history.floor = history.version;
+            history.snapshot = wordPairs;
+            return;
+        }
+
+        List<Change> changes = diff(history.snapshot, wordPairs);
+        history.snapshot = wordPairs;
+        if (changes.isEmpty()) {
+            history.version = Math.max(history.version, trackedVersion);
+            return;
+        }
+        long version = trackedVersion > history.version ? trackedVersion : glossaryVersionTracker.bump(glossaryId);
+        if (trackedVersion <= history.version) {
+            log.info("🔁 외부 단어쌍 변경 감지: glossaryId={}, 변경 {}건, version={}", glossaryId, changes.size(), version);
+        }
+        for (Change change : changes) {
+            history.changes.addLast(new Change(version, change.type(), change.wordPair()));
+        }
+        while (history.changes.size() > maxEntries) {
+            history.floor = history.changes.removeFirst().version();
+        }
+        history.version = version;
+    }
+
+    // ID 기준 비교 (ID가 없으면 원문+번역어를 키로 사용)
+    private static List<Change> diff(List<GlossaryRequest.WordPair> before, List<GlossaryRequest.WordPair> after) {
+        Map<String, GlossaryRequest.WordPair> previous = new HashMap<>(before.size() * 2);
+        for (GlossaryRequest.WordPair wordPair : before) {
+            previous.put(key(wordPair), wordPair);
+        }
+        List<Change> changes = new ArrayList<>();
+        for (GlossaryRequest.WordPair wordPair : after) {
+            GlossaryRequest.WordPair old = previous.remove(key(wordPair));
+            if (old == null) {
+                changes.add(new Change(0, Type.ADD, wordPair));
+            } else if (!Objects.equals(old.getStart(), wordPair.getStart()) || !Objects.equals(old.getArrival(), wordPair.getArrival())) {
+                changes.add(new Change(0, Type.UPDATE, wordPair));
+            }
+        }
+        for (GlossaryRequest.WordPair removed : previous.values()) {
+            changes.add(new Change(0, Type.DELETE, removed));
+        }
+        return changes;
+    }
+
+    private static String key(GlossaryRequest.WordPair wordPair) {
+        return wordPair.getId() != null ? wordPair.getId() : "\u0000" + wordPair.getStart() + '\u0000' + wordPair.getArrival();
+    }
+
+    private record Change(long version, Type type, GlossaryRequest.WordPair wordPair) {
+    }
+
+    // 용어집 하나의 변경 기록 (History 객체로 동기화)
+    private static final class History {
+        private List<GlossaryRequest.WordPair> snapshot; // 마지막으로 비교한 목록 (용어집 캐시와 같은 객체)
+        private long version;                            // snapshot의 세대
+        private long floor;                              // 이 세대 이상이면 changes만으로 따라잡을 수 있음
+        private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    }
+}
@@ -0,0 +1,46 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 용어집/단어쌍 목록 조회의 ETag (내용의 SHA-256 앞 16바이트)
+ * 인스턴스/재시작과 무관하게 같은 내용이면 같은 ETag가 되므로, 어느 인스턴스가 응답해도 If-None-Match → 304가 동작한다.
+ * 약한(W/) ETag로 보낸다. 강한 ETag가 있으면 Tomcat이 gzip 압축을 하지 않으며(인코딩마다 본문 바이트가 다르므로),
+ * If-None-Match는 약한 비교를 하므로 304 동작에는 차이가 없다.
+ * {@link GlossaryCache}에서 꺼낸 같은 목록 객체는 한 번만 해시한다. (목록 객체가 교체되면 약한 참조로 함께 정리)
+ */
+@Component
+@RequiredArgsConstructor
+public class GlossaryETags {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Object, String> computed = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(10_000)
+            .build();
+
+    public String of(Object listing) {
+        return computed.get(listing, this::hash);
+    }
+
+    private String hash(Object listing) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(objectMapper.writeValueAsBytes(listing));
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ETag 계산 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 용어집 용어 강제 적용
+ * - 번역 전: 원문의 용어집 용어를 자리표시자([[T1]], [[T2]] …)로 바꿔 모델이 임의로 번역하지 않게 한다.
+ *   같은 용어는 같은 자리표시자를 쓰며, 원문에 이미 "[[T"가 있으면 바꾸지 않는다.
+ * - 번역 후: 자리표시자를 용어집 번역어(arrival)로 되돌리고 용어마다 결과를 확인한다.
+ *   restored  자리표시자를 되돌림
+ *   present   자리표시자는 없어졌지만 번역어가 결과에 있음
+ *   repaired  번역어 대신 원문 용어가 결과에 남아 있어 번역어로 교체
+ *   missing   자리표시자도 번역어도 없음 (결과는 그대로 두고 경고 로그)
+ *   번역어/원문 용어 확인과 교체는 결과 문장으로 만든 {@link GlossaryTermMatcher}를 써서 원문 매칭과 같은 경계 규칙을 따른다.
+ *   ("Go"는 "Google" 안에서, "AI"는 "PAIR" 안에서 일치하지 않음)
+ * translation.glossary.masking.enabled=false이면 자리표시자 없이 번역 후 확인/교체만 한다.
+ * 메트릭: translation.glossary.terms{result}
+ */
+@Component
+@Slf4j
+public class GlossaryEnforcer {
+
+    // 모델이 공백을 넣거나 대소문자를 바꾼 자리표시자도 인식
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\[\\[\\s*[Tt]\\s*(\\d+)\\s*]]");
+    private static final String PLACEHOLDER_PREFIX = "[[T";
+
+    private final KoreanTermNormalizer normalizer;
+    private final boolean maskingEnabled;
+    private final Map<String, Counter> results = new LinkedHashMap<>();
+
+    public GlossaryEnforcer(MeterRegistry meterRegistry, KoreanTermNormalizer normalizer,
+                            @Value("${translation.glossary.masking.enabled:true}") boolean maskingEnabled) {
+        this.normalizer = normalizer;
+        this.maskingEnabled = maskingEnabled;
+        for (String result : List.of("restored", "present", "repaired", "missing")) {
+            results.put(result, Counter.builder("translation.glossary.terms")
+                    .description("용어집 용어 적용 결과")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 원문에서 용어를 찾아 자리표시자로 바꾼다. 일치하는 용어가 없으면 원문 그대로인 Masked를 반환한다.
+     */
+    public Masked mask(String text, GlossaryTermMatcher matcher) {
+        List<GlossaryTermMatcher.Match> matches = matcher.findNonOverlapping(text);
+        if (matches.isEmpty()) {
+            return new Masked(text, List.of(), false);
+        }
+
+        Map<Integer, Placeholder> byTerm = new LinkedHashMap<>();
+        for (GlossaryTermMatcher.Match match : matches) {
+            byTerm.computeIfAbsent(match.term().index(),
+                    index -> new Placeholder(PLACEHOLDER_PREFIX + (byTerm.size() + 1) + "]]", match.term()));
+        }
+        List<Placeholder> placeholders = List.copyOf(byTerm.values());
+        if (!maskingEnabled || text.contains(PLACEHOLDER_PREFIX)) {
+            return new Masked(text, placeholders, false);
+        }
+
+        StringBuilder masked = new StringBuilder(text.length());
+        int position = 0;
+        for (GlossaryTermMatcher.Match match : matches) {
+            masked.append(text, position, match.begin()).append(byTerm.get(match.term().index()).token());
+            position = match.end();
+        }
+        masked.append(text, position, text.length());
+        return new Masked(masked.toString(), placeholders, true);
+    }
+
+    /**
+     * 중간 결과용: 자리표시자만 번역어로 되돌린다. (확인/메트릭 없음)
+     */
+    public String restore(Masked masked, String partial) {
+        if (!masked.masked() || partial == null) {
+            return partial;
+        }
+        return replacePlaceholders(masked, partial, new int[masked.placeholders().size()]);
+    }
+
+    /**
+     * 최종 결과: 자리표시자를 되돌리고 용어마다 번역어가 들어갔는지 확인/교체한다.
+     */
+    public String enforce(Masked masked, String translated) {
+        if (masked.placeholders().isEmpty() || translated == null) {
+            return translated;
+        }
+        int[] restoredCounts = new int[masked.placeholders().size()];
+        String result = masked.masked() ? replacePlaceholders(masked, translated, restoredCounts) : translated;
+
+        List<GlossaryTermMatcher.Term> unresolved = new ArrayList<>();
+        for (int i = 0; i < masked.placeholders().size(); i++) {
+            GlossaryTermMatcher.Term term = masked.placeholders().get(i).term();
+            if (restoredCounts[i] > 0) {
+                record("restored", term);
+            } else {
+                unresolved.add(term);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return result;
+        }
+
+        // 번역어가 결과에 있는지 (번역어를 용어로 하는 매처로 확인)
+        Set<String> presentArrivals = new HashSet<>();
+        for (GlossaryTermMatcher.Match match : GlossaryTermMatcher.build(wordPairs(unresolved, true), normalizer).findAll(result)) {
+            presentArrivals.add(normalizer.key(match.term().start()));
+        }
+        List<GlossaryTermMatcher.Term> leaked = new ArrayList<>();
+        for (GlossaryTermMatcher.Term term : unresolved) {
+            if (presentArrivals.contains(normalizer.key(term.arrival()))) {
+                record("present", term);
+            } else {
+                leaked.add(term);
+            }
+        }
+        if (leaked.isEmpty()) {
+            return result;
+        }
+
+        // 결과에 남은 원문 용어를 번역어로 교체 (조사는 그대로 둠)
+        List<GlossaryTermMatcher.Match> matches = GlossaryTermMatcher.build(wordPairs(leaked, false), normalizer)
+                .findNonOverlapping(result);
+        Set<String> repairedStarts = new HashSet<>();
+        StringBuilder repaired = new StringBuilder(result.length());
+        int position = 0;
+        for (GlossaryTermMatcher.Match match : matches) {
+            repaired.append(result, position, match.begin()).append(match.term().arrival());
+            position = match.end();
+            repairedStarts.add(normalizer.key(match.term().start()));
+        }
+        repaired.append(result, position, result.length());
+        for (GlossaryTermMatcher.Term term : leaked) {
+            record(repairedStarts.contains(normalizer.key(term.start())) ? "repaired" : "missing", term);
+        }
+        return repaired.toString();
+    }
+
+    // 확인용 매처의 단어쌍 (reversed=true이면 번역어를 용어로)
+    private static List<GlossaryRequest.WordPair> wordPairs(List<GlossaryTermMatcher.Term> terms, boolean reversed) {
+        List<GlossaryRequest.WordPair> wordPairs = new ArrayList<>(terms.size());
+        for (GlossaryTermMatcher.Term term : terms) {
+            GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+            wordPair.setStart(reversed ? term.arrival() : term.start());
+            wordPair.setArrival(reversed ? term.start() : term.arrival());
+            wordPairs.add(wordPair);
+        }
+        return wordPairs;
+    }
+
+    private static String replacePlaceholders(Masked masked, String text, int[] restoredCounts) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder restored = new StringBuilder(text.length());
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1)) - 1;
+            if (index >= 0 && index < masked.placeholders().size()) {
+                restoredCounts[index]++;
+                matcher.appendReplacement(restored, Matcher.quoteReplacement(masked.placeholders().get(index).term().arrival()));
+            } else {
+                // 모델이 만들어 낸 알 수 없는 자리표시자는 그대로 둔다
+                matcher.appendReplacement(restored, Matcher.quoteReplacement(matcher.group()));
+            }
+        }
+        matcher.appendTail(restored);
+        return restored.toString();
+    }
+
+    private void record(String result, GlossaryTermMatcher.Term term) {
+        results.get(result).increment();
+        if ("missing".equals(result)) {
+            log.warn("⚠️ 용어집 용어가 번역 결과에 없음: {} → {}", term.start(), term.arrival());
+        } else if ("repaired".equals(result)) {
+            log.info("🔁 용어집 용어 교체: {} → {}", term.start(), term.arrival());
+        }
+    }
+
+    /**
+     * 자리표시자 적용 결과
+     *
+     * @param text         FastAPI로 보낼 원문 (masked=false이면 입력 그대로)
+     * @param placeholders 원문에서 찾은 용어 (등장 순서, 용어당 하나)
+     * @param masked       원문의 용어를 자리표시자로 바꿨는지 여부
+     */
+    public record Masked(String text, List<Placeholder> placeholders, boolean masked) {
+
+        // FastAPI 요청의 glossary_terms 항목 (자리표시자를 쓰지 않았으면 placeholder 없음)
+        public List<Map<String, String>> requestTerms() {
+            List<Map<String, String>> terms = new ArrayList<>(placeholders.size());
+            for (Placeholder placeholder : placeholders) {
+                Map<String, String> term = new LinkedHashMap<>();
+                if (masked) {
+                    term.put("placeholder", placeholder.token());
+                }
+                term.put("start", placeholder.term().start());
+                term.put("arrival", placeholder.term().arrival());
+                terms.add(term);
+            }
+            return terms;
+        }
+    }
+
+    public record Placeholder(String token, GlossaryTermMatcher.Term term) {
+    }
+}
@@ -0,0 +1,322 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 용어집 변경 요청의 재시도 / 중복 방지
+ * - 모든 시도에 같은 Idempotency-Key 헤더를 붙인다. (클라이언트가 보낸 키가 있으면 그대로, 없으면 생성)
+ * - 완료된 키는 glossary.idempotency.ttl-seconds 동안 결과와 함께 기억하여, 같은 키의 요청은 FastAPI를 다시 호출하지 않는다.
+ *   (직접 생성한 키는 다시 올 일이 없으므로 기억하지 않음)
+ *   진행 중인 같은 키의 요청은 먼저 온 요청의 결과를 함께 받는다.
+ * - 클라이언트 키는 작업 종류 + 범위(사용자/용어집) 안에서만 같은 키로 본다. (다른 작업이나 다른 용어집의 결과를 돌려주지 않음)
+ *   같은 키로 내용이 다른 요청이 오면 {@link IdempotencyKeyReuseException} (422)
+ * - 재시도는 안전한 경우에만 (최대 glossary.retry.max-attempts회, 지수 백오프 + 지터)
+ *   · 요청이 FastAPI에 도달하지 않은 실패(연결 실패, 풀 대기 초과, 429, 503): 항상
+ *   · 처리 여부를 알 수 없는 실패(응답 타임아웃, 502, 504): 멱등 요청(PUT, ID 기준 DELETE)만
+ *   · 그 밖의 4xx/500: 재시도하지 않음
+ * 메트릭: glossary.mutation.retries{operation}, glossary.mutation.deduplicated{operation}
+ */
+@Component
+@Slf4j
+public class GlossaryMutationGuard {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Object NO_RESULT = new Object();
+    private static final Set<HttpStatusCode> NOT_PROCESSED = Set.of(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.SERVICE_UNAVAILABLE);
+    private static final Set<HttpStatusCode> MAYBE_PROCESSED = Set.of(HttpStatus.BAD_GATEWAY, HttpStatus.GATEWAY_TIMEOUT);
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Cache<String, Completed> completed;
+    private final Cache<String, AtomicLong> scopeGenerations;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public GlossaryMutationGuard(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${glossary.retry.max-attempts:3}") int maxAttempts,
+                                 @Value("${glossary.retry.initial-backoff-ms:200}") long initialBackoffMs,
+                                 @Value("${glossary.retry.max-backoff-ms:2000}") long maxBackoffMs,
+                                 @Value("${glossary.idempotency.ttl-seconds:120}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.completed = Caffeine.newBuilder().expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+        this.scopeGenerations = Caffeine.newBuilder().expireAfterAccess(ttlSeconds * 2, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * 멱등성 키 결정
+     * @param clientKey   클라이언트가 보낸 Idempotency-Key (없으면 null)
+     * @param fingerprint true면 요청 내용으로 키를 만들어 같은 내용의 중복 요청(더블 클릭, 수동 재시도)을 막는다.
+     *                    같은 내용을 의도적으로 다시 보낼 수 있는 요청은 false (매번 새 키)
+     */
+    public IdempotencyKey keyFor(String clientKey, String operation, String scope, Object payload, boolean fingerprint) {
+        if (clientKey != null && !clientKey.isBlank()) {
+            String value = clientKey.strip();
+            return new IdempotencyKey(value, operation + "|" + scope + "|" + value, sha256(json(payload)),
+                    operation, scope, false, true);
+        }
+        if (fingerprint) {
+            String value = "fp-" + sha256(operation + "|" + scope + "|" + json(payload));
+            return new IdempotencyKey(value, value, null, operation, scope, true, true);
+        }
+        String value = UUID.randomUUID().toString();
+        return new IdempotencyKey(value, value, null, operation, scope, false, false);
+    }
+
+    /**
+     * 블로킹 호출 (RestTemplate). call은 key.value()를 Idempotency-Key 헤더로 보내야 한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(IdempotencyKey key, boolean idempotent, Supplier<T> call) {
+        Object previous = previousResult(key);
+        if (previous != null) {
+            return (T) unwrap(previous);
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        InFlight existing = inFlight.putIfAbsent(key.storeKey(), new InFlight(mine, key.payloadHash()));
+        if (existing != null) {
+            requireSamePayload(key, existing.payloadHash());
+            deduplicated(key);
+            try {
+                return (T) unwrap(existing.result().join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        try {
+            T result = callWithRetry(key, idempotent, call);
+            Object stored = result == null ? NO_RESULT : result;
+            record(key, stored);
+            mine.complete(stored);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.computeIfPresent(key.storeKey(), (k, current) -> current.result() == mine ? null : current);
+        }
+    }
+
+    /**
+     * 논블로킹 호출 (WebClient). call은 key.value()를 Idempotency-Key 헤더로 보내야 하며, 재구독 시 다시 요청해야 한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(IdempotencyKey key, boolean idempotent, Mono<T> call) {
+        return Mono.defer(() -> {
+            Object previous = previousResult(key);
+            if (previous != null) {
+                return Mono.justOrEmpty((T) unwrap(previous));
+            }
+
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            InFlight existing = inFlight.putIfAbsent(key.storeKey(), new InFlight(mine, key.payloadHash()));
+            if (existing != null) {
+                requireSamePayload(key, existing.payloadHash());
+                deduplicated(key);
+                return Mono.fromFuture(existing.result()).mapNotNull(result -> (T) unwrap(result));
+            }
+
+            return call
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                        int attempt = (int) signal.totalRetries() + 1;
+                        if (attempt < maxAttempts && isRetryable(signal.failure(), idempotent)) {
+                            retried(key, attempt, signal.failure());
+                            return Mono.delay(Duration.ofMillis(backoffMs(attempt)));
+                        }
+                        return Mono.error(signal.failure());
+                    })))
+                    .map(result -> (Object) result)
+                    .defaultIfEmpty(NO_RESULT)
+                    .doOnNext(stored -> {
+                        record(key, stored);
+                        mine.complete(stored);
+                    })
+                    .doOnError(mine::completeExceptionally)
+                    .doFinally(signal -> {
+                        inFlight.computeIfPresent(key.storeKey(), (k, current) -> current.result() == mine ? null : current);
+                        mine.cancel(false); // 구독 취소 시 합류한 요청도 종료
+                    })
+                    .mapNotNull(stored -> (T) unwrap(stored));
+        });
+    }
+
+    private <T> T callWithRetry(IdempotencyKey key, boolean idempotent, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e, idempotent)) {
+                    throw e;
+                }
+                retried(key, attempt, e);
+                try {
+                    Thread.sleep(backoffMs(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 완료 기록이 유효하면 그 결과 반환
+    private Object previousResult(IdempotencyKey key) {
+        Completed previous = completed.getIfPresent(key.storeKey());
+        if (previous == null) {
+            return null;
+        }
+        requireSamePayload(key, previous.payloadHash());
+        // 내용 기반 키는 그 뒤로 같은 범위(용어집)가 바뀌지 않았을 때만 같은 요청으로 본다
+        // (예: 단어쌍 추가 → 삭제 → 같은 단어쌍 다시 추가는 새 요청)
+        if (key.fingerprint() && previous.generation() != generation(key.scope()).get()) {
+            return null;
+        }
+        deduplicated(key);
+        return previous.result();
+    }
+
+    private void record(IdempotencyKey key, Object result) {
+        long generation = generation(key.scope()).incrementAndGet();
+        if (key.replayable()) {
+            completed.put(key.storeKey(), new Completed(result, generation, key.payloadHash()));
+        }
+    }
+
+    // 같은 클라이언트 키로 내용이 다른 요청이면 이전 결과를 돌려주지 않고 거절 (내용 기반/생성 키는 payloadHash 없음)
+    private static void requireSamePayload(IdempotencyKey key, String payloadHash) {
+        if (!Objects.equals(key.payloadHash(), payloadHash)) {
+            log.warn("❌ 같은 Idempotency-Key로 다른 내용의 요청: {} ({})", key.operation(), key.scope());
+            throw new IdempotencyKeyReuseException("같은 Idempotency-Key로 내용이 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private AtomicLong generation(String scope) {
+        return scopeGenerations.get(scope, s -> new AtomicLong());
+    }
+
+    // 재시도 가능 여부 (예외 원인 체인 검사)
+    boolean isRetryable(Throwable failure, boolean idempotent) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            HttpStatusCode status = statusOf(t);
+            if (status != null) {
+                return NOT_PROCESSED.contains(status) || (idempotent && MAYBE_PROCESSED.contains(status));
+            }
+            if (t instanceof ConnectException || t instanceof ConnectTimeoutException
+                    || t instanceof ConnectionRequestTimeoutException) {
+                return true; // 요청이 전송되지 않음
+            }
+            if (t instanceof IOException || t instanceof TimeoutException || t instanceof io.netty.handler.timeout.TimeoutException) {
+                return idempotent; // 전송 후 응답을 받지 못함
+            }
+        }
+        return false;
+    }
+
+    private static HttpStatusCode statusOf(Throwable t) {
+        if (t instanceof RestClientResponseException e) {
+            return e.getStatusCode();
+        }
+        if (t instanceof WebClientResponseException e) {
+            return e.getStatusCode();
+        }
+        return null;
+    }
+
+    long backoffMs(int attempt) {
+        long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    private void retried(IdempotencyKey key, int attempt, Throwable failure) {
+        log.warn("⚠️ 용어집 변경 재시도 ({}/{}): {} - {}", attempt, maxAttempts - 1, key.operation(), failure.getMessage());
+        meterRegistry.counter("glossary.mutation.retries", "operation", key.operation()).increment();
+    }
+
+    private void deduplicated(IdempotencyKey key) {
+        log.info("🔁 중복 용어집 변경 요청 - 이전 결과 사용: {}", key.operation());
+        meterRegistry.counter("glossary.mutation.deduplicated", "operation", key.operation()).increment();
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored == NO_RESULT ? null : stored;
+    }
+
+    private String json(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(payload);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param value       Idempotency-Key 헤더 값
+     * @param storeKey    진행 중/완료 기록의 키 (클라이언트 키는 작업 종류와 범위를 붙여 구분)
+     * @param payloadHash 클라이언트 키일 때 요청 내용의 해시 (같은 키로 다른 내용이 오면 거절)
+     * @param scope       변경 대상 범위 (용어집 ID 등)
+     * @param fingerprint 요청 내용으로 만든 키인지 여부
+     */
+    // replayable: 같은 키로 다시 올 수 있는 키 (클라이언트 키, 내용 기반 키). 생성한 키는 결과를 기억하지 않는다.
+    public record IdempotencyKey(String value, String storeKey, String payloadHash, String operation, String scope,
+                                 boolean fingerprint, boolean replayable) {
+    }
+
+    private record Completed(Object result, long generation, String payloadHash) {
+    }
+
+    private record InFlight(CompletableFuture<Object> result, String payloadHash) {
+    }
+}
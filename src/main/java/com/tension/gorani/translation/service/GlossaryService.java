@@ -1,6 +1,16 @@
 package com.tension.gorani.translation.service;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tension.gorani.translation.DTO.DefaultGlossaryResponse;
+import com.tension.gorani.translation.DTO.GlossaryMessageResponse;
 import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.DTO.WordPairImportResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,36 +20,82 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.Arrays;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * FastAPI 용어집 API 호출
+ * 응답은 문자열이나 Map 트리를 거치지 않고 응답 스트림에서 바로 타입 객체로 바인딩한다. (Jackson 스트리밍)
+ * MongoDB의 '_id'는 DTO의 @JsonProperty로 매핑한다.
+ * 용어집 목록/단어쌍 조회는 {@link GlossaryCache}를 거치며, 변경 요청은 (성공 여부와 관계없이) 관련 항목만 무효화한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GlossaryService {
 
+    // 기본 용어집 설정 응답은 기존과 같이 '_id'를 'id'로 바꿔 내려줌 (용어집, 단어쌍 모두)
+    static final ObjectWriter PLAIN_ID_WRITER = new ObjectMapper()
+            .addMixIn(GlossaryResponse.class, PlainIdMixin.class)
+            .addMixIn(GlossaryRequest.WordPair.class, PlainIdMixin.class)
+            .writer();
+
+    // 가져오기 결과에 담는 행 오류 수
+    private static final int MAX_REPORTED_ERRORS = 100;
+
     @Value("${fastapi.url}")
     private String fastApiUrl;
 
+    @Value("${glossary.import.batch-size:500}")
+    private int importBatchSize = 500;
+
+    @Value("${glossary.import.max-rows:100000}")
+    private long importMaxRows = 100_000;
+
+    @Value("${glossary.import.max-term-length:200}")
+    private int importMaxTermLength = 200;
+
+    // FastAPI /default가 기존 기본 용어집 해제까지 한 번에 처리하는지 (배포된 FastAPI 버전에 맞춰 설정)
+    // false면 FastAPI /default를 부르기 전에 항상 reset-default를 먼저 호출
+    @Value("${glossary.default.single-call:true}")
+    private boolean defaultSingleCallEnabled = true;
+
     private final RestTemplate restTemplate;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final ObjectMapper objectMapper;
+    private final GlossaryMutationGuard glossaryMutationGuard;
+    private final GlossaryCache glossaryCache;
 
     // [1] 용어집 생성 (FastAPI 호출 후 결과 반환)
-    public Map<String, Object> saveGlossary(GlossaryRequest glossaryRequest) {
+    // 같은 용어집을 의도적으로 다시 만들 수 있으므로 내용 기반 중복 제거는 하지 않음 (클라이언트 Idempotency-Key로만)
+    public GlossaryResponse saveGlossary(GlossaryRequest glossaryRequest, String idempotencyKey) {
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    fastApiUrl + "/api/glossary",
-                    glossaryRequest,
-                    Map.class
-            );
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return response.getBody();
-            } else {
-                throw new RuntimeException("FastAPI 응답 에러: " + response.getStatusCode());
+            GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                    idempotencyKey, "save-glossary", "user:" + glossaryRequest.getUserId(), glossaryRequest, false);
+            GlossaryResponse saved = glossaryMutationGuard.execute(key, false, () -> readObject(
+                    fastApiUrl + "/api/glossary", HttpMethod.POST, glossaryRequest, key.value(), GlossaryResponse.class));
+            if (saved == null) {
+                throw new RuntimeException("FastAPI 응답이 비어 있습니다.");
             }
+            glossaryVersionTracker.bump(glossaryRequest.getId());
+            return saved;
+        } catch (IdempotencyKeyReuseException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while saving glossary: {}", e.getMessage(), e);
             throw new RuntimeException("Error while saving glossary", e);
+        } finally {
+            glossaryCache.invalidateUser(glossaryRequest.getUserId());
         }
     }
 
@@ -47,29 +103,20 @@ public class GlossaryService {
     public void updateGlossaryName(String id, String name) {
         try {
             String url = fastApiUrl + "/api/glossary/" + id;
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-
-            Map<String, String> requestBody = Map.of("name", name);
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            restTemplate.exchange(url, HttpMethod.PUT, requestEntity, String.class);
+            send(url, HttpMethod.PUT, Map.of("name", name));
+            glossaryVersionTracker.bump(id);
         } catch (Exception e) {
             throw new RuntimeException("FastAPI 요청 중 오류 발생: " + e.getMessage());
+        } finally {
+            glossaryCache.invalidateGlossary(id);
         }
     }
 
     // [3] 특정 유저의 용어집 목록 가져오기
-    public List<Map<String, Object>> fetchUserGlossaries(int userId) {
+    public List<GlossaryResponse> fetchUserGlossaries(int userId) {
         try {
             String url = fastApiUrl + "/glossary?userId=" + userId;
-            ResponseEntity<List> response = restTemplate.getForEntity(url, List.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return response.getBody();
-            } else {
-                throw new RuntimeException("FastAPI 응답 에러: " + response.getStatusCode());
-            }
+            return glossaryCache.userGlossaries(userId, () -> readList(url, HttpMethod.GET, null, GlossaryResponse.class));
         } catch (Exception e) {
             log.error("Error calling FastAPI for userId={}: {}", userId, e.getMessage());
             throw new RuntimeException("FastAPI 호출 중 오류", e);
@@ -77,113 +124,202 @@ public class GlossaryService {
     }
 
     // [4] 용어집 삭제
-    public Map<String, Object> deleteGlossary(String glossaryId) {
+    public GlossaryMessageResponse deleteGlossary(String glossaryId) {
         try {
             // DELETE 요청 후, FastAPI가 {"message":"용어집 삭제 성공"} 같은 걸 반환하도록 만듦
             String url = fastApiUrl + "/api/glossary/" + glossaryId;
-            // RestTemplate의 exchange 메서드 사용 (deleteForEntity도 가능)
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.DELETE, null, Map.class
-            );
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return response.getBody(); // 예: {"message":"용어집 삭제 성공"}
-            } else {
-                throw new RuntimeException("FastAPI 응답 에러: " + response.getStatusCode());
+            GlossaryMessageResponse response = readObject(url, HttpMethod.DELETE, null, GlossaryMessageResponse.class);
+            if (response == null) {
+                throw new RuntimeException("FastAPI 응답이 비어 있습니다.");
             }
+            glossaryVersionTracker.bump(glossaryId);
+            return response; // 예: {"message":"용어집 삭제 성공"}
         } catch (Exception e) {
             throw new RuntimeException("Error while deleting glossary: " + e.getMessage(), e);
+        } finally {
+            glossaryCache.invalidateGlossary(glossaryId);
         }
     }
 
-// Spring에서 FastAPI 응답을 처리하는 부분
-    public String setDefaultGlossary(String userId, String glossaryId) {
+    // 기본 용어집 설정 (변경된 사용자 용어집 목록 반환)
+    // glossary.default.single-call=true이면 FastAPI /default 한 번으로 설정하고, 응답 목록에서 요청한 용어집만 기본인지 확인한다.
+    // 기본 용어집이 여럿 남아 있으면 그 요청 안에서 reset-default → default로 바로잡는다. (다음 요청도 다시 한 번 호출부터 시도)
+    // 두 단계 전환에서 두 번째 단계가 실패하면 이전 기본 용어집을 다시 설정해 기본 용어집이 없는 상태로 남지 않게 하고,
+    // 바로잡은 뒤에도 기본 용어집이 하나가 아니면 실패로 응답한다. (reset-default가 실패한 경우 포함, 다음 설정 요청에서 다시 정리됨)
+    public List<GlossaryResponse> setDefaultGlossary(String userId, String glossaryId) {
         try {
-            // 1. FastAPI에서 기본 용어집 설정 전에 기존 용어집을 갱신하는 로직을 추가합니다.
-            // FastAPI URL
-            String url = UriComponentsBuilder.fromHttpUrl(fastApiUrl + "/api/v1/glossary/" + userId + "/default")
-                    .queryParam("glossary_id", glossaryId)
-                    .toUriString();
-
-            // 2. 기존 기본 용어집을 false로 설정하기 위해 API를 먼저 호출
-            String resetDefaultGlossaryUrl = fastApiUrl + "/api/v1/glossary/" + userId + "/reset-default";  // 새로운 API 경로 추가 (가정)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-
-            HttpEntity<?> requestEntity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> resetResponse = restTemplate.exchange(resetDefaultGlossaryUrl, HttpMethod.PUT, requestEntity, String.class);
-
-            if (!resetResponse.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("기존 용어집을 초기화하는 FastAPI 요청 실패: " + resetResponse.getBody());
-            }
-
-            // 3. FastAPI를 호출하여 기본 용어집 설정
-            HttpEntity<?> setDefaultEntity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, setDefaultEntity, String.class);
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("FastAPI 요청 실패: " + response.getBody());
-            }
-
-            // 4. 응답에서 'glossary'만 추출하여, 필요한 포맷으로 변환
-            String responseBody = response.getBody();
-            if (responseBody != null && responseBody.contains("glossary")) {
-                responseBody = responseBody.replaceAll("\"_id\": \"([a-f0-9]{24})\"", "\"id\": \"$1\"");
-
-                // 5. 변경된 용어집 리스트 반환
-                return responseBody;  // FastAPI에서 응답 받은 업데이트된 용어집 리스트 반환
+            List<GlossaryResponse> glossaries;
+            if (defaultSingleCallEnabled) {
+                glossaries = putDefault(userId, glossaryId);
+                if (!isOnlyDefault(glossaries, glossaryId)) {
+                    log.warn("⚠️ FastAPI /default 후 기본 용어집이 여러 개 → reset-default로 정리 (userId={}, glossaryId={}). "
+                            + "FastAPI가 기존 기본 용어집을 해제하지 않는 버전이면 glossary.default.single-call=false로 설정", userId, glossaryId);
+                    glossaries = switchDefaultInTwoSteps(userId, glossaryId, previousDefault(glossaries, glossaryId));
+                }
             } else {
-                throw new RuntimeException("응답에서 기본 용어집을 찾을 수 없습니다.");
+                glossaries = switchDefaultInTwoSteps(userId, glossaryId, previousDefault(currentGlossaries(userId), null));
             }
-
+            if (!isOnlyDefault(glossaries, glossaryId)) {
+                throw new IllegalStateException("기본 용어집 설정 후에도 기본 용어집이 하나가 아닙니다. (userId=" + userId + ")");
+            }
+            glossaryVersionTracker.bump(glossaryId);
+            return glossaries;
         } catch (HttpClientErrorException e) {
             log.error("FastAPI 요청 오류: 상태 코드 = {}, 본문 = {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("FastAPI 요청 중 클라이언트 오류 발생", e);
         } catch (Exception e) {
             log.error("FastAPI 요청 중 알 수 없는 오류 발생", e);
             throw new RuntimeException("FastAPI 요청 중 오류 발생", e);
+        } finally {
+            // 이전 기본 용어집과 새 기본 용어집 모두 이 사용자 목록에 있음
+            glossaryCache.invalidateUser(parseUserId(userId));
+        }
+    }
+
+    // 기본 용어집 설정 응답 본문 (React에는 '_id' 대신 'id'로 전달)
+    public static String defaultGlossaryJson(List<GlossaryResponse> glossaries) throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", "기본 용어집 설정 성공");
+        body.put("glossaries", glossaries);
+        return PLAIN_ID_WRITER.writeValueAsString(body);
+    }
+
+    private List<GlossaryResponse> switchDefaultInTwoSteps(String userId, String glossaryId, String previousDefaultId) {
+        GlossaryMutationGuard.IdempotencyKey resetKey = glossaryMutationGuard.keyFor(
+                null, "reset-default-glossary", "user:" + userId, null, false);
+        glossaryMutationGuard.execute(resetKey, true, () -> {
+            send(fastApiUrl + "/api/v1/glossary/" + userId + "/reset-default", HttpMethod.PUT, null, resetKey.value());
+            return null;
+        });
+        try {
+            return putDefault(userId, glossaryId);
+        } catch (RuntimeException e) {
+            if (previousDefaultId != null) {
+                try {
+                    putDefault(userId, previousDefaultId);
+                    log.warn("🔁 기본 용어집 설정 실패 → 이전 기본 용어집 복구 (userId={}, glossaryId={})", userId, previousDefaultId);
+                } catch (RuntimeException restoreFailure) {
+                    log.error("❌ 이전 기본 용어집 복구 실패 (userId={}, glossaryId={})", userId, previousDefaultId, restoreFailure);
+                    e.addSuppressed(restoreFailure);
+                }
+            }
+            throw e;
+        }
+    }
+
+    // PUT /default (같은 용어집을 다시 기본으로 설정해도 결과가 같으므로 멱등 요청으로 재시도)
+    private List<GlossaryResponse> putDefault(String userId, String glossaryId) {
+        String url = UriComponentsBuilder.fromHttpUrl(fastApiUrl + "/api/v1/glossary/" + userId + "/default")
+                .queryParam("glossary_id", glossaryId)
+                .toUriString();
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                null, "set-default-glossary", "user:" + userId, glossaryId, false);
+        DefaultGlossaryResponse response = glossaryMutationGuard.execute(key, true,
+                () -> readObject(url, HttpMethod.PUT, null, key.value(), DefaultGlossaryResponse.class));
+        if (response == null || !response.hasGlossary()) {
+            throw new RuntimeException("응답에서 기본 용어집을 찾을 수 없습니다.");
+        }
+        if (response.getGlossaries() != null) {
+            return response.getGlossaries();
+        }
+        // 설정된 용어집 하나만 돌려주는 응답이면 목록을 다시 읽음
+        Long id = parseUserId(userId);
+        if (id == null) {
+            return List.of(response.getGlossary());
+        }
+        glossaryCache.invalidateUser(id);
+        return fetchUserGlossaries(id.intValue());
+    }
+
+    // 두 단계 전환 전의 기본 용어집 (캐시에 있으면 FastAPI를 다시 부르지 않음)
+    private List<GlossaryResponse> currentGlossaries(String userId) {
+        Long id = parseUserId(userId);
+        if (id == null) {
+            return List.of();
         }
+        List<GlossaryResponse> cached = glossaryCache.peekUserGlossaries(id.intValue());
+        return cached != null ? cached : fetchUserGlossaries(id.intValue());
+    }
+
+    private static String previousDefault(List<GlossaryResponse> glossaries, String exceptId) {
+        return glossaries.stream()
+                .filter(glossary -> Boolean.TRUE.equals(glossary.getIsDefault()) && !glossary.getId().equals(exceptId))
+                .map(GlossaryResponse::getId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isOnlyDefault(List<GlossaryResponse> glossaries, String glossaryId) {
+        return glossaries.stream()
+                .allMatch(glossary -> Boolean.TRUE.equals(glossary.getIsDefault()) == glossaryId.equals(glossary.getId()));
     }
 
     // [4] 단어쌍 추가
-    public void addWordPair(String glossaryId, GlossaryRequest.WordPair wordPair) {
+    // 같은 단어쌍이 연달아 들어오면 (용어집이 그사이 바뀌지 않은 한) 한 번만 추가
+    public void addWordPair(String glossaryId, GlossaryRequest.WordPair wordPair, String idempotencyKey) {
         try {
             log.info("Adding word pair to glossaryId: {}", glossaryId);
-            restTemplate.postForObject(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair", wordPair, Void.class);
+            GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                    idempotencyKey, "add-word-pair", glossaryId, wordPair, true);
+            glossaryMutationGuard.execute(key, false, () -> {
+                send(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair", HttpMethod.POST, wordPair, key.value());
+                return null;
+            });
+            glossaryVersionTracker.bump(glossaryId);
+        } catch (IdempotencyKeyReuseException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while adding word pair: {}", e.getMessage(), e);
             throw new RuntimeException("Error while adding word pair: " + e.getMessage());
+        } finally {
+            glossaryCache.invalidateGlossary(glossaryId);
         }
     }
 
     // [5] 단어쌍 수정
-    public void updateWordPair(String glossaryId, String wordPairId, GlossaryRequest.WordPair updatedWordPair) {
+    public void updateWordPair(String glossaryId, String wordPairId, GlossaryRequest.WordPair updatedWordPair,
+                               String idempotencyKey) {
         try {
             log.info("Updating word pair: glossaryId={}, wordPairId={}", glossaryId, wordPairId);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-
-            HttpEntity<GlossaryRequest.WordPair> requestEntity = new HttpEntity<>(updatedWordPair, headers);
             String url = String.format("%s/api/glossary/%s/word-pair/%s", fastApiUrl, glossaryId, wordPairId);
-
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, requestEntity, String.class);
-            log.info("Response from FastAPI: {}", response.getBody());
+            GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                    idempotencyKey, "update-word-pair", glossaryId, updatedWordPair, false);
+            glossaryMutationGuard.execute(key, true, () -> {
+                send(url, HttpMethod.PUT, updatedWordPair, key.value());
+                return null;
+            });
+            glossaryVersionTracker.bump(glossaryId);
             log.info("Word pair updated successfully. glossaryId={}, wordPairId={}", glossaryId, wordPairId);
+        } catch (IdempotencyKeyReuseException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while updating word pair: glossaryId={}, wordPairId={}", glossaryId, wordPairId, e);
             throw new RuntimeException("Error while updating word pair", e);
+        } finally {
+            glossaryCache.invalidateGlossary(glossaryId);
         }
     }
 
     // [6] 단어쌍 삭제
-    public void deleteWordPair(String glossaryId, int index) {
+    // 인덱스 기준 삭제는 두 번 실행되면 다른 단어쌍이 지워지므로 멱등 요청으로 보지 않음
+    public void deleteWordPair(String glossaryId, int index, String idempotencyKey) {
         try {
             log.info("Deleting word pair from glossaryId: {}, index: {}", glossaryId, index);
-            restTemplate.delete(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair/" + index);
+            GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                    idempotencyKey, "delete-word-pair", glossaryId, index, false);
+            glossaryMutationGuard.execute(key, false, () -> {
+                send(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair/" + index, HttpMethod.DELETE, null, key.value());
+                return null;
+            });
+            glossaryVersionTracker.bump(glossaryId);
+        } catch (IdempotencyKeyReuseException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while deleting word pair: {}", e.getMessage(), e);
             throw new RuntimeException("Error while deleting word pair: " + e.getMessage());
+        } finally {
+            glossaryCache.invalidateGlossary(glossaryId);
         }
     }
 
@@ -192,19 +328,194 @@ public class GlossaryService {
         try {
             log.info("Fetching word pairs for glossaryId: {}", glossaryId);
 
-            ResponseEntity<GlossaryRequest.WordPair[]> response = restTemplate.getForEntity(
-                    fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair",
-                    GlossaryRequest.WordPair[].class
-            );
-
-            if (response.getBody() != null) {
-                return Arrays.asList(response.getBody());
-            } else {
-                throw new RuntimeException("FastAPI 응답이 비어 있습니다.");
-            }
+            return glossaryCache.wordPairs(glossaryId, () -> readList(
+                    fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair", HttpMethod.GET, null, GlossaryRequest.WordPair.class));
         } catch (Exception e) {
             log.error("Error while fetching word pairs for glossaryId {}: {}", glossaryId, e.getMessage());
             throw new RuntimeException("FastAPI 호출 중 오류", e);
         }
     }
+
+    // [7-1] 원문으로 단어쌍 찾기 (대소문자/앞뒤 공백 무시)
+    // 스냅샷(메모리 매핑) 목록이면 정렬된 키에서 이진 탐색, 아니면 목록을 순차 확인
+    public List<GlossaryRequest.WordPair> lookupWordPairs(String glossaryId, String term) {
+        List<GlossaryRequest.WordPair> wordPairs = getWordPairs(glossaryId);
+        GlossarySnapshot snapshot = GlossarySnapshot.of(wordPairs);
+        if (snapshot != null) {
+            return snapshot.lookup(term);
+        }
+        String key = GlossarySnapshot.fold(term);
+        return wordPairs.stream().filter(wordPair -> key.equals(GlossarySnapshot.fold(wordPair.getStart()))).toList();
+    }
+
+    // 경로로 받은 userId (숫자가 아니면 null → 전체 목록 무효화)
+    private static Long parseUserId(String userId) {
+        try {
+            return Long.valueOf(userId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // [8] 단어쌍 일괄 가져오기
+    // 파일을 한 행씩 읽어 검증하고, importBatchSize개씩 FastAPI 일괄 추가 API로 보낸다. (파일 전체를 메모리에 올리지 않음)
+    // 중간에 실패하면 이미 보낸 배치는 반영된 상태로 남는다. 클라이언트 Idempotency-Key는 배치 번호를 붙여 배치별 키로 쓴다.
+    public WordPairImportResponse importWordPairs(String glossaryId, InputStream in, WordPairFormat format, String idempotencyKey) {
+        long imported = 0;
+        long skipped = 0;
+        int batches = 0;
+        List<WordPairImportResponse.RowError> errors = new ArrayList<>();
+        List<GlossaryRequest.WordPair> batch = new ArrayList<>(importBatchSize);
+        try (WordPairFormat.RowReader reader = format.reader(new InputStreamReader(in, StandardCharsets.UTF_8), objectMapper)) {
+            long rows = 0;
+            WordPairFormat.Row row;
+            while ((row = reader.next()) != null) {
+                if (++rows > importMaxRows) {
+                    throw new IllegalArgumentException("한 번에 가져올 수 있는 단어쌍은 최대 " + importMaxRows + "개입니다.");
+                }
+                String error = validate(row);
+                if (error != null) {
+                    skipped++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new WordPairImportResponse.RowError(row.line(), error));
+                    }
+                    continue;
+                }
+                GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+                wordPair.setStart(row.start().strip());
+                wordPair.setArrival(row.arrival().strip());
+                batch.add(wordPair);
+                if (batch.size() >= importBatchSize) {
+                    sendBatch(glossaryId, batch, batches++, idempotencyKey);
+                    imported += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                sendBatch(glossaryId, batch, batches++, idempotencyKey);
+                imported += batch.size();
+            }
+            log.info("✅ 단어쌍 가져오기 완료: glossaryId={}, format={}, imported={}, skipped={}, batches={}",
+                    glossaryId, format, imported, skipped, batches);
+            return new WordPairImportResponse(imported, skipped, batches, errors);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(imported > 0 ? e.getMessage() + " (" + imported + "개는 이미 반영됨)" : e.getMessage(), e);
+        } catch (IdempotencyKeyReuseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error while importing word pairs: glossaryId={}, imported={}", glossaryId, imported, e);
+            throw new RuntimeException("단어쌍 가져오기 중 오류 (" + imported + "개 반영됨): " + e.getMessage(), e);
+        } finally {
+            if (batches > 0) {
+                glossaryVersionTracker.bump(glossaryId);
+                glossaryCache.invalidateGlossary(glossaryId);
+            }
+        }
+    }
+
+    // [9] 단어쌍 내보내기
+    // FastAPI 응답 배열을 원소 단위로 읽으면서 바로 파일 형식으로 써 내려간다. (캐시를 거치지 않음)
+    public void exportWordPairs(String glossaryId, WordPairFormat format, OutputStream out) {
+        ObjectReader reader = objectMapper.readerFor(GlossaryRequest.WordPair.class);
+        String url = fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair";
+        Long count = restTemplate.execute(url, HttpMethod.GET, restTemplate.httpEntityCallback(jsonEntity(null, null)), response -> {
+            long written = 0;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+            format.writeHeader(writer);
+            try (InputStream in = response.getBody();
+                 MappingIterator<GlossaryRequest.WordPair> values = reader.readValues(in)) {
+                while (values.hasNextValue()) {
+                    GlossaryRequest.WordPair wordPair = values.nextValue();
+                    format.write(writer, wordPair.getStart(), wordPair.getArrival(), objectMapper);
+                    written++;
+                }
+            }
+            writer.flush();
+            return written;
+        });
+        log.info("✅ 단어쌍 내보내기 완료: glossaryId={}, format={}, count={}", glossaryId, format, count);
+    }
+
+    private String validate(WordPairFormat.Row row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        if (row.start() == null || row.start().isBlank() || row.arrival() == null || row.arrival().isBlank()) {
+            return "start, arrival 값이 비어 있습니다.";
+        }
+        if (row.start().strip().length() > importMaxTermLength || row.arrival().strip().length() > importMaxTermLength) {
+            return "단어는 " + importMaxTermLength + "자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    private void sendBatch(String glossaryId, List<GlossaryRequest.WordPair> batch, int batchNo, String idempotencyKey) {
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey.strip() + "#" + batchNo,
+                "import-word-pairs", glossaryId, batch, false);
+        glossaryMutationGuard.execute(key, false, () -> {
+            send(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair/batch", HttpMethod.POST, batch, key.value());
+            return null;
+        });
+    }
+
+    // 응답 본문 하나를 타입 객체로 바인딩 (빈 본문이면 null)
+    private <T> T readObject(String url, HttpMethod method, Object body, Class<T> type) {
+        return readObject(url, method, body, null, type);
+    }
+
+    private <T> T readObject(String url, HttpMethod method, Object body, String idempotencyKey, Class<T> type) {
+        ObjectReader reader = objectMapper.readerFor(type);
+        return restTemplate.execute(url, method, restTemplate.httpEntityCallback(jsonEntity(body, idempotencyKey)), response -> {
+            try (InputStream in = response.getBody();
+                 MappingIterator<T> values = reader.readValues(in)) {
+                return values.hasNextValue() ? values.nextValue() : null;
+            }
+        });
+    }
+
+    // 최상위 JSON 배열을 원소 단위로 읽어 바인딩 (배열 전체를 트리로 만들지 않음)
+    private <T> List<T> readList(String url, HttpMethod method, Object body, Class<T> elementType) {
+        ObjectReader reader = objectMapper.readerFor(elementType);
+        return restTemplate.execute(url, method, restTemplate.httpEntityCallback(jsonEntity(body, null)), response -> {
+            List<T> result = new ArrayList<>();
+            try (InputStream in = response.getBody();
+                 MappingIterator<T> values = reader.readValues(in)) {
+                while (values.hasNextValue()) {
+                    result.add(values.nextValue());
+                }
+            }
+            return result;
+        });
+    }
+
+    // 응답 본문이 필요 없는 호출 (본문은 읽지 않고 커넥션 반환)
+    private void send(String url, HttpMethod method, Object body) {
+        send(url, method, body, null);
+    }
+
+    private void send(String url, HttpMethod method, Object body, String idempotencyKey) {
+        restTemplate.execute(url, method, restTemplate.httpEntityCallback(jsonEntity(body, idempotencyKey)), null);
+    }
+
+    private static HttpEntity<?> jsonEntity(Object body, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (idempotencyKey != null) {
+            headers.set(GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return new HttpEntity<>(body, headers);
+    }
+
+    private abstract static class PlainIdMixin {
+        @JsonProperty("id")
+        private String id;
+
+        @JsonProperty("id")
+        abstract String getId();
+
+        @JsonProperty("id")
+        abstract void setId(String id);
+    }
 }
@@ -0,0 +1,326 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 용어집 한 세대의 단어쌍 이진 스냅샷 (디스크 파일 + 메모리 매핑)
+ * 단어쌍 수십만 개를 String 객체로 힙에 두지 않고, 파일을 FileChannel.map으로 읽어 힙 밖에서 조회한다.
+ * <pre>
+ * header (48 bytes, big-endian)
+ *   int  magic "GSNP" | int format | long glossaryVersion | long contentHash
+ *   int  count | int entriesOffset | int sortedOffset | int poolOffset | int poolLength | int reserved
+ * entries  count × 32 bytes, FastAPI 응답 순서 그대로 (인덱스 기준 삭제와 같은 순서)
+ *   (offset, length) × 4 = key(원문 소문자), start, arrival, id   ※ length -1 = null
+ * sorted   count × int, key의 UTF-8 바이트 순으로 정렬한 entry 번호 (원문 조회는 이진 탐색)
+ * pool     UTF-8 문자열 (원문/번역어/key는 같은 문자열을 한 번만 저장)
+ * </pre>
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드에서 함께 써도 된다. (버퍼의 절대 위치 읽기만 사용)
+ */
+public final class GlossarySnapshot {
+
+    static final int MAGIC = 0x47534E50; // "GSNP"
+    static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 48;
+    private static final int ENTRY_BYTES = 32;
+    private static final int KEY = 0;
+    private static final int START = 8;
+    private static final int ARRIVAL = 16;
+    private static final int ID = 24;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long glossaryVersion;
+    private final long contentHash;
+    private final int count;
+    private final int entriesOffset;
+    private final int sortedOffset;
+    private final int poolOffset;
+    private final WordPairList wordPairs = new WordPairList();
+
+    private GlossarySnapshot(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+            throw new IllegalStateException("용어집 스냅샷 형식이 아닙니다: " + path);
+        }
+        this.glossaryVersion = buffer.getLong(8);
+        this.contentHash = buffer.getLong(16);
+        this.count = buffer.getInt(24);
+        this.entriesOffset = buffer.getInt(28);
+        this.sortedOffset = buffer.getInt(32);
+        this.poolOffset = buffer.getInt(36);
+        if ((long) poolOffset + buffer.getInt(40) > buffer.capacity()) {
+            throw new IllegalStateException("용어집 스냅샷이 잘렸습니다: " + path);
+        }
+    }
+
+    /**
+     * 스냅샷 파일 쓰기 (임시 파일에 쓴 뒤 이름을 바꾸므로, 같은 경로를 읽는 쪽은 항상 완성된 파일만 본다)
+     */
+    public static void write(Path path, long glossaryVersion, List<GlossaryRequest.WordPair> wordPairs) throws IOException {
+        int count = wordPairs.size();
+        Pool pool = new Pool();
+        int[] refs = new int[count * 8];
+        for (int i = 0; i < count; i++) {
+            GlossaryRequest.WordPair wordPair = wordPairs.get(i);
+            int ref = i * 8;
+            pool.add(refs, ref + START / 4, wordPair.getStart(), true);
+            String key = fold(wordPair.getStart());
+            if (key.equals(wordPair.getStart())) {
+                refs[ref + KEY / 4] = refs[ref + START / 4];
+                refs[ref + KEY / 4 + 1] = refs[ref + START / 4 + 1];
+            } else {
+                pool.add(refs, ref + KEY / 4, key, true);
+            }
+            pool.add(refs, ref + ARRIVAL / 4, wordPair.getArrival(), true);
+            pool.add(refs, ref + ID / 4, wordPair.getId(), false); // ID는 모두 다르므로 중복 확인 생략
+        }
+        Integer[] sorted = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (a, b) -> pool.compare(refs, a * 8 + KEY / 4, b * 8 + KEY / 4));
+
+        long entriesOffset = HEADER_BYTES;
+        long sortedOffset = entriesOffset + (long) ENTRY_BYTES * count;
+        long poolOffset = sortedOffset + 4L * count;
+        if (poolOffset + pool.length > Integer.MAX_VALUE) {
+            throw new IOException("용어집 스냅샷이 2GB를 넘습니다.");
+        }
+
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer out = ByteBuffer.allocate(1 << 16);
+                out.putInt(MAGIC).putInt(FORMAT).putLong(glossaryVersion).putLong(contentHash(wordPairs))
+                        .putInt(count).putInt((int) entriesOffset).putInt((int) sortedOffset).putInt((int) poolOffset)
+                        .putInt(pool.length).putInt(0);
+                for (int value : refs) {
+                    putInt(channel, out, value);
+                }
+                for (Integer entry : sorted) {
+                    putInt(channel, out, entry);
+                }
+                drain(channel, out.flip());
+                drain(channel, ByteBuffer.wrap(pool.bytes, 0, pool.length));
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑으로 연다. (채널은 바로 닫고, 매핑은 이 객체가 GC될 때 해제된다)
+     */
+    public static GlossarySnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new GlossarySnapshot(path, buffer);
+        }
+    }
+
+    // 단어쌍 목록의 내용 해시 (같은 내용이면 기존 스냅샷을 그대로 쓰기 위함)
+    public static long contentHash(List<GlossaryRequest.WordPair> wordPairs) {
+        long hash = 1125899906842597L;
+        for (GlossaryRequest.WordPair wordPair : wordPairs) {
+            hash = hash(hash, wordPair.getId());
+            hash = hash(hash, wordPair.getStart());
+            hash = hash(hash, wordPair.getArrival());
+        }
+        return hash * 31 + wordPairs.size();
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long glossaryVersion() {
+        return glossaryVersion;
+    }
+
+    public long contentHash() {
+        return contentHash;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long fileBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * 단어쌍 목록 보기 (FastAPI 응답 순서, 읽기 전용)
+     * get(i)마다 매핑된 파일에서 단어쌍 객체를 새로 만든다. 같은 스냅샷이면 항상 같은 목록 객체를 돌려준다.
+     */
+    public List<GlossaryRequest.WordPair> wordPairs() {
+        return wordPairs;
+    }
+
+    /**
+     * 원문(대소문자/앞뒤 공백 무시)이 term과 같은 단어쌍들
+     */
+    public List<GlossaryRequest.WordPair> lookup(String term) {
+        byte[] key = fold(term).getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(sortedEntry(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<GlossaryRequest.WordPair> found = new ArrayList<>(1);
+        for (int position = low; position < count && compareKey(sortedEntry(position), key) == 0; position++) {
+            found.add(wordPair(sortedEntry(position)));
+        }
+        return found;
+    }
+
+    private GlossaryRequest.WordPair wordPair(int entry) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setId(string(entry, ID));
+        wordPair.setStart(string(entry, START));
+        wordPair.setArrival(string(entry, ARRIVAL));
+        return wordPair;
+    }
+
+    private int sortedEntry(int position) {
+        return buffer.getInt(sortedOffset + 4 * position);
+    }
+
+    private String string(int entry, int field) {
+        int ref = entriesOffset + ENTRY_BYTES * entry + field;
+        int length = buffer.getInt(ref + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(poolOffset + buffer.getInt(ref), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 매핑된 key 바이트와 비교 (객체 생성 없음)
+    private int compareKey(int entry, byte[] key) {
+        int ref = entriesOffset + ENTRY_BYTES * entry + KEY;
+        int offset = poolOffset + buffer.getInt(ref);
+        int length = buffer.getInt(ref + 4);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int result = Integer.compare(buffer.get(offset + i) & 0xff, key[i] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private static void putInt(FileChannel channel, ByteBuffer out, int value) throws IOException {
+        if (out.remaining() < 4) {
+            drain(channel, out.flip());
+            out.clear();
+        }
+        out.putInt(value);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash * 31 + 7;
+        }
+        return (hash * 31 + value.hashCode()) * 31 + value.length();
+    }
+
+    // WordPairIndex와 같은 기준 (앞뒤 공백 제거 + 소문자)
+    static String fold(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 쓰기용 문자열 풀 (UTF-8, 같은 문자열은 한 번만 저장)
+    private static final class Pool {
+        private final Map<String, Long> offsets = new HashMap<>();
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+
+        // refs[slot], refs[slot + 1] = (offset, length), null이면 length -1
+        private void add(int[] refs, int slot, String value, boolean dedup) {
+            if (value == null) {
+                refs[slot] = 0;
+                refs[slot + 1] = -1;
+                return;
+            }
+            Long location = dedup ? offsets.get(value) : null;
+            if (location == null) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (length + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + encoded.length));
+                }
+                System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                location = (long) length << 32 | encoded.length;
+                length += encoded.length;
+                if (dedup) {
+                    offsets.put(value, location);
+                }
+            }
+            refs[slot] = (int) (location >>> 32);
+            refs[slot + 1] = (int) (long) location;
+        }
+
+        // 두 문자열의 UTF-8 바이트 비교 (조회 시 compareKey와 같은 순서)
+        private int compare(int[] refs, int a, int b) {
+            return Arrays.compareUnsigned(bytes, refs[a], refs[a] + refs[a + 1], bytes, refs[b], refs[b] + refs[b + 1]);
+        }
+    }
+
+    private final class WordPairList extends AbstractList<GlossaryRequest.WordPair> implements RandomAccess {
+
+        @Override
+        public GlossaryRequest.WordPair get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            return wordPair(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        GlossarySnapshot snapshot() {
+            return GlossarySnapshot.this;
+        }
+    }
+
+    // 목록이 스냅샷 보기이면 그 스냅샷 (아니면 null)
+    static GlossarySnapshot of(List<?> wordPairs) {
+        return wordPairs instanceof WordPairList list ? list.snapshot() : null;
+    }
+}
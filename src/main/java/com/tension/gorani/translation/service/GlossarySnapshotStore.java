@@ -0,0 +1,119 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 큰 용어집의 단어쌍 목록을 {@link GlossarySnapshot} 파일로 바꿔 힙 밖에 둔다.
+ * {@link GlossaryCache}가 FastAPI에서 읽은 목록이 glossary.snapshot.min-word-pairs개 이상이면 파일로 쓰고
+ * 메모리 매핑한 목록 보기를 대신 캐시한다. (그보다 작으면 원래 목록 그대로)
+ * - 파일: {glossary.snapshot.dir}/{용어집 ID}-{세대}.gsnap. 같은 용어집의 새 스냅샷을 만들면 이전 파일은 지운다.
+ *   (이미 매핑된 이전 스냅샷은 파일을 지워도 계속 읽을 수 있다)
+ * - 다시 읽은 목록의 내용이 직전 스냅샷과 같으면 파일을 새로 쓰지 않고 같은 목록 객체를 돌려준다.
+ *   (ETag/검색 색인 등 목록 객체 기준 캐시도 그대로 유지됨)
+ * - 재시작하면 세대가 새로 매겨지므로, 시작할 때 이전 실행의 파일을 지운다.
+ * - 쓰기에 실패하면 원래 목록을 그대로 쓴다.
+ * 메트릭: glossary.snapshot.writes{result=written|reused|failed}, glossary.snapshot.files, glossary.snapshot.bytes
+ */
+@Component
+@Slf4j
+public class GlossarySnapshotStore {
+
+    private static final String EXTENSION = ".gsnap";
+
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final boolean enabled;
+    private final Path directory;
+    private final int minWordPairs;
+    private final ConcurrentMap<String, GlossarySnapshot> latest = new ConcurrentHashMap<>();
+    private final Counter written;
+    private final Counter reused;
+    private final Counter failed;
+
+    public GlossarySnapshotStore(GlossaryVersionTracker glossaryVersionTracker,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${glossary.snapshot.enabled:true}") boolean enabled,
+                                 @Value("${glossary.snapshot.dir:${java.io.tmpdir}/gorani-glossary-snapshots}") String directory,
+                                 @Value("${glossary.snapshot.min-word-pairs:20000}") int minWordPairs) {
+        this.glossaryVersionTracker = glossaryVersionTracker;
+        this.directory = Path.of(directory);
+        this.minWordPairs = minWordPairs;
+        this.enabled = enabled && prepareDirectory();
+        this.written = meterRegistry.counter("glossary.snapshot.writes", "result", "written");
+        this.reused = meterRegistry.counter("glossary.snapshot.writes", "result", "reused");
+        this.failed = meterRegistry.counter("glossary.snapshot.writes", "result", "failed");
+        Gauge.builder("glossary.snapshot.files", latest, ConcurrentMap::size).register(meterRegistry);
+        Gauge.builder("glossary.snapshot.bytes", latest,
+                snapshots -> snapshots.values().stream().mapToLong(GlossarySnapshot::fileBytes).sum()).register(meterRegistry);
+        log.info("용어집 스냅샷: enabled={}, dir={}, minWordPairs={}", this.enabled, this.directory, minWordPairs);
+    }
+
+    /**
+     * 큰 목록이면 스냅샷 목록 보기로 바꿔서 돌려준다. (작거나 비활성화 상태면 그대로)
+     */
+    public List<GlossaryRequest.WordPair> compact(String glossaryId, List<GlossaryRequest.WordPair> wordPairs) {
+        if (!enabled || glossaryId == null || wordPairs == null || wordPairs.size() < minWordPairs
+                || GlossarySnapshot.of(wordPairs) != null) {
+            return wordPairs;
+        }
+        long started = System.nanoTime();
+        long version = glossaryVersionTracker.version(glossaryId);
+        long contentHash = GlossarySnapshot.contentHash(wordPairs);
+        GlossarySnapshot previous = latest.get(glossaryId);
+        if (previous != null && previous.contentHash() == contentHash && previous.size() == wordPairs.size()) {
+            reused.increment();
+            return previous.wordPairs();
+        }
+
+        Path path = directory.resolve(fileName(glossaryId, version));
+        try {
+            GlossarySnapshot.write(path, version, wordPairs);
+            GlossarySnapshot snapshot = GlossarySnapshot.open(path);
+            GlossarySnapshot replaced = latest.put(glossaryId, snapshot);
+            if (replaced != null && !replaced.path().equals(path)) {
+                Files.deleteIfExists(replaced.path());
+            }
+            written.increment();
+            log.info("✅ 용어집 스냅샷 생성: glossaryId={}, version={}, 단어쌍 {}개, {} bytes, {} ms", glossaryId, version,
+                    snapshot.size(), snapshot.fileBytes(), (System.nanoTime() - started) / 1_000_000);
+            return snapshot.wordPairs();
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            log.warn("⚠️ 용어집 스냅샷 생성 실패, 목록을 그대로 사용: glossaryId={}, {}", glossaryId, e.getMessage());
+            return wordPairs;
+        }
+    }
+
+    // 용어집 ID는 FastAPI(MongoDB ObjectId)가 정하지만, 파일 이름에 쓸 수 없는 문자는 바꾼다
+    private static String fileName(String glossaryId, long version) {
+        return glossaryId.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + version + EXTENSION;
+    }
+
+    private boolean prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*" + EXTENSION + "*")) {
+                for (Path path : stale) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("⚠️ 용어집 스냅샷 디렉터리를 쓸 수 없어 비활성화: dir={}, {}", directory, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 용어집 원문(start) 용어 다중 패턴 매처 (Aho-Corasick)
+ * - 입력 길이 + 일치 수에 비례하는 시간에 모든 용어 출현 위치를 찾는다. (용어 수와 무관)
+ * - 용어와 입력 모두 {@link KoreanTermNormalizer}로 정규화해서 비교한다. (유니코드 정규화, 대소문자, 공백, 선택적 자모 분해)
+ *   용어 키는 매처를 만들 때 한 번만 계산하고, 일치 위치는 원문 [begin, end)로 돌려준다.
+ * - 라틴 문자/숫자로 시작하거나 끝나는 용어는 단어 중간에서 일치하지 않는다. ("cat" ≠ "concatenate")
+ *   한글 용어는 뒤에 조사가 붙어도 일치하고("사과를"), 합성어나 단어 중간에서는 일치하지 않는다. ("사과나무", "청사과")
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class GlossaryTermMatcher {
+
+    private static final GlossaryTermMatcher EMPTY = new GlossaryTermMatcher(KoreanTermNormalizer.DEFAULT, List.of(), new int[0],
+            new char[][]{new char[0]}, new int[][]{new int[0]}, new int[]{0}, new int[]{-1}, new int[]{-1});
+
+    private final KoreanTermNormalizer normalizer;
+    private final List<Term> terms;
+    private final int[] keyLengths;  // 용어별 정규화된 키 길이
+    // 상태별 전이 (정렬된 문자 → 다음 상태)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[] termAt;      // 이 상태에서 끝나는 용어 (없으면 -1)
+    private final int[] nextOutput;  // 실패 링크를 따라 가장 가까운, 용어가 끝나는 상태 (없으면 -1)
+
+    private GlossaryTermMatcher(KoreanTermNormalizer normalizer, List<Term> terms, int[] keyLengths, char[][] edgeChars,
+                                int[][] edgeTargets, int[] failure, int[] termAt, int[] nextOutput) {
+        this.normalizer = normalizer;
+        this.terms = terms;
+        this.keyLengths = keyLengths;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.termAt = termAt;
+        this.nextOutput = nextOutput;
+    }
+
+    public static GlossaryTermMatcher empty() {
+        return EMPTY;
+    }
+
+    public static GlossaryTermMatcher build(List<GlossaryRequest.WordPair> wordPairs) {
+        return build(wordPairs, KoreanTermNormalizer.DEFAULT);
+    }
+
+    /**
+     * 단어쌍 목록으로 매처 생성. 빈 용어는 건너뛰고, 정규화한 키가 같은 용어가 여러 번 있으면 처음 것을 쓴다.
+     */
+    public static GlossaryTermMatcher build(List<GlossaryRequest.WordPair> wordPairs, KoreanTermNormalizer normalizer) {
+        List<Term> terms = new ArrayList<>();
+        List<Integer> keyLengths = new ArrayList<>();
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> termAt = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        termAt.add(-1);
+
+        for (GlossaryRequest.WordPair wordPair : wordPairs) {
+            String start = wordPair.getStart() == null ? "" : wordPair.getStart().strip();
+            String key = normalizer.key(start);
+            if (key.isEmpty() || wordPair.getArrival() == null) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(state).put(c, next);
+                    edges.add(new TreeMap<>());
+                    termAt.add(-1);
+                }
+                state = next;
+            }
+            if (termAt.get(state) < 0) {
+                termAt.set(state, terms.size());
+                terms.add(new Term(terms.size(), start, wordPair.getArrival().strip()));
+                keyLengths.add(key.length());
+            }
+        }
+        if (terms.isEmpty()) {
+            return EMPTY;
+        }
+
+        int size = edges.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> map = edges.get(state);
+            edgeChars[state] = new char[map.size()];
+            edgeTargets[state] = new int[map.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : map.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i++] = edge.getValue();
+            }
+        }
+        int[] termAtArray = termAt.stream().mapToInt(Integer::intValue).toArray();
+
+        // 실패 링크 / 출력 링크 (BFS)
+        int[] failure = new int[size];
+        int[] nextOutput = new int[size];
+        Arrays.fill(nextOutput, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int fallback = failure[state];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, fallback, c)) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = Math.max(target, 0);
+                nextOutput[child] = termAtArray[failure[child]] >= 0 ? failure[child] : nextOutput[failure[child]];
+                queue.add(child);
+            }
+        }
+        return new GlossaryTermMatcher(normalizer, List.copyOf(terms), keyLengths.stream().mapToInt(Integer::intValue).toArray(),
+                edgeChars, edgeTargets, failure, termAtArray, nextOutput);
+    }
+
+    public List<Term> terms() {
+        return terms;
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /**
+     * 모든 용어 출현 위치 (겹치는 것 포함, 끝 위치 순, 원문 기준)
+     */
+    public List<Match> findAll(String text) {
+        List<Match> matches = new ArrayList<>();
+        if (terms.isEmpty() || text == null) {
+            return matches;
+        }
+        KoreanTermNormalizer.Normalized normalized = normalizer.normalize(text);
+        String scanned = normalized.text();
+        int state = 0;
+        for (int i = 0; i < scanned.length(); i++) {
+            char c = scanned.charAt(i);
+            int next;
+            while ((next = step(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = Math.max(next, 0);
+            for (int output = termAt[state] >= 0 ? state : nextOutput[state]; output >= 0; output = nextOutput[output]) {
+                Term term = terms.get(termAt[output]);
+                int begin = i + 1 - keyLengths[term.index()];
+                int end = normalizer.accept(normalized, begin, i + 1);
+                if (end >= 0) {
+                    matches.add(new Match(normalized.from()[begin], end, term));
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 겹치지 않는 출현 위치 (앞에서부터, 같은 위치에서는 긴 용어 우선)
+     */
+    public List<Match> findNonOverlapping(String text) {
+        List<Match> all = findAll(text);
+        all.sort(Comparator.comparingInt(Match::begin).thenComparing(Comparator.comparingInt(Match::end).reversed()));
+        List<Match> selected = new ArrayList<>();
+        int covered = 0;
+        for (Match match : all) {
+            if (match.begin() >= covered) {
+                selected.add(match);
+                covered = match.end();
+            }
+        }
+        return selected;
+    }
+
+    // 캐시 가중치 계산용 대략적인 크기 (bytes)
+    public int estimatedBytes() {
+        long bytes = 64L + 40L * failure.length + 4L * keyLengths.length;
+        for (int state = 0; state < edgeChars.length; state++) {
+            bytes += 6L * edgeChars[state].length;
+        }
+        for (Term term : terms) {
+            bytes += 48 + 2L * (term.start().length() + term.arrival().length());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    /**
+     * 용어 (index는 매처 안에서의 순번)
+     */
+    public record Term(int index, String start, String arrival) {
+    }
+
+    /**
+     * 입력 안의 출현 위치 [begin, end)
+     */
+    public record Match(int begin, int end, Term term) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 용어집별 용어 매처 캐시 (용어집 ID + 용어집 세대 기준)
+ * - 용어 키 정규화({@link KoreanTermNormalizer})는 매처를 만들 때 세대마다 한 번만 한다.
+ * - 용어집이 변경되면 세대가 바뀌어 다음 번역 요청에서 새 매처를 만든다. (이전 세대 매처는 크기 제한/만료로 정리)
+ * - 다른 인스턴스에서 변경한 단어쌍은 translation.glossary.matcher-ttl-seconds 주기로 반영된다.
+ * - 같은 키의 동시 생성은 하나로 합쳐지며, 생성(단어쌍 조회 + 매처 구성)은 외부 호출 실행기에서 한다.
+ * 메트릭: cache.* (cache=glossary.matchers)
+ */
+@Component
+@Slf4j
+public class GlossaryTermMatcherCache {
+
+    private final GlossaryService glossaryService;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final ExecutorService translationIoExecutor;
+    private final KoreanTermNormalizer koreanTermNormalizer;
+    private final AsyncCache<MatcherKey, GlossaryTermMatcher> cache;
+
+    public GlossaryTermMatcherCache(GlossaryService glossaryService,
+                                    GlossaryVersionTracker glossaryVersionTracker,
+                                    ExecutorService translationIoExecutor,
+                                    MeterRegistry meterRegistry,
+                                    KoreanTermNormalizer koreanTermNormalizer,
+                                    @Value("${translation.glossary.matcher-max-bytes:33554432}") long maxBytes,
+                                    @Value("${translation.glossary.matcher-ttl-seconds:60}") long ttlSeconds) {
+        this.glossaryService = glossaryService;
+        this.glossaryVersionTracker = glossaryVersionTracker;
+        this.translationIoExecutor = translationIoExecutor;
+        this.koreanTermNormalizer = koreanTermNormalizer;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((MatcherKey key, GlossaryTermMatcher matcher) -> 64 + 2 * key.glossaryId().length() + matcher.estimatedBytes())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "glossary.matchers");
+        log.info("용어 매처 캐시 초기화: maxBytes={}, ttl={}s", maxBytes, ttlSeconds);
+    }
+
+    /**
+     * 용어집의 현재 세대 매처. 캐시에 있으면 바로 완료된 future를 반환한다.
+     * 단어쌍 조회에 실패하면 그 예외로 완료되며, 실패 결과는 캐시에 남지 않는다.
+     */
+    public CompletableFuture<GlossaryTermMatcher> matcher(String glossaryId) {
+        MatcherKey key = new MatcherKey(glossaryId, glossaryVersionTracker.version(glossaryId));
+        return cache.get(key, (k, executor) -> CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            GlossaryTermMatcher matcher = GlossaryTermMatcher.build(glossaryService.getWordPairs(k.glossaryId()), koreanTermNormalizer);
+            log.info("✅ 용어 매처 생성: glossaryId={}, version={}, 용어 {}개, {} ms", k.glossaryId(), k.version(),
+                    matcher.terms().size(), (System.nanoTime() - started) / 1_000_000);
+            return matcher;
+        }, translationIoExecutor));
+    }
+
+    private record MatcherKey(String glossaryId, long version) {
+    }
+}
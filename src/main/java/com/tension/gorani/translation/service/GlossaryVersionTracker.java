@@ -0,0 +1,48 @@
+package com.tension.gorani.translation.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 용어집 변경 세대(version)를 추적한다.
+ * 어떤 용어집이든 변경되면 전역 세대가 증가하고, 그 용어집의 세대는 변경 시점의 전역 세대가 된다.
+ * 용어집별 세대는 그 용어집을 지정한 번역 결과 캐시 키({@link TranslationKey}), 용어집에서 만든 데이터(용어 매처 등)의
+ * 유효성 확인과 변경분 조회({@link GlossaryChangeLog})에 쓴다.
+ * 용어집을 지정하지 않은 번역은 {@link #versionFor}가 고정값을 반환하므로 용어집 변경과 관계없이 캐시 결과를 계속 쓴다.
+ * 세대는 시작 시각(ms × 1000)부터 세므로 재시작 후에도 이전 실행에서 내려준 세대보다 커진다.
+ */
+@Component
+public class GlossaryVersionTracker {
+
+    // 용어집 없이 번역한 결과의 캐시 키 세대
+    public static final long NO_GLOSSARY_VERSION = 0L;
+
+    private final AtomicLong globalVersion = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ConcurrentMap<String, Long> glossaryVersions = new ConcurrentHashMap<>();
+
+    public long globalVersion() {
+        return globalVersion.get();
+    }
+
+    // 용어집의 마지막 변경 세대 (변경된 적이 없으면 0)
+    public long version(String glossaryId) {
+        return glossaryVersions.getOrDefault(glossaryId, 0L);
+    }
+
+    // 번역 결과 캐시 키의 세대: 용어집을 지정했으면 그 용어집의 세대, 없으면 고정값
+    public long versionFor(String glossaryId) {
+        return glossaryId == null ? NO_GLOSSARY_VERSION : version(glossaryId);
+    }
+
+    // 용어집 변경(생성/수정/삭제/기본 설정, 단어쌍 변경) 시 호출
+    public long bump(String glossaryId) {
+        long version = globalVersion.incrementAndGet();
+        if (glossaryId != null) {
+            glossaryVersions.put(glossaryId, version);
+        }
+        return version;
+    }
+}
@@ -0,0 +1,12 @@
+package com.tension.gorani.translation.service;
+
+/**
+ * 같은 Idempotency-Key(같은 작업/범위)로 이전과 내용이 다른 변경 요청이 들어옴
+ * 이전 결과를 돌려주거나 요청을 건너뛰지 않고 422로 응답한다.
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
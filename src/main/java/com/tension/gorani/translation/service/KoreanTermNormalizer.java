@@ -0,0 +1,298 @@
+package com.tension.gorani.translation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 용어집 매칭용 정규화 (용어 키 생성 + 입력 문장 변환)
+ * {@link GlossaryTermMatcher}가 용어 키를 만들 때(용어집 세대마다 한 번)와 번역 요청 문장을 훑을 때 같은 규칙을 쓴다.
+ * - 유니코드 정규화: NFC 또는 NFKC (translation.glossary.normalization.form, 기본 NFKC — 전각 문자, 호환 자모 등)
+ *   결합 문자가 붙은 부분만 잘라서 정규화하므로 입력 길이에 비례한다.
+ * - 대소문자 무시, 연속 공백은 공백 하나로. 한글 사이의 공백은 없앤다. ("인공 지능" = "인공지능", ignore-hangul-spacing)
+ *   없앤 공백 자리는 단어 경계로 기억한다.
+ * - 조사(particles): 한글로 끝나는 용어 뒤에 조사가 (두 개까지) 붙은 경우만 일치로 보고, 합성어 안("사과나무"의 "사과")이나
+ *   단어 중간("청사과")에서는 일치하지 않는다. 용어 쪽의 끝 글자는 조사처럼 보여도 떼지 않는다. ("고양이")
+ * - 자모 분해(jamo, 기본 off): 한글 음절을 초성/중성/종성으로 나눠 비교한다. 조사가 받침으로 줄어든 경우
+ *   ("고라닌" = 고라니+ㄴ, "고라닐" = 고라니+ㄹ)도 찾는다.
+ * 변환된 문장의 각 문자는 원문 위치 범위를 가지고 있어, 일치 위치를 원문 [begin, end)로 되돌릴 수 있다.
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드에서 함께 써도 된다.
+ */
+@Component
+public class KoreanTermNormalizer {
+
+    // 용어 뒤에 붙는 조사 (긴 것부터 확인할 필요는 없음, 모든 조합을 확인)
+    private static final List<String> PARTICLES = List.of(
+            "은", "는", "이", "가", "을", "를", "의", "에", "에서", "에게", "에게서", "께", "께서", "한테", "한테서", "와", "과", "도", "만",
+            "로", "으로", "랑", "이랑", "하고", "까지", "부터", "보다", "처럼", "나", "이나", "야", "이야", "이다", "입니다",
+            "이에요", "예요", "이며", "며");
+    private static final int MAX_STACKED_PARTICLES = 2;
+    private static final char JAMO_FINAL_N = 'ᆫ'; // 받침 ㄴ (은/는 축약)
+    private static final char JAMO_FINAL_L = 'ᆯ'; // 받침 ㄹ (을/를 축약)
+
+    // 설정 기본값과 같은 정규화 (PARTICLES 다음에 초기화)
+    public static final KoreanTermNormalizer DEFAULT = new KoreanTermNormalizer("NFKC", true, true, false);
+
+    private final Normalizer.Form form;
+    private final boolean ignoreHangulSpacing;
+    private final boolean particles;
+    private final boolean jamo;
+    private final char[][] particleKeys;
+
+    public KoreanTermNormalizer(@Value("${translation.glossary.normalization.form:NFKC}") String form,
+                                @Value("${translation.glossary.normalization.ignore-hangul-spacing:true}") boolean ignoreHangulSpacing,
+                                @Value("${translation.glossary.normalization.particles:true}") boolean particles,
+                                @Value("${translation.glossary.normalization.jamo:false}") boolean jamo) {
+        this.form = parseForm(form);
+        this.ignoreHangulSpacing = ignoreHangulSpacing;
+        this.particles = particles;
+        this.jamo = jamo;
+        this.particleKeys = PARTICLES.stream().map(particle -> key(particle).toCharArray()).toArray(char[][]::new);
+    }
+
+    /**
+     * 용어 키 (비어 있으면 매칭하지 않는 용어)
+     */
+    public String key(String term) {
+        return term == null ? "" : normalize(term).text();
+    }
+
+    /**
+     * 입력 문장 변환 (원문 위치 포함)
+     */
+    public Normalized normalize(String input) {
+        int length = input.length();
+        StringBuilder out = new StringBuilder(length + 16);
+        int[] from = new int[length + 16];
+        int[] to = new int[length + 16];
+        boolean[] spaceBefore = new boolean[length + 16];
+        Output output = new Output(out, from, to, spaceBefore);
+
+        int spaceStart = -1;
+        boolean lastHangul = false;
+        int i = 0;
+        while (i < length) {
+            int cp = input.codePointAt(i);
+            int end = i + Character.charCount(cp);
+            while (end < length && continues(input.codePointAt(end))) {
+                end += Character.charCount(input.codePointAt(end));
+            }
+            String segment = stable(cp, end - i) ? null : Normalizer.normalize(input.substring(i, end), form);
+
+            if (segment == null ? isSpace(cp) : segment.isBlank()) {
+                if (spaceStart < 0) {
+                    spaceStart = i;
+                }
+                i = end;
+                continue;
+            }
+            boolean hangul = isHangul(segment == null ? cp : segment.codePointAt(0));
+            if (spaceStart >= 0 && output.length() > 0) {
+                if (ignoreHangulSpacing && lastHangul && hangul) {
+                    output.markSpace();
+                } else {
+                    output.append(' ', spaceStart, i);
+                }
+            }
+            spaceStart = -1;
+            if (segment == null) {
+                appendFolded(output, cp, i, end);
+            } else {
+                for (int j = 0; j < segment.length(); ) {
+                    int folded = segment.codePointAt(j);
+                    j += Character.charCount(folded);
+                    if (isSpace(folded)) {
+                        output.append(' ', i, end);
+                    } else {
+                        appendFolded(output, folded, i, end);
+                    }
+                }
+            }
+            lastHangul = isHangul(segment == null ? cp : segment.codePointBefore(segment.length()));
+            i = end;
+        }
+        return output.finish();
+    }
+
+    /**
+     * 변환된 문장의 [begin, end)가 용어 하나로 일치할 수 있는지 (원문 문자 경계 + 한글/라틴 단어 경계)
+     * 일치하면 원문 끝 위치, 아니면 -1
+     */
+    int accept(Normalized text, int begin, int end) {
+        String value = text.text();
+        if (begin > 0 && text.from[begin - 1] == text.from[begin]) {
+            return -1; // 원문 한 글자(자모 분해, 호환 문자 확장 등)의 중간에서 시작
+        }
+        int originalEnd = text.to[end - 1];
+        int next = end;
+        if (end < value.length() && text.to[end] == text.to[end - 1]) {
+            // 원문 한 글자의 중간에서 끝남: 자모 분해에서 받침 조사(ㄴ/ㄹ)만 남은 경우만 허용
+            if (!particles || !jamo || !isContractedParticle(value.charAt(end))
+                    || (end + 1 < value.length() && text.to[end + 1] == text.to[end])) {
+                return -1;
+            }
+            next = end + 1;
+        }
+
+        char first = value.charAt(begin);
+        char last = value.charAt(end - 1);
+        if (isWordChar(first) && begin > 0 && !text.spaceBefore[begin] && isWordChar(value.charAt(begin - 1))) {
+            return -1;
+        }
+        if (isWordChar(last) && end < value.length() && !text.spaceBefore[end] && isWordChar(value.charAt(end))) {
+            return -1;
+        }
+        if (particles && isHangul(first) && begin > 0 && !text.spaceBefore[begin] && isHangul(value.charAt(begin - 1))) {
+            return -1;
+        }
+        if (particles && isHangul(last) && !boundaryAfterParticles(text, next, 0)) {
+            return -1;
+        }
+        return originalEnd;
+    }
+
+    // position에서 단어가 끝나는지 (조사를 MAX_STACKED_PARTICLES개까지 건너뜀)
+    private boolean boundaryAfterParticles(Normalized text, int position, int depth) {
+        String value = text.text();
+        if (position >= value.length() || text.spaceBefore[position] || !isHangul(value.charAt(position))) {
+            return true;
+        }
+        if (depth == MAX_STACKED_PARTICLES) {
+            return false;
+        }
+        for (char[] particle : particleKeys) {
+            if (regionMatches(value, position, particle) && boundaryAfterParticles(text, position + particle.length, depth + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(String value, int position, char[] particle) {
+        if (position + particle.length > value.length()) {
+            return false;
+        }
+        for (int i = 0; i < particle.length; i++) {
+            if (value.charAt(position + i) != particle[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendFolded(Output output, int cp, int begin, int end) {
+        int lower = Character.toLowerCase(cp);
+        if (jamo && lower >= 0xAC00 && lower <= 0xD7A3) {
+            int index = lower - 0xAC00;
+            output.append((char) (0x1100 + index / 588), begin, end);
+            output.append((char) (0x1161 + index % 588 / 28), begin, end);
+            if (index % 28 != 0) {
+                output.append((char) (0x11A7 + index % 28), begin, end);
+            }
+            return;
+        }
+        if (Character.isBmpCodePoint(lower)) {
+            output.append((char) lower, begin, end);
+        } else {
+            output.append(Character.highSurrogate(lower), begin, end);
+            output.append(Character.lowSurrogate(lower), begin, end);
+        }
+    }
+
+    // 정규화해도 바뀌지 않는 것이 확실한 글자 (ASCII, 완성형 한글 음절) — 대부분의 입력은 Normalizer를 거치지 않는다
+    private static boolean stable(int cp, int segmentLength) {
+        return segmentLength == Character.charCount(cp) && (cp < 0x80 || (cp >= 0xAC00 && cp <= 0xD7A3));
+    }
+
+    // 앞 글자와 함께 정규화해야 하는 글자 (결합 문자, 한글 중성/종성 자모, 반각 탁점, 이체자 선택자)
+    private static boolean continues(int cp) {
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || (cp >= 0x1160 && cp <= 0x11FF) || (cp >= 0xD7B0 && cp <= 0xD7FF) || cp == 0xFF9E || cp == 0xFF9F
+                || (cp >= 0xFE00 && cp <= 0xFE0F);
+    }
+
+    private boolean isContractedParticle(char c) {
+        return c == JAMO_FINAL_N || c == JAMO_FINAL_L;
+    }
+
+    private static boolean isSpace(int cp) {
+        return Character.isWhitespace(cp) || Character.isSpaceChar(cp);
+    }
+
+    // 한글 음절 / 자모
+    static boolean isHangul(int c) {
+        return (c >= 0xAC00 && c <= 0xD7A3) || (c >= 0x1100 && c <= 0x11FF) || (c >= 0x3130 && c <= 0x318F)
+                || (c >= 0xA960 && c <= 0xA97F) || (c >= 0xD7B0 && c <= 0xD7FF);
+    }
+
+    // 단어 경계를 보는 문자 (라틴 문자, 숫자)
+    static boolean isWordChar(char c) {
+        return c < 0x0250 && Character.isLetterOrDigit(c);
+    }
+
+    private static Normalizer.Form parseForm(String form) {
+        String value = form == null ? "" : form.trim().toUpperCase(Locale.ROOT);
+        if (!value.equals("NFC") && !value.equals("NFKC")) {
+            throw new IllegalArgumentException("translation.glossary.normalization.form은 NFC 또는 NFKC여야 합니다: " + form);
+        }
+        return Normalizer.Form.valueOf(value);
+    }
+
+    /**
+     * 변환된 문장. text의 i번째 문자는 원문 [from[i], to[i]) 에서 왔고, spaceBefore[i]면 바로 앞에 (없앤) 공백이 있었다.
+     */
+    public record Normalized(String text, int[] from, int[] to, boolean[] spaceBefore) {
+    }
+
+    private static final class Output {
+        private final StringBuilder text;
+        private int[] from;
+        private int[] to;
+        private boolean[] spaceBefore;
+
+        private Output(StringBuilder text, int[] from, int[] to, boolean[] spaceBefore) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.spaceBefore = spaceBefore;
+        }
+
+        private int length() {
+            return text.length();
+        }
+
+        private void append(char c, int begin, int end) {
+            int index = text.length();
+            if (index == from.length) {
+                int grown = index * 2;
+                from = Arrays.copyOf(from, grown);
+                to = Arrays.copyOf(to, grown);
+                spaceBefore = Arrays.copyOf(spaceBefore, grown);
+            }
+            text.append(c);
+            from[index] = begin;
+            to[index] = end;
+        }
+
+        // 다음에 붙을 글자 앞에 공백이 있었음
+        private void markSpace() {
+            int index = text.length();
+            if (index == spaceBefore.length) {
+                int grown = index * 2;
+                from = Arrays.copyOf(from, grown);
+                to = Arrays.copyOf(to, grown);
+                spaceBefore = Arrays.copyOf(spaceBefore, grown);
+            }
+            spaceBefore[index] = true;
+        }
+
+        private Normalized finish() {
+            return new Normalized(text.toString(), from, to, spaceBefore);
+        }
+    }
+}
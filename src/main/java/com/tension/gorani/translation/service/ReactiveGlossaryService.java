@@ -0,0 +1,192 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryMessageResponse;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * {@link GlossaryService}의 논블로킹 버전 (gateway.reactive.enabled=true)
+ * FastAPI 호출과 응답 바인딩이 모두 이벤트 루프에서 진행되며, 목록 응답은 원소 단위로 디코딩되어 Flux로 흘러간다.
+ * 실패 메시지와 응답 형식은 GlossaryService와 동일하게 맞춘다.
+ * 목록 조회는 GlossaryService와 같은 {@link GlossaryCache} 항목을 논블로킹으로 읽는다. (없으면 FastAPI 응답 목록을 캐시에 넣음)
+ * 변경 요청은 같은 캐시 항목을 응답 전에 (성공 여부와 관계없이) 무효화하므로,
+ * 캐시를 거치는 번역 용어 적용/변경분 조회({@link GlossaryChangeLog})도 바뀐 목록을 다시 읽는다.
+ * 기본 용어집 설정은 여러 단계 호출과 실패 시 복구가 필요해 GlossaryService의 처리를 그대로 쓴다. (boundedElastic에서 실행)
+ */
+@Service
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveGlossaryService {
+
+    @Value("${fastapi.url}")
+    private String fastApiUrl;
+
+    private final WebClient fastApiWebClient;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final GlossaryMutationGuard glossaryMutationGuard;
+    private final GlossaryCache glossaryCache;
+    private final GlossaryService glossaryService;
+
+    // [1] 용어집 생성
+    public Mono<GlossaryResponse> saveGlossary(GlossaryRequest glossaryRequest, String idempotencyKey) {
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                idempotencyKey, "save-glossary", "user:" + glossaryRequest.getUserId(), glossaryRequest, false);
+        return glossaryMutationGuard.execute(key, false, fastApiWebClient.post()
+                        .uri(fastApiUrl + "/api/glossary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, key.value())
+                        .bodyValue(glossaryRequest)
+                        .retrieve()
+                        .bodyToMono(GlossaryResponse.class))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("FastAPI 응답이 비어 있습니다.")))
+                .doOnSuccess(saved -> glossaryVersionTracker.bump(glossaryRequest.getId()))
+                .onErrorMap(e -> !(e instanceof IdempotencyKeyReuseException), e -> {
+                    log.error("Error while saving glossary: {}", e.getMessage(), e);
+                    return new RuntimeException("Error while saving glossary", e);
+                })
+                .doOnTerminate(() -> glossaryCache.invalidateUser(glossaryRequest.getUserId()));
+    }
+
+    // [2] 용어집 이름 변경
+    public Mono<Void> updateGlossaryName(String id, String name) {
+        return fastApiWebClient.put()
+                .uri(fastApiUrl + "/api/glossary/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", name))
+                .retrieve()
+                .toBodilessEntity()
+                .doOnSuccess(response -> glossaryVersionTracker.bump(id))
+                .onErrorMap(e -> new RuntimeException("FastAPI 요청 중 오류 발생: " + e.getMessage()))
+                .doOnTerminate(() -> glossaryCache.invalidateGlossary(id))
+                .then();
+    }
+
+    // [3] 특정 유저의 용어집 목록 (GlossaryCache, 없으면 FastAPI 응답을 배열 원소 단위로 디코딩해 목록으로 저장)
+    public Flux<GlossaryResponse> fetchUserGlossaries(int userId) {
+        return Mono.fromFuture(() -> glossaryCache.userGlossariesAsync(userId, () -> fastApiWebClient.get()
+                        .uri(fastApiUrl + "/glossary?userId=" + userId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToFlux(GlossaryResponse.class)
+                        .collectList()
+                        .toFuture()))
+                .flatMapIterable(glossaries -> glossaries)
+                .onErrorMap(e -> {
+                    log.error("Error calling FastAPI for userId={}: {}", userId, e.getMessage());
+                    return new RuntimeException("FastAPI 호출 중 오류", e);
+                });
+    }
+
+    // [4] 용어집 삭제
+    public Mono<GlossaryMessageResponse> deleteGlossary(String glossaryId) {
+        return fastApiWebClient.delete()
+                .uri(fastApiUrl + "/api/glossary/" + glossaryId)
+                .retrieve()
+                .bodyToMono(GlossaryMessageResponse.class)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("FastAPI 응답이 비어 있습니다.")))
+                .doOnSuccess(response -> glossaryVersionTracker.bump(glossaryId))
+                .onErrorMap(e -> new RuntimeException("Error while deleting glossary: " + e.getMessage(), e))
+                .doOnTerminate(() -> glossaryCache.invalidateGlossary(glossaryId));
+    }
+
+    // 기본 용어집 설정 (GlossaryService와 같은 단일 호출 + 실패 시 이전 기본 용어집 복구, 응답의 '_id'는 'id'로 변환)
+    public Mono<String> setDefaultGlossary(String userId, String glossaryId) {
+        return Mono.fromCallable(() -> GlossaryService.defaultGlossaryJson(glossaryService.setDefaultGlossary(userId, glossaryId)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // [4] 단어쌍 추가
+    public Mono<Void> addWordPair(String glossaryId, GlossaryRequest.WordPair wordPair, String idempotencyKey) {
+        log.info("Adding word pair to glossaryId: {}", glossaryId);
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                idempotencyKey, "add-word-pair", glossaryId, wordPair, true);
+        return glossaryMutationGuard.execute(key, false, fastApiWebClient.post()
+                        .uri(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, key.value())
+                        .bodyValue(wordPair)
+                        .retrieve()
+                        .toBodilessEntity())
+                .doOnSuccess(response -> glossaryVersionTracker.bump(glossaryId))
+                .onErrorMap(e -> !(e instanceof IdempotencyKeyReuseException), e -> {
+                    log.error("Error while adding word pair: {}", e.getMessage(), e);
+                    return new RuntimeException("Error while adding word pair: " + e.getMessage());
+                })
+                .doOnTerminate(() -> glossaryCache.invalidateGlossary(glossaryId))
+                .then();
+    }
+
+    // [5] 단어쌍 수정
+    public Mono<Void> updateWordPair(String glossaryId, String wordPairId, GlossaryRequest.WordPair updatedWordPair,
+                                     String idempotencyKey) {
+        log.info("Updating word pair: glossaryId={}, wordPairId={}", glossaryId, wordPairId);
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                idempotencyKey, "update-word-pair", glossaryId, updatedWordPair, false);
+        return glossaryMutationGuard.execute(key, true, fastApiWebClient.put()
+                        .uri(String.format("%s/api/glossary/%s/word-pair/%s", fastApiUrl, glossaryId, wordPairId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, key.value())
+                        .bodyValue(updatedWordPair)
+                        .retrieve()
+                        .toBodilessEntity())
+                .doOnSuccess(response -> {
+                    glossaryVersionTracker.bump(glossaryId);
+                    log.info("Word pair updated successfully. glossaryId={}, wordPairId={}", glossaryId, wordPairId);
+                })
+                .onErrorMap(e -> !(e instanceof IdempotencyKeyReuseException), e -> {
+                    log.error("Error while updating word pair: glossaryId={}, wordPairId={}", glossaryId, wordPairId, e);
+                    return new RuntimeException("Error while updating word pair", e);
+                })
+                .doOnTerminate(() -> glossaryCache.invalidateGlossary(glossaryId))
+                .then();
+    }
+
+    // [6] 단어쌍 삭제
+    public Mono<Void> deleteWordPair(String glossaryId, int index, String idempotencyKey) {
+        log.info("Deleting word pair from glossaryId: {}, index: {}", glossaryId, index);
+        GlossaryMutationGuard.IdempotencyKey key = glossaryMutationGuard.keyFor(
+                idempotencyKey, "delete-word-pair", glossaryId, index, false);
+        return glossaryMutationGuard.execute(key, false, fastApiWebClient.delete()
+                        .uri(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair/" + index)
+                        .header(GlossaryMutationGuard.IDEMPOTENCY_KEY_HEADER, key.value())
+                        .retrieve()
+                        .toBodilessEntity())
+                .doOnSuccess(response -> glossaryVersionTracker.bump(glossaryId))
+                .onErrorMap(e -> !(e instanceof IdempotencyKeyReuseException), e -> {
+                    log.error("Error while deleting word pair: {}", e.getMessage(), e);
+                    return new RuntimeException("Error while deleting word pair: " + e.getMessage());
+                })
+                .doOnTerminate(() -> glossaryCache.invalidateGlossary(glossaryId))
+                .then();
+    }
+
+    // [7] 단어쌍 목록 (GlossaryCache, 없으면 FastAPI 응답을 배열 원소 단위로 디코딩해 목록으로 저장)
+    public Flux<GlossaryRequest.WordPair> getWordPairs(String glossaryId) {
+        log.info("Fetching word pairs for glossaryId: {}", glossaryId);
+        return Mono.fromFuture(() -> glossaryCache.wordPairsAsync(glossaryId, () -> fastApiWebClient.get()
+                        .uri(fastApiUrl + "/api/glossary/" + glossaryId + "/word-pair")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToFlux(GlossaryRequest.WordPair.class)
+                        .collectList()
+                        .toFuture()))
+                .flatMapIterable(wordPairs -> wordPairs)
+                .onErrorMap(e -> {
+                    log.error("Error while fetching word pairs for glossaryId {}: {}", glossaryId, e.getMessage());
+                    return new RuntimeException("FastAPI 호출 중 오류", e);
+                });
+    }
+}
@@ -0,0 +1,42 @@
+package com.tension.gorani.translation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+@Component
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RestTemplateFastApiTransport implements FastApiTransport {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+    private final ExecutorService translationIoExecutor;
+
+    @Override
+    public CompletableFuture<Map<String, Object>> post(String url, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Object> requestEntity = new HttpEntity<>(body, headers);
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.exchange(url, HttpMethod.POST, requestEntity, MAP_TYPE).getBody(), translationIoExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> get(String url) {
+        return CompletableFuture.supplyAsync(
+                () -> restTemplate.exchange(url, HttpMethod.GET, null, MAP_TYPE).getBody(), translationIoExecutor);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tension.gorani.translation.service;
+
+/**
+ * 번역 작업 실패를 나타내는 예외.
+ * 메시지는 기존 API 응답과 동일한 사용자용 문구("FastAPI 요청 실패" 등)를 그대로 사용한다.
+ */
+public class TranslationException extends RuntimeException {
+
+    public TranslationException(String message) {
+        super(message);
+    }
+
+    public TranslationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
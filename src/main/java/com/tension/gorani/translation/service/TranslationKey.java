@@ -0,0 +1,38 @@
+package com.tension.gorani.translation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 번역 요청 식별 키. 원문 대신 SHA-256 해시를 보관하여 키 자체의 메모리 사용량을 고정한다.
+ * glossaryId는 요청에 용어집을 지정해 용어를 강제 적용한 경우에만 있다. (없으면 null)
+ */
+public record TranslationKey(String textHash, String sourceLang, String targetLang, String model, String glossaryId,
+                             long glossaryVersion) {
+
+    public static TranslationKey of(String text, String sourceLang, String targetLang, String model, long glossaryVersion) {
+        return of(text, sourceLang, targetLang, model, null, glossaryVersion);
+    }
+
+    public static TranslationKey of(String text, String sourceLang, String targetLang, String model, String glossaryId,
+                                    long glossaryVersion) {
+        return new TranslationKey(sha256(text), sourceLang, targetLang, model, glossaryId, glossaryVersion);
+    }
+
+    // 캐시 가중치 계산용 대략적인 키 크기 (bytes)
+    public int estimatedBytes() {
+        int glossaryIdLength = glossaryId == null ? 0 : glossaryId.length();
+        return 64 + 2 * (textHash.length() + sourceLang.length() + targetLang.length() + model.length() + glossaryIdLength);
+    }
+
+    static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 소유자(유저/기업) + 언어쌍의 번역 메모리 인덱스 (메모리 상주)
+ * - 완전 일치: 공백 정규화한 원문 → 세그먼트 (HashMap)
+ * - 유사 일치: 문자 3-gram MinHash + LSH 밴드 버킷으로 후보를 좁힌 뒤 3-gram Jaccard 유사도로 검증
+ * 조회 비용은 저장된 세그먼트 수가 아니라 입력 길이와 후보 수(최대 MAX_VERIFIED)에 비례한다.
+ */
+public class TranslationMemoryIndex {
+
+    private static final int SHINGLE = 3;
+    private static final int BANDS = 10;
+    private static final int ROWS = 3;  // 유사도 0.7에서 후보 포함 확률 약 98%
+    private static final int MAX_COLLECTED = 1024;  // 버킷에서 모을 최대 항목 수
+    private static final int MAX_VERIFIED = 128;    // 실제 유사도를 계산할 최대 후보 수
+    private static final int HASHES = BANDS * ROWS;
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        Random random = new Random(0x5EED_7A11L);
+        for (int i = 0; i < HASHES; i++) {
+            SEEDS[i] = random.nextLong();
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<String, Integer> exact = new HashMap<>();
+    private final BucketTable buckets = new BucketTable();
+
+    public void add(String source, String target) {
+        String normalized = normalize(source);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = exact.get(normalized);
+            if (existing != null) {
+                // 같은 원문은 최신 번역으로 교체 (버킷은 원문 기준이므로 그대로 유지)
+                Segment old = segments.get(existing);
+                segments.set(existing, new Segment(old.source(), target, old.shingles()));
+                return;
+            }
+            int[] shingles = shingles(normalized);
+            int id = segments.size();
+            segments.add(new Segment(source, target, shingles));
+            exact.put(normalized, id);
+            for (long bandKey : bandKeys(shingles)) {
+                buckets.add(bandKey, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<TranslationMemoryMatch> findExact(String source) {
+        String normalized = normalize(source);
+        lock.readLock().lock();
+        try {
+            Integer id = exact.get(normalized);
+            if (id == null) {
+                return Optional.empty();
+            }
+            Segment segment = segments.get(id);
+            return Optional.of(new TranslationMemoryMatch(segment.source(), segment.target(), 1.0, true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 완전 일치가 있으면 그것을, 없으면 유사도가 threshold 이상인 후보를 유사도 내림차순으로 최대 limit개 반환
+     */
+    public List<TranslationMemoryMatch> find(String source, double threshold, int limit) {
+        Optional<TranslationMemoryMatch> exactMatch = findExact(source);
+        if (exactMatch.isPresent()) {
+            return List.of(exactMatch.get());
+        }
+
+        String normalized = normalize(source);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int[] shingles = shingles(normalized);
+
+        lock.readLock().lock();
+        try {
+            // 여러 밴드에서 함께 걸린 후보일수록 유사할 가능성이 높으므로 충돌 횟수 순으로 검증
+            int[] collected = new int[MAX_COLLECTED];
+            int count = 0;
+            for (long bandKey : bandKeys(shingles)) {
+                count = buckets.collect(bandKey, collected, count);
+            }
+            List<TranslationMemoryMatch> matches = new ArrayList<>();
+            for (int id : rankCandidates(collected, count)) {
+                Segment segment = segments.get(id);
+                double similarity = jaccard(shingles, segment.shingles());
+                if (similarity >= threshold) {
+                    matches.add(new TranslationMemoryMatch(segment.source(), segment.target(), similarity, false));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(TranslationMemoryMatch::getSimilarity).reversed());
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 후보 ID를 밴드 충돌 횟수 내림차순으로 정렬하여 최대 MAX_VERIFIED개 반환
+    private static int[] rankCandidates(int[] collected, int count) {
+        Arrays.sort(collected, 0, count);
+        long[] ranked = new long[count];
+        int distinct = 0;
+        for (int i = 0; i < count; ) {
+            int j = i;
+            while (j < count && collected[j] == collected[i]) {
+                j++;
+            }
+            // 상위 32비트: 충돌 횟수, 하위 32비트: ID
+            ranked[distinct++] = ((long) (j - i) << 32) | collected[i];
+            i = j;
+        }
+        Arrays.sort(ranked, 0, distinct);
+        int size = Math.min(distinct, MAX_VERIFIED);
+        int[] ids = new int[size];
+        for (int k = 0; k < size; k++) {
+            ids[k] = (int) ranked[distinct - 1 - k];
+        }
+        return ids;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+    }
+
+    // 문자 3-gram 해시 집합 (정렬, 중복 제거)
+    private static int[] shingles(String text) {
+        if (text.length() < SHINGLE) {
+            return new int[]{text.hashCode()};
+        }
+        int[] hashes = new int[text.length() - SHINGLE + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = text.substring(i, i + SHINGLE).hashCode();
+        }
+        return Arrays.stream(hashes).sorted().distinct().toArray();
+    }
+
+    private static long[] bandKeys(int[] shingles) {
+        long[] minHashes = new long[HASHES];
+        Arrays.fill(minHashes, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < HASHES; i++) {
+                long h = mix(shingle ^ SEEDS[i]);
+                if (h < minHashes[i]) {
+                    minHashes[i] = h;
+                }
+            }
+        }
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = mix(key * 31 + minHashes[band * ROWS + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0, j = 0, common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    // splitmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Segment(String source, String target, int[] shingles) {
+    }
+
+    /**
+     * LSH 버킷: long 키 → 세그먼트 ID 목록 (박싱 없는 open addressing + 연결 리스트 배열)
+     * 세그먼트 수십만 건 × 밴드 수만큼 항목이 생기므로 HashMap/List 대신 원시 배열로 보관한다.
+     */
+    private static final class BucketTable {
+        private long[] keys = new long[1024];
+        private int[] heads = new int[1024];
+        private int used;
+        private int[] entrySegment = new int[1024];
+        private int[] entryNext = new int[1024];
+        private int entryCount;
+
+        private BucketTable() {
+            Arrays.fill(heads, -1);
+        }
+
+        void add(long key, int segment) {
+            if ((used + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            if (entryCount == entrySegment.length) {
+                entrySegment = Arrays.copyOf(entrySegment, entryCount * 2);
+                entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+            }
+            int slot = slot(keys, heads, key);
+            if (heads[slot] == -1) {
+                keys[slot] = key;
+                used++;
+            }
+            entrySegment[entryCount] = segment;
+            entryNext[entryCount] = heads[slot];
+            heads[slot] = entryCount++;
+        }
+
+        // key에 해당하는 세그먼트 ID를 out[count..]에 이어 담고 새 count 반환
+        int collect(long key, int[] out, int count) {
+            int slot = slot(keys, heads, key);
+            for (int e = heads[slot]; e != -1 && count < out.length; e = entryNext[e]) {
+                out[count++] = entrySegment[e];
+            }
+            return count;
+        }
+
+        private static int slot(long[] keys, int[] heads, long key) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (heads[slot] != -1 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash(int capacity) {
+            long[] newKeys = new long[capacity];
+            int[] newHeads = new int[capacity];
+            Arrays.fill(newHeads, -1);
+            for (int i = 0; i < keys.length; i++) {
+                if (heads[i] != -1) {
+                    int slot = slot(newKeys, newHeads, keys[i]);
+                    newKeys[slot] = keys[i];
+                    newHeads[slot] = heads[i];
+                }
+            }
+            keys = newKeys;
+            heads = newHeads;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tension.gorani.companies.domain.entity.Company;
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+import com.tension.gorani.translation.DTO.TranslationMemoryRequest;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import com.tension.gorani.translation.repository.TranslationMemoryRepository;
+import com.tension.gorani.users.domain.entity.Users;
+import com.tension.gorani.users.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 번역 메모리(TM): 유저/기업별로 확정된 원문-번역문 쌍을 저장하고 조회
+ * - 저장소는 MySQL(translation_memory), 조회는 소유자+언어쌍 단위로 메모리에 올린 {@link TranslationMemoryIndex}
+ * - 소유자는 로그인한 유저 ID에서 정함 (USER: 유저 자신, COMPANY: 유저의 소속 기업)
+ * - 같은 소유자/언어쌍/원문(공백 정규화)은 한 행만 유지하고 번역문을 갱신 (upsert)
+ * - 인덱스는 translationIoExecutor에서 비동기로 로드. 번역 요청 경로의 완전 일치 조회는 로드를 기다리지 않는다.
+ * - 완전 일치는 FastAPI 호출 없이 바로 사용, 유사 일치는 translation.memory.fuzzy-threshold 이상일 때 제안
+ */
+@Service
+@Slf4j
+public class TranslationMemoryService {
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final UserService userService;
+    private final AsyncLoadingCache<IndexKey, TranslationMemoryIndex> indexes;
+    private final double fuzzyThreshold;
+
+    public TranslationMemoryService(TranslationMemoryRepository translationMemoryRepository,
+                                    UserService userService,
+                                    ExecutorService translationIoExecutor,
+                                    @Value("${translation.memory.fuzzy-threshold:0.7}") double fuzzyThreshold,
+                                    @Value("${translation.memory.max-loaded-indexes:1000}") long maxLoadedIndexes,
+                                    @Value("${translation.memory.idle-minutes:60}") long idleMinutes) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.userService = userService;
+        this.fuzzyThreshold = fuzzyThreshold;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxLoadedIndexes)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .executor(translationIoExecutor)
+                .buildAsync(this::loadIndex);
+    }
+
+    /**
+     * 완전 일치 조회 (번역 요청 경로에서 FastAPI 호출 전에 사용)
+     * 인덱스가 아직 로드 중이면 기다리지 않고 empty (로드는 백그라운드에서 계속)
+     */
+    public Optional<TranslationMemoryMatch> findExact(Long userId, OwnerType ownerType, String sourceLang,
+                                                      String targetLang, String sourceText) {
+        Optional<Long> ownerId = ownerId(userId, ownerType);
+        if (ownerId.isEmpty()) {
+            return Optional.empty();
+        }
+        CompletableFuture<TranslationMemoryIndex> index =
+                indexes.get(new IndexKey(ownerType, ownerId.get(), sourceLang, targetLang));
+        if (!index.isDone() || index.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return index.join().findExact(sourceText);
+    }
+
+    // 완전 일치 또는 유사 일치 후보 조회 (인덱스 로드 후 완료)
+    public CompletableFuture<List<TranslationMemoryMatch>> lookup(Long userId, OwnerType ownerType, String sourceLang,
+                                                                  String targetLang, String sourceText, int limit) {
+        Long ownerId = requireOwnerId(userId, ownerType);
+        return indexes.get(new IndexKey(ownerType, ownerId, sourceLang, targetLang))
+                .thenApply(index -> index.find(sourceText, fuzzyThreshold, limit));
+    }
+
+    public TranslationMemoryEntry save(Long userId, TranslationMemoryRequest request) {
+        Long ownerId = requireOwnerId(userId, request.getOwnerType());
+        String sourceHash = TranslationKey.sha256(TranslationMemoryIndex.normalize(request.getSourceText()));
+
+        TranslationMemoryEntry saved;
+        try {
+            saved = upsert(ownerId, sourceHash, request);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원문이 동시에 저장된 경우: 먼저 저장된 행의 번역문을 갱신
+            log.warn("⚠️ 번역 메모리 동시 저장 감지 - 기존 행 갱신: {}", e.getMessage());
+            saved = upsert(ownerId, sourceHash, request);
+        }
+
+        // 메모리에 올라왔거나 로드 중인 인덱스에 반영
+        // (로드 중이면 로드가 끝난 뒤 적용되고, 이후 조회는 반영된 인덱스를 기다리므로 유실되지 않음)
+        String sourceText = saved.getSourceText();
+        String targetText = saved.getTargetText();
+        indexes.asMap().computeIfPresent(
+                new IndexKey(request.getOwnerType(), ownerId, request.getSourceLang(), request.getTargetLang()),
+                (key, index) -> index.thenApply(loaded -> {
+                    loaded.add(sourceText, targetText);
+                    return loaded;
+                }));
+        return saved;
+    }
+
+    private TranslationMemoryEntry upsert(Long ownerId, String sourceHash, TranslationMemoryRequest request) {
+        TranslationMemoryEntry entry = translationMemoryRepository
+                .findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                        request.getOwnerType(), ownerId, request.getSourceLang(), request.getTargetLang(), sourceHash)
+                .orElseGet(() -> TranslationMemoryEntry.builder()
+                        .ownerType(request.getOwnerType())
+                        .ownerId(ownerId)
+                        .sourceLang(request.getSourceLang())
+                        .targetLang(request.getTargetLang())
+                        .sourceHash(sourceHash)
+                        .build());
+        entry.setSourceText(request.getSourceText());
+        entry.setTargetText(request.getTargetText());
+        return translationMemoryRepository.save(entry);
+    }
+
+    // 소유자 ID (USER: 유저 ID, COMPANY: 유저의 소속 기업 ID, 소속 기업이 없으면 empty)
+    private Optional<Long> ownerId(Long userId, OwnerType ownerType) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        if (ownerType == OwnerType.USER) {
+            return Optional.of(userId);
+        }
+        return userService.getUserById(userId).map(Users::getCompany).map(Company::getCompanyId);
+    }
+
+    private Long requireOwnerId(Long userId, OwnerType ownerType) {
+        return ownerId(userId, ownerType)
+                .orElseThrow(() -> new IllegalArgumentException("❌ 소속된 기업이 없어 기업 번역 메모리를 사용할 수 없습니다."));
+    }
+
+    private TranslationMemoryIndex loadIndex(IndexKey key) {
+        long start = System.nanoTime();
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        translationMemoryRepository
+                .findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(key.ownerType(), key.ownerId(), key.sourceLang(), key.targetLang())
+                .forEach(entry -> index.add(entry.getSourceText(), entry.getTargetText()));
+        log.info("📚 번역 메모리 로드: {} ({}건, {} ms)", key, index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    private record IndexKey(OwnerType ownerType, Long ownerId, String sourceLang, String targetLang) {
+    }
+}
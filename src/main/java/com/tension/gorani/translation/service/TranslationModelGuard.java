@@ -0,0 +1,164 @@
+package com.tension.gorani.translation.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 모델(OpenAI, Gorani, LangGorani 등)별 격리
+ * - 사용 가능한 모델은 translation.models 로 고정하고, 시작 시 모델마다 Bulkhead / Circuit Breaker를 만든다.
+ *   목록에 없는 모델 이름은 {@link #requireSupported}에서 거절하여 요청 값으로 인스턴스/메트릭이 늘어나지 않게 한다.
+ * - Bulkhead: 모델별 동시 진행 중인 FastAPI 작업 수 제한 (translation.bulkhead.max-concurrent[.{model}])
+ *   작업은 비동기이므로 스레드가 아니라 제출~결과 수신 구간 전체를 하나의 허가로 계산한다.
+ * - Circuit Breaker: 모델별 실패율/지연 비율이 기준을 넘으면 일정 시간 즉시 실패 처리
+ * 상태는 resilience4j.bulkhead.*, resilience4j.circuitbreaker.* 메트릭과 /api/translation/models/status 로 노출된다.
+ */
+@Component
+@Slf4j
+public class TranslationModelGuard {
+
+    private final Environment environment;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final int defaultMaxConcurrent;
+    private final Set<String> models;
+
+    public TranslationModelGuard(Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${translation.models:OpenAI,Gorani,LangGorani}") List<String> models,
+                                 @Value("${translation.bulkhead.max-concurrent:20}") int defaultMaxConcurrent,
+                                 @Value("${translation.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                 @Value("${translation.circuit-breaker.slow-call-ms:15000}") long slowCallMs,
+                                 @Value("${translation.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+                                 @Value("${translation.circuit-breaker.window-size:20}") int windowSize,
+                                 @Value("${translation.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                 @Value("${translation.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.environment = environment;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.models = new LinkedHashSet<>(models.stream().map(String::strip).filter(model -> !model.isEmpty()).toList());
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(defaultMaxConcurrent)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> event.getAddedEntry().getEventPublisher()
+                .onStateTransition(transition -> log.warn("⚠️ 모델 서킷 상태 변경: {} {}",
+                        transition.getCircuitBreakerName(), transition.getStateTransition())));
+        for (String model : this.models) {
+            circuitBreakerRegistry.circuitBreaker(model);
+            bulkhead(model);
+        }
+        log.info("번역 모델 격리 대상: {}", this.models);
+    }
+
+    public boolean isSupported(String model) {
+        return model != null && models.contains(model);
+    }
+
+    // 요청의 모델 이름 검증 (컨트롤러에서 호출, 목록에 없으면 400)
+    public void requireSupported(String model) {
+        if (!isSupported(model)) {
+            throw new IllegalArgumentException("❌ 지원하지 않는 모델입니다: " + model + " (사용 가능: " + String.join(", ", models) + ")");
+        }
+    }
+
+    public CompletableFuture<String> execute(String model, Supplier<CompletableFuture<String>> call) {
+        if (!isSupported(model)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("❌ 지원하지 않는 모델입니다: " + model));
+        }
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(model);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    new TranslationRejectedException("현재 " + model + " 모델 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요.", true));
+        }
+        Bulkhead bulkhead = bulkhead(model);
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(
+                    new TranslationRejectedException("번역 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", false));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<String> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, ex) -> {
+            bulkhead.onComplete();
+            long elapsed = System.nanoTime() - start;
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (ex == null) {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            } else if (cause instanceof CancellationException) {
+                // 호출자가 취소한 작업은 모델 상태와 무관하므로 실패로 세지 않음
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+            }
+        });
+    }
+
+    // 모델별 Bulkhead / Circuit Breaker 상태 (translation.models 순서)
+    public List<Map<String, Object>> status() {
+        return models.stream().map(model -> {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(model);
+            Bulkhead bulkhead = bulkhead(model);
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("model", model);
+            status.put("circuitState", circuitBreaker.getState().name());
+            status.put("failureRate", metrics.getFailureRate());
+            status.put("slowCallRate", metrics.getSlowCallRate());
+            status.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+            status.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+            status.put("bulkheadMaxConcurrent", bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+            status.put("bulkheadAvailable", bulkhead.getMetrics().getAvailableConcurrentCalls());
+            return status;
+        }).toList();
+    }
+
+    private Bulkhead bulkhead(String model) {
+        return bulkheadRegistry.bulkhead(model, () -> BulkheadConfig.custom()
+                .maxConcurrentCalls(environment.getProperty(
+                        "translation.bulkhead.max-concurrent." + model, Integer.class, defaultMaxConcurrent))
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.tension.gorani.translation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FastAPI 번역 상태 조회(/translate/status) 간격 정책
+ * - 첫 조회는 짧게 (translation.poll.initial-delay-ms): 짧은 문장은 수백 ms 안에 끝나는 경우가 많음
+ * - 이후 지수 백오프 (translation.poll.multiplier, 최대 translation.poll.max-interval-ms) + 지터
+ * - 모델별 전체 대기 시간: translation.poll.deadline-ms.{model} (없으면 translation.poll.deadline-ms)
+ * - translation.poll.long-poll.enabled=true 이면 상태 조회에 ?wait=초 를 붙여 FastAPI가 완료 시까지 응답을 보류하도록 함
+ *   (이 경우 조회 중인 외부 호출 스레드가 대기하므로 가상 스레드를 쓰지 않는다면 translation.io.pool-size를 함께 늘려야 한다)
+ *   FastAPI가 wait를 무시하고 바로 응답하면 보류되지 않은 만큼 일반 백오프로 기다리며,
+ *   보류된 경우에도 최소 translation.poll.long-poll.min-interval-ms는 쉰다. (조회가 빈 루프가 되지 않도록)
+ */
+@Component
+public class TranslationPollingStrategy {
+
+    private final Environment environment;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxIntervalMs;
+    private final long streamMaxIntervalMs;
+    private final double jitter;
+    private final long defaultDeadlineMs;
+    private final boolean longPollEnabled;
+    private final long longPollWaitMs;
+    private final long longPollMinIntervalMs;
+
+    public TranslationPollingStrategy(Environment environment,
+                                      @Value("${translation.poll.initial-delay-ms:300}") long initialDelayMs,
+                                      @Value("${translation.poll.multiplier:1.6}") double multiplier,
+                                      @Value("${translation.poll.max-interval-ms:2000}") long maxIntervalMs,
+                                      @Value("${translation.stream.poll-interval-ms:300}") long streamMaxIntervalMs,
+                                      @Value("${translation.poll.jitter:0.2}") double jitter,
+                                      @Value("${translation.poll.deadline-ms:20000}") long defaultDeadlineMs,
+                                      @Value("${translation.poll.long-poll.enabled:false}") boolean longPollEnabled,
+                                      @Value("${translation.poll.long-poll.wait-ms:10000}") long longPollWaitMs,
+                                      @Value("${translation.poll.long-poll.min-interval-ms:100}") long longPollMinIntervalMs) {
+        this.environment = environment;
+        this.initialDelayMs = initialDelayMs;
+        this.multiplier = multiplier;
+        this.maxIntervalMs = maxIntervalMs;
+        this.streamMaxIntervalMs = streamMaxIntervalMs;
+        this.jitter = jitter;
+        this.defaultDeadlineMs = defaultDeadlineMs;
+        this.longPollEnabled = longPollEnabled;
+        this.longPollWaitMs = longPollWaitMs;
+        this.longPollMinIntervalMs = longPollMinIntervalMs;
+    }
+
+    // 모델별 전체 대기 시간 (ms)
+    public long deadlineMs(String model) {
+        return environment.getProperty("translation.poll.deadline-ms." + model, Long.class, defaultDeadlineMs);
+    }
+
+    /**
+     * attempt번째(0부터) 상태 조회 전 대기 시간.
+     * 스트리밍은 중간 결과를 빨리 보여주기 위해 간격 상한을 translation.stream.poll-interval-ms로 제한한다.
+     */
+    public long delayMs(int attempt, boolean streaming) {
+        return delayMs(attempt, streaming, 0);
+    }
+
+    /**
+     * heldMs: 직전 상태 조회에 걸린 시간. long-poll에서는 서버가 보류한 만큼 대기 시간에서 뺀다.
+     * (보류 없이 바로 응답했다면 일반 백오프와 같아짐)
+     */
+    public long delayMs(int attempt, boolean streaming, long heldMs) {
+        long backoff = backoffMs(attempt, streaming);
+        if (longPollEnabled && attempt > 0) {
+            return Math.max(longPollMinIntervalMs, backoff - heldMs);
+        }
+        return backoff;
+    }
+
+    private long backoffMs(int attempt, boolean streaming) {
+        long cap = streaming ? Math.min(maxIntervalMs, streamMaxIntervalMs) : maxIntervalMs;
+        double base = Math.min(cap, initialDelayMs * Math.pow(multiplier, attempt));
+        double factor = 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return Math.max(1, Math.round(base * factor));
+    }
+
+    public boolean isLongPollEnabled() {
+        return longPollEnabled;
+    }
+
+    // 남은 시간을 넘지 않는 long-poll 대기 시간 (초 단위, FastAPI ?wait= 파라미터)
+    public long longPollWaitSeconds(long remainingMs) {
+        return Math.max(1, Math.min(longPollWaitMs, remainingMs) / 1000);
+    }
+}
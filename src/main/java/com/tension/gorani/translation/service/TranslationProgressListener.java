@@ -0,0 +1,23 @@
+package com.tension.gorani.translation.service;
+
+/**
+ * FastAPI 번역 작업의 진행 상황을 전달받는 리스너.
+ * 폴링 스케줄러 스레드에서 호출되므로 구현체는 오래 블로킹하지 않아야 한다.
+ */
+public interface TranslationProgressListener {
+
+    TranslationProgressListener NONE = new TranslationProgressListener() {
+    };
+
+    // FastAPI가 작업을 접수하고 Celery task_id를 발급한 시점
+    default void onQueued(String taskId) {
+    }
+
+    // 상태 조회 결과 (pending, running 등 FastAPI가 보고한 상태 그대로)
+    default void onStatus(String taskId, String status) {
+    }
+
+    // FastAPI가 중간 번역 결과를 보고한 경우 (이전과 달라졌을 때만 호출)
+    default void onPartialResult(String taskId, String partialResult) {
+    }
+}
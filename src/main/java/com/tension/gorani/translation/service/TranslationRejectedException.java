@@ -0,0 +1,20 @@
+package com.tension.gorani.translation.service;
+
+/**
+ * FastAPI를 호출하기 전에 {@link TranslationModelGuard}가 거절한 번역 요청.
+ * 서킷 브레이커가 열려 있거나(circuitOpen=true) 모델의 동시 요청 수(Bulkhead)가 가득 찬 경우이며,
+ * 곧바로 다시 보내도 같은 이유로 거절되므로 재시도하지 않는다. 메시지는 TranslationException과 같은 사용자용 문구.
+ */
+public class TranslationRejectedException extends TranslationException {
+
+    private final boolean circuitOpen;
+
+    public TranslationRejectedException(String message, boolean circuitOpen) {
+        super(message);
+        this.circuitOpen = circuitOpen;
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitOpen;
+    }
+}
@@ -0,0 +1,131 @@
+package com.tension.gorani.translation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 번역 요청(원문 해시 + 언어쌍 + 모델 + 용어집 세대)이 동시에 들어오면
+ * 하나의 FastAPI 작업만 실행하고 나머지 요청은 그 결과를 함께 받는다. (single-flight)
+ * 요청마다 결과의 복사본을 돌려주므로 한 요청이 취소해도 다른 요청에는 영향이 없고,
+ * 기다리는 요청이 모두 취소하면 실행 중인 작업도 취소한다. (이후 같은 요청은 새 작업으로 시작)
+ * 메트릭: translation.singleflight.calls{role=leader|joined} — joined 수가 절약된 FastAPI 호출 수
+ */
+@Component
+@Slf4j
+public class TranslationRequestCoalescer {
+
+    private final ConcurrentMap<TranslationKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter joinedCounter;
+
+    public TranslationRequestCoalescer(MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("translation.singleflight.calls")
+                .description("FastAPI로 실제 전달된 번역 작업 수")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.joinedCounter = Counter.builder("translation.singleflight.calls")
+                .description("진행 중인 동일 작업에 합류하여 절약된 FastAPI 호출 수")
+                .tag("role", "joined")
+                .register(meterRegistry);
+        meterRegistry.gauge("translation.singleflight.inflight", inFlight, ConcurrentMap::size);
+    }
+
+    public CompletableFuture<String> execute(TranslationKey key, Supplier<CompletableFuture<String>> call) {
+        Flight leader = new Flight(key);
+        // 모두 취소되어 끝나 가는 작업에는 합류하지 않음
+        Flight flight = inFlight.compute(key, (k, existing) -> existing != null && existing.join() ? existing : leader);
+        if (flight != leader) {
+            joinedCounter.increment();
+            log.info("🔗 진행 중인 동일 번역 작업에 합류: model={}", key.model());
+            return flight.waiter();
+        }
+
+        leaderCounter.increment();
+        try {
+            CompletableFuture<String> running = call.get();
+            running.whenComplete((result, ex) -> {
+                // 결과를 전달하기 전에 먼저 제거하여 완료 이후 요청은 새 작업(또는 캐시)을 사용하도록 함
+                inFlight.remove(key, leader);
+                if (ex != null) {
+                    leader.result.completeExceptionally(ex);
+                } else {
+                    leader.result.complete(result);
+                }
+            });
+            leader.start(running);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.result.completeExceptionally(e);
+        }
+        return leader.waiter();
+    }
+
+    public long savedCalls() {
+        return (long) joinedCounter.count();
+    }
+
+    // 하나의 작업과 그 결과를 기다리는 요청 수
+    private final class Flight {
+        private final TranslationKey key;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private CompletableFuture<String> running;
+        private int waiters = 1;
+        private boolean abandoned;
+
+        private Flight(TranslationKey key) {
+            this.key = key;
+        }
+
+        private synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        private CompletableFuture<String> waiter() {
+            CompletableFuture<String> waiter = result.copy();
+            waiter.whenComplete((value, ex) -> {
+                if (waiter.isCancelled()) {
+                    leave();
+                }
+            });
+            return waiter;
+        }
+
+        private void start(CompletableFuture<String> running) {
+            boolean cancel;
+            synchronized (this) {
+                this.running = running;
+                cancel = abandoned;
+            }
+            if (cancel) {
+                running.cancel(false);
+            }
+        }
+
+        private void leave() {
+            CompletableFuture<String> toCancel;
+            synchronized (this) {
+                if (--waiters > 0 || result.isDone()) {
+                    return;
+                }
+                abandoned = true;
+                toCancel = running;
+            }
+            inFlight.remove(key, this);
+            log.info("🔹 기다리는 요청이 모두 취소되어 번역 작업 취소: model={}", key.model());
+            if (toCancel != null) {
+                toCancel.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 번역 결과 캐시 (원문 해시 + 언어쌍 + 모델 + 용어집 세대 기준)
+ * - 크기 제한: 결과 문자열 기준 바이트 가중치 (translation.cache.max-bytes)
+ * - 만료: 저장 후 TTL (translation.cache.ttl-minutes)
+ * - 제거 정책: Caffeine W-TinyLFU
+ * 성공한 번역 결과만 저장하며, 메트릭은 cache.* (cache=translation.result) 이름으로 노출된다.
+ */
+@Component
+@Slf4j
+public class TranslationResultCache {
+
+    private final Cache<TranslationKey, String> cache;
+
+    public TranslationResultCache(@Value("${translation.cache.max-bytes:67108864}") long maxBytes,
+                                  @Value("${translation.cache.ttl-minutes:60}") long ttlMinutes,
+                                  MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((TranslationKey key, String value) -> key.estimatedBytes() + 40 + 2 * value.length())
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "translation.result");
+        log.info("번역 결과 캐시 초기화: maxBytes={}, ttl={}분", maxBytes, ttlMinutes);
+    }
+
+    public String get(TranslationKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(TranslationKey key, String translatedText) {
+        if (translatedText == null || translatedText.isEmpty()) {
+            return;
+        }
+        cache.put(key, translatedText);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -3,11 +3,16 @@ package com.tension.gorani.translation.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -17,89 +22,306 @@ public class TranslationService {
     @Value("${fastapi.url}")  // ✅ FastAPI의 기본 URL (모든 번역 처리)
     private String fastApiUrl;
 
-    private final RestTemplate restTemplate;
+    private final FastApiTransport fastApiTransport;
+    private final ScheduledExecutorService translationScheduler;
+    private final TranslationResultCache translationResultCache;
+    private final GlossaryVersionTracker glossaryVersionTracker;
+    private final TranslationRequestCoalescer translationRequestCoalescer;
+    private final TranslationPollingStrategy pollingStrategy;
+    private final TranslationModelGuard translationModelGuard;
+    private final GlossaryTermMatcherCache glossaryTermMatcherCache;
+    private final GlossaryEnforcer glossaryEnforcer;
 
     /**
      * ✅ 번역 요청을 FastAPI로 전달 (OpenAI, Gorani, LangGorani 처리)
+     * 동기 호출이 필요한 내부 호출자를 위한 메서드. 실패 시 기존과 동일한 안내 문구를 반환한다.
      */
     public String translateText(String text, String sourceLang, String targetLang, String model) {
         try {
-            return translateWithFastAPI(text, sourceLang, targetLang, model);
-        } catch (Exception e) {
+            return translateTextAsync(text, sourceLang, targetLang, model).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TranslationException) {
+                return e.getCause().getMessage();
+            }
             log.error("❌ 번역 요청 실패: {}", e.getMessage(), e);
             return "번역 요청 실패";
         }
     }
 
     /**
-     * ✅ FastAPI로 번역 요청 전달 (비동기 처리)
+     * ✅ 번역 요청을 비동기로 처리
+     * FastAPI에 작업을 제출하고 받은 task_id를 스케줄러에서 폴링한다. 호출 스레드는 대기하지 않는다.
+     * 실패 시 {@link TranslationException}으로 완료된다.
+     * 반환된 future를 취소하면 (같은 작업을 기다리는 다른 요청이 없을 때) 상태 조회를 멈추고 모델 Bulkhead 자리를 반납한다.
+     * 진행 이벤트를 받는 스트리밍 번역은 반환된 future를 결과 없이 완료(orTimeout 등)해도 같다.
      */
-    private String translateWithFastAPI(String text, String sourceLang, String targetLang, String model) {
-        try {
-            String url = fastApiUrl + "/translate";
+    public CompletableFuture<String> translateTextAsync(String text, String sourceLang, String targetLang, String model) {
+        return translateTextAsync(text, sourceLang, targetLang, model, null);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * ✅ 용어집을 지정한 번역 (glossaryId가 없으면 기존과 동일)
+     * 원문의 용어집 용어를 자리표시자로 바꿔 보내고, 결과에서 용어집 번역어로 되돌린 뒤 누락된 용어를 확인한다.
+     */
+    public CompletableFuture<String> translateTextAsync(String text, String sourceLang, String targetLang, String model,
+                                                        String glossaryId) {
+        return translateTextAsync(text, sourceLang, targetLang, model, glossaryId, false, true, TranslationProgressListener.NONE);
+    }
 
-            Map<String, Object> requestBody = Map.of(
-                    "text", text,
-                    "source_lang", sourceLang,
-                    "target_lang", targetLang,
-                    "model", model
-            );
+    /**
+     * ✅ 모델의 결과 대기 기한 (ms). 응답 대기 시간은 이보다 길어야 기한 전 마지막 조회 결과까지 받을 수 있다.
+     */
+    public long resultDeadlineMs(String model) {
+        return pollingStrategy.deadlineMs(model);
+    }
+
+    /**
+     * ✅ 진행 상황을 리스너로 전달하면서 번역 (SSE 스트리밍용)
+     * 스트리밍은 중간 결과를 빨리 보여주기 위해 조회 간격 상한을 더 짧게 두며, 전체 대기 시간은 동일하게 유지한다.
+     */
+    public CompletableFuture<String> translateTextStreaming(String text, String sourceLang, String targetLang, String model,
+                                                            TranslationProgressListener listener) {
+        return translateTextStreaming(text, sourceLang, targetLang, model, null, listener);
+    }
+
+    public CompletableFuture<String> translateTextStreaming(String text, String sourceLang, String targetLang, String model,
+                                                            String glossaryId, TranslationProgressListener listener) {
+        return translateTextAsync(text, sourceLang, targetLang, model, glossaryId, true, true, listener);
+    }
 
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+    /**
+     * ✅ 결과 캐시를 거치지 않는 번역 (배치 번역의 {@code <seg>} 묶음처럼 다시 요청될 일이 없는 원문용)
+     * 묶음 원문은 세그먼트 단위로 캐시하므로 묶음 자체를 캐시에 넣으면 자리만 차지한다.
+     */
+    public CompletableFuture<String> translateTextUncachedAsync(String text, String sourceLang, String targetLang, String model) {
+        return translateTextAsync(text, sourceLang, targetLang, model, null, false, false, TranslationProgressListener.NONE);
+    }
 
-            log.info("🔹 FastAPI로 번역 요청 보내기: {}", url);
-            log.info("📦 요청 데이터: {}", requestBody);
+    private CompletableFuture<String> translateTextAsync(String text, String sourceLang, String targetLang, String model,
+                                                         String glossaryId, boolean streaming, boolean cacheable,
+                                                         TranslationProgressListener listener) {
+        String glossary = glossaryId == null || glossaryId.isBlank() ? null : glossaryId;
+        TranslationKey key = TranslationKey.of(text, sourceLang, targetLang, model, glossary, glossaryVersionTracker.versionFor(glossary));
+        String cached = cacheable ? translationResultCache.get(key) : null;
+        if (cached != null) {
+            log.info("✅ 번역 캐시 적중: model={}, {}→{}", model, sourceLang, targetLang);
+            return CompletableFuture.completedFuture(cached);
+        }
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+        // 모델별 Bulkhead / Circuit Breaker 안에서 FastAPI 작업 실행 (용어 매처 준비는 Bulkhead 밖에서)
+        // 반환한 future가 결과 없이 끝나면(취소, 호출자의 orTimeout 등) cancelled로 알려 진행 중인 상태 조회를 멈춘다
+        Supplier<CompletableFuture<String>> call = () -> {
+            CompletableFuture<Void> cancelled = new CompletableFuture<>();
+            CompletableFuture<String> pipeline = maskGlossaryTerms(text, glossary).thenCompose(masked ->
+                    translationModelGuard.execute(model, () ->
+                            submitTranslation(masked, glossary, sourceLang, targetLang, model)
+                                    .thenCompose(taskId -> {
+                                        listener.onQueued(taskId);
+                                        return fetchTranslationResult(taskId, model, streaming,
+                                                restoringListener(listener, masked), cancelled);
+                                    }))
+                            .thenApply(result -> {
+                                String enforced = glossaryEnforcer.enforce(masked, result);
+                                // 성공한 결과만 캐시 (실패 시 TranslationException으로 완료되므로 저장되지 않음)
+                                if (cacheable) {
+                                    translationResultCache.put(key, enforced);
+                                }
+                                return enforced;
+                            }));
+            pipeline.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    cancelled.complete(null);
+                }
+            });
+            return pipeline;
+        };
 
-            log.info("✅ FastAPI 응답: {}", response.getBody());
+        // 진행 이벤트가 필요한 스트리밍 요청은 자신의 작업을 직접 관찰해야 하므로 합류 대상에서 제외
+        if (listener != TranslationProgressListener.NONE) {
+            return call.get();
+        }
+        return translationRequestCoalescer.execute(key, call);
+    }
 
-            if (response.getBody() != null && response.getBody().containsKey("task_id")) {
-                String taskId = response.getBody().get("task_id").toString();
-                return fetchTranslationResult(taskId);  // ✅ 비동기 작업 결과 조회 후 반환
-            } else {
-                return "FastAPI 응답이 올바르지 않습니다.";
+    /**
+     * ✅ 지정한 용어집의 용어를 원문에서 찾아 자리표시자로 변경 (용어집이 없으면 원문 그대로)
+     */
+    private CompletableFuture<GlossaryEnforcer.Masked> maskGlossaryTerms(String text, String glossaryId) {
+        if (glossaryId == null) {
+            return CompletableFuture.completedFuture(new GlossaryEnforcer.Masked(text, List.of(), false));
+        }
+        return glossaryTermMatcherCache.matcher(glossaryId).handle((matcher, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.error("❌ 용어집 조회 오류: glossaryId={}, {}", glossaryId, cause.getMessage(), cause);
+                throw new TranslationException("용어집 조회 실패", cause);
             }
-        } catch (Exception e) {
-            log.error("❌ FastAPI 요청 오류: {}", e.getMessage(), e);
-            return "FastAPI 요청 실패";
+            return glossaryEnforcer.mask(text, matcher);
+        });
+    }
+
+    // 중간 결과의 자리표시자를 용어집 번역어로 되돌려 전달
+    private TranslationProgressListener restoringListener(TranslationProgressListener listener, GlossaryEnforcer.Masked masked) {
+        if (!masked.masked() || listener == TranslationProgressListener.NONE) {
+            return listener;
         }
+        return new TranslationProgressListener() {
+            @Override
+            public void onQueued(String taskId) {
+                listener.onQueued(taskId);
+            }
+
+            @Override
+            public void onStatus(String taskId, String status) {
+                listener.onStatus(taskId, status);
+            }
+
+            @Override
+            public void onPartialResult(String taskId, String partialResult) {
+                listener.onPartialResult(taskId, glossaryEnforcer.restore(masked, partialResult));
+            }
+        };
     }
 
     /**
-     * ✅ Celery 비동기 번역 작업의 상태를 조회하여 최종 번역 결과 반환
+     * ✅ FastAPI로 번역 요청 전달 후 Celery task_id 반환
+     * 용어집을 지정한 경우 glossary_id와 원문에서 찾은 용어(glossary_terms)를 함께 보낸다.
      */
-    private String fetchTranslationResult(String taskId) {
-        try {
-            String url = String.format("%s/translate/status/%s", fastApiUrl, taskId);
+    private CompletableFuture<String> submitTranslation(GlossaryEnforcer.Masked masked, String glossaryId,
+                                                        String sourceLang, String targetLang, String model) {
+        String url = fastApiUrl + "/translate";
+
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("text", masked.text());
+        requestBody.put("source_lang", sourceLang);
+        requestBody.put("target_lang", targetLang);
+        requestBody.put("model", model);
+        if (glossaryId != null) {
+            requestBody.put("glossary_id", glossaryId);
+            requestBody.put("glossary_terms", masked.requestTerms());
+        }
+
+        log.info("🔹 FastAPI로 번역 요청 보내기: {}", url);
+        log.info("📦 요청 데이터: {}", requestBody);
+
+        return fastApiTransport.post(url, requestBody).handle((body, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.error("❌ FastAPI 요청 오류: {}", cause.getMessage(), cause);
+                throw new TranslationException("FastAPI 요청 실패", cause);
+            }
 
-            log.info("🔍 FastAPI 번역 상태 조회 시작: {}", url);
+            log.info("✅ FastAPI 응답: {}", body);
 
-            int retries = 10; // ✅ 최대 10번(20초)까지 상태 확인
-            while (retries-- > 0) {
-                Thread.sleep(2000);
+            if (body != null && body.containsKey("task_id")) {
+                return body.get("task_id").toString();
+            }
+            throw new TranslationException("FastAPI 응답이 올바르지 않습니다.");
+        });
+    }
+
+    /**
+     * ✅ Celery 비동기 번역 작업의 상태를 스케줄러에서 조회하여 최종 번역 결과로 완료
+     * 조회 간격과 모델별 대기 시간은 {@link TranslationPollingStrategy}를 따른다.
+     */
+    private CompletableFuture<String> fetchTranslationResult(String taskId, String model, boolean streaming,
+                                                             TranslationProgressListener listener,
+                                                             CompletableFuture<Void> cancelled) {
+        String url = String.format("%s/translate/status/%s", fastApiUrl, taskId);
+        log.info("🔍 FastAPI 번역 상태 조회 시작: {}", url);
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollingStrategy.deadlineMs(model));
+        PollTask task = new PollTask(taskId, url, streaming, deadlineNanos, listener);
+        // 요청이 취소되면 작업 future를 취소 (다음 조회는 예약되지 않고, 모델 Bulkhead 자리도 바로 반납)
+        cancelled.thenRun(() -> {
+            if (task.future.cancel(false)) {
+                log.info("🔹 번역 요청 취소로 상태 조회 중단: {}", taskId);
+            }
+        });
+        schedulePoll(task, 0, 0);
+        return task.future;
+    }
 
-                ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+    private void schedulePoll(PollTask task, int attempt, long heldMs) {
+        if (task.future.isDone()) {
+            return;
+        }
+        if (task.lastPoll) {
+            task.future.completeExceptionally(new TranslationException("번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요."));
+            return;
+        }
+        long delayMs = pollingStrategy.delayMs(attempt, task.streaming, heldMs);
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(task.deadlineNanos - System.nanoTime());
+        if (delayMs >= remainingMs) {
+            // 다음 조회가 기한을 넘기면 기한에 맞춰 마지막으로 한 번 더 조회하고, 그래도 끝나지 않았을 때 실패
+            task.lastPoll = true;
+            delayMs = Math.max(0, remainingMs);
+        }
+        // 스케줄러는 타이머 역할만 하고, 상태 조회는 FastApiTransport가 실행 (블로킹 모드는 외부 호출 실행기에서)
+        translationScheduler.schedule(() -> pollOnce(task, attempt), delayMs, TimeUnit.MILLISECONDS);
+    }
 
-                if (response.getBody() != null) {
-                    String status = response.getBody().get("status").toString();
+    private void pollOnce(PollTask task, int attempt) {
+        String url = task.url;
+        // 마지막 조회는 기한을 넘기지 않도록 보류 없이
+        if (pollingStrategy.isLongPollEnabled() && !task.lastPoll) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(task.deadlineNanos - System.nanoTime());
+            url = url + "?wait=" + pollingStrategy.longPollWaitSeconds(remainingMs);
+        }
 
-                    if ("completed".equals(status) && response.getBody().containsKey("result")) {
-                        log.info("✅ 번역 완료: {}", response.getBody().get("result"));
-                        return response.getBody().get("result").toString();
-                    }
+        long started = System.nanoTime();
+        fastApiTransport.get(url).whenComplete((body, ex) -> {
+            try {
+                if (ex != null) {
+                    throw ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
                 }
+                handleStatus(task, attempt, body, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            } catch (Throwable e) {
+                log.error("❌ FastAPI 상태 조회 오류: {}", e.getMessage(), e);
+                task.future.completeExceptionally(new TranslationException("FastAPI 상태 조회 실패", e));
+            }
+        });
+    }
 
-                log.info("⏳ 번역 대기 중... ({}회 남음)", retries);
+    private void handleStatus(PollTask task, int attempt, Map<String, Object> body, long heldMs) {
+        if (body != null) {
+            String status = String.valueOf(body.get("status"));
+
+            if ("completed".equals(status) && body.containsKey("result")) {
+                log.info("✅ 번역 완료: {} ({}회 조회)", body.get("result"), attempt + 1);
+                task.future.complete(body.get("result").toString());
+                return;
+            }
+
+            task.listener.onStatus(task.taskId, status);
+            Object partial = body.containsKey("partial_result") ? body.get("partial_result") : body.get("partial");
+            if (partial != null && !partial.toString().equals(task.lastPartial)) {
+                task.lastPartial = partial.toString();
+                task.listener.onPartialResult(task.taskId, task.lastPartial);
             }
+        }
+
+        log.info("⏳ 번역 대기 중... ({}회 조회)", attempt + 1);
+        schedulePoll(task, attempt + 1, heldMs);
+    }
+
+    // 하나의 Celery 작업에 대한 폴링 상태
+    private static class PollTask {
+        private final String taskId;
+        private final String url;
+        private final boolean streaming;
+        private final long deadlineNanos;
+        private final TranslationProgressListener listener;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private String lastPartial;
+        private boolean lastPoll;
 
-            return "번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요.";
-        } catch (Exception e) {
-            log.error("❌ FastAPI 상태 조회 오류: {}", e.getMessage(), e);
-            return "FastAPI 상태 조회 실패";
+        private PollTask(String taskId, String url, boolean streaming, long deadlineNanos, TranslationProgressListener listener) {
+            this.taskId = taskId;
+            this.url = url;
+            this.streaming = streaming;
+            this.deadlineNanos = deadlineNanos;
+            this.listener = listener;
         }
     }
 }
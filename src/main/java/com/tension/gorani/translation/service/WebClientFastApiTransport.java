@@ -0,0 +1,42 @@
+package com.tension.gorani.translation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "gateway.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WebClientFastApiTransport implements FastApiTransport {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient fastApiWebClient;
+
+    @Override
+    public CompletableFuture<Map<String, Object>> post(String url, Object body) {
+        return fastApiWebClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> get(String url) {
+        return fastApiWebClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .toFuture();
+    }
+}
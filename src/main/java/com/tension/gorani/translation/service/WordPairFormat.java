@@ -0,0 +1,393 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 단어쌍 가져오기/내보내기 파일 형식 (한 행씩 읽고 쓰며 파일 전체를 메모리에 올리지 않음)
+ * - CSV: RFC 4180 (큰따옴표 안의 쉼표/줄바꿈 허용), 첫 행이 "start,arrival"이면 헤더로 본다.
+ * - TSV: 탭 구분, 값 안의 탭/줄바꿈/역슬래시는 \t \n \\ 로 이스케이프
+ * - JSONL: 한 줄에 {"start": "...", "arrival": "..."} 하나
+ */
+public enum WordPairFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public RowReader reader(Reader in, ObjectMapper objectMapper) {
+            return new CsvReader(in);
+        }
+
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            out.write("start,arrival\r\n");
+        }
+
+        @Override
+        public void write(Writer out, String start, String arrival, ObjectMapper objectMapper) throws IOException {
+            out.write(csvField(start));
+            out.write(',');
+            out.write(csvField(arrival));
+            out.write("\r\n");
+        }
+    },
+
+    TSV("text/tab-separated-values", "tsv") {
+        @Override
+        public RowReader reader(Reader in, ObjectMapper objectMapper) {
+            return new TsvReader(in);
+        }
+
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            out.write("start\tarrival\n");
+        }
+
+        @Override
+        public void write(Writer out, String start, String arrival, ObjectMapper objectMapper) throws IOException {
+            out.write(tsvEscape(start));
+            out.write('\t');
+            out.write(tsvEscape(arrival));
+            out.write('\n');
+        }
+    },
+
+    JSONL("application/x-ndjson", "jsonl") {
+        @Override
+        public RowReader reader(Reader in, ObjectMapper objectMapper) {
+            return new JsonLinesReader(in, objectMapper);
+        }
+
+        @Override
+        public void writeHeader(Writer out) {
+        }
+
+        @Override
+        public void write(Writer out, String start, String arrival, ObjectMapper objectMapper) throws IOException {
+            out.write(objectMapper.writeValueAsString(new Line(start, arrival)));
+            out.write('\n');
+        }
+    };
+
+    // 따옴표가 닫히지 않은 파일 등에서 한 값이 끝없이 커지지 않도록 제한
+    static final int MAX_FIELD_CHARS = 4096;
+    static final int MAX_FIELDS = 64;
+
+    private final String mediaType;
+    private final String extension;
+
+    WordPairFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return MediaType.parseMediaType(mediaType + ";charset=UTF-8");
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public abstract RowReader reader(Reader in, ObjectMapper objectMapper);
+
+    public abstract void writeHeader(Writer out) throws IOException;
+
+    public abstract void write(Writer out, String start, String arrival, ObjectMapper objectMapper) throws IOException;
+
+    /**
+     * format 파라미터(csv / tsv / jsonl) 우선, 없으면 Content-Type으로 판단 (기본 CSV)
+     */
+    public static WordPairFormat resolve(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            return switch (format.trim().toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "tsv", "tab" -> TSV;
+                case "jsonl", "ndjson" -> JSONL;
+                default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+            };
+        }
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/tab-separated-values")) {
+                return TSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return JSONL;
+            }
+        }
+        return CSV;
+    }
+
+    /**
+     * 파일의 한 행. fields가 2개가 아니거나 JSON이 잘못된 경우 error에 사유가 담긴다.
+     */
+    public record Row(long line, String start, String arrival, String error) {
+    }
+
+    public interface RowReader extends AutoCloseable {
+        // 다음 행 (끝이면 null)
+        Row next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private record Line(String start, String arrival) {
+    }
+
+    private static Row row(long line, List<String> fields) {
+        if (fields.size() != 2) {
+            return new Row(line, null, null, "열이 2개(start, arrival)여야 합니다: " + fields.size() + "개");
+        }
+        return new Row(line, fields.get(0), fields.get(1), null);
+    }
+
+    private static boolean isHeader(List<String> fields) {
+        return fields.size() == 2
+                && "start".equalsIgnoreCase(fields.get(0).trim())
+                && "arrival".equalsIgnoreCase(fields.get(1).trim());
+    }
+
+    private static String stripBom(String value) {
+        return !value.isEmpty() && value.charAt(0) == '\uFEFF' ? value.substring(1) : value;
+    }
+
+    private static String csvField(String value) {
+        String text = value == null ? "" : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0 || (!text.isEmpty() && (text.charAt(0) == ' ' || text.charAt(text.length() - 1) == ' '));
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+
+    private static String tsvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String tsvUnescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't' -> unescaped.append('\t');
+                    case 'n' -> unescaped.append('\n');
+                    case 'r' -> unescaped.append('\r');
+                    default -> unescaped.append(next);
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static void checkLength(StringBuilder field, long line) {
+        if (field.length() > MAX_FIELD_CHARS) {
+            throw new IllegalArgumentException(line + "번째 줄: 값이 너무 깁니다. (최대 " + MAX_FIELD_CHARS + "자, 닫히지 않은 따옴표 확인)");
+        }
+    }
+
+    private static final class CsvReader implements RowReader {
+        private final PushbackReader in;
+        private long line = 1;
+        private boolean first = true;
+
+        private CsvReader(Reader in) {
+            this.in = new PushbackReader(in instanceof BufferedReader ? in : new BufferedReader(in, 8192));
+        }
+
+        @Override
+        public Row next() throws IOException {
+            while (true) {
+                long startLine = line;
+                List<String> fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+                if (first) {
+                    first = false;
+                    fields.set(0, stripBom(fields.get(0)));
+                    if (isHeader(fields)) {
+                        continue;
+                    }
+                }
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                return row(startLine, fields);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>(2);
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean any = false;
+            int c;
+            while ((c = in.read()) != -1) {
+                any = true;
+                if (inQuotes) {
+                    if (c == '"') {
+                        int next = in.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            if (next != -1) {
+                                in.unread(next);
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    inQuotes = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    if (fields.size() > MAX_FIELDS) {
+                        throw new IllegalArgumentException(line + "번째 줄: 열이 너무 많습니다.");
+                    }
+                } else if (c == '\r') {
+                    int next = in.read();
+                    if (next != '\n' && next != -1) {
+                        in.unread(next);
+                    }
+                    line++;
+                    break;
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                checkLength(field, line);
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class TsvReader implements RowReader {
+        private final BufferedReader in;
+        private long line;
+
+        private TsvReader(Reader in) {
+            this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in, 8192);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = in.readLine()) != null) {
+                line++;
+                if (line == 1) {
+                    text = stripBom(text);
+                }
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (text.length() > 2 * MAX_FIELD_CHARS + 1) {
+                    checkLength(new StringBuilder(text), line);
+                }
+                List<String> fields = new ArrayList<>(2);
+                for (String field : text.split("\t", -1)) {
+                    fields.add(tsvUnescape(field));
+                }
+                if (line == 1 && isHeader(fields)) {
+                    continue;
+                }
+                return row(line, fields);
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class JsonLinesReader implements RowReader {
+        private final BufferedReader in;
+        private final ObjectReader reader;
+        private long line;
+
+        private JsonLinesReader(Reader in, ObjectMapper objectMapper) {
+            this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in, 8192);
+            this.reader = objectMapper.readerFor(GlossaryRequest.WordPair.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = in.readLine()) != null) {
+                line++;
+                if (line == 1) {
+                    text = stripBom(text);
+                }
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (text.length() > 4 * MAX_FIELD_CHARS) {
+                    checkLength(new StringBuilder(text), line);
+                }
+                try {
+                    GlossaryRequest.WordPair wordPair = reader.readValue(text);
+                    return new Row(line, wordPair.getStart(), wordPair.getArrival(), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(line, null, null, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 용어집 한 세대(단어쌍 목록)의 검색 색인
+ * - 정렬: 원문(start, 소문자) → 번역어(arrival) → ID. 페이지 커서는 마지막 항목의 정렬 키이므로 중간에 단어쌍이 추가/삭제되어도
+ *   건너뛰거나 중복되지 않는다.
+ * - 원문 접두사 검색: 정렬 배열에서 이진 탐색으로 범위를 찾는다.
+ * - 그 밖의 검색(부분 문자열, 번역어 접두사): 두 글자(bigram) 역색인에서 가장 짧은 목록만 확인한다. 한 글자 검색은 순차 확인.
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class WordPairIndex {
+
+    public enum Match {
+        PREFIX, CONTAINS;
+
+        public static Match parse(String value) {
+            return parseEnum(Match.class, value, PREFIX, "match");
+        }
+    }
+
+    public enum Field {
+        START, ARRIVAL, ANY;
+
+        public static Field parse(String value) {
+            return parseEnum(Field.class, value, ANY, "field");
+        }
+    }
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final GlossaryRequest.WordPair[] pairs;
+    private final String[] startKeys;
+    private final String[] arrivalKeys;
+    private final String[] ids;
+    private final Map<Integer, int[]> bigrams;
+
+    private WordPairIndex(GlossaryRequest.WordPair[] pairs, String[] startKeys, String[] arrivalKeys, String[] ids,
+                          Map<Integer, int[]> bigrams) {
+        this.pairs = pairs;
+        this.startKeys = startKeys;
+        this.arrivalKeys = arrivalKeys;
+        this.ids = ids;
+        this.bigrams = bigrams;
+    }
+
+    public static WordPairIndex build(List<GlossaryRequest.WordPair> wordPairs) {
+        int size = wordPairs.size();
+        String[] unsortedStart = new String[size];
+        String[] unsortedArrival = new String[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            unsortedStart[i] = fold(wordPairs.get(i).getStart());
+            unsortedArrival[i] = fold(wordPairs.get(i).getArrival());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(i -> unsortedStart[i])
+                .thenComparing(i -> unsortedArrival[i])
+                .thenComparing(i -> nullToEmpty(wordPairs.get(i).getId())));
+
+        GlossaryRequest.WordPair[] pairs = new GlossaryRequest.WordPair[size];
+        String[] startKeys = new String[size];
+        String[] arrivalKeys = new String[size];
+        String[] ids = new String[size];
+        Map<Integer, PositionList> postings = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            int i = order[position];
+            pairs[position] = wordPairs.get(i);
+            startKeys[position] = unsortedStart[i];
+            arrivalKeys[position] = unsortedArrival[i];
+            ids[position] = nullToEmpty(wordPairs.get(i).getId());
+            addBigrams(postings, startKeys[position], position);
+            addBigrams(postings, arrivalKeys[position], position);
+        }
+
+        Map<Integer, int[]> bigrams = new HashMap<>(postings.size() * 2);
+        postings.forEach((bigram, positions) -> bigrams.put(bigram, positions.toArray()));
+        return new WordPairIndex(pairs, startKeys, arrivalKeys, ids, bigrams);
+    }
+
+    public int size() {
+        return pairs.length;
+    }
+
+    /**
+     * 검색 결과 한 페이지
+     *
+     * @param query  검색어 (비어 있으면 전체)
+     * @param cursor 이전 페이지의 nextCursor (없으면 처음부터)
+     * @param limit  최대 항목 수
+     */
+    public Page search(String query, Match match, Field field, String cursor, int limit) {
+        String folded = fold(query);
+        int from = cursor == null || cursor.isBlank() ? 0 : after(Cursor.decode(cursor));
+        List<GlossaryRequest.WordPair> items = new ArrayList<>(Math.min(limit, 256));
+        int last = -1;
+
+        if (folded.isEmpty() || (match == Match.PREFIX && field == Field.START)) {
+            // 전체 또는 원문 접두사: 정렬 범위를 그대로 읽는다
+            int end = folded.isEmpty() ? pairs.length : lowerBound(startKeys, folded + Character.MAX_VALUE);
+            int begin = Math.max(from, folded.isEmpty() ? 0 : lowerBound(startKeys, folded));
+            for (int position = begin; position < end; position++) {
+                if (items.size() == limit) {
+                    return new Page(items, Cursor.encode(startKeys[last], arrivalKeys[last], ids[last]));
+                }
+                items.add(pairs[position]);
+                last = position;
+            }
+            return new Page(items, null);
+        }
+
+        int[] candidates = candidates(folded);
+        int begin = candidates == null ? from : lowerBound(candidates, from);
+        int end = candidates == null ? pairs.length : candidates.length;
+        for (int i = begin; i < end; i++) {
+            int position = candidates == null ? i : candidates[i];
+            if (!matches(position, folded, match, field)) {
+                continue;
+            }
+            if (items.size() == limit) {
+                return new Page(items, Cursor.encode(startKeys[last], arrivalKeys[last], ids[last]));
+            }
+            items.add(pairs[position]);
+            last = position;
+        }
+        return new Page(items, null);
+    }
+
+    // 캐시 가중치 계산용 대략적인 크기 (bytes)
+    public int estimatedBytes() {
+        long bytes = 64L + 40L * pairs.length;
+        for (int position = 0; position < pairs.length; position++) {
+            bytes += 2L * (startKeys[position].length() + arrivalKeys[position].length() + ids[position].length());
+        }
+        for (int[] positions : bigrams.values()) {
+            bytes += 48 + 4L * positions.length;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private boolean matches(int position, String query, Match match, Field field) {
+        boolean start = field != Field.ARRIVAL && (match == Match.PREFIX
+                ? startKeys[position].startsWith(query) : startKeys[position].contains(query));
+        return start || field != Field.START && (match == Match.PREFIX
+                ? arrivalKeys[position].startsWith(query) : arrivalKeys[position].contains(query));
+    }
+
+    // 검색어의 두 글자 조합 중 가장 드문 것의 위치 목록 (한 글자 검색이면 null = 전체 확인)
+    private int[] candidates(String query) {
+        if (query.length() < 2) {
+            return null;
+        }
+        int[] rarest = null;
+        for (int i = 0; i + 1 < query.length(); i++) {
+            int[] positions = bigrams.getOrDefault(bigram(query.charAt(i), query.charAt(i + 1)), NO_POSITIONS);
+            if (rarest == null || positions.length < rarest.length) {
+                rarest = positions;
+            }
+        }
+        return rarest;
+    }
+
+    // 커서 키보다 뒤에 오는 첫 위치
+    private int after(Cursor cursor) {
+        int low = 0;
+        int high = pairs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, cursor) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int position, Cursor cursor) {
+        int result = startKeys[position].compareTo(cursor.start());
+        if (result == 0) {
+            result = arrivalKeys[position].compareTo(cursor.arrival());
+        }
+        return result != 0 ? result : ids[position].compareTo(cursor.id());
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && keys[index - 1].equals(key)) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int lowerBound(int[] positions, int position) {
+        int index = Arrays.binarySearch(positions, position);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private static void addBigrams(Map<Integer, PositionList> postings, String key, int position) {
+        for (int i = 0; i + 1 < key.length(); i++) {
+            postings.computeIfAbsent(bigram(key.charAt(i), key.charAt(i + 1)), k -> new PositionList()).add(position);
+        }
+    }
+
+    private static int bigram(char first, char second) {
+        return first << 16 | second;
+    }
+
+    private static String fold(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E fallback, String parameter) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 " + parameter + " 값: " + value);
+        }
+    }
+
+    /**
+     * 검색 결과 (nextCursor가 null이면 마지막 페이지)
+     */
+    public record Page(List<GlossaryRequest.WordPair> items, String nextCursor) {
+    }
+
+    // 마지막으로 돌려준 항목의 정렬 키 (base64url)
+    private record Cursor(String start, String arrival, String id) {
+
+        private static String encode(String start, String arrival, String id) {
+            String raw = start + '\u0000' + arrival + '\u0000' + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\u0000", 3);
+                if (parts.length == 3) {
+                    return new Cursor(parts[0], parts[1], parts[2]);
+                }
+            } catch (IllegalArgumentException e) {
+                // 아래에서 같은 예외로 처리
+            }
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+        }
+    }
+
+    // 오름차순 위치 목록 (같은 단어쌍이 같은 두 글자를 여러 번 가져도 한 번만 기록)
+    private static final class PositionList {
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
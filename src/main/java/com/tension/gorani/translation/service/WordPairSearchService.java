@@ -0,0 +1,79 @@
+package com.tension.gorani.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 단어쌍 페이지 조회 / 검색
+ * 단어쌍 목록은 {@link GlossaryService#getWordPairs}(용어집 캐시)에서 가져오고, 목록 객체마다 {@link WordPairIndex}를 한 번 만든다.
+ * 용어집이 변경되면 캐시의 목록 객체가 바뀌므로 색인도 새로 만들어지고, 이전 색인은 약한 참조로 정리된다.
+ * 메트릭: cache.* (cache=glossary.word-pair-index)
+ */
+@Service
+@Slf4j
+public class WordPairSearchService {
+
+    private final GlossaryService glossaryService;
+    private final Cache<List<GlossaryRequest.WordPair>, WordPairIndex> indexes;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public WordPairSearchService(GlossaryService glossaryService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${glossary.search.index-max-bytes:67108864}") long maxBytes,
+                                 @Value("${glossary.search.default-limit:100}") int defaultLimit,
+                                 @Value("${glossary.search.max-limit:1000}") int maxLimit) {
+        this.glossaryService = glossaryService;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.indexes = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maxBytes)
+                .weigher((List<GlossaryRequest.WordPair> key, WordPairIndex index) -> index.estimatedBytes())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "glossary.word-pair-index");
+    }
+
+    /**
+     * 단어쌍 한 페이지 (원문 기준 정렬)
+     *
+     * @param query  검색어 (없으면 전체)
+     * @param match  prefix(기본) / contains
+     * @param field  start / arrival / any(기본)
+     * @param cursor 이전 페이지의 nextCursor
+     * @param limit  페이지 크기 (없으면 glossary.search.default-limit, 최대 glossary.search.max-limit)
+     * @throws IllegalArgumentException 잘못된 match/field/cursor/limit
+     */
+    public WordPairPageResponse search(String glossaryId, String query, String match, String field, String cursor, Integer limit) {
+        WordPairIndex.Match matchMode = WordPairIndex.Match.parse(match);
+        WordPairIndex.Field searchField = WordPairIndex.Field.parse(field);
+        int pageSize = limit == null ? defaultLimit : limit;
+        if (pageSize < 1 || pageSize > maxLimit) {
+            throw new IllegalArgumentException("limit은 1 이상 " + maxLimit + " 이하여야 합니다.");
+        }
+
+        WordPairIndex index = index(glossaryService.getWordPairs(glossaryId));
+        WordPairIndex.Page page = index.search(query, matchMode, searchField, cursor, pageSize);
+        return new WordPairPageResponse(page.items().stream().map(WordPairPageResponse.Item::of).toList(),
+                page.nextCursor(), index.size());
+    }
+
+    private WordPairIndex index(List<GlossaryRequest.WordPair> wordPairs) {
+        return indexes.get(wordPairs, list -> {
+            long started = System.nanoTime();
+            WordPairIndex index = WordPairIndex.build(list);
+            log.info("✅ 단어쌍 색인 생성: 단어쌍 {}개, {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+            return index;
+        });
+    }
+}
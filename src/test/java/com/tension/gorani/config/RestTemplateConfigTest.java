@@ -0,0 +1,76 @@
+package com.tension.gorani.config;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 호출 대상별 제한 시간 (등록된 호스트 / 등록되지 않은 호스트의 기본값)
+ */
+class RestTemplateConfigTest {
+
+    private final FastApiStub stub = newStub();
+    private CloseableHttpClient httpClient;
+
+    @AfterEach
+    void close() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        stub.close();
+    }
+
+    @Test
+    void unmatchedHostUsesDefaultReadTimeout() {
+        stub.glossaryLatency(2000);
+        RestTemplate restTemplate = restTemplate(new MockEnvironment()
+                .withProperty("http.client.default.read-timeout-ms", "200"));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(stub.url() + "/glossary?userId=1", String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1500);
+    }
+
+    @Test
+    void registeredHostKeepsItsOwnTimeout() {
+        stub.glossaryLatency(500);
+        RestTemplate restTemplate = restTemplate(new MockEnvironment()
+                .withProperty("fastapi.url", stub.url())
+                .withProperty("http.client.fastapi.read-timeout-ms", "5000")
+                .withProperty("http.client.default.read-timeout-ms", "200"));
+
+        assertThat(restTemplate.getForObject(stub.url() + "/glossary?userId=1", String.class)).isEqualTo("[]");
+    }
+
+    private RestTemplate restTemplate(MockEnvironment environment) {
+        RestTemplateConfig config = new RestTemplateConfig();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RestTemplateConfig.Downstreams downstreams = config.downstreams(environment);
+        PoolingHttpClientConnectionManager connectionManager = config.outboundConnectionManager(downstreams, environment, registry);
+        httpClient = config.outboundHttpClient(connectionManager, downstreams, new CompressionMetrics(registry), environment);
+        return config.restTemplate(httpClient, downstreams);
+    }
+
+    private static FastApiStub newStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.tension.gorani.translation;
+
+import com.tension.gorani.config.CompressionMetrics;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.FastApiStub.Latency;
+import com.tension.gorani.translation.support.FastApiStub.Route;
+import com.tension.gorani.translation.support.GatewayTestApplication;
+import com.tension.gorani.translation.support.LoadDriver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이 종단 간 부하 테스트 (배포 전 성능 회귀 확인용)
+ * 실제 Tomcat 위에 번역/용어집 컨트롤러와 서비스만 올리고 FastAPI는 프로세스 내 대역(FastApiStub)으로 대체한 뒤,
+ * /api/translation, /api/v1/glossary 에 동시 요청을 보내 p50/p95/p99 지연 시간과 처리량을 보고한다.
+ * 결과는 표준 출력과 build/reports/load-test/summary.txt 에 남는다.
+ * 실행: gradle loadTest [-Dload.requests=2000 -Dload.concurrency=100 -Dload.glossary-list.p99-ms=300 ...]
+ * 기준값(load.{시나리오}.p99-ms, load.max-error-rate)을 넘으면 실패한다. spring.*, translation.*, gateway.*, http.client.* 도 그대로 전달된다.
+ */
+@Tag("load")
+@SpringBootTest(classes = GatewayTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "logging.level.com.tension.gorani=WARN",
+                "translation.poll.initial-delay-ms=50",
+                "translation.poll.max-interval-ms=200",
+                "translation.bulkhead.max-concurrent=1000"
+        })
+class GatewayLoadTest {
+
+    private static final FastApiStub STUB = startStub();
+    private static final int USERS = 50;
+    private static final long GLOSSARY_READ_MS = 20;
+
+    private static final int REQUESTS = Integer.getInteger("load.requests", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 50);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private TranslationMemoryService translationMemoryService;
+
+    @DynamicPropertySource
+    static void fastApi(DynamicPropertyRegistry registry) {
+        registry.add("fastapi.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void gatewayStaysWithinLatencyBudget() throws Exception {
+        // FastAPI 대역 응답 특성: 작업 제출/상태 조회는 꼬리가 긴 분포, 용어집 조회는 고정 지연(게이트웨이 오버헤드 계산용)
+        STUB.jobDuration(text -> ThreadLocalRandom.current().nextLong(50, 151));
+        STUB.latency(Route.TRANSLATE_SUBMIT, Latency.logNormal(5, 40));
+        STUB.latency(Route.TRANSLATE_STATUS, Latency.logNormal(3, 20));
+        STUB.latency(Route.GLOSSARY_READ, Latency.fixed(GLOSSARY_READ_MS));
+        STUB.latency(Route.GLOSSARY_WRITE, Latency.uniform(5, 15));
+        STUB.errors(Route.GLOSSARY_WRITE, 0.01, 503); // 재시도로 흡수되어야 함
+        STUB.compressResponses(1024);
+        List<String> glossaryIds = new ArrayList<>();
+        for (int userId = 0; userId < USERS; userId++) {
+            glossaryIds.addAll(STUB.seedGlossaries(userId, 3, 100));
+        }
+
+        LoadDriver driver = new LoadDriver();
+        String base = "http://127.0.0.1:" + port;
+        // 예열 (JIT, 커넥션 풀)
+        driver.run("warmup", CONCURRENCY, Math.min(REQUESTS, 500), i -> get(base + "/api/v1/glossary?userId=" + (i % USERS)));
+
+        List<LoadDriver.Result> results = new ArrayList<>();
+        results.add(driver.run("translation", CONCURRENCY, REQUESTS, i ->
+                post(base + "/api/translation", "{\"text\": \"부하 테스트 문장 " + i + "-" + System.nanoTime() + "\"}")));
+        results.add(driver.run("glossary-list", CONCURRENCY, REQUESTS, i ->
+                get(base + "/api/v1/glossary?userId=" + (i % USERS))));
+        results.add(driver.run("glossary-write", CONCURRENCY, REQUESTS, i ->
+                post(base + "/api/v1/glossary/" + glossaryIds.get(i % glossaryIds.size()) + "/word-pair",
+                        "{\"start\": \"부하" + i + "\", \"arrival\": \"load" + i + "\"}")));
+
+        report(results);
+
+        // 용어집 목록은 브라우저(Accept-Encoding: gzip)와 FastAPI 구간 모두 압축되어야 함
+        assertThat(totalBytes("http.server.response.bytes", "uri", "/api/v1/glossary", "gzip", CompressionMetrics.WIRE))
+                .isLessThan(totalBytes("http.server.response.bytes", "uri", "/api/v1/glossary", "gzip", CompressionMetrics.CONTENT) / 3);
+        assertThat(totalBytes("http.client.response.bytes", "route", "/glossary", "gzip", CompressionMetrics.WIRE))
+                .isLessThan(totalBytes("http.client.response.bytes", "route", "/glossary", "gzip", CompressionMetrics.CONTENT) / 3);
+        for (LoadDriver.Result result : results) {
+            assertThat(result.errorRate()).as(result.name() + " error rate").isLessThanOrEqualTo(MAX_ERROR_RATE);
+            assertThat(result.p99Ms()).as(result.name() + " p99 (ms)").isLessThanOrEqualTo(budgetMs(result.name()));
+        }
+    }
+
+    private void report(List<LoadDriver.Result> results) {
+        StringBuilder summary = new StringBuilder(LoadDriver.Result.header()).append('\n');
+        results.forEach(result -> summary.append(result).append('\n'));
+        LoadDriver.Result list = results.stream().filter(r -> r.name().equals("glossary-list")).findFirst().orElseThrow();
+        summary.append(String.format("glossary-list 게이트웨이 오버헤드 (p50 - FastAPI 지연 %d ms): %.1f ms%n",
+                GLOSSARY_READ_MS, list.p50Ms() - GLOSSARY_READ_MS));
+        summary.append(String.format("FastAPI 대역 최대 동시 처리 %d, 주입된 쓰기 오류 %d건%n",
+                STUB.peakInFlight(), STUB.injectedErrors(Route.GLOSSARY_WRITE)));
+        summary.append(bytesReport("http.server.response.bytes", "uri"));
+        summary.append(bytesReport("http.client.response.bytes", "route"));
+        System.out.print(summary);
+
+        try {
+            Path file = Path.of("build", "reports", "load-test", "summary.txt");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 경로별 응답 본문 크기 합계 (압축 전 → 전송)
+    private String bytesReport(String meter, String routeTag) {
+        StringBuilder report = new StringBuilder();
+        meterRegistry.find(meter).tag("stage", CompressionMetrics.CONTENT).summaries().forEach(content -> {
+            String route = content.getId().getTag(routeTag);
+            String encoding = content.getId().getTag("encoding");
+            report.append(String.format("%s %-40s %-8s %,14d → %,14d bytes%n", meter, route, encoding,
+                    (long) content.totalAmount(), totalBytes(meter, routeTag, route, encoding, CompressionMetrics.WIRE)));
+        });
+        return report.toString();
+    }
+
+    private long totalBytes(String meter, String routeTag, String route, String encoding, String stage) {
+        DistributionSummary summary = meterRegistry.find(meter)
+                .tags(routeTag, route, "encoding", encoding, "stage", stage)
+                .summary();
+        return summary == null ? 0 : (long) summary.totalAmount();
+    }
+
+    // 시나리오별 p99 기준 (ms)
+    private static double budgetMs(String scenario) {
+        double defaultMs = switch (scenario) {
+            case "translation" -> 3000;
+            case "glossary-write" -> 2000; // 주입된 503의 재시도 백오프 포함
+            default -> 1000;
+        };
+        return Double.parseDouble(System.getProperty("load." + scenario + ".p99-ms", String.valueOf(defaultMs)));
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Accept-Encoding", "gzip").GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static FastApiStub startStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.tension.gorani.translation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.controller.GlossaryController;
+import com.tension.gorani.translation.controller.ReactiveGlossaryController;
+import com.tension.gorani.translation.service.GlossaryService;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.GatewayTestApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 논블로킹 게이트웨이 모드(gateway.reactive.enabled=true)에서 용어집 API 전체 경로
+ * 서블릿 모드와 같은 URL이 모두 응답하고, 변경 요청이 GlossaryService 캐시에도 반영되는지 확인한다.
+ */
+@SpringBootTest(classes = GatewayTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "gateway.reactive.enabled=true",
+                "logging.level.com.tension.gorani=WARN"
+        })
+class ReactiveGlossaryGatewayTest {
+
+    private static final FastApiStub STUB = startStub();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private GlossaryService glossaryService;
+
+    @MockitoBean
+    private TranslationMemoryService translationMemoryService;
+
+    @DynamicPropertySource
+    static void fastApi(DynamicPropertyRegistry registry) {
+        registry.add("fastapi.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void registersReactiveControllerInsteadOfServletController() {
+        assertThat(context.getBeansOfType(ReactiveGlossaryController.class)).hasSize(1);
+        assertThat(context.getBeansOfType(GlossaryController.class)).isEmpty();
+    }
+
+    @Test
+    void glossaryRoutes() throws Exception {
+        HttpResponse<String> saved = send("POST", "/api/v1/glossary",
+                "{\"name\": \"계약\", \"userId\": 701, \"words\": [{\"start\": \"견적서\", \"arrival\": \"Quotation\"}]}");
+        assertThat(saved.statusCode()).isEqualTo(200);
+        String id = json(saved).get("_id").asText();
+
+        HttpResponse<String> listing = send("GET", "/api/v1/glossary?userId=701", null);
+        assertThat(listing.statusCode()).isEqualTo(200);
+        assertThat(json(listing)).hasSize(1);
+        assertThat(json(listing).get(0).get("_id").asText()).isEqualTo(id);
+        String etag = listing.headers().firstValue("ETag").orElseThrow();
+        assertThat(client.send(request("GET", "/api/v1/glossary?userId=701", null).header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(304);
+
+        HttpResponse<String> stream = client.send(request("GET", "/api/v1/glossary?userId=701", null)
+                .header("Accept", "application/x-ndjson").build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        assertThat(stream.body().lines()).hasSize(1);
+
+        // 목록을 캐시에 올려 둔 뒤 이름 변경 → 캐시가 무효화되어 바뀐 이름이 보임
+        assertThat(glossaryService.fetchUserGlossaries(701)).extracting("name").containsExactly("계약");
+        assertThat(send("PUT", "/api/v1/glossary/" + id, "{\"name\": \"계약서\"}").statusCode()).isEqualTo(200);
+        assertThat(glossaryService.fetchUserGlossaries(701)).extracting("name").containsExactly("계약서");
+
+        assertThat(send("DELETE", "/api/v1/glossary/" + id, null).statusCode()).isEqualTo(200);
+        assertThat(glossaryService.fetchUserGlossaries(701)).isEmpty();
+    }
+
+    @Test
+    void wordPairRoutesInvalidateGlossaryCache() throws Exception {
+        String id = STUB.seedGlossaries(702, 1, 0).get(0);
+        STUB.addWordPairs(id, "견적서", "Quotation");
+        assertThat(glossaryService.getWordPairs(id)).hasSize(1);
+
+        assertThat(send("POST", "/api/v1/glossary/" + id + "/word-pair",
+                "{\"start\": \"납기\", \"arrival\": \"Delivery date\"}").statusCode()).isEqualTo(200);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("견적서", "납기");
+
+        HttpResponse<String> wordPairs = send("GET", "/api/v1/glossary/" + id + "/word-pair", null);
+        assertThat(wordPairs.statusCode()).isEqualTo(200);
+        JsonNode items = json(wordPairs);
+        assertThat(items.findValuesAsText("start")).containsExactly("견적서", "납기");
+        String wordPairId = items.get(1).get("id").asText();
+
+        assertThat(send("PUT", "/api/v1/glossary/" + id + "/word-pair/" + wordPairId,
+                "{\"start\": \"납기일\", \"arrival\": \"Due date\"}").statusCode()).isEqualTo(200);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("견적서", "납기일");
+
+        assertThat(send("DELETE", "/api/v1/glossary/" + id + "/word-pair/0", null).statusCode()).isEqualTo(200);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("납기일");
+    }
+
+    @Test
+    void readRoutesShareGlossaryCache() throws Exception {
+        String id = STUB.seedGlossaries(709, 1, 0).get(0);
+        STUB.addWordPairs(id, "견적서", "Quotation");
+        String path = "/api/v1/glossary/" + id + "/word-pair";
+
+        assertThat(json(send("GET", "/api/v1/glossary?userId=709", null))).hasSize(1);
+        assertThat(json(send("GET", path, null)).findValuesAsText("start")).containsExactly("견적서");
+        int reads = STUB.requestCount(FastApiStub.Route.GLOSSARY_READ);
+
+        // 게이트웨이 조회로 채운 항목을 게이트웨이/서블릿 조회 모두 FastAPI 없이 읽음
+        assertThat(json(send("GET", "/api/v1/glossary?userId=709", null))).hasSize(1);
+        assertThat(json(send("GET", path, null)).findValuesAsText("start")).containsExactly("견적서");
+        assertThat(glossaryService.fetchUserGlossaries(709)).hasSize(1);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("견적서");
+        assertThat(STUB.requestCount(FastApiStub.Route.GLOSSARY_READ)).isEqualTo(reads);
+
+        // 변경 후에는 다시 읽음
+        assertThat(send("POST", path, "{\"start\": \"납기\", \"arrival\": \"Delivery date\"}").statusCode()).isEqualTo(200);
+        assertThat(json(send("GET", path, null)).findValuesAsText("start")).containsExactly("견적서", "납기");
+    }
+
+    @Test
+    void reusedIdempotencyKeyWithDifferentPayloadIsRejected() throws Exception {
+        String id = STUB.seedGlossaries(708, 1, 0).get(0);
+        String path = "/api/v1/glossary/" + id + "/word-pair";
+
+        HttpResponse<String> first = client.send(request("POST", path, "{\"start\": \"견적서\", \"arrival\": \"Quotation\"}")
+                .header("Idempotency-Key", "gateway-key-1").build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> reused = client.send(request("POST", path, "{\"start\": \"납기\", \"arrival\": \"Delivery date\"}")
+                .header("Idempotency-Key", "gateway-key-1").build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(reused.statusCode()).isEqualTo(422);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("견적서");
+    }
+
+    @Test
+    void defaultGlossaryRouteLeavesExactlyOneDefault() throws Exception {
+        List<String> ids = STUB.seedGlossaries(703, 2, 0);
+        assertThat(send("PUT", "/api/v1/glossary/703/default", "{\"glossaryId\": \"" + ids.get(0) + "\"}").statusCode())
+                .isEqualTo(200);
+
+        HttpResponse<String> response = send("PUT", "/api/v1/glossary/703/default", "{\"glossaryId\": \"" + ids.get(1) + "\"}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type").orElseThrow()).startsWith("application/json");
+        JsonNode body = json(response);
+        assertThat(body.get("message").asText()).isEqualTo("기본 용어집 설정 성공");
+        assertThat(body.get("glossaries").findValuesAsText("id")).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(STUB.defaultGlossaryIds(703)).containsExactly(ids.get(1));
+        assertThat(send("PUT", "/api/v1/glossary/703/default", "{}").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void pagedWordPairSearch() throws Exception {
+        String id = STUB.seedGlossaries(705, 1, 0).get(0);
+        STUB.addWordPairs(id, "견적서", "Quotation", "견적 요청", "Request for quotation", "납기", "Delivery date");
+
+        HttpResponse<String> first = send("GET", "/api/v1/glossary/" + id + "/word-pair?q=견적&limit=1", null);
+        assertThat(first.statusCode()).isEqualTo(200);
+        JsonNode page = json(first);
+        assertThat(page.get("items")).hasSize(1);
+        assertThat(page.get("totalWordPairs").asInt()).isEqualTo(3);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        assertThat(client.send(request("GET", "/api/v1/glossary/" + id + "/word-pair?q=견적&limit=1", null)
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(304);
+
+        HttpResponse<String> second = send("GET", "/api/v1/glossary/" + id + "/word-pair?q=견적&limit=1&cursor="
+                + page.get("nextCursor").asText(), null);
+        assertThat(second.statusCode()).isEqualTo(200);
+        assertThat(List.of(page.get("items").get(0).get("start").asText(), json(second).get("items").get(0).get("start").asText()))
+                .containsExactlyInAnyOrder("견적서", "견적 요청");
+        assertThat(json(second).get("nextCursor").isNull()).isTrue();
+
+        assertThat(send("GET", "/api/v1/glossary/" + id + "/word-pair?limit=1&cursor=invalid", null).statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void lookupRouteFindsWordPairsByTerm() throws Exception {
+        String id = STUB.seedGlossaries(707, 1, 0).get(0);
+        STUB.addWordPairs(id, "Invoice", "송장", "Quotation", "견적서");
+
+        HttpResponse<String> response = send("GET", "/api/v1/glossary/" + id + "/word-pair/lookup?term=%20invoice%20", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response)).hasSize(1);
+        assertThat(json(response).get(0).get("arrival").asText()).isEqualTo("송장");
+        assertThat(json(response).get(0).get("id").asText()).isNotBlank();
+    }
+
+    @Test
+    void changesRouteRecordsReactiveMutations() throws Exception {
+        String id = STUB.seedGlossaries(706, 1, 0).get(0);
+        STUB.addWordPairs(id, "견적서", "Quotation");
+
+        HttpResponse<String> snapshot = send("GET", "/api/v1/glossary/" + id + "/changes", null);
+        assertThat(snapshot.statusCode()).isEqualTo(200);
+        assertThat(json(snapshot).get("snapshot").asBoolean()).isTrue();
+        assertThat(json(snapshot).get("wordPairs")).hasSize(1);
+        long version = json(snapshot).get("version").asLong();
+
+        assertThat(send("POST", "/api/v1/glossary/" + id + "/word-pair",
+                "{\"start\": \"납기\", \"arrival\": \"Delivery date\"}").statusCode()).isEqualTo(200);
+
+        JsonNode delta = json(send("GET", "/api/v1/glossary/" + id + "/changes?since=" + version, null));
+        assertThat(delta.get("snapshot").asBoolean()).isFalse();
+        assertThat(delta.get("version").asLong()).isGreaterThan(version);
+        assertThat(delta.get("changes")).hasSize(1);
+        assertThat(delta.get("changes").get(0).get("type").asText()).isEqualTo("add");
+        assertThat(delta.get("changes").get(0).get("start").asText()).isEqualTo("납기");
+    }
+
+    @Test
+    void importAndExportRoutes() throws Exception {
+        String id = STUB.seedGlossaries(704, 1, 0).get(0);
+        assertThat(glossaryService.getWordPairs(id)).isEmpty();
+
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(URI.create(url("/api/v1/glossary/" + id + "/word-pair/import")))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString("start,arrival\n견적서,Quotation\n납기,\n"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(imported.statusCode()).isEqualTo(200);
+        assertThat(json(imported).get("imported").asLong()).isEqualTo(1);
+        assertThat(json(imported).get("skipped").asLong()).isEqualTo(1);
+        assertThat(glossaryService.getWordPairs(id)).extracting("start").containsExactly("견적서");
+
+        HttpResponse<String> exported = send("GET", "/api/v1/glossary/" + id + "/word-pair/export?format=jsonl", null);
+        assertThat(exported.statusCode()).isEqualTo(200);
+        assertThat(exported.headers().firstValue("Content-Disposition").orElseThrow()).contains("glossary-" + id + ".jsonl");
+        assertThat(exported.body().lines()).containsExactly("{\"start\":\"견적서\",\"arrival\":\"Quotation\"}");
+        assertThat(send("GET", "/api/v1/glossary/" + id + "/word-pair/export?format=xml", null).statusCode()).isEqualTo(400);
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        return client.send(request(method, path, json).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String method, String path, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url(path)));
+        if (json == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + port + path;
+    }
+
+    private JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static FastApiStub startStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
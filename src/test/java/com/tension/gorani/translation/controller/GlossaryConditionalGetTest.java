@@ -0,0 +1,104 @@
+package com.tension.gorani.translation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.service.GlossaryCache;
+import com.tension.gorani.translation.service.GlossaryETags;
+import com.tension.gorani.translation.service.GlossaryMutationGuard;
+import com.tension.gorani.translation.service.GlossaryService;
+import com.tension.gorani.translation.service.GlossarySnapshotStore;
+import com.tension.gorani.translation.service.GlossaryVersionTracker;
+import com.tension.gorani.translation.service.WordPairSearchService;
+import com.tension.gorani.translation.support.FastApiStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 용어집/단어쌍 목록 조회의 ETag와 If-None-Match → 304 (FastAPI 대역)
+ */
+class GlossaryConditionalGetTest {
+
+    @Test
+    void unchangedGlossaryListIsRevalidatedWithoutBodyOrFastApiCall() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            Fixture fixture = new Fixture(stub);
+            List<String> ids = stub.seedGlossaries(1, 2, 3);
+
+            String etag = fixture.mockMvc.perform(get("/api/v1/glossary").param("userId", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).matches("W/\"[0-9a-f]{32}\"");
+
+            fixture.mockMvc.perform(get("/api/v1/glossary").param("userId", "1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag.substring(2)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_READ)).isEqualTo(1);
+
+            // 변경 후에는 새 목록과 새 ETag
+            fixture.glossaryService.updateGlossaryName(ids.get(1), "새 이름");
+            String changed = fixture.mockMvc.perform(get("/api/v1/glossary").param("userId", "1")
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(changed).isNotEqualTo(etag);
+        }
+    }
+
+    @Test
+    void wordPairETagDependsOnContentNotOnInstance() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            String glossaryId = stub.seedGlossaries(1, 1, 5).get(0);
+            String etag = new Fixture(stub).mockMvc.perform(get("/api/v1/glossary/{id}/word-pair", glossaryId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // 다른 인스턴스(빈 캐시)도 같은 내용이면 같은 ETag로 304
+            Fixture other = new Fixture(stub);
+            other.mockMvc.perform(get("/api/v1/glossary/{id}/word-pair", glossaryId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+            wordPair.setStart("사과");
+            wordPair.setArrival("apple");
+            other.glossaryService.addWordPair(glossaryId, wordPair, null);
+            other.mockMvc.perform(get("/api/v1/glossary/{id}/word-pair", glossaryId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+        }
+    }
+
+    private static final class Fixture {
+        private final GlossaryService glossaryService;
+        private final MockMvc mockMvc;
+
+        private Fixture(FastApiStub stub) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            glossaryService = new GlossaryService(new RestTemplate(), new GlossaryVersionTracker(), objectMapper,
+                    new GlossaryMutationGuard(objectMapper, registry, 3, 2, 2, 60),
+                    new GlossaryCache(registry, Executors.newVirtualThreadPerTaskExecutor(),
+                            new GlossarySnapshotStore(new GlossaryVersionTracker(), registry, false, "", 0), true, 1 << 20, 600, 60));
+            ReflectionTestUtils.setField(glossaryService, "fastApiUrl", stub.url());
+            mockMvc = MockMvcBuilders.standaloneSetup(new GlossaryController(glossaryService, new GlossaryETags(objectMapper),
+                    new WordPairSearchService(glossaryService, registry, 1 << 24, 100, 1000))).build();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.tension.gorani.translation.controller;
+
+import com.tension.gorani.translation.service.BatchTranslationService;
+import com.tension.gorani.translation.service.DocumentSegmenter;
+import com.tension.gorani.translation.service.DocumentTranslationService;
+import com.tension.gorani.translation.service.GlossaryVersionTracker;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import com.tension.gorani.translation.service.TranslationPollingStrategy;
+import com.tension.gorani.translation.service.TranslationResultCache;
+import com.tension.gorani.translation.service.TranslationService;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/translation 비동기 응답 (DeferredResult / SSE, FastAPI 대역)
+ */
+class TranslationControllerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final FastApiStub stub = newStub();
+    private final MockMvc mockMvc = mockMvc(30000);
+
+    @AfterEach
+    void close() {
+        scheduler.shutdownNow();
+        stub.close();
+    }
+
+    @Test
+    void releasesRequestThreadAndCompletesWhenPollingFinishes() throws Exception {
+        stub.jobDuration(text -> 2000);
+
+        long start = System.nanoTime();
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"안녕하세요\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 요청 스레드는 작업 완료(2 s)를 기다리지 않고 반환
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1500);
+
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translated_text").value("[translated] 안녕하세요"));
+        assertThat(stub.statusCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void mapsFastApiFailureToExistingMessage() throws Exception {
+        stub.errors(FastApiStub.Route.TRANSLATE_SUBMIT, 1.0, 500);
+
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"안녕하세요\", \"model\": \"Gorani\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translated_text").value("FastAPI 요청 실패"));
+    }
+
+    @Test
+    void mapsAsyncTimeoutToPendingMessage() throws Exception {
+        stub.jobDuration(text -> 10_000);
+        MockMvc shortTimeout = mockMvc(100);
+
+        MvcResult result = shortTimeout.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"긴 문장\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 서블릿 컨테이너의 비동기 타임아웃 알림
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        shortTimeout.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translated_text").value("번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요."));
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(null);
+        }
+        // 요청이 끝나면 FastAPI 상태 조회도 멈춤
+        Thread.sleep(200);
+        int polls = stub.statusCount();
+        Thread.sleep(400);
+        assertThat(stub.statusCount()).isEqualTo(polls);
+    }
+
+    @Test
+    void requestTimeoutCoversModelResultDeadline() throws Exception {
+        stub.jobDuration(text -> 500);
+        // 설정한 응답 대기 시간(100 ms)보다 오래 걸려도 모델의 결과 대기 기한(1 s) 안이면 결과를 받음
+        MockMvc shortTimeout = mockMvc(100, 1000);
+
+        MvcResult result = shortTimeout.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM).content("{\"text\": \"안녕하세요\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        List<String> events = events(result);
+        assertThat(events.get(events.size() - 1)).isEqualTo("done");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("[translated] 안녕하세요");
+    }
+
+    @Test
+    void rejectsBlankText() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \" \"}"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isBadRequest());
+        assertThat(stub.submitCount()).isZero();
+    }
+
+    @Test
+    void rejectsUnknownModel() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"안녕하세요\", \"model\": \"unknown-model\"}"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isBadRequest());
+        assertThat(stub.submitCount()).isZero();
+    }
+
+    @Test
+    void streamsProgressEventsInOrderEndingWithDone() throws Exception {
+        stub.jobDuration(text -> 200);
+
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM).content("{\"text\": \"안녕하세요\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        List<String> events = events(result);
+        assertThat(events.get(0)).isEqualTo("queued");
+        assertThat(events.subList(1, events.size() - 2)).isNotEmpty().containsOnly("running");
+        assertThat(events.subList(events.size() - 2, events.size())).containsExactly("result", "done");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"translated_text\":\"[translated] 안녕하세요\"");
+    }
+
+    @Test
+    void streamEndsWithErrorEventOnFailure() throws Exception {
+        stub.errors(FastApiStub.Route.TRANSLATE_SUBMIT, 1.0, 500);
+
+        MvcResult result = mockMvc.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM).content("{\"text\": \"안녕하세요\", \"model\": \"Gorani\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        assertThat(events(result)).containsExactly("error");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("FastAPI 요청 실패");
+    }
+
+    @Test
+    void streamEndsWithErrorEventOnTimeoutAndStopsPolling() throws Exception {
+        // 작업 제출이 응답 대기 시간(결과 대기 기한 100 ms + 여유 2 s)보다 오래 걸림
+        stub.latency(FastApiStub.Route.TRANSLATE_SUBMIT, FastApiStub.Latency.fixed(3000));
+        MockMvc shortTimeout = mockMvc(300, 100);
+
+        MvcResult result = shortTimeout.perform(post("/api/translation").contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM).content("{\"text\": \"긴 문장\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        assertThat(events(result)).containsExactly("error");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .contains("번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요.");
+        // 스트림이 닫히면 제출이 끝난 뒤에도 FastAPI 상태 조회를 시작하지 않음
+        Thread.sleep(1500);
+        assertThat(stub.statusCount()).isZero();
+    }
+
+    // SSE 응답 본문의 이벤트 이름 (순서대로)
+    private static List<String> events(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()).strip())
+                .toList();
+    }
+
+    private MockMvc mockMvc(long asyncTimeoutMs) {
+        return mockMvc(asyncTimeoutMs, 20000);
+    }
+
+    private MockMvc mockMvc(long asyncTimeoutMs, long deadlineMs) {
+        TranslationService translationService = ServiceFixtures.translationService(stub.url(), scheduler,
+                new TranslationPollingStrategy(new MockEnvironment(), 20, 1.6, 100, 100, 0, deadlineMs, false, 0, 0));
+        TranslationController controller = new TranslationController(translationService,
+                new BatchTranslationService(translationService,
+                        new TranslationResultCache(1 << 20, 10, new SimpleMeterRegistry()), new GlossaryVersionTracker()),
+                new DocumentTranslationService(new DocumentSegmenter(1500), translationService, scheduler),
+                mock(TranslationMemoryService.class),
+                ServiceFixtures.modelGuard(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(controller, "asyncTimeoutMs", asyncTimeoutMs);
+        ReflectionTestUtils.setField(controller, "documentTimeoutMs", asyncTimeoutMs);
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    private static FastApiStub newStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
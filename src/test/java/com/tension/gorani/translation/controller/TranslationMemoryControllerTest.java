@@ -0,0 +1,105 @@
+package com.tension.gorani.translation.controller;
+
+import com.tension.gorani.auth.service.CustomUserDetails;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import com.tension.gorani.translation.repository.TranslationMemoryRepository;
+import com.tension.gorani.translation.service.TranslationMemoryService;
+import com.tension.gorani.users.domain.entity.Users;
+import com.tension.gorani.users.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 번역 메모리 API의 소유자는 요청 본문이 아니라 로그인한 유저에서 정해짐
+ */
+class TranslationMemoryControllerTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TranslationMemoryRepository repository = mock(TranslationMemoryRepository.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new TranslationMemoryController(
+                    new TranslationMemoryService(repository, mock(UserService.class), executor, 0.7, 100, 60)))
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+
+    @AfterEach
+    void close() {
+        SecurityContextHolder.clearContext();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void savesUnderAuthenticatedUserIgnoringOwnerIdInBody() throws Exception {
+        login(201L);
+        when(repository.findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenAnswer(invocation -> {
+            TranslationMemoryEntry entry = invocation.getArgument(0);
+            entry.setId(1L);
+            return entry;
+        });
+
+        mockMvc.perform(post("/api/v1/translation-memory").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ownerId\": 999, \"sourceText\": \"견적서\", \"targetText\": \"Quotation\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+
+        ArgumentCaptor<TranslationMemoryEntry> captor = ArgumentCaptor.forClass(TranslationMemoryEntry.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getOwnerType()).isEqualTo(OwnerType.USER);
+        assertThat(captor.getValue().getOwnerId()).isEqualTo(201L);
+    }
+
+    @Test
+    void looksUpAuthenticatedUsersMemory() throws Exception {
+        login(201L);
+        when(repository.findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(OwnerType.USER, 201L, "ko", "en"))
+                .thenReturn(List.of(TranslationMemoryEntry.builder().id(1L).sourceText("견적서").targetText("Quotation").build()));
+
+        var result = mockMvc.perform(get("/api/v1/translation-memory/lookup").param("text", "견적서").param("ownerId", "999"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].translated_text").value("Quotation"));
+    }
+
+    @Test
+    void rejectsAnonymousRequests() throws Exception {
+        mockMvc.perform(post("/api/v1/translation-memory").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ownerId\": 201, \"sourceText\": \"견적서\", \"targetText\": \"Quotation\"}"))
+                .andExpect(status().isUnauthorized());
+        verify(repository, never()).save(any());
+    }
+
+    private static void login(Long userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(Users.builder().id(userId).username("tester").build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
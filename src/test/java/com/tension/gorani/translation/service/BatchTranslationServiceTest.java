@@ -0,0 +1,190 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.BatchTranslationResponse.SegmentResult;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 배치 번역 (입력 순서, 중복 제거, 세그먼트별 오류, 세그먼트 태그 보호) (FastAPI 대역)
+ */
+class BatchTranslationServiceTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final FastApiStub stub = newStub();
+    private TranslationService translationService;
+
+    @AfterEach
+    void close() {
+        scheduler.shutdownNow();
+        stub.close();
+    }
+
+    @Test
+    void keepsInputOrderAndTranslatesDuplicatesOnce() {
+        stub.translator(BatchTranslationServiceTest::translateWords);
+        BatchTranslationService service = service(transport(), 50);
+
+        List<SegmentResult> results = service.translateBatch(List.of("하나", "둘", "하나", " ", "셋"), "ko", "en", "OpenAI").join();
+
+        assertThat(results).extracting(SegmentResult::getIndex, SegmentResult::getTranslatedText, SegmentResult::getError)
+                .containsExactly(tuple(0, "one", null), tuple(1, "two", null), tuple(2, "one", null),
+                        tuple(3, " ", null), tuple(4, "three", null));
+        // 고유 세그먼트 3개가 한 작업으로
+        assertThat(stub.submitCount()).isEqualTo(1);
+        assertThat(String.valueOf(stub.lastTranslateRequest().get("text")))
+                .isEqualTo("<seg id=\"0\">하나</seg>\n<seg id=\"1\">둘</seg>\n<seg id=\"2\">셋</seg>\n");
+    }
+
+    @Test
+    void reportsErrorsPerSegment() {
+        stub.translator(BatchTranslationServiceTest::translateWords);
+        BatchTranslationService service = service(failingOn("실패"), 1);
+
+        List<SegmentResult> results = service.translateBatch(List.of("하나", "실패", "둘"), "ko", "en", "OpenAI").join();
+
+        assertThat(results).extracting(SegmentResult::getTranslatedText, SegmentResult::getError)
+                .containsExactly(tuple("one", null), tuple(null, "FastAPI 요청 실패"), tuple("two", null));
+    }
+
+    @Test
+    void retriesSegmentsIndividuallyWhenTagsAreLost() {
+        stub.translator(text -> translateWords(text.replaceAll("</?seg[^>]*>", "")));
+        BatchTranslationService service = service(transport(), 50);
+
+        List<SegmentResult> results = service.translateBatch(List.of("하나", "둘"), "ko", "en", "OpenAI").join();
+
+        assertThat(results).extracting(SegmentResult::getTranslatedText).containsExactly("one", "two");
+        assertThat(stub.submitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void sendsSegmentsContainingTagsOnTheirOwn() {
+        stub.translator(BatchTranslationServiceTest::translateWords);
+        BatchTranslationService service = service(transport(), 50);
+        String tagged = "<seg id=\"1\">하나</seg> 둘";
+        String closing = "셋 </SEG>";
+
+        List<SegmentResult> results = service.translateBatch(List.of(tagged, "하나", closing, "둘"), "ko", "en", "OpenAI").join();
+
+        assertThat(results).extracting(SegmentResult::getTranslatedText)
+                .containsExactly("<seg id=\"1\">one</seg> two", "one", "three </SEG>", "two");
+        // 태그가 든 세그먼트 2개는 따로, 나머지 2개는 한 작업으로
+        assertThat(stub.submitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void limitsConcurrentJobsPerBatch() {
+        stub.translator(BatchTranslationServiceTest::translateWords);
+        stub.jobDuration(text -> 60);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        BatchTranslationService service = service(countingRunningJobs(running, peak), 1);
+        ReflectionTestUtils.setField(service, "maxConcurrency", 2);
+
+        List<SegmentResult> results = service.translateBatch(List.of("하나", "둘", "셋", "하나 둘", "둘 셋", "셋 하나"),
+                "ko", "en", "OpenAI").join();
+
+        assertThat(results).extracting(SegmentResult::getError).containsOnlyNulls();
+        assertThat(stub.submitCount()).isEqualTo(6);
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCachePackedText() {
+        stub.translator(BatchTranslationServiceTest::translateWords);
+        BatchTranslationService service = service(transport(), 50);
+
+        service.translateBatch(List.of("하나", "둘"), "ko", "en", "OpenAI").join();
+        String packed = String.valueOf(stub.lastTranslateRequest().get("text"));
+        translationService.translateTextAsync(packed, "ko", "en", "OpenAI").join();
+
+        assertThat(stub.submitCount()).isEqualTo(2);
+    }
+
+    private BatchTranslationService service(FastApiTransport transport, int maxGroupSegments) {
+        translationService = ServiceFixtures.translationService(stub.url(), transport, scheduler,
+                new TranslationPollingStrategy(new MockEnvironment(), 10, 1.6, 50, 50, 0, 5000, false, 0, 0));
+        BatchTranslationService service = new BatchTranslationService(translationService,
+                new TranslationResultCache(1 << 20, 10, new SimpleMeterRegistry()), new GlossaryVersionTracker());
+        ReflectionTestUtils.setField(service, "maxSegments", 1000);
+        ReflectionTestUtils.setField(service, "maxGroupChars", 4000);
+        ReflectionTestUtils.setField(service, "maxGroupSegments", maxGroupSegments);
+        return service;
+    }
+
+    private FastApiTransport transport() {
+        return new RestTemplateFastApiTransport(new RestTemplate(), scheduler);
+    }
+
+    // 제출부터 completed 응답까지를 실행 중인 작업으로 세어 최대값 기록
+    private FastApiTransport countingRunningJobs(AtomicInteger running, AtomicInteger peak) {
+        FastApiTransport delegate = transport();
+        return new FastApiTransport() {
+            @Override
+            public CompletableFuture<Map<String, Object>> post(String url, Object body) {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                return delegate.post(url, body);
+            }
+
+            @Override
+            public CompletableFuture<Map<String, Object>> get(String url) {
+                return delegate.get(url).thenApply(response -> {
+                    if ("completed".equals(response.get("status"))) {
+                        running.decrementAndGet();
+                    }
+                    return response;
+                });
+            }
+        };
+    }
+
+    // 원문이 text인 번역 작업 제출만 실패시킴
+    private FastApiTransport failingOn(String text) {
+        FastApiTransport delegate = transport();
+        return new FastApiTransport() {
+            @Override
+            public CompletableFuture<Map<String, Object>> post(String url, Object body) {
+                if (text.equals(((Map<?, ?>) body).get("text"))) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("injected failure"));
+                }
+                return delegate.post(url, body);
+            }
+
+            @Override
+            public CompletableFuture<Map<String, Object>> get(String url) {
+                return delegate.get(url);
+            }
+        };
+    }
+
+    // 태그는 그대로 두고 단어만 바꾸는 번역기
+    private static String translateWords(String text) {
+        return text.replace("하나", "one").replace("둘", "two").replace("셋", "three");
+    }
+
+    private static FastApiStub newStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
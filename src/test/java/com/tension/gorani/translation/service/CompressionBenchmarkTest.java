@@ -0,0 +1,131 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.config.CompressionMetrics;
+import com.tension.gorani.config.RestTemplateConfig;
+import com.tension.gorani.config.WebClientConfig;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FastAPI 응답 압축 효과 (단어쌍 1,000개짜리 용어집 3개 목록)
+ * 압축을 끈/켠 RestTemplate과 WebClient로 같은 목록을 조회하고 http.client.response.bytes(content / wire)를 비교한다.
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class CompressionBenchmarkTest {
+
+    private static final int CALLS = 50;
+    private static final String ROUTE = "/glossary";
+
+    @Test
+    void gzipShrinksGlossaryListOnTheWire() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.seedGlossaries(1, 3, 1000);
+            stub.compressResponses(1024);
+
+            Result plain = runRestTemplate(stub, false);
+            Result gzip = runRestTemplate(stub, true);
+            Result reactive = runWebClient(stub);
+
+            System.out.printf("용어집 목록 %d회 조회 (route=%s)%n", CALLS, ROUTE);
+            print("RestTemplate identity", plain);
+            print("RestTemplate gzip    ", gzip);
+            print("WebClient    gzip    ", reactive);
+
+            assertThat(plain.wireBytes).isEqualTo(plain.contentBytes);
+            assertThat(gzip.contentBytes).isEqualTo(plain.contentBytes);
+            assertThat(gzip.wireBytes).isLessThan(gzip.contentBytes / 3);
+            assertThat(reactive.contentBytes).isEqualTo(plain.contentBytes);
+            assertThat(reactive.wireBytes).isLessThan(reactive.contentBytes / 3);
+        }
+    }
+
+    private Result runRestTemplate(FastApiStub stub, boolean compression) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("fastapi.url", stub.url())
+                .withProperty("http.client.compression.enabled", String.valueOf(compression));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CompressionMetrics metrics = new CompressionMetrics(registry);
+        RestTemplateConfig config = new RestTemplateConfig();
+        RestTemplateConfig.Downstreams downstreams = config.downstreams(environment);
+        PoolingHttpClientConnectionManager connectionManager = config.outboundConnectionManager(downstreams, environment, registry);
+        try (CloseableHttpClient httpClient = config.outboundHttpClient(connectionManager, downstreams, metrics, environment)) {
+            GlossaryService service = new GlossaryService(config.restTemplate(httpClient, downstreams),
+                    new GlossaryVersionTracker(), new ObjectMapper(), ServiceFixtures.mutationGuard(new ObjectMapper()),
+                    ServiceFixtures.glossaryCache(false, 60));
+            ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                assertThat(service.fetchUserGlossaries(1)).hasSize(3);
+            }
+            return result(registry, compression ? "gzip" : "identity", System.nanoTime() - start);
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    private Result runWebClient(FastApiStub stub) {
+        MockEnvironment environment = new MockEnvironment().withProperty("fastapi.url", stub.url());
+        MeterRegistry registry = new SimpleMeterRegistry();
+        RestTemplateConfig.Downstreams downstreams = new RestTemplateConfig().downstreams(environment);
+        WebClientConfig config = new WebClientConfig();
+        LoopResources loops = config.gatewayLoopResources(1);
+        ConnectionProvider provider = config.fastApiConnectionProvider(downstreams, 10, 100, 60);
+        try {
+            WebClient webClient = config.fastApiWebClient(WebClient.builder(), provider, loops, downstreams,
+                    new CompressionMetrics(registry), 16384, true);
+            // 조회마다 FastAPI 응답을 받도록 용어집 캐시는 끔 (RestTemplate 쪽과 동일)
+            ReactiveGlossaryService service = ServiceFixtures.reactiveGlossaryService(stub.url(), webClient,
+                    ServiceFixtures.glossaryCache(false, 60));
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                assertThat(service.fetchUserGlossaries(1).collectList().block()).hasSize(3);
+            }
+            Thread.sleep(200); // 응답 완료 후 기록은 이벤트 루프에서 이어서 실행됨
+            return result(registry, "gzip", System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            provider.dispose();
+            loops.dispose();
+        }
+    }
+
+    private static Result result(MeterRegistry registry, String encoding, long elapsedNanos) {
+        return new Result(total(registry, encoding, CompressionMetrics.CONTENT), total(registry, encoding, CompressionMetrics.WIRE),
+                elapsedNanos / CALLS / 1_000_000.0);
+    }
+
+    private static long total(MeterRegistry registry, String encoding, String stage) {
+        DistributionSummary summary = registry.find("http.client.response.bytes")
+                .tags("downstream", "fastapi", "route", ROUTE, "encoding", encoding, "stage", stage)
+                .summary();
+        assertThat(summary).as(encoding + "/" + stage).isNotNull();
+        return (long) summary.totalAmount();
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%s: 본문 %,12d bytes, 전송 %,12d bytes (%.1f%%), 평균 %6.2f ms%n", label,
+                result.contentBytes, result.wireBytes, 100.0 * result.wireBytes / result.contentBytes, result.avgMs);
+    }
+
+    private record Result(long contentBytes, long wireBytes, double avgMs) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.DefaultGlossaryResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 용어집 전환 지연 비교 (FastAPI 쓰기 지연 20 ms, 용어집 3개 × 단어쌍 200개)
+ * - before: 기존 방식 (reset-default → default 두 번 호출)
+ * - two-step: glossary.default.single-call=false (두 번 호출 + 실패 시 복구용 이전 기본 용어집 확인)
+ * - single: /default 한 번 호출
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class DefaultGlossarySwitchBenchmarkTest {
+
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void singleCallHalvesSwitchLatency() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            List<String> ids = stub.seedGlossaries(1, 3, 200);
+            stub.latency(FastApiStub.Route.GLOSSARY_WRITE, FastApiStub.Latency.fixed(20));
+            RestTemplate restTemplate = new RestTemplate();
+
+            String resetUrl = stub.url() + "/api/v1/glossary/1/reset-default";
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            Result before = measure(stub, i -> {
+                restTemplate.exchange(resetUrl, HttpMethod.PUT, new HttpEntity<>(headers), String.class);
+                DefaultGlossaryResponse response = restTemplate.exchange(
+                        stub.url() + "/api/v1/glossary/1/default?glossary_id=" + ids.get(i % 3), HttpMethod.PUT,
+                        new HttpEntity<>(headers), DefaultGlossaryResponse.class).getBody();
+                assertThat(response.hasGlossary()).isTrue();
+            });
+
+            GlossaryService twoStepService = service(restTemplate, stub, false);
+            Result twoStep = measure(stub, i -> twoStepService.setDefaultGlossary("1", ids.get(i % 3)));
+
+            GlossaryService singleService = service(restTemplate, stub, true);
+            Result single = measure(stub, i -> singleService.setDefaultGlossary("1", ids.get(i % 3)));
+
+            System.out.printf("기본 용어집 전환 %d회 (FastAPI 쓰기 지연 20 ms)%n", ITERATIONS);
+            print("before  (reset + default)", before);
+            print("two-step(+ 복구 준비)    ", twoStep);
+            print("single  (default)        ", single);
+
+            assertThat(single.writesPerCall).isEqualTo(1.0);
+            assertThat(before.writesPerCall).isEqualTo(2.0);
+            assertThat(single.avgMs).isLessThan(before.avgMs * 0.75);
+            assertThat(stub.defaultGlossaryIds(1)).hasSize(1);
+        }
+    }
+
+    private static GlossaryService service(RestTemplate restTemplate, FastApiStub stub, boolean singleCall) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlossaryService service = new GlossaryService(restTemplate, new GlossaryVersionTracker(), objectMapper,
+                ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(true, 60));
+        ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+        ReflectionTestUtils.setField(service, "defaultSingleCallEnabled", singleCall);
+        return service;
+    }
+
+    private static Result measure(FastApiStub stub, IntConsumer call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(i);
+        }
+        int writesBefore = stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE);
+        int readsBefore = stub.requestCount(FastApiStub.Route.GLOSSARY_READ);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(i);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(elapsedNanos / ITERATIONS / 1_000_000.0,
+                (stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE) - writesBefore) / (double) ITERATIONS,
+                (stub.requestCount(FastApiStub.Route.GLOSSARY_READ) - readsBefore) / (double) ITERATIONS);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%s: 평균 %6.2f ms, 호출당 FastAPI 쓰기 %.1f회, 읽기 %.1f회%n",
+                label, result.avgMs, result.writesPerCall, result.readsPerCall);
+    }
+
+    private record Result(double avgMs, double writesPerCall, double readsPerCall) {
+    }
+}
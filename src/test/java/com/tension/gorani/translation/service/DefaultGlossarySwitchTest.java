@@ -0,0 +1,111 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기본 용어집 설정 (FastAPI 대역의 쓰기 요청 수와 최종 상태로 확인)
+ */
+class DefaultGlossarySwitchTest {
+
+    @Test
+    void switchesDefaultInOneRoundTrip() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            List<String> ids = stub.seedGlossaries(1, 3, 1);
+
+            List<GlossaryResponse> glossaries = service.setDefaultGlossary("1", ids.get(2));
+
+            assertThat(glossaries).filteredOn(glossary -> Boolean.TRUE.equals(glossary.getIsDefault()))
+                    .extracting(GlossaryResponse::getId).containsExactly(ids.get(2));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(1);
+            assertThat(stub.defaultGlossaryIds(1)).containsExactly(ids.get(2));
+        }
+    }
+
+    @Test
+    void repairsWithResetOnTheCallThatFindsSeveralDefaults() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            List<String> ids = stub.seedGlossaries(1, 3, 1);
+            stub.legacyDefaultSwitch(true);
+
+            List<GlossaryResponse> glossaries = service.setDefaultGlossary("1", ids.get(1));
+            assertThat(glossaries).filteredOn(glossary -> Boolean.TRUE.equals(glossary.getIsDefault()))
+                    .extracting(GlossaryResponse::getId).containsExactly(ids.get(1));
+            assertThat(stub.defaultGlossaryIds(1)).containsExactly(ids.get(1));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(3);
+
+            // 다음 요청도 한 번 호출부터 시도하고, 다시 여러 개이면 그 요청 안에서 정리
+            service.setDefaultGlossary("1", ids.get(2));
+            assertThat(stub.defaultGlossaryIds(1)).containsExactly(ids.get(2));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void oneNonExclusiveResponseDoesNotDisableSingleCall() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            List<String> ids = stub.seedGlossaries(1, 3, 1);
+            stub.legacyDefaultSwitch(true);
+            service.setDefaultGlossary("1", ids.get(1));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(3);
+
+            stub.legacyDefaultSwitch(false);
+            service.setDefaultGlossary("1", ids.get(2));
+
+            assertThat(stub.defaultGlossaryIds(1)).containsExactly(ids.get(2));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void failsWhenSeveralDefaultsRemainAfterRepair() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            List<String> ids = stub.seedGlossaries(1, 2, 1);
+            stub.defaultGlossary("{\"glossaries\": [{\"_id\": \"" + ids.get(0) + "\", \"isDefault\": true}, "
+                    + "{\"_id\": \"" + ids.get(1) + "\", \"isDefault\": true}]}");
+
+            assertThatThrownBy(() -> service.setDefaultGlossary("1", ids.get(1)))
+                    .isInstanceOf(RuntimeException.class)
+                    .rootCause().hasMessageContaining("기본 용어집이 하나가 아닙니다");
+            // /default → reset-default → /default 후 실패 응답
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_WRITE)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void restoresPreviousDefaultWhenSecondStepFails() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            ReflectionTestUtils.setField(service, "defaultSingleCallEnabled", false);
+            List<String> ids = stub.seedGlossaries(1, 3, 1);
+            stub.legacyDefaultSwitch(true);
+            stub.failNextDefaultSwitches(400, 1);
+
+            assertThatThrownBy(() -> service.setDefaultGlossary("1", ids.get(2))).isInstanceOf(RuntimeException.class);
+
+            assertThat(stub.defaultGlossaryIds(1)).containsExactly(ids.get(0));
+        }
+    }
+
+    private static GlossaryService service(FastApiStub stub) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlossaryService service = new GlossaryService(new RestTemplate(), new GlossaryVersionTracker(), objectMapper,
+                ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(true, 60));
+        ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+        return service;
+    }
+}
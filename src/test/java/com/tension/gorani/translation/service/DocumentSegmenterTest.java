@@ -0,0 +1,82 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.service.DocumentSegmenter.Chunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 문서 분할 (문단/문장 경계, 구분자 보존, chunk 크기 제한)
+ */
+class DocumentSegmenterTest {
+
+    // 문장 하나는 들어가고 두 문장은 넘치는 크기 → chunk마다 문장 하나
+    private final DocumentSegmenter sentences = new DocumentSegmenter(15);
+
+    @Test
+    void splitsEnglishSentencesAndKeepsSeparators() {
+        String text = "Hello world. How are you?  \"Fine!\" he said.\nNext line";
+
+        List<Chunk> chunks = sentences.split(text);
+
+        assertThat(chunks).extracting(Chunk::text, Chunk::separator).containsExactly(
+                tuple("Hello world.", " "), tuple("How are you?", "  "), tuple("\"Fine!\"", " "),
+                tuple("he said.", "\n"), tuple("Next line", ""));
+        assertThat(join(chunks)).isEqualTo(text);
+    }
+
+    @Test
+    void splitsKoreanSentencesWithoutPunctuationOnOneLine() {
+        String text = "고라니는 바다 근처에 삽니다 오늘은 비가 왔다 내일은 맑을까요 모두 함께 가요";
+
+        List<Chunk> chunks = sentences.split(text);
+
+        assertThat(chunks).extracting(Chunk::text).containsExactly(
+                "고라니는 바다 근처에 삽니다", "오늘은 비가 왔다", "내일은 맑을까요", "모두 함께 가요");
+        assertThat(join(chunks)).isEqualTo(text);
+    }
+
+    @Test
+    void splitsLooseKoreanEndingsOnlyAtLineBreaks() {
+        String text = "회의 완료함\n다음 일정 완료함 공유";
+
+        List<Chunk> chunks = sentences.split(text);
+
+        assertThat(chunks).extracting(Chunk::text).containsExactly("회의 완료함", "다음 일정 완료함 공유");
+        assertThat(join(chunks)).isEqualTo(text);
+    }
+
+    @Test
+    void packsSentencesUpToLimitWithinParagraphs() {
+        DocumentSegmenter segmenter = new DocumentSegmenter(20);
+        String text = "첫 문장입니다. 둘째 문장입니다. 셋째 문장입니다.\n\n  새 문단입니다.\n\n\n";
+
+        List<Chunk> chunks = segmenter.split(text);
+
+        assertThat(chunks).extracting(Chunk::text, Chunk::separator).containsExactly(
+                tuple("첫 문장입니다. 둘째 문장입니다.", " "),
+                tuple("셋째 문장입니다.", "\n\n  "),
+                tuple("새 문단입니다.", "\n\n\n"));
+        assertThat(join(chunks)).isEqualTo(text);
+    }
+
+    @Test
+    void cutsOverlongSentenceAtSpaces() {
+        DocumentSegmenter segmenter = new DocumentSegmenter(10);
+        String text = "aaaa bbbb cccc dddd";
+
+        List<Chunk> chunks = segmenter.split(text);
+
+        assertThat(chunks).extracting(Chunk::text).containsExactly("aaaa bbbb", "cccc dddd");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.text()).hasSizeLessThanOrEqualTo(10));
+        assertThat(join(chunks)).isEqualTo(text);
+    }
+
+    private static String join(List<Chunk> chunks) {
+        return chunks.stream().map(chunk -> chunk.text() + chunk.separator()).collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,187 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 문서 번역 (chunk 재시도/백오프/실패, 순서대로 전달, 느린 콜백) (FastAPI 대역)
+ */
+class DocumentTranslationServiceTest {
+
+    // chunk마다 문장 하나
+    private static final String DOCUMENT = "첫 문장입니다. 둘째 문장입니다. 셋째 문장입니다.";
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final FastApiStub stub = newStub();
+
+    @AfterEach
+    void close() {
+        scheduler.shutdownNow();
+        stub.close();
+    }
+
+    @Test
+    void reassemblesChunksInOrderWithSeparators() {
+        stub.jobDuration(text -> text.startsWith("첫") ? 300 : 20);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        String result = service(transport(), 3, 0)
+                .translateDocument(DOCUMENT, "ko", "en", "OpenAI", (index, chunk) -> delivered.add(index)).join();
+
+        assertThat(result).isEqualTo("[translated] 첫 문장입니다. [translated] 둘째 문장입니다. [translated] 셋째 문장입니다.");
+        assertThat(delivered).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void retriesOnlyTheFailedChunk() {
+        AtomicInteger remainingFailures = new AtomicInteger(2);
+        DocumentTranslationService service = service(failingOn("둘째 문장입니다.", remainingFailures), 2, 2);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 100L);
+
+        long start = System.nanoTime();
+        String result = service.translateDocument(DOCUMENT, "ko", "en", "OpenAI").join();
+
+        assertThat(result).isEqualTo("[translated] 첫 문장입니다. [translated] 둘째 문장입니다. [translated] 셋째 문장입니다.");
+        // 실패 2회 후 세 번째 시도에서 성공
+        assertThat(remainingFailures).hasValue(-1);
+        // 재시도는 실패한 chunk만 다시 보냄
+        assertThat(stub.submitCount()).isEqualTo(3);
+        // 재시도 전 백오프: 첫 재시도 50~100 ms, 두 번째 100~200 ms
+        assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    void doesNotRetryChunkRejectedByModelGuard() {
+        TranslationService translationService = mock(TranslationService.class);
+        when(translationService.translateTextAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new TranslationRejectedException("현재 OpenAI 모델 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요.", true)));
+        DocumentTranslationService service = new DocumentTranslationService(new DocumentSegmenter(15), translationService, scheduler);
+        ReflectionTestUtils.setField(service, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(service, "chunkRetries", 2);
+
+        CompletableFuture<String> result = service.translateDocument(DOCUMENT, "ko", "en", "OpenAI");
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(TranslationRejectedException.class);
+        // 서킷 브레이커가 열려 있으면 다시 보내도 거절되므로 첫 chunk 한 번만 시도
+        verify(translationService, times(1)).translateTextAsync(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void failsDocumentWhenChunkExhaustsRetries() {
+        AtomicInteger remainingFailures = new AtomicInteger(Integer.MAX_VALUE);
+
+        CompletableFuture<String> result = service(failingOn("둘째 문장입니다.", remainingFailures), 1, 2)
+                .translateDocument(DOCUMENT, "ko", "en", "OpenAI");
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(TranslationException.class).hasMessage("FastAPI 요청 실패");
+        // 첫 시도 + 재시도 2회
+        assertThat(Integer.MAX_VALUE - remainingFailures.get()).isEqualTo(3);
+    }
+
+    @Test
+    void slowChunkCallbackDoesNotStallRemainingChunks() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = service(transport(), 3, 1)
+                .translateDocument(DOCUMENT, "ko", "en", "OpenAI", (index, chunk) -> {
+                    if (index == 0) {
+                        await(release);
+                    }
+                    delivered.add(index);
+                });
+
+        // 첫 chunk 전송이 멈춰 있어도 나머지 chunk는 계속 번역됨 (동시 요청 1개)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stub.submitCount() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stub.submitCount()).isEqualTo(3);
+        assertThat(result).isNotDone();
+
+        release.countDown();
+        assertThat(result.get(5, TimeUnit.SECONDS)).endsWith("[translated] 셋째 문장입니다.");
+        assertThat(delivered).containsExactly(0, 1, 2);
+    }
+
+    private DocumentTranslationService service(FastApiTransport transport, int maxConcurrency, int chunkRetries) {
+        TranslationService translationService = ServiceFixtures.translationService(stub.url(), transport, scheduler,
+                new TranslationPollingStrategy(new MockEnvironment(), 10, 1.6, 50, 50, 0, 5000, false, 0, 0));
+        DocumentTranslationService service = new DocumentTranslationService(new DocumentSegmenter(15), translationService, scheduler);
+        ReflectionTestUtils.setField(service, "maxConcurrency", maxConcurrency);
+        ReflectionTestUtils.setField(service, "chunkRetries", chunkRetries);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 10L);
+        return service;
+    }
+
+    private FastApiTransport transport() {
+        return new RestTemplateFastApiTransport(new RestTemplate(), scheduler);
+    }
+
+    // 원문이 text인 번역 작업 제출을 remainingFailures 횟수만큼 실패시킴
+    private FastApiTransport failingOn(String text, AtomicInteger remainingFailures) {
+        FastApiTransport delegate = transport();
+        return new FastApiTransport() {
+            @Override
+            public CompletableFuture<Map<String, Object>> post(String url, Object body) {
+                if (text.equals(((Map<?, ?>) body).get("text")) && remainingFailures.getAndDecrement() > 0) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("injected failure"));
+                }
+                return delegate.post(url, body);
+            }
+
+            @Override
+            public CompletableFuture<Map<String, Object>> get(String url) {
+                return delegate.get(url);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FastApiStub newStub() {
+        try {
+            return new FastApiStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단어쌍 10,000개짜리 용어집 응답 바인딩 비교
+ * - before: 기존 방식 (List/Map 트리 바인딩, 문자열 본문 + '_id' 정규식 치환)
+ * - after: GlossaryService (타입 DTO로 스트리밍 바인딩)
+ * 호출 스레드에서 할당한 바이트와 호출당 지연 시간을 측정한다.
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class GlossaryBindingBenchmarkTest {
+
+    private static final int WORDS = 10_000;
+    private static final int GLOSSARIES = 3;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void typedStreamingBindingAllocatesLessThanMapTrees() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            String glossaries = glossariesJson();
+            stub.glossaryList(glossaries);
+            stub.defaultGlossary("{\"message\": \"기본 용어집 설정 성공\", \"glossaries\": " + glossaries + "}");
+
+            RestTemplate restTemplate = new RestTemplate();
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            GlossaryService glossaryService = new GlossaryService(restTemplate, new GlossaryVersionTracker(), objectMapper,
+                    ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(false, 60));
+            ReflectionTestUtils.setField(glossaryService, "fastApiUrl", stub.url());
+
+            String listUrl = stub.url() + "/glossary?userId=1";
+            Result listBefore = measure(() -> restTemplate.getForEntity(listUrl, List.class).getBody());
+            Result listAfter = measure(() -> glossaryService.fetchUserGlossaries(1));
+
+            String resetUrl = stub.url() + "/api/v1/glossary/1/reset-default";
+            String defaultUrl = stub.url() + "/api/v1/glossary/1/default?glossary_id=g";
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            Result defaultBefore = measure(() -> {
+                restTemplate.exchange(resetUrl, HttpMethod.PUT, new HttpEntity<>(headers), String.class);
+                return restTemplate.exchange(defaultUrl, HttpMethod.PUT, new HttpEntity<>(headers), String.class).getBody()
+                        .replaceAll("\"_id\": \"([a-f0-9]{24})\"", "\"id\": \"$1\"");
+            });
+            String defaultId = objectId(0);
+            Result defaultAfter = measure(() -> json(glossaryService.setDefaultGlossary("1", defaultId)));
+
+            System.out.printf("용어집 %d개 × 단어쌍 %,d개 (응답 %,d bytes)%n", GLOSSARIES, WORDS, glossaries.length());
+            print("목록 조회   before(Map)", listBefore);
+            print("목록 조회   after(typed)", listAfter);
+            print("기본 설정   before(regex)", defaultBefore);
+            print("기본 설정   after(typed)", defaultAfter);
+
+            // 바인딩 결과 확인: 목록은 '_id' 매핑, 기본 설정 응답은 'id'로 변환
+            List<GlossaryResponse> fetched = glossaryService.fetchUserGlossaries(1);
+            assertThat(fetched).hasSize(GLOSSARIES);
+            assertThat(fetched.get(0).getWords()).hasSize(WORDS);
+            assertThat(fetched.get(0).getWords().get(0).getId()).hasSize(24);
+            JsonNode converted = objectMapper.readTree(json(glossaryService.setDefaultGlossary("1", defaultId)));
+            assertThat(converted.at("/glossaries/0/id").asText()).hasSize(24);
+            assertThat(converted.at("/glossaries/0/words/0/id").asText()).hasSize(24);
+            assertThat(converted.at("/glossaries/0/_id").isMissingNode()).isTrue();
+
+            assertThat(listAfter.bytesPerCall).isLessThan(listBefore.bytesPerCall);
+            assertThat(defaultAfter.bytesPerCall).isLessThan(defaultBefore.bytesPerCall);
+        }
+    }
+
+    // FastAPI(json.dumps) 형식의 응답 본문
+    private static String glossariesJson() {
+        StringBuilder json = new StringBuilder("[");
+        int id = 0;
+        for (int g = 0; g < GLOSSARIES; g++) {
+            if (g > 0) {
+                json.append(", ");
+            }
+            json.append("{\"_id\": \"").append(objectId(id++)).append("\", \"name\": \"용어집 ").append(g)
+                    .append("\", \"userId\": 1, \"isDefault\": ").append(g == 0).append(", \"words\": [");
+            for (int w = 0; w < WORDS; w++) {
+                if (w > 0) {
+                    json.append(", ");
+                }
+                json.append("{\"_id\": \"").append(objectId(id++)).append("\", \"start\": \"용어").append(w)
+                        .append("\", \"arrival\": \"term").append(w).append("\"}");
+            }
+            json.append("]}");
+        }
+        return json.append("]").toString();
+    }
+
+    private static String json(List<GlossaryResponse> glossaries) {
+        try {
+            return GlossaryService.defaultGlossaryJson(glossaries);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String objectId(int n) {
+        return String.format(Locale.ROOT, "%024x", 0x65a0_0000L + n);
+    }
+
+    private static Result measure(Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / ITERATIONS, elapsedNanos / ITERATIONS / 1_000_000.0);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%s: 호출당 할당 %,12d bytes, 평균 %6.2f ms%n", label, result.bytesPerCall, result.avgMs);
+    }
+
+    private record Result(long bytesPerCall, double avgMs) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GlossaryService 조회 캐시 (FastAPI 대역의 조회 요청 수로 확인)
+ */
+class GlossaryCacheTest {
+
+    @Test
+    void servesRepeatedReadsUntilMutationInvalidates() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = ServiceFixtures.glossaryService(stub.url(), ServiceFixtures.glossaryCache(true, 60));
+            List<String> ids = stub.seedGlossaries(1, 2, 3);
+            stub.seedGlossaries(2, 1, 3);
+
+            service.fetchUserGlossaries(1);
+            service.fetchUserGlossaries(1);
+            service.fetchUserGlossaries(2);
+            service.getWordPairs(ids.get(0));
+            service.getWordPairs(ids.get(0));
+            service.getWordPairs(ids.get(1));
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_READ)).isEqualTo(4);
+
+            // 용어집 0의 단어쌍과 사용자 1 목록만 무효화
+            service.addWordPair(ids.get(0), wordPair("사과", "apple"), null);
+            List<GlossaryResponse> glossaries = service.fetchUserGlossaries(1);
+            assertThat(glossaries).filteredOn(glossary -> glossary.getId().equals(ids.get(0)))
+                    .singleElement().satisfies(glossary -> assertThat(glossary.getWords()).hasSize(4));
+            assertThat(service.getWordPairs(ids.get(0))).hasSize(4);
+            service.getWordPairs(ids.get(1));
+            service.fetchUserGlossaries(2);
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_READ)).isEqualTo(6);
+
+            // 새 용어집 생성 → 해당 사용자 목록 무효화
+            GlossaryRequest request = new GlossaryRequest();
+            request.setName("용어집");
+            request.setUserId(1L);
+            service.saveGlossary(request, null);
+            assertThat(service.fetchUserGlossaries(1)).hasSize(3);
+        }
+    }
+
+    @Test
+    void servesStaleEntryWhileRefreshing() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = ServiceFixtures.glossaryService(stub.url(), ServiceFixtures.glossaryCache(true, 0));
+            stub.seedGlossaries(1, 1, 1);
+            assertThat(service.fetchUserGlossaries(1)).hasSize(1);
+
+            // 다른 인스턴스에서 생긴 변경 + 느린 FastAPI
+            stub.seedGlossaries(1, 1, 1);
+            stub.glossaryLatency(300);
+            long start = System.nanoTime();
+            assertThat(service.fetchUserGlossaries(1)).hasSize(1);
+            assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(200);
+
+            List<GlossaryResponse> refreshed = service.fetchUserGlossaries(1);
+            for (int i = 0; i < 40 && refreshed.size() == 1; i++) {
+                Thread.sleep(50);
+                refreshed = service.fetchUserGlossaries(1);
+            }
+            assertThat(refreshed).hasSize(2);
+        }
+    }
+
+    private static GlossaryRequest.WordPair wordPair(String start, String arrival) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setStart(start);
+        wordPair.setArrival(arrival);
+        return wordPair;
+    }
+}
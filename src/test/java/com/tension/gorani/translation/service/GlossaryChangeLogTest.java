@@ -0,0 +1,91 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryChangesResponse;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단어쌍 변경분 조회 (since 이후 delta / 기록이 잘리면 전체 목록)
+ */
+class GlossaryChangeLogTest {
+
+    @Test
+    void returnsDeltaSinceVersionAndFallsBackToSnapshotWhenTruncated() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+            GlossaryCache glossaryCache = ServiceFixtures.glossaryCache(true, 60);
+            GlossaryService glossaryService = new GlossaryService(new RestTemplate(), versionTracker, objectMapper,
+                    ServiceFixtures.mutationGuard(objectMapper), glossaryCache);
+            ReflectionTestUtils.setField(glossaryService, "fastApiUrl", stub.url());
+            GlossaryChangeLog changeLog = new GlossaryChangeLog(glossaryService, versionTracker, new SimpleMeterRegistry(), 4, 100);
+            String glossaryId = stub.seedGlossaries(1, 1, 3).get(0);
+
+            // 처음에는 전체 목록
+            GlossaryChangesResponse first = changeLog.changesSince(glossaryId, null);
+            assertThat(first.isSnapshot()).isTrue();
+            assertThat(first.getWordPairs()).hasSize(3);
+            long v0 = first.getVersion();
+            assertThat(changeLog.changesSince(glossaryId, v0).isSnapshot()).isFalse();
+            assertThat(changeLog.changesSince(glossaryId, v0).getChanges()).isEmpty();
+
+            // 이 인스턴스를 거친 추가/수정/삭제
+            List<GlossaryRequest.WordPair> wordPairs = glossaryService.getWordPairs(glossaryId);
+            String updatedId = wordPairs.get(0).getId();
+            String deletedId = wordPairs.get(1).getId();
+            glossaryService.updateWordPair(glossaryId, updatedId, WordPairSearchTest.wordPair(null, "용어0", "updated"), null);
+            glossaryService.deleteWordPair(glossaryId, 1, null);
+            glossaryService.addWordPair(glossaryId, WordPairSearchTest.wordPair(null, "새 용어", "new term"), null);
+
+            GlossaryChangesResponse delta = changeLog.changesSince(glossaryId, v0);
+            long v1 = delta.getVersion();
+            assertThat(delta.isSnapshot()).isFalse();
+            assertThat(v1).isGreaterThan(v0).isEqualTo(versionTracker.version(glossaryId));
+            assertThat(delta.getChanges()).extracting(GlossaryChangesResponse.Change::getType)
+                    .containsExactlyInAnyOrder("update", "delete", "add");
+            assertThat(delta.getChanges()).filteredOn(change -> change.getType().equals("update")).singleElement()
+                    .satisfies(change -> {
+                        assertThat(change.getId()).isEqualTo(updatedId);
+                        assertThat(change.getArrival()).isEqualTo("updated");
+                    });
+            assertThat(delta.getChanges()).filteredOn(change -> change.getType().equals("delete"))
+                    .extracting(GlossaryChangesResponse.Change::getId).containsExactly(deletedId);
+            assertThat(delta.getChanges()).filteredOn(change -> change.getType().equals("add")).singleElement()
+                    .satisfies(change -> assertThat(change.getId()).isNotNull());
+            assertThat(changeLog.changesSince(glossaryId, v1).getChanges()).isEmpty();
+
+            // FastAPI에서 직접 바뀐 내용은 목록을 다시 읽을 때 잡히고, 세대도 올라간다
+            long globalBefore = versionTracker.globalVersion();
+            stub.addWordPairs(glossaryId, "외부 용어", "external");
+            glossaryCache.invalidateGlossary(glossaryId);
+            GlossaryChangesResponse external = changeLog.changesSince(glossaryId, v1);
+            assertThat(external.getChanges()).extracting(GlossaryChangesResponse.Change::getStart).containsExactly("외부 용어");
+            assertThat(external.getVersion()).isGreaterThan(v1);
+            assertThat(versionTracker.globalVersion()).isGreaterThan(globalBefore);
+
+            // 보관 한도(4건)를 넘으면 오래된 since는 전체 목록으로
+            stub.addWordPairs(glossaryId, "추가1", "extra1", "추가2", "extra2");
+            glossaryCache.invalidateGlossary(glossaryId);
+            GlossaryChangesResponse latest = changeLog.changesSince(glossaryId, external.getVersion());
+            assertThat(latest.getChanges()).hasSize(2);
+            GlossaryChangesResponse truncated = changeLog.changesSince(glossaryId, v0);
+            assertThat(truncated.isSnapshot()).isTrue();
+            assertThat(truncated.getWordPairs()).hasSize(glossaryService.getWordPairs(glossaryId).size());
+            assertThat(changeLog.changesSince(glossaryId, v1).isSnapshot()).isFalse();
+
+            // 재시작 전이나 다른 인스턴스의 세대(기록 범위 밖)도 전체 목록
+            assertThat(changeLog.changesSince(glossaryId, 1L).isSnapshot()).isTrue();
+            assertThat(changeLog.changesSince(glossaryId, latest.getVersion() + 1).isSnapshot()).isTrue();
+        }
+    }
+}
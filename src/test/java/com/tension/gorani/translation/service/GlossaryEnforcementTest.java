@@ -0,0 +1,152 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 용어 매처와 자리표시자 기반 용어 강제 적용 (FastAPI 대역)
+ */
+class GlossaryEnforcementTest {
+
+    @Test
+    void matcherFindsEveryOccurrenceRespectingLatinWordBoundaries() {
+        GlossaryTermMatcher matcher = GlossaryTermMatcher.build(List.of(
+                wordPair("he", "그"), wordPair("she", "그녀"), wordPair("hers", "그녀의 것"),
+                wordPair("사과", "apple"), wordPair("사과나무", "apple tree"), wordPair("cat", "고양이"),
+                wordPair("  ", "빈 용어"), wordPair("CAT", "중복")));
+
+        assertThat(matcher.terms()).extracting(GlossaryTermMatcher.Term::start)
+                .containsExactly("he", "she", "hers", "사과", "사과나무", "cat");
+        assertThat(matcher.findAll("ushers"))
+                .extracting(match -> match.term().start()).isEmpty();
+        assertThat(matcher.findAll("She said hers, he said"))
+                .extracting(GlossaryTermMatcher.Match::begin, match -> match.term().start())
+                .containsExactly(tuple(0, "she"), tuple(9, "hers"), tuple(15, "he"));
+        assertThat(matcher.findAll("Cat, concatenate, cat."))
+                .extracting(GlossaryTermMatcher.Match::begin).containsExactly(0, 18);
+        // 한글 용어는 뒤에 조사가 붙어도 찾지만, 합성어(사과나무) 안의 짧은 용어는 찾지 않는다
+        assertThat(matcher.findAll("사과나무에 사과를"))
+                .extracting(GlossaryTermMatcher.Match::begin, match -> match.term().start())
+                .containsExactly(tuple(0, "사과나무"), tuple(6, "사과"));
+        assertThat(matcher.findNonOverlapping("사과나무에 사과를"))
+                .extracting(GlossaryTermMatcher.Match::begin, match -> match.term().start())
+                .containsExactly(tuple(0, "사과나무"), tuple(6, "사과"));
+    }
+
+    @Test
+    void masksTermsAndRestoresGlossaryTranslations() throws Exception {
+        try (Fixture fixture = new Fixture()) {
+            String glossaryId = fixture.glossary("고라니", "Gorani", "사과", "apple");
+
+            String result = fixture.service.translateTextAsync("고라니가 사과를 먹고 또 사과를 먹는다", "ko", "en", "OpenAI", glossaryId).join();
+
+            assertThat(result).isEqualTo("[translated] Gorani가 apple를 먹고 또 apple를 먹는다");
+            Map<?, ?> request = fixture.stub.lastTranslateRequest();
+            assertThat(request.get("text")).isEqualTo("[[T1]]가 [[T2]]를 먹고 또 [[T2]]를 먹는다");
+            assertThat(request.get("glossary_id")).isEqualTo(glossaryId);
+            assertThat(request.get("glossary_terms")).isEqualTo(List.of(
+                    Map.of("placeholder", "[[T1]]", "start", "고라니", "arrival", "Gorani"),
+                    Map.of("placeholder", "[[T2]]", "start", "사과", "arrival", "apple")));
+        }
+    }
+
+    @Test
+    void repairsLeakedSourceTermsAndToleratesMangledPlaceholders() throws Exception {
+        try (Fixture fixture = new Fixture()) {
+            String glossaryId = fixture.glossary("고라니", "Gorani", "사과", "apple", "배", "pear");
+            // 모델이 자리표시자를 변형하거나(T1), 빠뜨리고 원문 용어를 남기거나(T2), 아예 없앰(T3)
+            fixture.stub.translator(text -> "[[ t1 ]] eats 사과 and nothing else");
+
+            String result = fixture.service.translateTextAsync("고라니가 사과와 배를 먹는다", "ko", "en", "OpenAI", glossaryId).join();
+
+            assertThat(result).isEqualTo("Gorani eats apple and nothing else");
+        }
+    }
+
+    @Test
+    void checksAndRepairsTermsOnWordBoundaries() {
+        GlossaryEnforcer enforcer = new GlossaryEnforcer(new SimpleMeterRegistry(), KoreanTermNormalizer.DEFAULT, false);
+
+        // 원문 용어 "Go"는 "Google" 안에서 교체하지 않음
+        GlossaryEnforcer.Masked go = unmasked("Go 언어", new GlossaryTermMatcher.Term(0, "Go", "고"));
+        assertThat(enforcer.enforce(go, "Google에서 만든 Go 언어")).isEqualTo("Google에서 만든 고 언어");
+        assertThat(enforcer.enforce(go, "Google 검색")).isEqualTo("Google 검색");
+
+        // 번역어 "AI"는 "PAIR" 안에 있어도 있는 것으로 보지 않음 → 남은 원문 용어를 교체 (조사는 유지)
+        GlossaryEnforcer.Masked ai = unmasked("인공지능", new GlossaryTermMatcher.Term(0, "인공지능", "AI"));
+        assertThat(enforcer.enforce(ai, "PAIR 인공지능을 쓴다")).isEqualTo("PAIR AI을 쓴다");
+        assertThat(enforcer.enforce(ai, "PAIR AI")).isEqualTo("PAIR AI");
+    }
+
+    @Test
+    void rebuildsMatcherAfterGlossaryChanges() throws Exception {
+        try (Fixture fixture = new Fixture()) {
+            String glossaryId = fixture.glossary("사과", "apple");
+            assertThat(fixture.service.translateTextAsync("배와 사과", "ko", "en", "OpenAI", glossaryId).join())
+                    .isEqualTo("[translated] 배와 apple");
+
+            fixture.glossaryService.addWordPair(glossaryId, wordPair("배", "pear"), null);
+
+            assertThat(fixture.service.translateTextAsync("배와 사과", "ko", "en", "OpenAI", glossaryId).join())
+                    .isEqualTo("[translated] pear와 apple");
+            // 용어집을 지정하지 않은 요청은 원문 그대로
+            assertThat(fixture.service.translateTextAsync("배와 사과", "ko", "en", "OpenAI").join())
+                    .isEqualTo("[translated] 배와 사과");
+            assertThat(fixture.stub.lastTranslateRequest().containsKey("glossary_terms")).isFalse();
+        }
+    }
+
+    private static GlossaryEnforcer.Masked unmasked(String text, GlossaryTermMatcher.Term term) {
+        return new GlossaryEnforcer.Masked(text, List.of(new GlossaryEnforcer.Placeholder("[[T1]]", term)), false);
+    }
+
+    private static GlossaryRequest.WordPair wordPair(String start, String arrival) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setStart(start);
+        wordPair.setArrival(arrival);
+        return wordPair;
+    }
+
+    private static final class Fixture implements AutoCloseable {
+        private final FastApiStub stub = new FastApiStub();
+        private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        private final GlossaryService glossaryService;
+        private final TranslationService service;
+
+        private Fixture() throws Exception {
+            stub.jobDuration(text -> 0);
+            GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+            glossaryService = ServiceFixtures.glossaryService(stub.url(), new RestTemplate(), versionTracker,
+                    ServiceFixtures.glossaryCache(true, 60));
+            service = ServiceFixtures.translationService(stub.url(),
+                    new RestTemplateFastApiTransport(new RestTemplate(), scheduler), scheduler,
+                    new TranslationPollingStrategy(new MockEnvironment(), 10, 1.0, 10, 10, 0, 5000, false, 0, 0),
+                    glossaryService, versionTracker, new SimpleMeterRegistry());
+        }
+
+        private String glossary(String... startAndArrival) {
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+            stub.addWordPairs(glossaryId, startAndArrival);
+            return glossaryId;
+        }
+
+        @Override
+        public void close() {
+            scheduler.shutdownNow();
+            stub.close();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.WordPairImportResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 단어쌍 일괄 가져오기/내보내기 (FastAPI 대역)
+ */
+class GlossaryImportExportTest {
+
+    @Test
+    void importsCsvInBatchesAndSkipsInvalidRows() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub, 2);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+            assertThat(service.getWordPairs(glossaryId)).isEmpty();
+
+            String csv = "\uFEFFstart,arrival\r\n"
+                    + "사과,apple\r\n"
+                    + "\"서울, 한국\",\"Seoul, Korea\"\r\n"
+                    + "\r\n"
+                    + "\"두 줄\n용어\",\"say \"\"hi\"\"\"\n"
+                    + "열 하나\n"
+                    + "배,\n"
+                    + " 포도 , grape \n";
+            WordPairImportResponse response = service.importWordPairs(glossaryId, utf8(csv), WordPairFormat.CSV, null);
+
+            assertThat(response.getImported()).isEqualTo(4);
+            assertThat(response.getSkipped()).isEqualTo(2);
+            assertThat(response.getBatches()).isEqualTo(2);
+            assertThat(response.getErrors()).extracting(WordPairImportResponse.RowError::getLine).containsExactly(7L, 8L);
+            assertThat(service.getWordPairs(glossaryId))
+                    .extracting(GlossaryRequest.WordPair::getStart, GlossaryRequest.WordPair::getArrival)
+                    .containsExactly(
+                            tuple("사과", "apple"),
+                            tuple("서울, 한국", "Seoul, Korea"),
+                            tuple("두 줄\n용어", "say \"hi\""),
+                            tuple("포도", "grape"));
+        }
+    }
+
+    @Test
+    void exportedFilesImportBackUnchanged() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub, 500);
+            String source = stub.seedGlossaries(1, 1, 0).get(0);
+            String jsonl = "{\"start\":\"탭\\t값\",\"arrival\":\"tab\\\\value\"}\n"
+                    + "{\"start\":\"쉼표, 따옴표\\\"\",\"arrival\":\"comma\\nline\"}\n"
+                    + "{\"start\":\"가\",\"arrival\":\"a\",\"_id\":\"ignored\"}\n"
+                    + "not json\n";
+            WordPairImportResponse seeded = service.importWordPairs(source, utf8(jsonl), WordPairFormat.JSONL, null);
+            assertThat(seeded.getImported()).isEqualTo(3);
+            assertThat(seeded.getSkipped()).isEqualTo(1);
+            List<GlossaryRequest.WordPair> expected = service.getWordPairs(source);
+
+            for (WordPairFormat format : WordPairFormat.values()) {
+                ByteArrayOutputStream exported = new ByteArrayOutputStream();
+                service.exportWordPairs(source, format, exported);
+
+                String target = stub.seedGlossaries(2, 1, 0).get(0);
+                WordPairImportResponse response = service.importWordPairs(target,
+                        new ByteArrayInputStream(exported.toByteArray()), format, null);
+                assertThat(response.getSkipped()).as(format.name()).isZero();
+                assertThat(service.getWordPairs(target)).as(format.name())
+                        .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void streamsLargeUploadInBoundedBatches() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub, 500);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+
+            WordPairImportResponse response = service.importWordPairs(glossaryId, generatedTsv(20_000), WordPairFormat.TSV, null);
+
+            assertThat(response.getImported()).isEqualTo(20_000);
+            assertThat(response.getBatches()).isEqualTo(40);
+            assertThat(stub.largestBatch()).isEqualTo(500);
+            assertThat(stub.appliedMutations()).isEqualTo(40);
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub, 500);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+            String csv = "사과,apple\n\"열린 따옴표," + "가".repeat(WordPairFormat.MAX_FIELD_CHARS) + "\n";
+
+            assertThatThrownBy(() -> service.importWordPairs(glossaryId, utf8(csv), WordPairFormat.CSV, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("2번째 줄");
+            assertThat(stub.appliedMutations()).isZero();
+        }
+    }
+
+    private static GlossaryService service(FastApiStub stub, int batchSize) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlossaryService service = new GlossaryService(new RestTemplate(), new GlossaryVersionTracker(), objectMapper,
+                ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(true, 60));
+        ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+        ReflectionTestUtils.setField(service, "importBatchSize", batchSize);
+        return service;
+    }
+
+    private static InputStream utf8(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 필요한 만큼만 행을 만들어 내는 업로드 스트림 (전체 파일을 메모리에 만들지 않음)
+    private static InputStream generatedTsv(int rows) {
+        return new InputStream() {
+            private int row;
+            private byte[] line = new byte[0];
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == line.length) {
+                    if (row == rows) {
+                        return -1;
+                    }
+                    line = ("용어" + row + "\tterm" + row + "\n").getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                    row++;
+                }
+                return line[position++] & 0xff;
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GlossaryService 변경 요청의 재시도 / 중복 방지 (FastAPI 대역에 실패 응답 주입)
+ */
+class GlossaryMutationRetryTest {
+
+    @Test
+    void retriesNotProcessedFailureWithSameKey() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+            stub.failNextMutations(503, 2);
+
+            service.addWordPair(glossaryId, wordPair("사과", "apple"), null);
+
+            List<String> keys = stub.mutationKeys();
+            assertThat(keys).hasSize(3);
+            assertThat(keys).allMatch(key -> key.equals(keys.get(0)) && !key.isEmpty());
+            assertThat(stub.appliedMutations()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void doesNotRetryMaybeProcessedFailureForNonIdempotentRequest() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            String glossaryId = stub.seedGlossaries(1, 1, 1).get(0);
+            stub.failNextMutations(504, 1);
+
+            assertThatThrownBy(() -> service.deleteWordPair(glossaryId, 0, null)).isInstanceOf(RuntimeException.class);
+            assertThat(stub.mutationKeys()).hasSize(1);
+        }
+    }
+
+    @Test
+    void retriesMaybeProcessedFailureForIdempotentRequest() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            String glossaryId = stub.seedGlossaries(1, 1, 1).get(0);
+            String wordPairId = service.getWordPairs(glossaryId).get(0).getId();
+            stub.failNextMutations(504, 1);
+
+            service.updateWordPair(glossaryId, wordPairId, wordPair("사과", "apple"), null);
+
+            assertThat(stub.mutationKeys()).hasSize(2);
+            assertThat(stub.appliedMutations()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void deduplicatesRepeatedRequests() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+
+            // 같은 단어쌍 연속 추가 (키 없음) → 한 번만 처리, 그 사이 용어집이 바뀌면 새 요청
+            service.addWordPair(glossaryId, wordPair("사과", "apple"), null);
+            service.addWordPair(glossaryId, wordPair("사과", "apple"), null);
+            assertThat(stub.appliedMutations()).isEqualTo(1);
+            service.deleteWordPair(glossaryId, 0, null);
+            service.addWordPair(glossaryId, wordPair("사과", "apple"), null);
+            assertThat(stub.appliedMutations()).isEqualTo(3);
+
+            // 클라이언트가 같은 Idempotency-Key로 다시 보낸 생성 요청 → 이전 결과 반환
+            GlossaryRequest request = new GlossaryRequest();
+            request.setName("용어집");
+            request.setUserId(1L);
+            String first = service.saveGlossary(request, "client-key-1").getId();
+            String second = service.saveGlossary(request, "client-key-1").getId();
+            assertThat(second).isEqualTo(first);
+            assertThat(stub.appliedMutations()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void scopesClientKeyByOperationAndTarget() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            List<String> glossaryIds = stub.seedGlossaries(1, 2, 0);
+
+            // 같은 클라이언트 키라도 다른 용어집 / 다른 작업이면 이전 결과를 돌려주지 않고 각각 처리
+            service.addWordPair(glossaryIds.get(0), wordPair("사과", "apple"), "client-key-1");
+            service.addWordPair(glossaryIds.get(1), wordPair("사과", "apple"), "client-key-1");
+            service.deleteWordPair(glossaryIds.get(0), 0, "client-key-1");
+            assertThat(stub.appliedMutations()).isEqualTo(3);
+
+            // 같은 작업/용어집/내용 → 이전 결과
+            service.addWordPair(glossaryIds.get(1), wordPair("사과", "apple"), "client-key-1");
+            assertThat(stub.appliedMutations()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void rejectsReusedClientKeyWithDifferentPayload() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryService service = service(stub);
+            String glossaryId = stub.seedGlossaries(1, 1, 0).get(0);
+
+            service.addWordPair(glossaryId, wordPair("사과", "apple"), "client-key-1");
+
+            assertThatThrownBy(() -> service.addWordPair(glossaryId, wordPair("배", "pear"), "client-key-1"))
+                    .isInstanceOf(IdempotencyKeyReuseException.class);
+            assertThat(stub.appliedMutations()).isEqualTo(1);
+        }
+    }
+
+    private static GlossaryService service(FastApiStub stub) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlossaryService service = new GlossaryService(new RestTemplate(), new GlossaryVersionTracker(), objectMapper,
+                ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(false, 60));
+        ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+        return service;
+    }
+
+    private static GlossaryRequest.WordPair wordPair(String start, String arrival) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setStart(start);
+        wordPair.setArrival(arrival);
+        return wordPair;
+    }
+}
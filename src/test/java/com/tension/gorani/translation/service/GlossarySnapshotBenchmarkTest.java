@@ -0,0 +1,127 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단어쌍 300,000개 용어집: 힙 목록 vs 이진 스냅샷(메모리 매핑)
+ * - 힙 사용량: GC 후 살아 있는 힙 (목록 / 스냅샷 각각만 남긴 상태)
+ * - 원문 조회: 목록 순차 확인(lookupWordPairs의 기존 경로), 힙 HashMap 색인, 스냅샷 이진 탐색
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class GlossarySnapshotBenchmarkTest {
+
+    private static final int PAIRS = 300_000;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초";
+
+    @Test
+    void snapshotKeepsLargeGlossaryOffHeap(@TempDir Path dir) throws Exception {
+        Random random = new Random(11);
+        String[] terms = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            terms[i] = syllables(random, 2 + random.nextInt(4)) + Integer.toString(i, 36);
+        }
+
+        long baseline = liveHeap();
+        List<GlossaryRequest.WordPair> wordPairs = wordPairs(terms);
+        long listHeap = liveHeap() - baseline;
+
+        Path path = dir.resolve("large.gsnap");
+        long writeStart = System.nanoTime();
+        GlossarySnapshot.write(path, 1, wordPairs);
+        double writeMs = (System.nanoTime() - writeStart) / 1_000_000.0;
+        Reference.reachabilityFence(wordPairs);
+        wordPairs = null;
+
+        baseline = liveHeap();
+        long openStart = System.nanoTime();
+        GlossarySnapshot snapshot = GlossarySnapshot.open(path);
+        double openMs = (System.nanoTime() - openStart) / 1_000_000.0;
+        long snapshotHeap = liveHeap() - baseline;
+        Reference.reachabilityFence(snapshot);
+
+        // 조회 비교 (같은 무작위 원문 순서, 목록은 다시 만들어 사용)
+        List<GlossaryRequest.WordPair> list = wordPairs(terms);
+        Map<String, List<GlossaryRequest.WordPair>> hashIndex = new HashMap<>();
+        for (GlossaryRequest.WordPair wordPair : list) {
+            hashIndex.computeIfAbsent(GlossarySnapshot.fold(wordPair.getStart()), k -> new ArrayList<>(1)).add(wordPair);
+        }
+        String[] queries = new String[2_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = terms[random.nextInt(PAIRS)].toUpperCase();
+        }
+        double scanUs = measure(queries, 100, term -> {
+            String key = GlossarySnapshot.fold(term);
+            return list.stream().filter(wordPair -> key.equals(GlossarySnapshot.fold(wordPair.getStart()))).toList();
+        });
+        double hashUs = measure(queries, queries.length, term -> hashIndex.getOrDefault(GlossarySnapshot.fold(term), List.of()));
+        double snapshotUs = measure(queries, queries.length, snapshot::lookup);
+        for (String query : Arrays.copyOf(queries, 100)) {
+            assertThat(snapshot.lookup(query)).extracting(GlossaryRequest.WordPair::getArrival)
+                    .containsExactlyElementsOf(hashIndex.get(GlossarySnapshot.fold(query)).stream().map(GlossaryRequest.WordPair::getArrival).toList());
+        }
+
+        System.out.printf("단어쌍 %,d개: 스냅샷 파일 %,d bytes (쓰기 %.0f ms, 열기 %.2f ms)%n", PAIRS, snapshot.fileBytes(), writeMs, openMs);
+        System.out.printf("힙 사용량: List<WordPair> %,d bytes, 스냅샷 %,d bytes%n", listHeap, snapshotHeap);
+        System.out.printf("원문 조회: 목록 순차 %,.1f µs, 힙 HashMap %.2f µs, 스냅샷 이진 탐색 %.2f µs%n", scanUs, hashUs, snapshotUs);
+
+        assertThat(snapshotHeap).isLessThan(listHeap / 20);
+        assertThat(snapshotUs).isLessThan(scanUs / 100);
+        Reference.reachabilityFence(hashIndex);
+    }
+
+    private static List<GlossaryRequest.WordPair> wordPairs(String[] terms) {
+        List<GlossaryRequest.WordPair> wordPairs = new ArrayList<>(terms.length);
+        for (int i = 0; i < terms.length; i++) {
+            wordPairs.add(WordPairSearchTest.wordPair(Integer.toHexString(0x65a00000 + i), terms[i], "term " + terms[i].length() + " " + i));
+        }
+        return wordPairs;
+    }
+
+    // 조회 한 번의 평균 (µs, 앞의 1/5은 워밍업)
+    private static double measure(String[] queries, int count, Function<String, List<GlossaryRequest.WordPair>> lookup) {
+        int warmup = count / 5;
+        long sink = 0;
+        long started = 0;
+        for (int i = 0; i < warmup + count; i++) {
+            if (i == warmup) {
+                started = System.nanoTime();
+            }
+            sink += lookup.apply(queries[i % queries.length]).size();
+        }
+        assertThat(sink).isPositive();
+        return (System.nanoTime() - started) / 1_000.0 / count;
+    }
+
+    private static long liveHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static String syllables(Random random, int count) {
+        StringBuilder syllables = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            syllables.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return syllables.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 용어집 이진 스냅샷 (파일 쓰기 / 메모리 매핑 조회 / 캐시 연동)
+ */
+class GlossarySnapshotTest {
+
+    // 스냅샷을 쓰지 않는 저장소 (다른 테스트의 GlossaryCache용)
+    @Test
+    void roundTripsWordPairsInOrderAndLooksUpSortedKeys(@TempDir Path dir) throws Exception {
+        List<GlossaryRequest.WordPair> wordPairs = List.of(
+                WordPairSearchTest.wordPair("3", "사과", "apple"), WordPairSearchTest.wordPair("1", "Seoul", "서울"),
+                WordPairSearchTest.wordPair(null, "배", null), WordPairSearchTest.wordPair("7", " seoul ", "서울 (공백)"),
+                WordPairSearchTest.wordPair("2", "고라니", "water deer"), WordPairSearchTest.wordPair("9", "사과", "apple"));
+        Path path = dir.resolve("g-1.gsnap");
+        GlossarySnapshot.write(path, 42, wordPairs);
+        GlossarySnapshot snapshot = GlossarySnapshot.open(path);
+
+        assertThat(snapshot.glossaryVersion()).isEqualTo(42);
+        assertThat(snapshot.contentHash()).isEqualTo(GlossarySnapshot.contentHash(wordPairs));
+        // 목록 순서는 FastAPI 응답 순서 그대로 (인덱스 기준 삭제)
+        assertThat(snapshot.wordPairs()).extracting(GlossaryRequest.WordPair::getStart)
+                .containsExactly("사과", "Seoul", "배", " seoul ", "고라니", "사과");
+        assertThat(snapshot.wordPairs().get(2).getId()).isNull();
+        assertThat(snapshot.wordPairs().get(2).getArrival()).isNull();
+
+        assertThat(snapshot.lookup("SEOUL")).extracting(GlossaryRequest.WordPair::getId).containsExactlyInAnyOrder("1", "7");
+        assertThat(snapshot.lookup("사과")).extracting(GlossaryRequest.WordPair::getId).containsExactlyInAnyOrder("3", "9");
+        assertThat(snapshot.lookup("고라니 ")).singleElement().extracting(GlossaryRequest.WordPair::getArrival).isEqualTo("water deer");
+        assertThat(snapshot.lookup("사")).isEmpty();
+        assertThat(snapshot.lookup("없는말")).isEmpty();
+
+        // 같은 원문/번역어는 한 번만 저장: header + 100 × (entry 32 + sorted 4) + "사과"(6) + "apple"(5) + ID "3"(1) × 100
+        GlossarySnapshot.write(dir.resolve("g-2.gsnap"), 43, Collections.nCopies(100, wordPairs.get(0)));
+        assertThat(GlossarySnapshot.open(dir.resolve("g-2.gsnap")).fileBytes()).isEqualTo(48 + 100 * 36 + 11 + 100);
+    }
+
+    @Test
+    void cachesLargeGlossariesAsMappedSnapshots(@TempDir Path dir) throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+            GlossarySnapshotStore store = new GlossarySnapshotStore(versionTracker, registry, true, dir.toString(), 5);
+            GlossaryCache cache = new GlossaryCache(registry, ServiceFixtures.REFRESH_EXECUTOR, store, true, 1 << 20, 600, 60);
+            GlossaryService service = new GlossaryService(new RestTemplate(), versionTracker, objectMapper,
+                    ServiceFixtures.mutationGuard(objectMapper), cache);
+            ReflectionTestUtils.setField(service, "fastApiUrl", stub.url());
+            List<String> ids = stub.seedGlossaries(1, 2, 3);
+            String large = ids.get(0);
+            stub.addWordPairs(large, "고라니", "water deer", "Seoul", "서울");
+
+            List<GlossaryRequest.WordPair> wordPairs = service.getWordPairs(large);
+            assertThat(GlossarySnapshot.of(wordPairs)).isNotNull();
+            assertThat(wordPairs).hasSize(5);
+            assertThat(service.getWordPairs(large)).isSameAs(wordPairs);
+            assertThat(service.lookupWordPairs(large, "seoul")).extracting(GlossaryRequest.WordPair::getArrival).containsExactly("서울");
+            // 작은 용어집은 원래 목록 그대로
+            assertThat(GlossarySnapshot.of(service.getWordPairs(ids.get(1)))).isNull();
+            assertThat(service.lookupWordPairs(ids.get(1), "용어1")).hasSize(1);
+
+            // 다시 읽어도 내용이 같으면 같은 스냅샷
+            cache.invalidateGlossary(large);
+            assertThat(service.getWordPairs(large)).isSameAs(wordPairs);
+
+            // 변경 후에는 새 세대 파일로 바뀌고 이전 파일은 지워진다
+            service.addWordPair(large, WordPairSearchTest.wordPair(null, "새 용어", "new term"), null);
+            List<GlossaryRequest.WordPair> changed = service.getWordPairs(large);
+            assertThat(changed).hasSize(6).isNotSameAs(wordPairs);
+            assertThat(GlossarySnapshot.of(changed).glossaryVersion()).isEqualTo(versionTracker.version(large));
+            assertThat(service.lookupWordPairs(large, "새 용어")).hasSize(1);
+            try (Stream<Path> files = Files.list(dir)) {
+                assertThat(files.map(path -> path.getFileName().toString()))
+                        .containsExactly(large + "-" + versionTracker.version(large) + ".gsnap");
+            }
+            // 이전 스냅샷은 파일이 지워져도 계속 읽힌다
+            assertThat(wordPairs.get(4).getStart()).isEqualTo("Seoul");
+            assertThat(registry.get("glossary.snapshot.writes").tag("result", "reused").counter().count()).isEqualTo(1);
+        }
+    }
+}
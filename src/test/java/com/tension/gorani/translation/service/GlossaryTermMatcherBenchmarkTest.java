@@ -0,0 +1,113 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 용어 찾기 비교 (원문 약 2,000자, 용어 수 100 / 1,000 / 10,000개)
+ * - indexOf: 용어마다 원문 전체를 검색 (용어 수에 비례)
+ * - matcher: Aho-Corasick 한 번 순회 (원문 길이 + 일치 수에 비례)
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class GlossaryTermMatcherBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 500;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초";
+
+    @Test
+    void matcherCostStaysFlatAsGlossaryGrows() {
+        Random random = new Random(42);
+        String text = text(random, 2_000);
+        double smallest = 0;
+        double largest = 0;
+
+        for (int size : new int[]{100, 1_000, 10_000}) {
+            List<GlossaryRequest.WordPair> wordPairs = wordPairs(size);
+            long buildStart = System.nanoTime();
+            GlossaryTermMatcher matcher = GlossaryTermMatcher.build(wordPairs);
+            double buildMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+            int expected = naive(wordPairs, text);
+            assertThat(matcher.findAll(text)).hasSize(expected);
+
+            double naiveUs = measure(() -> naive(wordPairs, text));
+            double matcherUs = measure(() -> matcher.findAll(text).size());
+            System.out.printf("용어 %,6d개: indexOf %8.1f µs, matcher %6.1f µs (생성 %.1f ms, 일치 %d건)%n",
+                    size, naiveUs, matcherUs, buildMs, expected);
+            if (size == 100) {
+                smallest = matcherUs;
+            }
+            largest = matcherUs;
+            if (size == 10_000) {
+                assertThat(matcherUs).isLessThan(naiveUs / 10);
+            }
+        }
+        // 용어 수가 100배가 되어도 찾기 비용은 일치 수 증가분 정도만 늘어난다
+        assertThat(largest).isLessThan(smallest * 10);
+    }
+
+    private static double measure(IntSupplier run) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += run.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += run.getAsInt();
+        }
+        assertThat(sink).isNotNegative();
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    // 용어마다 원문 전체 검색 (대소문자/경계 처리 없는 한글 용어 기준)
+    private static int naive(List<GlossaryRequest.WordPair> wordPairs, String text) {
+        int count = 0;
+        for (GlossaryRequest.WordPair wordPair : wordPairs) {
+            for (int i = text.indexOf(wordPair.getStart()); i >= 0; i = text.indexOf(wordPair.getStart(), i + 1)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 서로 겹치지 않는 한글 4음절 용어 (3음절 조합 + "용", 매처와 indexOf의 일치 수가 같도록)
+    private static List<GlossaryRequest.WordPair> wordPairs(int size) {
+        List<GlossaryRequest.WordPair> wordPairs = new ArrayList<>(size);
+        int n = SYLLABLES.length();
+        for (int i = 0; i < size; i++) {
+            GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+            int code = (int) ((i * 7_919L) % (n * n * n));
+            wordPair.setStart("" + SYLLABLES.charAt(code / (n * n)) + SYLLABLES.charAt(code / n % n) + SYLLABLES.charAt(code % n) + "용");
+            wordPair.setArrival("term" + i);
+            wordPairs.add(wordPair);
+        }
+        return wordPairs;
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append(syllables(random, 3)).append(random.nextInt(4) == 0 ? "용 " : " ");
+        }
+        return text.toString();
+    }
+
+    // 용어와 같은 음절 24개로 만든 원문 (용어 수에 비례해 일치가 생긴다)
+    private static String syllables(Random random, int count) {
+        StringBuilder syllables = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            syllables.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return syllables.toString();
+    }
+}
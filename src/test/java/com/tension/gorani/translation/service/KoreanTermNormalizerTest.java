@@ -0,0 +1,83 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 한국어 정규화(조사, 띄어쓰기, 유니코드 정규형, 자모) 후 용어 매칭
+ */
+class KoreanTermNormalizerTest {
+
+    @Test
+    void matchesTermsFollowedByParticlesButNotInsideCompounds() {
+        GlossaryTermMatcher matcher = GlossaryTermMatcher.build(List.of(
+                wordPair("고라니", "Gorani"), wordPair("사과", "apple"), wordPair("고양이", "cat")));
+
+        assertThat(matcher.findAll("고라니는 사과를 좋아하고, 고라니에게서도 사과."))
+                .extracting(GlossaryTermMatcher.Match::begin, GlossaryTermMatcher.Match::end, match -> match.term().start())
+                .containsExactly(tuple(0, 3, "고라니"), tuple(5, 7, "사과"), tuple(15, 18, "고라니"), tuple(23, 25, "사과"));
+        // 합성어 앞/뒤에 붙은 용어는 찾지 않는다
+        assertThat(matcher.findAll("사과나무 청사과 고라니떼")).isEmpty();
+        // 용어 자체가 조사로 끝나도(고양'이') 용어는 그대로 키가 된다
+        assertThat(matcher.findAll("고양이가 고양이"))
+                .extracting(GlossaryTermMatcher.Match::begin).containsExactly(0, 5);
+    }
+
+    @Test
+    void ignoresSpacingBetweenHangulAndUnicodeForms() {
+        GlossaryTermMatcher matcher = GlossaryTermMatcher.build(List.of(
+                wordPair("인공 지능", "AI"), wordPair("ＧＰＵ", "GPU")));
+
+        // 띄어쓰기가 달라도 같은 용어 (원문 위치는 띄어쓰기 포함)
+        assertThat(matcher.findAll("인공지능과 인공  지능은"))
+                .extracting(GlossaryTermMatcher.Match::begin, GlossaryTermMatcher.Match::end)
+                .containsExactly(tuple(0, 4), tuple(6, 12));
+        // NFD로 분해된 한글, 전각 영문(NFKC)도 같은 용어
+        String decomposed = Normalizer.normalize("인공지능을 gpu로", Normalizer.Form.NFD);
+        assertThat(matcher.findAll(decomposed))
+                .extracting(match -> match.term().start(), match -> decomposed.substring(match.begin(), match.end()))
+                .containsExactly(tuple("인공 지능", Normalizer.normalize("인공지능", Normalizer.Form.NFD)),
+                        tuple("ＧＰＵ", "gpu"));
+    }
+
+    @Test
+    void keepsSpacingAndParticlesSignificantWhenDisabled() {
+        KoreanTermNormalizer strict = new KoreanTermNormalizer("NFC", false, false, false);
+        GlossaryTermMatcher matcher = GlossaryTermMatcher.build(List.of(wordPair("인공지능", "AI")), strict);
+
+        assertThat(matcher.findAll("인공 지능")).isEmpty();
+        // 조사 경계를 끄면 한글 용어는 이전처럼 붙은 글자와 상관없이 찾는다
+        assertThat(matcher.findAll("인공지능을")).hasSize(1);
+    }
+
+    @Test
+    void jamoModeMatchesContractedParticles() {
+        KoreanTermNormalizer jamo = new KoreanTermNormalizer("NFKC", true, true, true);
+        GlossaryTermMatcher matcher = GlossaryTermMatcher.build(List.of(wordPair("고라니", "Gorani")), jamo);
+
+        assertThat(matcher.findAll("고라닌 고라닐 고라니를"))
+                .extracting(GlossaryTermMatcher.Match::begin).containsExactly(0, 4, 8);
+        assertThat(GlossaryTermMatcher.build(List.of(wordPair("고라니", "Gorani"))).findAll("고라닌")).isEmpty();
+    }
+
+    @Test
+    void precomputesKeysOncePerTerm() {
+        KoreanTermNormalizer normalizer = KoreanTermNormalizer.DEFAULT;
+
+        assertThat(normalizer.key(" 인공  지능 ")).isEqualTo(normalizer.key("인공지능"));
+        assertThat(normalizer.key("ＡＩ Model")).isEqualTo("ai model");
+    }
+
+    private static GlossaryRequest.WordPair wordPair(String start, String arrival) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setStart(start);
+        wordPair.setArrival(arrival);
+        return wordPair;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.config.CompressionMetrics;
+import com.tension.gorani.config.RestTemplateConfig;
+import com.tension.gorani.config.WebClientConfig;
+import com.tension.gorani.translation.DTO.GlossaryResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 논블로킹 게이트웨이 모드 부하 테스트
+ * 느린 FastAPI 용어집 조회 2,000건을 이벤트 루프 스레드 4개로 동시에 붙잡고 처리하고, 번역 작업 제출/폴링도 WebClient로 수행한다.
+ * (비교: VirtualThreadLoadBenchmarkTest의 플랫폼 스레드 200개는 동시 200건에서 막힌다)
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class ReactiveGatewayLoadBenchmarkTest {
+
+    private static final int CALLS = 2000;
+    private static final long LATENCY_MS = 500;
+    private static final int EVENT_LOOP_THREADS = 4;
+
+    @Test
+    void eventLoopHoldsThousandsOfInFlightProxyCalls() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.glossaryLatency(LATENCY_MS);
+            Gateway gateway = gateway(stub.url());
+            try {
+                // 모든 조회가 FastAPI까지 가도록 용어집 캐시는 끔 (예열한 사용자 목록이 캐시에서 응답되지 않도록)
+                ReactiveGlossaryService glossaryService = ServiceFixtures.reactiveGlossaryService(stub.url(), gateway.webClient,
+                        ServiceFixtures.glossaryCache(false, 60));
+
+                // 예열 (JIT, 커넥션 생성)
+                Flux.range(0, 200)
+                        .flatMap(userId -> glossaryService.fetchUserGlossaries(userId).collectList(), 200)
+                        .blockLast();
+                stub.resetPeak();
+
+                // 새 커넥션이 한꺼번에 몰려 커널 SYN 백로그를 넘지 않도록 25 ms마다 100건씩 요청
+                AtomicInteger inFlight = new AtomicInteger();
+                AtomicInteger peakInFlight = new AtomicInteger();
+                long start = System.nanoTime();
+                List<List<GlossaryResponse>> results = Flux.range(0, CALLS)
+                        .buffer(100)
+                        .delayElements(Duration.ofMillis(25))
+                        .flatMapIterable(batch -> batch)
+                        .flatMap(userId -> glossaryService.fetchUserGlossaries(userId).collectList()
+                                .doOnSubscribe(subscription -> peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                                .doFinally(signal -> inFlight.decrementAndGet()), CALLS)
+                        .collectList()
+                        .block();
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                long eventLoopThreads = Thread.getAllStackTraces().keySet().stream()
+                        .filter(thread -> thread.getName().startsWith("gateway-http"))
+                        .count();
+
+                // 게이트웨이가 동시에 붙잡고 있던 호출 수 (FastAPI 대역의 동시 처리 수는 대역 서버의 accept 속도에 따라 더 낮을 수 있음)
+                System.out.printf("reactive(이벤트 루프 %d개): 게이트웨이 동시 호출 %4d, FastAPI 동시 처리 %4d, %d건 처리 %5d ms, 게이트웨이 스레드 %d개%n",
+                        EVENT_LOOP_THREADS, peakInFlight.get(), stub.peakInFlight(), CALLS, elapsedMs, eventLoopThreads);
+                assertThat(results).hasSize(CALLS);
+                // 스레드 4개로 플랫폼 스레드 200개 풀의 동시 호출 상한을 넘어섬
+                assertThat(peakInFlight.get()).isGreaterThan(200);
+                assertThat(eventLoopThreads).isLessThanOrEqualTo(EVENT_LOOP_THREADS);
+            } finally {
+                gateway.dispose();
+            }
+        }
+    }
+
+    @Test
+    void translationPollingRunsOnWebClientTransport() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        try (FastApiStub stub = new FastApiStub()) {
+            Gateway gateway = gateway(stub.url());
+            try {
+                TranslationService service = ServiceFixtures.translationService(stub.url(),
+                        new WebClientFastApiTransport(gateway.webClient), scheduler,
+                        new TranslationPollingStrategy(new MockEnvironment(), 100, 1.6, 500, 300, 0.2, 20000, false, 0, 0));
+
+                List<CompletableFuture<String>> futures = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    futures.add(service.translateTextAsync("문장 " + i, "ko", "en", "OpenAI"));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    assertThat(futures.get(i).join()).isEqualTo("[translated] 문장 " + i);
+                }
+            } finally {
+                gateway.dispose();
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Gateway gateway(String fastApiUrl) {
+        // 대역 서버의 accept가 느려도 연결 제한 시간에 걸리지 않도록 여유를 둠
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("fastapi.url", fastApiUrl)
+                .withProperty("http.client.fastapi.connect-timeout-ms", "10000")
+                .withProperty("http.client.fastapi.pool-acquire-timeout-ms", "10000");
+        RestTemplateConfig.Downstreams downstreams = new RestTemplateConfig().downstreams(environment);
+        WebClientConfig config = new WebClientConfig();
+        LoopResources loops = config.gatewayLoopResources(EVENT_LOOP_THREADS);
+        ConnectionProvider provider = config.fastApiConnectionProvider(downstreams, CALLS, CALLS * 2, 60);
+        WebClient webClient = config.fastApiWebClient(WebClient.builder(), provider, loops, downstreams,
+                new CompressionMetrics(new SimpleMeterRegistry()), 16384, true);
+        return new Gateway(webClient, loops, provider);
+    }
+
+    private record Gateway(WebClient webClient, LoopResources loops, ConnectionProvider provider) {
+        void dispose() {
+            provider.dispose();
+            loops.dispose();
+        }
+    }
+}
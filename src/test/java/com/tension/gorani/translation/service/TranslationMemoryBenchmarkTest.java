@@ -0,0 +1,92 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 번역 메모리 조회 비용 (세그먼트 30만 건, 완전 일치 / 유사 일치)
+ * 조회 비용이 저장된 세그먼트 수와 무관하게 1 ms 미만인지 확인
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class TranslationMemoryBenchmarkTest {
+
+    private static final int SEGMENTS = 300_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 2_000;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초";
+
+    @Test
+    void lookupStaysSubMillisecondAtThreeHundredThousandSegments() {
+        Random random = new Random(42);
+        List<String> sources = new ArrayList<>(SEGMENTS);
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < SEGMENTS; i++) {
+            String source = sentence(random);
+            sources.add(source);
+            index.add(source, "translation " + i);
+        }
+        double buildMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+        // 조회 대상: 저장된 원문 그대로(완전 일치) / 끝 두 글자를 바꾼 원문(유사 일치)
+        List<String> exactQueries = new ArrayList<>();
+        List<String> fuzzyQueries = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String source = sources.get(random.nextInt(SEGMENTS));
+            exactQueries.add(source);
+            fuzzyQueries.add(source.substring(0, source.length() - 2) + "니다");
+        }
+        long fuzzyHits = fuzzyQueries.stream().filter(query -> !index.find(query, 0.7, 5).isEmpty()).count();
+        assertThat(fuzzyHits).isGreaterThan(fuzzyQueries.size() * 9 / 10);
+
+        int[] cursor = new int[1];
+        double exactUs = measure(() -> index.find(exactQueries.get(cursor[0]++ % exactQueries.size()), 0.7, 5).size());
+        double fuzzyUs = measure(() -> {
+            List<TranslationMemoryMatch> matches = index.find(fuzzyQueries.get(cursor[0]++ % fuzzyQueries.size()), 0.7, 5);
+            return matches.size();
+        });
+        System.out.printf("세그먼트 %,d건 (생성 %.0f ms): 완전 일치 %.1f µs, 유사 일치 %.1f µs (적중 %d/%d)%n",
+                index.size(), buildMs, exactUs, fuzzyUs, fuzzyHits, fuzzyQueries.size());
+
+        assertThat(exactUs).isLessThan(1_000);
+        assertThat(fuzzyUs).isLessThan(1_000);
+    }
+
+    private static double measure(IntSupplier run) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += run.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += run.getAsInt();
+        }
+        assertThat(sink).isNotNegative();
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    // 2~4글자 단어 8~12개로 된 문장
+    private static String sentence(Random random) {
+        StringBuilder sentence = new StringBuilder();
+        int words = 8 + random.nextInt(5);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                sentence.append(' ');
+            }
+            int length = 2 + random.nextInt(3);
+            for (int c = 0; c < length; c++) {
+                sentence.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+        }
+        return sentence.toString();
+    }
+}
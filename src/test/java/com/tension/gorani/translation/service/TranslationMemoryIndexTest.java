@@ -0,0 +1,67 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 번역 메모리 인덱스 (완전 일치, 최신 번역 유지, 유사 일치 순위)
+ */
+class TranslationMemoryIndexTest {
+
+    @Test
+    void findsExactMatchIgnoringWhitespaceDifferences() {
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        index.add("계약서를 검토해 주세요.", "Please review the contract.");
+
+        assertThat(index.findExact("  계약서를   검토해\n주세요. "))
+                .hasValueSatisfying(match -> {
+                    assertThat(match.getTranslatedText()).isEqualTo("Please review the contract.");
+                    assertThat(match.isExact()).isTrue();
+                    assertThat(match.getSimilarity()).isEqualTo(1.0);
+                });
+        assertThat(index.findExact("계약서를 검토해 주세요")).isEmpty();
+        assertThat(index.findExact(" ")).isEmpty();
+    }
+
+    @Test
+    void sameSourceKeepsLatestTranslationAsOneSegment() {
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        index.add("회의록", "Minutes");
+        index.add("회의록 ", "Meeting minutes");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findExact("회의록")).get()
+                .extracting(TranslationMemoryMatch::getTranslatedText).isEqualTo("Meeting minutes");
+    }
+
+    @Test
+    void ranksFuzzyMatchesAboveThresholdBySimilarity() {
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        index.add("다음 주 월요일까지 보고서를 제출해 주세요.", "Please submit the report by next Monday.");
+        index.add("다음 주 화요일까지 보고서를 제출해 주세요.", "Please submit the report by next Tuesday.");
+        index.add("점심 메뉴는 김치찌개입니다.", "Lunch is kimchi stew.");
+
+        List<TranslationMemoryMatch> matches = index.find("다음 주 월요일까지 보고서를 제출해 주십시오.", 0.5, 5);
+
+        assertThat(matches).extracting(TranslationMemoryMatch::getTranslatedText).containsExactly(
+                "Please submit the report by next Monday.", "Please submit the report by next Tuesday.");
+        assertThat(matches).allSatisfy(match -> assertThat(match.isExact()).isFalse());
+        assertThat(matches.get(0).getSimilarity()).isGreaterThan(matches.get(1).getSimilarity());
+        assertThat(index.find("다음 주 월요일까지 보고서를 제출해 주십시오.", 0.5, 1)).hasSize(1);
+        assertThat(index.find("전혀 관계없는 문장", 0.5, 5)).isEmpty();
+    }
+
+    @Test
+    void exactMatchTakesPrecedenceOverFuzzyCandidates() {
+        TranslationMemoryIndex index = new TranslationMemoryIndex();
+        index.add("보고서를 제출합니다.", "I submit the report.");
+        index.add("보고서를 제출했습니다.", "I submitted the report.");
+
+        assertThat(index.find("보고서를 제출합니다.", 0.3, 5)).singleElement()
+                .satisfies(match -> assertThat(match.isExact()).isTrue());
+    }
+}
@@ -0,0 +1,168 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.companies.domain.entity.Company;
+import com.tension.gorani.translation.DTO.TranslationMemoryMatch;
+import com.tension.gorani.translation.DTO.TranslationMemoryRequest;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry;
+import com.tension.gorani.translation.domain.entity.TranslationMemoryEntry.OwnerType;
+import com.tension.gorani.translation.repository.TranslationMemoryRepository;
+import com.tension.gorani.users.domain.entity.Users;
+import com.tension.gorani.users.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 번역 메모리 서비스 (소유자 결정, upsert, 비동기 인덱스 로드)
+ */
+class TranslationMemoryServiceTest {
+
+    private static final Long USER_ID = 201L;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TranslationMemoryRepository repository = mock(TranslationMemoryRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final TranslationMemoryService service = new TranslationMemoryService(repository, userService, executor, 0.7, 100, 60);
+
+    @AfterEach
+    void close() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void updatesExistingRowForSameNormalizedSource() {
+        TranslationMemoryEntry existing = entry(7L, "회의록  정리", "Minutes");
+        when(repository.findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                eq(OwnerType.USER), eq(USER_ID), eq("ko"), eq("en"), anyString())).thenReturn(Optional.of(existing));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TranslationMemoryEntry saved = service.save(USER_ID, request(OwnerType.USER, "회의록 정리", "Meeting notes"));
+
+        assertThat(saved.getId()).isEqualTo(7L);
+        assertThat(saved.getTargetText()).isEqualTo("Meeting notes");
+        verify(repository, times(1)).save(existing);
+    }
+
+    @Test
+    void insertsNewRowWithOwnerFromUserAndNormalizedSourceHash() {
+        when(repository.findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.save(USER_ID, request(OwnerType.USER, " 회의록   정리 ", "Meeting notes"));
+
+        ArgumentCaptor<TranslationMemoryEntry> captor = ArgumentCaptor.forClass(TranslationMemoryEntry.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getOwnerId()).isEqualTo(USER_ID);
+        assertThat(captor.getValue().getSourceHash()).isEqualTo(TranslationKey.sha256("회의록 정리"));
+    }
+
+    @Test
+    void retriesAsUpdateWhenConcurrentInsertWins() {
+        TranslationMemoryEntry winner = entry(9L, "회의록", "Minutes");
+        when(repository.findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                any(), any(), any(), any(), any())).thenReturn(Optional.empty(), Optional.of(winner));
+        when(repository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_tm_owner_lang_source"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        TranslationMemoryEntry saved = service.save(USER_ID, request(OwnerType.USER, "회의록", "Meeting minutes"));
+
+        assertThat(saved.getId()).isEqualTo(9L);
+        assertThat(saved.getTargetText()).isEqualTo("Meeting minutes");
+    }
+
+    @Test
+    void companyMemoryBelongsToUsersCompany() {
+        Company company = new Company();
+        company.setCompanyId(31L);
+        when(userService.getUserById(USER_ID)).thenReturn(Optional.of(Users.builder().id(USER_ID).company(company).build()));
+        when(repository.findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(OwnerType.COMPANY, 31L, "ko", "en"))
+                .thenReturn(List.of(entry(1L, "견적서", "Quotation")));
+
+        List<TranslationMemoryMatch> matches = service.lookup(USER_ID, OwnerType.COMPANY, "ko", "en", "견적서", 5).join();
+
+        assertThat(matches).extracting(TranslationMemoryMatch::getTranslatedText).containsExactly("Quotation");
+    }
+
+    @Test
+    void rejectsCompanyMemoryForUserWithoutCompany() {
+        when(userService.getUserById(USER_ID)).thenReturn(Optional.of(Users.builder().id(USER_ID).build()));
+
+        assertThatThrownBy(() -> service.save(USER_ID, request(OwnerType.COMPANY, "견적서", "Quotation")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.findExact(USER_ID, OwnerType.COMPANY, "ko", "en", "견적서")).isEmpty();
+        assertThat(service.findExact(null, OwnerType.USER, "ko", "en", "견적서")).isEmpty();
+    }
+
+    @Test
+    void laterRowWinsWhenLoadingDuplicates() {
+        when(repository.findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(OwnerType.USER, USER_ID, "ko", "en"))
+                .thenReturn(List.of(entry(1L, "회의록", "Minutes"), entry(2L, "회의록", "Meeting minutes")));
+
+        assertThat(service.lookup(USER_ID, OwnerType.USER, "ko", "en", "회의록", 5).join())
+                .extracting(TranslationMemoryMatch::getTranslatedText).containsExactly("Meeting minutes");
+    }
+
+    @Test
+    void exactLookupDoesNotWaitForIndexLoadAndSaveDuringLoadIsKept() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(OwnerType.USER, USER_ID, "ko", "en"))
+                .thenAnswer(invocation -> {
+                    // 저장 전의 DB 상태를 읽은 채로 로드가 지연됨
+                    loading.countDown();
+                    release.await();
+                    return List.of(entry(1L, "회의록", "Minutes"));
+                });
+        when(repository.findFirstByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangAndSourceHashOrderByIdDesc(
+                any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 첫 조회는 로드를 시작만 하고 바로 반환
+        assertThat(service.findExact(USER_ID, OwnerType.USER, "ko", "en", "회의록")).isEmpty();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.save(USER_ID, request(OwnerType.USER, "견적서", "Quotation"));
+        release.countDown();
+
+        List<TranslationMemoryMatch> matches = service.lookup(USER_ID, OwnerType.USER, "ko", "en", "견적서", 5)
+                .get(5, TimeUnit.SECONDS);
+        assertThat(matches).extracting(TranslationMemoryMatch::getTranslatedText).containsExactly("Quotation");
+        assertThat(service.findExact(USER_ID, OwnerType.USER, "ko", "en", "회의록"))
+                .get().extracting(TranslationMemoryMatch::getTranslatedText).isEqualTo("Minutes");
+        verify(repository, times(1)).findByOwnerTypeAndOwnerIdAndSourceLangAndTargetLangOrderByIdAsc(
+                OwnerType.USER, USER_ID, "ko", "en");
+    }
+
+    private static TranslationMemoryRequest request(OwnerType ownerType, String sourceText, String targetText) {
+        TranslationMemoryRequest request = new TranslationMemoryRequest();
+        request.setOwnerType(ownerType);
+        request.setSourceText(sourceText);
+        request.setTargetText(targetText);
+        return request;
+    }
+
+    private static TranslationMemoryEntry entry(Long id, String sourceText, String targetText) {
+        return TranslationMemoryEntry.builder().id(id).ownerType(OwnerType.USER).ownerId(USER_ID)
+                .sourceLang("ko").targetLang("en").sourceText(sourceText).targetText(targetText).build();
+    }
+}
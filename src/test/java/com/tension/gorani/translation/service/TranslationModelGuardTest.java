@@ -0,0 +1,111 @@
+package com.tension.gorani.translation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모델별 격리 (허용 모델 제한, 서킷 open / half-open, Bulkhead 거절)
+ */
+class TranslationModelGuardTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("translation.bulkhead.max-concurrent.Gorani", "1");
+    // 최근 4건 중 50% 이상 실패하면 open, 1초 후 half-open (시험 호출 3건)
+    private final TranslationModelGuard guard = new TranslationModelGuard(environment, registry,
+            List.of("OpenAI", "Gorani"), 10, 50, 15000, 80, 4, 4, 1);
+
+    @Test
+    void rejectsUnknownModelsWithoutCreatingStateOrMeters() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> guard.requireSupported("model-" + System.nanoTime()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> guard.execute("임의 모델", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("결과");
+        }).join()).isInstanceOf(CompletionException.class).cause().isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(calls).hasValue(0);
+        assertThat(guard.status()).extracting(status -> status.get("model")).containsExactly("OpenAI", "Gorani");
+        assertThat(registry.getMeters()).allSatisfy(meter ->
+                assertThat(meter.getId().getTag("name")).isIn(null, "OpenAI", "Gorani"));
+    }
+
+    @Test
+    void opensCircuitAfterFailuresAndFailsFastWithoutCallingFastApi() {
+        for (int i = 0; i < 4; i++) {
+            guard.execute("OpenAI", () -> CompletableFuture.failedFuture(new TranslationException("FastAPI 요청 실패")));
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = guard.execute("OpenAI", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("결과");
+        });
+
+        assertThat(state("OpenAI")).isEqualTo("OPEN");
+        assertThatThrownBy(result::join).cause().isInstanceOf(TranslationException.class)
+                .hasMessageContaining("OpenAI 모델 응답이 원활하지 않습니다");
+        assertThat(calls).hasValue(0);
+        // 다른 모델은 영향 없음
+        assertThat(guard.execute("Gorani", () -> CompletableFuture.completedFuture("결과")).join()).isEqualTo("결과");
+        assertThat(state("Gorani")).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void halfOpenTrialCallsCloseTheCircuitAgain() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            guard.execute("OpenAI", () -> CompletableFuture.failedFuture(new TranslationException("FastAPI 요청 실패")));
+        }
+        assertThat(state("OpenAI")).isEqualTo("OPEN");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!state("OpenAI").equals("HALF_OPEN") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(state("OpenAI")).isEqualTo("HALF_OPEN");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(guard.execute("OpenAI", () -> CompletableFuture.completedFuture("결과")).join()).isEqualTo("결과");
+        }
+        assertThat(state("OpenAI")).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondModelLimitUntilPermitIsReleased() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = guard.execute("Gorani", () -> pending);
+
+        CompletableFuture<String> rejected = guard.execute("Gorani", () -> CompletableFuture.completedFuture("결과"));
+
+        assertThatThrownBy(rejected::join).cause().isInstanceOf(TranslationException.class)
+                .hasMessage("번역 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(status("Gorani").get("bulkheadAvailable")).isEqualTo(0);
+        // 거절된 호출은 서킷 실패로 기록되지 않음
+        assertThat(status("Gorani").get("bufferedCalls")).isEqualTo(0);
+
+        pending.complete("첫 결과");
+        assertThat(first.join()).isEqualTo("첫 결과");
+        assertThat(guard.execute("Gorani", () -> CompletableFuture.completedFuture("결과")).join()).isEqualTo("결과");
+        assertThat(status("Gorani").get("bulkheadMaxConcurrent")).isEqualTo(1);
+    }
+
+    private String state(String model) {
+        return (String) status(model).get("circuitState");
+    }
+
+    private Map<String, Object> status(String model) {
+        return guard.status().stream().filter(status -> model.equals(status.get("model"))).findFirst().orElseThrow();
+    }
+}
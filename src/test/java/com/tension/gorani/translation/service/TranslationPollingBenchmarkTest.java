@@ -0,0 +1,67 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정 2초 폴링(기존 방식)과 적응형 폴링의 응답 지연 비교.
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class TranslationPollingBenchmarkTest {
+
+    private static final long[] JOB_DURATIONS_MS = {150, 300, 800, 1500, 2500, 4500};
+
+    @Test
+    void adaptivePollingBeatsFixedLoop() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.jobDuration(text -> Long.parseLong(text.substring(text.indexOf(':') + 1)));
+
+            // 기존 방식: 2초 간격 고정, 지터 없음
+            double fixed = measure(stub, "fixed", new TranslationPollingStrategy(new MockEnvironment(),
+                    2000, 1.0, 2000, 2000, 0, 20000, false, 0, 0));
+            double adaptive = measure(stub, "adaptive", new TranslationPollingStrategy(new MockEnvironment(),
+                    300, 1.6, 2000, 300, 0.2, 20000, false, 0, 0));
+
+            System.out.printf("평균 지연 - fixed: %.0f ms, adaptive: %.0f ms%n", fixed, adaptive);
+            assertThat(adaptive).isLessThan(fixed);
+        }
+    }
+
+    private double measure(FastApiStub stub, String label, TranslationPollingStrategy strategy) {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        try {
+            TranslationService service = ServiceFixtures.translationService(stub.url(), scheduler, strategy);
+            int statusBefore = stub.statusCount();
+
+            List<CompletableFuture<Long>> runs = new ArrayList<>();
+            for (long duration : JOB_DURATIONS_MS) {
+                long start = System.nanoTime();
+                runs.add(service.translateTextAsync(label + ":" + duration, "ko", "en", "OpenAI")
+                        .thenApply(result -> (System.nanoTime() - start) / 1_000_000));
+            }
+
+            long total = 0;
+            for (int i = 0; i < runs.size(); i++) {
+                long elapsed = runs.get(i).join();
+                total += elapsed;
+                System.out.printf("%-8s job=%5d ms → %5d ms%n", label, JOB_DURATIONS_MS[i], elapsed);
+            }
+            System.out.printf("%-8s 상태 조회 횟수: %d%n", label, stub.statusCount() - statusBefore);
+            return (double) total / runs.size();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상태 조회 간격(백오프, 지터, 상한)과 모델별 대기 시간
+ */
+class TranslationPollingStrategyTest {
+
+    @Test
+    void backsOffFromInitialDelayUpToCap() {
+        TranslationPollingStrategy strategy = new TranslationPollingStrategy(new MockEnvironment(),
+                300, 1.6, 2000, 300, 0, 20000, false, 0, 0);
+
+        assertThat(IntStream.range(0, 7).mapToLong(attempt -> strategy.delayMs(attempt, false)).toArray())
+                .containsExactly(300, 480, 768, 1229, 1966, 2000, 2000);
+        // 스트리밍은 translation.stream.poll-interval-ms가 상한
+        assertThat(IntStream.range(0, 3).mapToLong(attempt -> strategy.delayMs(attempt, true)).toArray())
+                .containsExactly(300, 300, 300);
+    }
+
+    @Test
+    void jitterStaysWithinConfiguredRatio() {
+        TranslationPollingStrategy strategy = new TranslationPollingStrategy(new MockEnvironment(),
+                1000, 1.6, 2000, 300, 0.2, 20000, false, 0, 0);
+
+        LongSummaryStatistics delays = IntStream.range(0, 500).mapToLong(i -> strategy.delayMs(0, false)).summaryStatistics();
+        assertThat(delays.getMin()).isGreaterThanOrEqualTo(800);
+        assertThat(delays.getMax()).isLessThanOrEqualTo(1200);
+        assertThat(delays.getMax()).isGreaterThan(delays.getMin());
+    }
+
+    @Test
+    void usesPerModelDeadlineWithDefaultFallback() {
+        MockEnvironment environment = new MockEnvironment().withProperty("translation.poll.deadline-ms.LangGorani", "60000");
+        TranslationPollingStrategy strategy = new TranslationPollingStrategy(environment,
+                300, 1.6, 2000, 300, 0, 20000, false, 0, 0);
+
+        assertThat(strategy.deadlineMs("LangGorani")).isEqualTo(60000);
+        assertThat(strategy.deadlineMs("OpenAI")).isEqualTo(20000);
+    }
+
+    @Test
+    void longPollKeepsMinimumDelayAndBacksOffWhenServerDoesNotHold() {
+        TranslationPollingStrategy strategy = new TranslationPollingStrategy(new MockEnvironment(),
+                300, 1.6, 2000, 300, 0, 20000, true, 10000, 100);
+
+        assertThat(strategy.delayMs(0, false, 0)).isEqualTo(300);
+        // 서버가 wait 동안 보류했다면 최소 간격만 쉼
+        assertThat(strategy.delayMs(3, false, 10000)).isEqualTo(100);
+        // wait를 무시하고 바로 응답했다면 일반 백오프
+        assertThat(strategy.delayMs(3, false, 0)).isEqualTo(1229);
+        assertThat(strategy.longPollWaitSeconds(4500)).isEqualTo(4);
+        assertThat(strategy.longPollWaitSeconds(200)).isEqualTo(1);
+    }
+
+    @Test
+    void failsAfterModelDeadlineWithoutBusyPollingWhenWaitIsIgnored() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.jobDuration(text -> 5000);
+            // 대역은 ?wait=를 무시하고 바로 pending으로 응답한다
+            TranslationService service = ServiceFixtures.translationService(stub.url(), scheduler,
+                    new TranslationPollingStrategy(new MockEnvironment(), 20, 1.6, 200, 200, 0, 800, true, 10000, 50));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> service.translateTextAsync("느린 문장", "ko", "en", "OpenAI").join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause().isInstanceOf(TranslationException.class)
+                    .hasMessage("번역이 아직 완료되지 않았습니다. 나중에 다시 시도해주세요.");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(elapsedMs).isLessThan(2000);
+            // 20, 32, 51, 82, 131, 200, 200 ms ... 간격이면 800 ms 안에 10회 미만
+            assertThat(stub.statusCount()).isBetween(3, 10);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void pollsOnceMoreAtDeadlineBeforeFailing() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.jobDuration(text -> 300);
+            // 150 ms 뒤 첫 조회(pending), 다음 간격 600 ms는 기한(400 ms)을 넘김 → 기한에 마지막 조회
+            TranslationService service = ServiceFixtures.translationService(stub.url(), scheduler,
+                    new TranslationPollingStrategy(new MockEnvironment(), 150, 4.0, 5000, 5000, 0, 400, false, 0, 0));
+
+            assertThat(service.translateTextAsync("문장", "ko", "en", "OpenAI").join()).isEqualTo("[translated] 문장");
+            assertThat(stub.statusCount()).isEqualTo(2);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시에 들어온 동일 번역 요청의 합류 (FastAPI 대역)
+ */
+class TranslationRequestCoalescerTest {
+
+    private static final int CALLERS = 20;
+
+    @Test
+    void concurrentIdenticalRequestsShareOneFastApiTask() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.jobDuration(text -> 300);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+            TranslationService service = ServiceFixtures.translationService(stub.url(),
+                    new RestTemplateFastApiTransport(new RestTemplate(), scheduler), scheduler,
+                    new TranslationPollingStrategy(new MockEnvironment(), 20, 1.6, 50, 50, 0, 5000, false, 0, 0),
+                    ServiceFixtures.glossaryService(stub.url(), new RestTemplate(), versionTracker,
+                            ServiceFixtures.glossaryCache(true, 60)),
+                    versionTracker, registry);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                String text = i % 2 == 0 ? "인기 문서" : "다른 문서";
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return service.translateTextAsync(text, "ko", "en", "OpenAI");
+                }, callers).thenCompose(future -> future));
+            }
+            start.countDown();
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertThat(results.get(i).join()).isEqualTo(i % 2 == 0 ? "[translated] 인기 문서" : "[translated] 다른 문서");
+            }
+            // 원문 2종류 → FastAPI 작업 2개, 나머지는 합류
+            assertThat(stub.submitCount()).isEqualTo(2);
+            assertThat(registry.counter("translation.singleflight.calls", "role", "leader").count()).isEqualTo(2);
+            assertThat(registry.counter("translation.singleflight.calls", "role", "joined").count()).isEqualTo(CALLERS - 2);
+            assertThat(registry.get("translation.singleflight.inflight").gauge().value()).isZero();
+        } finally {
+            callers.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLeaderIsNotReusedByLaterRequests() {
+        TranslationRequestCoalescer coalescer = new TranslationRequestCoalescer(new SimpleMeterRegistry());
+        TranslationKey key = TranslationKey.of("문장", "ko", "en", "OpenAI", 1);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.execute(key, () -> pending);
+        CompletableFuture<String> joined = coalescer.execute(key, () -> CompletableFuture.completedFuture("사용되지 않음"));
+        pending.completeExceptionally(new TranslationException("FastAPI 요청 실패"));
+
+        assertThat(leader).isCompletedExceptionally();
+        assertThat(joined).isCompletedExceptionally();
+        assertThat(coalescer.execute(key, () -> CompletableFuture.completedFuture("새 결과")).join()).isEqualTo("새 결과");
+        assertThat(coalescer.savedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelsSharedTaskOnlyWhenEveryCallerCancelled() {
+        TranslationRequestCoalescer coalescer = new TranslationRequestCoalescer(new SimpleMeterRegistry());
+        TranslationKey key = TranslationKey.of("문장", "ko", "en", "OpenAI", 1);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.execute(key, () -> pending);
+        CompletableFuture<String> joined = coalescer.execute(key, () -> CompletableFuture.completedFuture("사용되지 않음"));
+        leader.cancel(false);
+        assertThat(pending).isNotDone();
+        assertThat(joined).isNotDone();
+
+        joined.cancel(false);
+        assertThat(pending).isCancelled();
+        // 취소된 작업에는 합류하지 않고 새 작업으로 시작
+        assertThat(coalescer.execute(key, () -> CompletableFuture.completedFuture("새 결과")).join()).isEqualTo("새 결과");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.tension.gorani.translation.service;
+
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 번역 결과 캐시 (성공한 결과만, 원문/언어쌍/모델/용어집 기준 키)
+ */
+class TranslationResultCacheTest {
+
+    @Test
+    void keyCoversTextLanguagesModelAndGlossary() {
+        TranslationKey key = TranslationKey.of("안녕하세요", "ko", "en", "OpenAI", "g1", 1);
+
+        assertThat(key).isEqualTo(TranslationKey.of("안녕하세요", "ko", "en", "OpenAI", "g1", 1));
+        assertThat(key.textHash()).hasSize(64).doesNotContain("안녕");
+        assertThat(key)
+                .isNotEqualTo(TranslationKey.of("안녕하세요!", "ko", "en", "OpenAI", "g1", 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ja", "en", "OpenAI", "g1", 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ko", "ja", "OpenAI", "g1", 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ko", "en", "Gorani", "g1", 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ko", "en", "OpenAI", "g2", 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ko", "en", "OpenAI", null, 1))
+                .isNotEqualTo(TranslationKey.of("안녕하세요", "ko", "en", "OpenAI", "g1", 2));
+    }
+
+    @Test
+    void cachesOnlySuccessfulResults() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try (FastApiStub stub = new FastApiStub()) {
+            TranslationService service = service(stub, scheduler, new GlossaryVersionTracker());
+
+            stub.errors(FastApiStub.Route.TRANSLATE_SUBMIT, 1.0, 500);
+            assertThatThrownBy(() -> service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause().isInstanceOf(TranslationException.class).hasMessage("FastAPI 요청 실패");
+
+            // 실패는 캐시되지 않아 다시 FastAPI로 보냄
+            stub.errors(FastApiStub.Route.TRANSLATE_SUBMIT, 0, 500);
+            assertThat(service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join()).isEqualTo("[translated] 안녕하세요");
+            assertThat(stub.submitCount()).isEqualTo(1);
+
+            // 성공한 결과는 재사용
+            assertThat(service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join()).isEqualTo("[translated] 안녕하세요");
+            assertThat(stub.submitCount()).isEqualTo(1);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void missesWhenLanguageModelOrGlossaryVersionChanges() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try (FastApiStub stub = new FastApiStub()) {
+            GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+            TranslationService service = service(stub, scheduler, versionTracker);
+
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join();
+            service.translateTextAsync("안녕하세요", "ko", "ja", "OpenAI").join();
+            service.translateTextAsync("안녕하세요", "ko", "en", "Gorani").join();
+            assertThat(stub.submitCount()).isEqualTo(3);
+
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join();
+            assertThat(stub.submitCount()).isEqualTo(3);
+
+            List<String> glossaryIds = stub.seedGlossaries(1, 2, 0);
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI", glossaryIds.get(0)).join();
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI", glossaryIds.get(1)).join();
+            assertThat(stub.submitCount()).isEqualTo(5);
+
+            // 지정한 용어집이 바뀌면 그 용어집으로 번역한 결과만 다시 번역 (용어집 없는 결과, 다른 용어집 결과는 그대로)
+            versionTracker.bump(glossaryIds.get(0));
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI").join();
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI", glossaryIds.get(1)).join();
+            assertThat(stub.submitCount()).isEqualTo(5);
+            service.translateTextAsync("안녕하세요", "ko", "en", "OpenAI", glossaryIds.get(0)).join();
+            assertThat(stub.submitCount()).isEqualTo(6);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static TranslationService service(FastApiStub stub, ScheduledExecutorService scheduler,
+                                              GlossaryVersionTracker versionTracker) {
+        return ServiceFixtures.translationService(stub.url(),
+                new RestTemplateFastApiTransport(new RestTemplate(), scheduler), scheduler,
+                new TranslationPollingStrategy(new MockEnvironment(), 10, 1.6, 50, 50, 0, 5000, false, 0, 0),
+                ServiceFixtures.glossaryService(stub.url(), new RestTemplate(), versionTracker,
+                        ServiceFixtures.glossaryCache(true, 60)),
+                versionTracker, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,130 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.config.CompressionMetrics;
+import com.tension.gorani.config.RestTemplateConfig;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 FastAPI 호출(GlossaryService.fetchUserGlossaries)을 동시에 몇 개까지 붙잡고 있을 수 있는지 비교
+ * - before: Tomcat 기본 최대 스레드 수(200)와 같은 플랫폼 스레드 풀
+ * - after: spring.threads.virtual.enabled=true 와 같은 요청당 가상 스레드
+ * RestTemplate은 운영과 같은 RestTemplateConfig 커넥션 풀(fastapi: 호스트당 100개, 커넥션 획득 대기 2000 ms)로 만든다.
+ * 풀 설정 그대로면 동시 호출 수는 풀 크기에서 멈추고, 가상 스레드는 풀 대기가 길어져 획득 제한 시간에 걸린 호출이 실패로 남는다.
+ * 풀 크기(http.client.fastapi.max-per-route)를 호출 수만큼 늘린 경우와 함께 비교한다.
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CALLS = 2000;
+    private static final long LATENCY_MS = 500;
+    // RestTemplateConfig의 fastapi 기본 max-per-route
+    private static final int POOL_MAX_PER_ROUTE = 100;
+
+    @Test
+    void virtualThreadsHoldMoreConcurrentSlowCalls() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            stub.glossaryLatency(LATENCY_MS);
+
+            Result pooledPlatform;
+            Result pooledVirtual;
+            try (Client client = client(stub, null)) {
+                pooledPlatform = run(stub, client.glossaryService, Executors.newFixedThreadPool(200));
+                pooledVirtual = run(stub, client.glossaryService, Executors.newVirtualThreadPerTaskExecutor());
+            }
+            Result platform;
+            Result virtual;
+            try (Client client = client(stub, CALLS)) {
+                platform = run(stub, client.glossaryService, Executors.newFixedThreadPool(200));
+                virtual = run(stub, client.glossaryService, Executors.newVirtualThreadPerTaskExecutor());
+            }
+
+            print("platform(200), pool 100", pooledPlatform);
+            print("virtual      , pool 100", pooledVirtual);
+            print("platform(200), pool " + CALLS, platform);
+            print("virtual      , pool " + CALLS, virtual);
+            // 운영 풀 설정: 동시 호출 수는 호스트당 커넥션 수를 넘지 않음
+            assertThat(pooledPlatform.peak).isLessThanOrEqualTo(POOL_MAX_PER_ROUTE);
+            assertThat(pooledVirtual.peak).isLessThanOrEqualTo(POOL_MAX_PER_ROUTE);
+            assertThat(pooledPlatform.failed).isZero();
+            // 풀이 충분하면 가상 스레드가 플랫폼 스레드 수(200)보다 많은 호출을 동시에 붙잡음
+            assertThat(platform.peak).isLessThanOrEqualTo(200);
+            assertThat(virtual.peak).isGreaterThan(platform.peak);
+            assertThat(virtual.failed).isZero();
+        }
+    }
+
+    private Result run(FastApiStub stub, GlossaryService glossaryService, ExecutorService executor) throws Exception {
+        stub.resetPeak();
+        long start = System.nanoTime();
+        int failed = 0;
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLS; i++) {
+                int userId = i;
+                futures.add(executor.submit(() -> glossaryService.fetchUserGlossaries(userId)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                }
+            }
+        }
+        return new Result(stub.peakInFlight(), failed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%s: 최대 동시 호출 %4d, 실패 %4d, %d건 처리 %5d ms%n",
+                label, result.peak, result.failed, CALLS, result.elapsedMs);
+    }
+
+    // 운영과 같은 RestTemplateConfig 클라이언트 (maxPerRoute가 null이면 기본 풀 크기)
+    private static Client client(FastApiStub stub, Integer maxPerRoute) {
+        MockEnvironment environment = new MockEnvironment().withProperty("fastapi.url", stub.url());
+        if (maxPerRoute != null) {
+            environment.withProperty("http.client.fastapi.max-per-route", String.valueOf(maxPerRoute))
+                    .withProperty("http.client.max-total", String.valueOf(maxPerRoute));
+        }
+        MeterRegistry registry = new SimpleMeterRegistry();
+        RestTemplateConfig config = new RestTemplateConfig();
+        RestTemplateConfig.Downstreams downstreams = config.downstreams(environment);
+        PoolingHttpClientConnectionManager connectionManager = config.outboundConnectionManager(downstreams, environment, registry);
+        CloseableHttpClient httpClient = config.outboundHttpClient(connectionManager, downstreams, new CompressionMetrics(registry), environment);
+        GlossaryService glossaryService = new GlossaryService(config.restTemplate(httpClient, downstreams),
+                new GlossaryVersionTracker(), new ObjectMapper(), ServiceFixtures.mutationGuard(new ObjectMapper()),
+                ServiceFixtures.glossaryCache(false, 60));
+        ReflectionTestUtils.setField(glossaryService, "fastApiUrl", stub.url());
+        return new Client(httpClient, glossaryService);
+    }
+
+    private record Client(CloseableHttpClient httpClient, GlossaryService glossaryService) implements AutoCloseable {
+        @Override
+        public void close() throws Exception {
+            httpClient.close();
+        }
+    }
+
+    private record Result(int peak, int failed, long elapsedMs) {
+    }
+}
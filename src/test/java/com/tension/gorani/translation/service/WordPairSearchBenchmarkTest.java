@@ -0,0 +1,114 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단어쌍 50,000개 용어집 조회 비교 (응답 직렬화 포함, 캐시된 목록 기준)
+ * - before: 전체 목록을 HashMap으로 복사해 응답 (브라우저가 받아서 검색)
+ * - search: 색인 검색 결과 한 페이지(50개)만 응답 (접두사 / 부분 문자열 / 한 글자, 원문·번역어)
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class WordPairSearchBenchmarkTest {
+
+    private static final int PAIRS = 50_000;
+    private static final int LIMIT = 50;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초";
+
+    @Test
+    void pagedSearchAnswersLargeGlossaryWithinTenMillis() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(7);
+        List<GlossaryRequest.WordPair> wordPairs = new ArrayList<>(PAIRS);
+        for (int i = 0; i < PAIRS; i++) {
+            wordPairs.add(WordPairSearchTest.wordPair(Integer.toHexString(0x65a00000 + i),
+                    syllables(random, 2 + random.nextInt(4)), "term " + Integer.toString(i, 36) + " " + syllables(random, 2)));
+        }
+
+        long buildStart = System.nanoTime();
+        WordPairIndex index = WordPairIndex.build(wordPairs);
+        double buildMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+        // before: 전체 복사 + 직렬화
+        long[] before = new long[30];
+        int beforeBytes = 0;
+        for (int i = -10; i < before.length; i++) {
+            long start = System.nanoTime();
+            List<Map<String, Object>> processed = wordPairs.stream().map(pair -> {
+                Map<String, Object> map = new HashMap<>();
+                map.put("id", pair.getId());
+                map.put("start", pair.getStart());
+                map.put("arrival", pair.getArrival());
+                return map;
+            }).toList();
+            beforeBytes = objectMapper.writeValueAsBytes(processed).length;
+            if (i >= 0) {
+                before[i] = System.nanoTime() - start;
+            }
+        }
+
+        // search: 무작위 검색어 (원문 접두사, 부분 문자열, 번역어, 한 글자, 다음 페이지)
+        int queries = 2_000;
+        long[] search = new long[queries];
+        long pageBytes = 0;
+        for (int i = -500; i < queries; i++) {
+            String query = switch (Math.floorMod(i, 5)) {
+                case 0 -> syllables(random, 1 + random.nextInt(2));
+                case 1 -> syllables(random, 2);
+                case 2 -> "term " + Integer.toString(random.nextInt(PAIRS), 36).substring(0, 2);
+                case 3 -> syllables(random, 1);
+                default -> null;
+            };
+            WordPairIndex.Match match = Math.floorMod(i, 5) == 1 || Math.floorMod(i, 5) == 3
+                    ? WordPairIndex.Match.CONTAINS : WordPairIndex.Match.PREFIX;
+            long start = System.nanoTime();
+            WordPairIndex.Page page = index.search(query, match, WordPairIndex.Field.ANY, null, LIMIT);
+            if (query == null) {
+                page = index.search(null, match, WordPairIndex.Field.ANY, page.nextCursor(), LIMIT);
+            }
+            WordPairPageResponse response = new WordPairPageResponse(
+                    page.items().stream().map(WordPairPageResponse.Item::of).toList(), page.nextCursor(), index.size());
+            int bytes = objectMapper.writeValueAsBytes(response).length;
+            if (i >= 0) {
+                search[i] = System.nanoTime() - start;
+                pageBytes += bytes;
+            }
+        }
+
+        System.out.printf("단어쌍 %,d개, 색인 생성 %.0f ms (%,d bytes 추정)%n", PAIRS, buildMs, index.estimatedBytes());
+        System.out.printf("before (전체 응답): p50 %6.2f ms, p99 %6.2f ms, 응답 %,d bytes%n",
+                percentile(before, 50), percentile(before, 99), beforeBytes);
+        System.out.printf("search (%d개 페이지): p50 %6.2f ms, p99 %6.2f ms, 평균 응답 %,d bytes%n",
+                LIMIT, percentile(search, 50), percentile(search, 99), pageBytes / queries);
+
+        assertThat(percentile(search, 99)).isLessThan(10.0);
+        assertThat(percentile(search, 50)).isLessThan(percentile(before, 50) / 10);
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1_000_000.0;
+    }
+
+    private static String syllables(Random random, int count) {
+        StringBuilder syllables = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            syllables.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return syllables.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.tension.gorani.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.DTO.GlossaryRequest;
+import com.tension.gorani.translation.DTO.WordPairPageResponse;
+import com.tension.gorani.translation.support.FastApiStub;
+import com.tension.gorani.translation.support.ServiceFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단어쌍 커서 페이지 / 접두사·부분 문자열 검색
+ */
+class WordPairSearchTest {
+
+    private static final List<GlossaryRequest.WordPair> PAIRS = List.of(
+            wordPair("1", "사과", "apple"), wordPair("2", "사과나무", "apple tree"), wordPair("3", "배", "pear"),
+            wordPair("4", "Seoul", "서울"), wordPair("5", "고라니", "water deer"), wordPair("6", "청사과", "green apple"),
+            wordPair("7", "seoul station", "서울역"), wordPair("8", "나무", "tree"));
+
+    @Test
+    void cursorWalksSortedPairsAndSurvivesEdits() {
+        WordPairIndex index = WordPairIndex.build(PAIRS);
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            WordPairIndex.Page page = index.search(null, WordPairIndex.Match.PREFIX, WordPairIndex.Field.ANY, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            page.items().forEach(pair -> walked.add(pair.getStart()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(walked).containsExactly("Seoul", "seoul station", "고라니", "나무", "배", "사과", "사과나무", "청사과");
+
+        // 첫 페이지를 읽은 뒤 앞뒤에 단어쌍이 추가/삭제되어도 커서 다음부터 이어진다
+        String afterFirstPage = index.search(null, WordPairIndex.Match.PREFIX, WordPairIndex.Field.ANY, null, 3).nextCursor();
+        List<GlossaryRequest.WordPair> edited = new ArrayList<>(PAIRS);
+        edited.remove(4); // 고라니 (이미 읽음)
+        edited.add(wordPair("9", "가방", "bag"));
+        edited.add(wordPair("10", "도시", "city"));
+        WordPairIndex.Page next = WordPairIndex.build(edited)
+                .search(null, WordPairIndex.Match.PREFIX, WordPairIndex.Field.ANY, afterFirstPage, 3);
+        assertThat(next.items()).extracting(GlossaryRequest.WordPair::getStart).containsExactly("나무", "도시", "배");
+    }
+
+    @Test
+    void searchesByPrefixAndSubstringOnEitherField() {
+        WordPairIndex index = WordPairIndex.build(PAIRS);
+
+        assertThat(starts(index, "사과", WordPairIndex.Match.PREFIX, WordPairIndex.Field.START)).containsExactly("사과", "사과나무");
+        assertThat(starts(index, "SEOUL", WordPairIndex.Match.PREFIX, WordPairIndex.Field.START)).containsExactly("Seoul", "seoul station");
+        assertThat(starts(index, "서울", WordPairIndex.Match.PREFIX, WordPairIndex.Field.ARRIVAL)).containsExactly("Seoul", "seoul station");
+        assertThat(starts(index, "apple", WordPairIndex.Match.PREFIX, WordPairIndex.Field.ANY)).containsExactly("사과", "사과나무");
+        assertThat(starts(index, "사과", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.START)).containsExactly("사과", "사과나무", "청사과");
+        assertThat(starts(index, "tree", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.ANY)).containsExactly("나무", "사과나무");
+        assertThat(starts(index, "무", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.START)).containsExactly("나무", "사과나무");
+        assertThat(starts(index, "없는말", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.ANY)).isEmpty();
+
+        // 검색 결과도 커서로 나눠 읽는다
+        WordPairIndex.Page first = index.search("apple", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.ARRIVAL, null, 2);
+        assertThat(first.items()).extracting(GlossaryRequest.WordPair::getStart).containsExactly("사과", "사과나무");
+        WordPairIndex.Page second = index.search("apple", WordPairIndex.Match.CONTAINS, WordPairIndex.Field.ARRIVAL, first.nextCursor(), 2);
+        assertThat(second.items()).extracting(GlossaryRequest.WordPair::getStart).containsExactly("청사과");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void servicePagesCachedGlossaryAndRejectsBadParameters() throws Exception {
+        try (FastApiStub stub = new FastApiStub()) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            GlossaryService glossaryService = new GlossaryService(new RestTemplate(), new GlossaryVersionTracker(), objectMapper,
+                    ServiceFixtures.mutationGuard(objectMapper), ServiceFixtures.glossaryCache(true, 60));
+            ReflectionTestUtils.setField(glossaryService, "fastApiUrl", stub.url());
+            WordPairSearchService service = new WordPairSearchService(glossaryService, new SimpleMeterRegistry(), 1 << 24, 2, 10);
+            String glossaryId = stub.seedGlossaries(1, 1, 5).get(0);
+
+            WordPairPageResponse page = service.search(glossaryId, null, null, null, null, null);
+            assertThat(page.getItems()).extracting(WordPairPageResponse.Item::getStart).containsExactly("용어0", "용어1");
+            assertThat(page.getTotalWordPairs()).isEqualTo(5);
+            assertThat(service.search(glossaryId, "term4", "contains", "arrival", null, 10).getItems())
+                    .extracting(WordPairPageResponse.Item::getId).singleElement().isNotNull();
+            assertThat(stub.requestCount(FastApiStub.Route.GLOSSARY_READ)).isEqualTo(1);
+
+            glossaryService.addWordPair(glossaryId, wordPair(null, "용어 추가", "added"), null);
+            assertThat(service.search(glossaryId, "용어 추", null, "start", null, null).getItems())
+                    .extracting(WordPairPageResponse.Item::getArrival).containsExactly("added");
+
+            assertThatThrownBy(() -> service.search(glossaryId, null, null, null, null, 11)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.search(glossaryId, null, "fuzzy", null, null, null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.search(glossaryId, null, null, null, "!!", null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static List<String> starts(WordPairIndex index, String query, WordPairIndex.Match match, WordPairIndex.Field field) {
+        return index.search(query, match, field, null, 100).items().stream().map(GlossaryRequest.WordPair::getStart).toList();
+    }
+
+    static GlossaryRequest.WordPair wordPair(String id, String start, String arrival) {
+        GlossaryRequest.WordPair wordPair = new GlossaryRequest.WordPair();
+        wordPair.setId(id);
+        wordPair.setStart(start);
+        wordPair.setArrival(arrival);
+        return wordPair;
+    }
+}
@@ -0,0 +1,589 @@
+package com.tension.gorani.translation.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 테스트용 FastAPI 대역 (JDK HttpServer, 프로세스 내 실행)
+ * TranslationService / GlossaryService가 사용하는 FastAPI 계약을 흉내 낸다.
+ * - POST /translate → task_id 발급, GET /translate/status/{taskId} → 작업 시간이 지나면 completed
+ * - GET /glossary?userId= → 사용자 용어집 목록
+ * - /api/glossary/** → 용어집 생성/이름 변경/삭제, 단어쌍 추가/수정/삭제/조회 (메모리 저장소)
+ * - PUT /api/v1/glossary/{userId}/reset-default, PUT /api/v1/glossary/{userId}/default?glossary_id= → 기본 용어집 설정
+ * 경로 그룹({@link Route})별로 응답 지연 분포({@link Latency})와 오류 비율을 지정할 수 있다.
+ * glossaryList / defaultGlossary로 응답 본문을 고정하면 저장소 대신 그 본문을 돌려준다.
+ * compressResponses를 켜면 GZipMiddleware처럼 Accept-Encoding: gzip 요청의 큰 응답을 압축한다.
+ */
+public class FastApiStub implements AutoCloseable {
+
+    /**
+     * 지연/오류 설정 단위
+     */
+    public enum Route {
+        TRANSLATE_SUBMIT, TRANSLATE_STATUS, GLOSSARY_READ, GLOSSARY_WRITE
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+    private final Map<String, Glossary> glossaries = new ConcurrentHashMap<>();
+    private final AtomicLong nextObjectId = new AtomicLong(0x65a0_0000L);
+    private final AtomicInteger submitCount = new AtomicInteger();
+    private final AtomicInteger statusCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final Map<Route, Latency> latencies = new EnumMap<>(Route.class);
+    private final Map<Route, Errors> errors = new EnumMap<>(Route.class);
+    private final Map<Route, AtomicInteger> injectedErrors = new EnumMap<>(Route.class);
+    private final Map<Route, AtomicInteger> requests = new EnumMap<>(Route.class);
+    private volatile ToLongFunction<String> jobDurationMs = text -> 300;
+    private volatile UnaryOperator<String> translator = text -> "[translated] " + text;
+    private volatile Map<?, ?> lastTranslateRequest;
+    private volatile byte[] glossaryListBody;
+    private volatile byte[] defaultGlossaryBody;
+    private volatile int compressMinBytes = -1;
+    private final AtomicInteger failingMutations = new AtomicInteger();
+    private final AtomicInteger appliedMutations = new AtomicInteger();
+    private final AtomicInteger largestBatch = new AtomicInteger();
+    private final AtomicInteger failingDefaultSwitches = new AtomicInteger();
+    private volatile int defaultSwitchFailureStatus = 503;
+    private volatile boolean legacyDefaultSwitch;
+    private volatile int mutationFailureStatus = 503;
+    private final List<String> mutationKeys = new CopyOnWriteArrayList<>();
+
+    public FastApiStub() throws IOException {
+        for (Route route : Route.values()) {
+            latencies.put(route, Latency.NONE);
+            injectedErrors.put(route, new AtomicInteger());
+            requests.put(route, new AtomicInteger());
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/translate", exchange -> handle(exchange, this::handleTranslate));
+        server.createContext("/glossary", exchange -> handle(exchange, this::handleGlossaryList));
+        server.createContext("/api/v1/glossary", exchange -> handle(exchange, this::handleDefaultGlossary));
+        server.createContext("/api/glossary", exchange -> handle(exchange, this::handleGlossary));
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // 원문별 Celery 작업 소요 시간 지정
+    public void jobDuration(ToLongFunction<String> jobDurationMs) {
+        this.jobDurationMs = jobDurationMs;
+    }
+
+    // 원문 → 번역 결과 (기본: "[translated] " + 원문)
+    public void translator(UnaryOperator<String> translator) {
+        this.translator = translator;
+    }
+
+    // 마지막으로 받은 POST /translate 본문
+    public Map<?, ?> lastTranslateRequest() {
+        return lastTranslateRequest;
+    }
+
+    // 경로 그룹별 응답 지연 분포
+    public synchronized void latency(Route route, Latency latency) {
+        latencies.put(route, latency);
+    }
+
+    // 경로 그룹별 오류 응답 비율 (0.0 ~ 1.0, 처리하지 않고 status로 응답)
+    public synchronized void errors(Route route, double rate, int status) {
+        errors.put(route, new Errors(rate, status));
+    }
+
+    // 용어집 조회 응답 지연 (느린 FastAPI 재현용)
+    public void glossaryLatency(long latencyMs) {
+        latency(Route.GLOSSARY_READ, Latency.fixed(latencyMs));
+    }
+
+    // GET /glossary 응답 본문 고정 (JSON 배열)
+    public void glossaryList(String json) {
+        this.glossaryListBody = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // PUT /api/v1/glossary/{userId}/default 응답 본문 고정
+    public void defaultGlossary(String json) {
+        this.defaultGlossaryBody = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // minBytes 이상인 응답을 gzip으로 압축 (FastAPI GZipMiddleware(minimum_size=...)와 같은 동작)
+    public void compressResponses(int minBytes) {
+        this.compressMinBytes = minBytes;
+    }
+
+    // 사용자별 용어집을 미리 채움 (첫 번째가 기본 용어집), 생성된 용어집 ID 반환
+    public List<String> seedGlossaries(long userId, int count, int wordsPerGlossary) {
+        List<String> ids = new ArrayList<>();
+        for (int g = 0; g < count; g++) {
+            Glossary glossary = new Glossary(objectId(), "용어집 " + g, userId);
+            glossary.isDefault = g == 0;
+            for (int w = 0; w < wordsPerGlossary; w++) {
+                glossary.words.add(wordPair(objectId(), "용어" + w, "term" + w));
+            }
+            glossaries.put(glossary.id, glossary);
+            ids.add(glossary.id);
+        }
+        return ids;
+    }
+
+    // 용어집에 단어쌍 추가 (start, arrival 순서로 나열)
+    public void addWordPairs(String glossaryId, String... startAndArrival) {
+        Glossary glossary = glossaries.get(glossaryId);
+        synchronized (glossary) {
+            for (int i = 0; i + 1 < startAndArrival.length; i += 2) {
+                glossary.words.add(wordPair(objectId(), startAndArrival[i], startAndArrival[i + 1]));
+            }
+        }
+    }
+
+    // 다음 변경 요청 times건을 status로 실패시킴 (처리하지 않음)
+    public void failNextMutations(int status, int times) {
+        this.mutationFailureStatus = status;
+        this.failingMutations.set(times);
+    }
+
+    // 다음 times번의 PUT /default 요청을 status로 실패시킴 (reset-default는 그대로)
+    public void failNextDefaultSwitches(int status, int times) {
+        defaultSwitchFailureStatus = status;
+        failingDefaultSwitches.set(times);
+    }
+
+    // true면 PUT /default가 기존 기본 용어집을 해제하지 않음 (reset-default를 따로 불러야 하는 FastAPI)
+    public void legacyDefaultSwitch(boolean legacy) {
+        legacyDefaultSwitch = legacy;
+    }
+
+    // 사용자의 기본 용어집 ID 목록
+    public List<String> defaultGlossaryIds(long userId) {
+        return glossaries.values().stream().filter(g -> g.userId == userId && g.isDefault).map(g -> g.id).sorted().toList();
+    }
+
+    // 받은 변경 요청의 Idempotency-Key (실패 응답 포함, 도착 순)
+    public List<String> mutationKeys() {
+        return List.copyOf(mutationKeys);
+    }
+
+    // 실제로 처리된 변경 요청 수
+    public int appliedMutations() {
+        return appliedMutations.get();
+    }
+
+    // 일괄 추가 요청 하나에 담긴 단어쌍 수의 최대값
+    public int largestBatch() {
+        return largestBatch.get();
+    }
+
+    // 주입된 오류 응답 수
+    public int injectedErrors(Route route) {
+        return injectedErrors.get(route).get();
+    }
+
+    // 경로별로 받은 요청 수 (오류 주입 포함)
+    public int requestCount(Route route) {
+        return requests.get(route).get();
+    }
+
+    // 동시에 처리 중이던 요청 수의 최대값
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public void resetPeak() {
+        peakInFlight.set(0);
+    }
+
+    public int submitCount() {
+        return submitCount.get();
+    }
+
+    public int statusCount() {
+        return statusCount.get();
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        try {
+            handler.handle(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    // 지연을 적용하고, 오류를 주입했으면 true
+    private boolean delayOrFail(HttpExchange exchange, Route route) throws IOException, InterruptedException {
+        requests.get(route).incrementAndGet();
+        Latency latency;
+        Errors error;
+        synchronized (this) {
+            latency = latencies.get(route);
+            error = errors.get(route);
+        }
+        long delayMs = latency.nextMs();
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+        if (error != null && ThreadLocalRandom.current().nextDouble() < error.rate) {
+            injectedErrors.get(route).incrementAndGet();
+            respond(exchange, error.status, Map.of("detail", "injected failure"));
+            return true;
+        }
+        return false;
+    }
+
+    private void handleTranslate(HttpExchange exchange) throws IOException, InterruptedException {
+        String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod()) && "/translate".equals(path)) {
+            if (delayOrFail(exchange, Route.TRANSLATE_SUBMIT)) {
+                return;
+            }
+            Map<?, ?> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+            lastTranslateRequest = body;
+            String text = String.valueOf(body.get("text"));
+            String taskId = UUID.randomUUID().toString();
+            tasks.put(taskId, new Task(text, System.nanoTime() + jobDurationMs.applyAsLong(text) * 1_000_000));
+            submitCount.incrementAndGet();
+            respond(exchange, 200, Map.of("task_id", taskId));
+        } else if ("GET".equals(exchange.getRequestMethod()) && path.startsWith("/translate/status/")) {
+            statusCount.incrementAndGet();
+            if (delayOrFail(exchange, Route.TRANSLATE_STATUS)) {
+                return;
+            }
+            Task task = tasks.get(path.substring("/translate/status/".length()));
+            if (task == null) {
+                respond(exchange, 404, Map.of("detail", "task not found"));
+            } else if (System.nanoTime() >= task.completesAtNanos) {
+                tasks.remove(path.substring("/translate/status/".length()));
+                respond(exchange, 200, Map.of("status", "completed", "result", translator.apply(task.text)));
+            } else {
+                respond(exchange, 200, Map.of("status", "pending"));
+            }
+        } else {
+            respond(exchange, 404, Map.of("detail", "not found"));
+        }
+    }
+
+    // GET /glossary?userId=
+    private void handleGlossaryList(HttpExchange exchange) throws IOException, InterruptedException {
+        if (delayOrFail(exchange, Route.GLOSSARY_READ)) {
+            return;
+        }
+        byte[] fixed = glossaryListBody;
+        if (fixed != null) {
+            respondRaw(exchange, 200, fixed);
+            return;
+        }
+        String userId = query(exchange, "userId");
+        respond(exchange, 200, userGlossaries(userId == null ? -1 : Long.parseLong(userId)));
+    }
+
+    // PUT /api/v1/glossary/{userId}/reset-default, PUT /api/v1/glossary/{userId}/default?glossary_id=
+    private void handleDefaultGlossary(HttpExchange exchange) throws IOException, InterruptedException {
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        if (!"PUT".equals(exchange.getRequestMethod()) || parts.length != 6) {
+            respond(exchange, 405, Map.of("detail", "method not allowed"));
+            return;
+        }
+        if (delayOrFail(exchange, Route.GLOSSARY_WRITE)) {
+            return;
+        }
+        long userId = parseLong(parts[4]);
+        if ("reset-default".equals(parts[5])) {
+            glossaries.values().stream().filter(g -> g.userId == userId).forEach(g -> g.isDefault = false);
+            respond(exchange, 200, Map.of("message", "reset"));
+        } else if ("default".equals(parts[5])) {
+            byte[] fixed = defaultGlossaryBody;
+            if (fixed != null) {
+                respondRaw(exchange, 200, fixed);
+                return;
+            }
+            if (failingDefaultSwitches.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                respond(exchange, defaultSwitchFailureStatus, Map.of("detail", "injected failure"));
+                return;
+            }
+            String glossaryId = query(exchange, "glossary_id");
+            Glossary target = glossaries.get(glossaryId);
+            if (target == null || target.userId != userId) {
+                respond(exchange, 404, Map.of("detail", "Glossary not found"));
+                return;
+            }
+            if (legacyDefaultSwitch) {
+                target.isDefault = true; // 기존 기본 용어집은 그대로 (reset-default를 먼저 불러야 함)
+            } else {
+                glossaries.values().stream().filter(g -> g.userId == userId)
+                        .forEach(g -> g.isDefault = g.id.equals(glossaryId));
+            }
+            respond(exchange, 200, Map.of("message", "기본 용어집 설정 성공", "glossaries", userGlossaries(userId)));
+        } else {
+            respond(exchange, 404, Map.of("detail", "not found"));
+        }
+    }
+
+    // /api/glossary, /api/glossary/{id}, /api/glossary/{id}/word-pair[/{wordPairId|index|batch}]
+    private void handleGlossary(HttpExchange exchange) throws IOException, InterruptedException {
+        String method = exchange.getRequestMethod();
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        boolean read = "GET".equals(method);
+        byte[] body = exchange.getRequestBody().readAllBytes();
+
+        if (!read) {
+            String key = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            mutationKeys.add(key == null ? "" : key);
+            if (failingMutations.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                respond(exchange, mutationFailureStatus, Map.of("detail", "injected failure"));
+                return;
+            }
+        }
+        if (delayOrFail(exchange, read ? Route.GLOSSARY_READ : Route.GLOSSARY_WRITE)) {
+            return;
+        }
+
+        if (parts.length == 3 && "POST".equals(method)) {
+            Map<?, ?> request = objectMapper.readValue(body, Map.class);
+            Glossary glossary = new Glossary(objectId(), String.valueOf(request.get("name")),
+                    request.get("userId") instanceof Number n ? n.longValue() : -1);
+            if (request.get("words") instanceof List<?> words) {
+                words.forEach(w -> glossary.words.add(wordPair(objectId(), (Map<?, ?>) w)));
+            }
+            glossaries.put(glossary.id, glossary);
+            applied();
+            respond(exchange, 200, glossary.toJson());
+            return;
+        }
+        Glossary glossary = parts.length > 3 ? glossaries.get(parts[3]) : null;
+        if (glossary == null) {
+            respond(exchange, 404, Map.of("detail", "Glossary not found"));
+            return;
+        }
+
+        if (parts.length == 4 && "PUT".equals(method)) {
+            glossary.name = String.valueOf(objectMapper.readValue(body, Map.class).get("name"));
+            applied();
+            respond(exchange, 200, Map.of("message", "용어집 이름 변경 성공"));
+        } else if (parts.length == 4 && "DELETE".equals(method)) {
+            glossaries.remove(glossary.id);
+            applied();
+            respond(exchange, 200, Map.of("message", "용어집 삭제 성공"));
+        } else if (parts.length == 5 && "word-pair".equals(parts[4]) && read) {
+            synchronized (glossary) {
+                respond(exchange, 200, new ArrayList<>(glossary.words));
+            }
+        } else if (parts.length == 5 && "word-pair".equals(parts[4]) && "POST".equals(method)) {
+            synchronized (glossary) {
+                glossary.words.add(wordPair(objectId(), objectMapper.readValue(body, Map.class)));
+            }
+            applied();
+            respond(exchange, 200, Map.of("message", "단어쌍 추가 성공"));
+        } else if (parts.length == 6 && "word-pair".equals(parts[4]) && "batch".equals(parts[5]) && "POST".equals(method)) {
+            List<?> batch = objectMapper.readValue(body, List.class);
+            synchronized (glossary) {
+                batch.forEach(w -> glossary.words.add(wordPair(objectId(), (Map<?, ?>) w)));
+            }
+            largestBatch.accumulateAndGet(batch.size(), Math::max);
+            applied();
+            respond(exchange, 200, Map.of("message", "단어쌍 일괄 추가 성공", "count", batch.size()));
+        } else if (parts.length == 6 && "PUT".equals(method)) {
+            Map<?, ?> request = objectMapper.readValue(body, Map.class);
+            boolean updated = false;
+            synchronized (glossary) {
+                for (int i = 0; i < glossary.words.size(); i++) {
+                    if (parts[5].equals(glossary.words.get(i).get("_id"))) {
+                        glossary.words.set(i, wordPair(parts[5], request));
+                        updated = true;
+                    }
+                }
+            }
+            if (updated) {
+                applied();
+                respond(exchange, 200, Map.of("message", "단어쌍 수정 성공"));
+            } else {
+                respond(exchange, 404, Map.of("detail", "Word pair not found"));
+            }
+        } else if (parts.length == 6 && "DELETE".equals(method)) {
+            int index = (int) parseLong(parts[5]);
+            boolean removed = false;
+            synchronized (glossary) {
+                if (index >= 0 && index < glossary.words.size()) {
+                    glossary.words.remove(index);
+                    removed = true;
+                }
+            }
+            if (removed) {
+                applied();
+                respond(exchange, 200, Map.of("message", "단어쌍 삭제 성공"));
+            } else {
+                respond(exchange, 404, Map.of("detail", "Word pair not found"));
+            }
+        } else {
+            respond(exchange, 405, Map.of("detail", "method not allowed"));
+        }
+    }
+
+    private void applied() {
+        appliedMutations.incrementAndGet();
+    }
+
+    private List<Map<String, Object>> userGlossaries(long userId) {
+        return glossaries.values().stream()
+                .filter(g -> g.userId == userId)
+                .sorted((a, b) -> a.id.compareTo(b.id))
+                .map(Glossary::toJson)
+                .toList();
+    }
+
+    private String objectId() {
+        return String.format(Locale.ROOT, "%024x", nextObjectId.getAndIncrement());
+    }
+
+    private static Map<String, Object> wordPair(String id, Map<?, ?> request) {
+        return wordPair(id, String.valueOf(request.get("start")), String.valueOf(request.get("arrival")));
+    }
+
+    private static Map<String, Object> wordPair(String id, String start, String arrival) {
+        Map<String, Object> wordPair = new LinkedHashMap<>();
+        wordPair.put("_id", id);
+        wordPair.put("start", start);
+        wordPair.put("arrival", arrival);
+        return wordPair;
+    }
+
+    private static String query(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        respondRaw(exchange, status, objectMapper.writeValueAsBytes(body));
+    }
+
+    private void respondRaw(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (compressMinBytes >= 0 && bytes.length >= compressMinBytes && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * 응답 지연 분포 (ms)
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        Latency NONE = () -> 0;
+
+        long nextMs();
+
+        static Latency fixed(long ms) {
+            return () -> ms;
+        }
+
+        static Latency uniform(long minMs, long maxMs) {
+            return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+        }
+
+        // 중앙값과 p99로 정한 로그 정규 분포 (꼬리 지연 재현용)
+        static Latency logNormal(long medianMs, long p99Ms) {
+            double mu = Math.log(medianMs);
+            double sigma = (Math.log(p99Ms) - mu) / 2.326;
+            return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+
+    private record Errors(double rate, int status) {
+    }
+
+    private record Task(String text, long completesAtNanos) {
+    }
+
+    private static final class Glossary {
+        private final String id;
+        private final long userId;
+        private final List<Map<String, Object>> words = new ArrayList<>();
+        private volatile String name;
+        private volatile boolean isDefault;
+
+        private Glossary(String id, String name, long userId) {
+            this.id = id;
+            this.name = name;
+            this.userId = userId;
+        }
+
+        private synchronized Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("_id", id);
+            json.put("name", name);
+            json.put("userId", userId);
+            json.put("isDefault", isDefault);
+            json.put("words", new ArrayList<>(words));
+            return json;
+        }
+    }
+}
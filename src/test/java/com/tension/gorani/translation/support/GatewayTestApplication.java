@@ -0,0 +1,59 @@
+package com.tension.gorani.translation.support;
+
+import com.tension.gorani.config.AsyncConfig;
+import com.tension.gorani.config.BeanConfiguration;
+import com.tension.gorani.config.CompressionConfig;
+import com.tension.gorani.config.CompressionMetrics;
+import com.tension.gorani.config.RestTemplateConfig;
+import com.tension.gorani.config.WebClientConfig;
+import com.tension.gorani.translation.controller.GlossaryController;
+import com.tension.gorani.translation.controller.GlossaryWordPairController;
+import com.tension.gorani.translation.controller.ReactiveGlossaryController;
+import com.tension.gorani.translation.controller.TranslationController;
+import com.tension.gorani.translation.service.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jdbc.JdbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 번역/용어집 경로만 올리는 최소 구성 (DB, 보안, OAuth 제외)
+ * 컨트롤러/서비스는 gateway.reactive.enabled 값에 따라 서블릿 또는 논블로킹 쪽만 등록된다.
+ * TranslationMemoryService는 DB가 필요하므로 사용하는 테스트에서 @MockitoBean으로 대체한다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        JdbcRepositoriesAutoConfiguration.class,
+        SecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class,
+        OAuth2ClientAutoConfiguration.class,
+        ManagementWebSecurityAutoConfiguration.class
+})
+@Import({
+        AsyncConfig.class, BeanConfiguration.class, RestTemplateConfig.class, WebClientConfig.class,
+        CompressionConfig.class, CompressionMetrics.class,
+        TranslationController.class, GlossaryController.class, ReactiveGlossaryController.class, GlossaryWordPairController.class,
+        TranslationService.class, BatchTranslationService.class, DocumentTranslationService.class, DocumentSegmenter.class,
+        TranslationResultCache.class, TranslationRequestCoalescer.class, TranslationPollingStrategy.class,
+        TranslationModelGuard.class, RestTemplateFastApiTransport.class, WebClientFastApiTransport.class,
+        GlossaryService.class, ReactiveGlossaryService.class, GlossaryVersionTracker.class, GlossaryMutationGuard.class,
+        GlossaryCache.class, GlossaryTermMatcherCache.class, GlossaryEnforcer.class, GlossaryETags.class,
+        WordPairSearchService.class, GlossaryChangeLog.class, GlossarySnapshotStore.class,
+        KoreanTermNormalizer.class
+})
+public class GatewayTestApplication {
+}
@@ -0,0 +1,103 @@
+package com.tension.gorani.translation.support;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 닫힌 루프 부하 발생기
+ * 가상 사용자(concurrency)마다 앞선 응답을 받으면 바로 다음 요청을 보내며, 요청별 지연 시간으로 p50/p95/p99와 처리량을 계산한다.
+ */
+public class LoadDriver {
+
+    private final HttpClient httpClient;
+
+    public LoadDriver() {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * @param requestFactory i번째 요청 생성 (0부터)
+     */
+    public Result run(String name, int concurrency, int requests, IntFunction<HttpRequest> requestFactory) throws Exception {
+        long[] latencies = new long[requests];
+        boolean[] failed = new boolean[requests];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < concurrency; u++) {
+                futures.add(users.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = requestFactory.apply(i);
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            failed[i] = response.statusCode() >= 400;
+                        } catch (Exception e) {
+                            failed[i] = true;
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        int errors = 0;
+        for (boolean f : failed) {
+            if (f) {
+                errors++;
+            }
+        }
+        Arrays.sort(latencies);
+        return new Result(name, concurrency, requests, errors,
+                percentileMs(latencies, 50), percentileMs(latencies, 95), percentileMs(latencies, 99),
+                latencies[requests - 1] / 1_000_000.0, requests / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    // nearest-rank 백분위수
+    private static double percentileMs(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    public record Result(String name, int concurrency, int requests, int errors,
+                         double p50Ms, double p95Ms, double p99Ms, double maxMs, double throughputPerSec) {
+
+        public double errorRate() {
+            return (double) errors / requests;
+        }
+
+        public static String header() {
+            return String.format(Locale.ROOT, "%-16s %5s %7s %7s %9s %9s %9s %9s %10s",
+                    "scenario", "users", "reqs", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req/s");
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-16s %5d %7d %7d %9.1f %9.1f %9.1f %9.1f %10.1f",
+                    name, concurrency, requests, errors, p50Ms, p95Ms, p99Ms, maxMs, throughputPerSec);
+        }
+    }
+}
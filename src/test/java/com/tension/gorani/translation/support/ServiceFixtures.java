@@ -0,0 +1,124 @@
+package com.tension.gorani.translation.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tension.gorani.translation.service.FastApiTransport;
+import com.tension.gorani.translation.service.GlossaryCache;
+import com.tension.gorani.translation.service.GlossaryEnforcer;
+import com.tension.gorani.translation.service.GlossaryMutationGuard;
+import com.tension.gorani.translation.service.GlossaryService;
+import com.tension.gorani.translation.service.GlossarySnapshotStore;
+import com.tension.gorani.translation.service.GlossaryTermMatcherCache;
+import com.tension.gorani.translation.service.GlossaryVersionTracker;
+import com.tension.gorani.translation.service.KoreanTermNormalizer;
+import com.tension.gorani.translation.service.ReactiveGlossaryService;
+import com.tension.gorani.translation.service.RestTemplateFastApiTransport;
+import com.tension.gorani.translation.service.TranslationModelGuard;
+import com.tension.gorani.translation.service.TranslationPollingStrategy;
+import com.tension.gorani.translation.service.TranslationRequestCoalescer;
+import com.tension.gorani.translation.service.TranslationResultCache;
+import com.tension.gorani.translation.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 서비스 테스트 공용 구성 (스프링 컨텍스트 없이 FastAPI 대역에 연결)
+ * 테스트 클래스끼리 서로의 정적 메서드를 부르지 않도록 여기에 모아 둔다.
+ */
+public final class ServiceFixtures {
+
+    // 캐시 백그라운드 갱신 / 용어 매처 생성용
+    public static final ExecutorService REFRESH_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ServiceFixtures() {
+    }
+
+    // 테스트용 가드 (백오프 1~2 ms)
+    public static GlossaryMutationGuard mutationGuard(ObjectMapper objectMapper) {
+        return new GlossaryMutationGuard(objectMapper, new SimpleMeterRegistry(), 3, 2, 2, 60);
+    }
+
+    public static GlossarySnapshotStore disabledSnapshotStore() {
+        return new GlossarySnapshotStore(new GlossaryVersionTracker(), new SimpleMeterRegistry(), false, "", 0);
+    }
+
+    // 테스트용 캐시 (refreshAfterSeconds=0이면 조회할 때마다 백그라운드 갱신)
+    public static GlossaryCache glossaryCache(boolean enabled, long refreshAfterSeconds) {
+        return new GlossaryCache(new SimpleMeterRegistry(), REFRESH_EXECUTOR, disabledSnapshotStore(),
+                enabled, 1 << 20, 600, refreshAfterSeconds);
+    }
+
+    public static GlossaryService glossaryService(String fastApiUrl, GlossaryCache cache) {
+        return glossaryService(fastApiUrl, new RestTemplate(), new GlossaryVersionTracker(), cache);
+    }
+
+    public static GlossaryService glossaryService(String fastApiUrl, RestTemplate restTemplate,
+                                                  GlossaryVersionTracker versionTracker, GlossaryCache cache) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlossaryService service = new GlossaryService(restTemplate, versionTracker, objectMapper,
+                mutationGuard(objectMapper), cache);
+        ReflectionTestUtils.setField(service, "fastApiUrl", fastApiUrl);
+        return service;
+    }
+
+    // 게이트웨이 모드 용어집 서비스 (기본 용어집 설정은 같은 캐시를 쓰는 GlossaryService로 위임)
+    public static ReactiveGlossaryService reactiveGlossaryService(String fastApiUrl, WebClient webClient) {
+        return reactiveGlossaryService(fastApiUrl, webClient, glossaryCache(true, 60));
+    }
+
+    public static ReactiveGlossaryService reactiveGlossaryService(String fastApiUrl, WebClient webClient, GlossaryCache cache) {
+        ReactiveGlossaryService service = new ReactiveGlossaryService(webClient, new GlossaryVersionTracker(),
+                mutationGuard(new ObjectMapper()), cache, glossaryService(fastApiUrl, cache));
+        ReflectionTestUtils.setField(service, "fastApiUrl", fastApiUrl);
+        return service;
+    }
+
+    public static TranslationModelGuard modelGuard(MeterRegistry registry) {
+        return new TranslationModelGuard(new MockEnvironment(), registry, List.of("OpenAI", "Gorani", "LangGorani"),
+                100, 50, 15000, 80, 20, 10, 30);
+    }
+
+    public static TranslationService translationService(String fastApiUrl, ScheduledExecutorService scheduler,
+                                                        TranslationPollingStrategy strategy) {
+        return translationService(fastApiUrl, new RestTemplateFastApiTransport(new RestTemplate(), scheduler), scheduler, strategy);
+    }
+
+    public static TranslationService translationService(String fastApiUrl, FastApiTransport transport,
+                                                        ScheduledExecutorService scheduler,
+                                                        TranslationPollingStrategy strategy) {
+        GlossaryVersionTracker versionTracker = new GlossaryVersionTracker();
+        GlossaryService glossaryService = glossaryService(fastApiUrl, new RestTemplate(), versionTracker,
+                glossaryCache(true, 60));
+        return translationService(fastApiUrl, transport, scheduler, strategy, glossaryService, versionTracker,
+                new SimpleMeterRegistry());
+    }
+
+    public static TranslationService translationService(String fastApiUrl, FastApiTransport transport,
+                                                        ScheduledExecutorService scheduler,
+                                                        TranslationPollingStrategy strategy,
+                                                        GlossaryService glossaryService,
+                                                        GlossaryVersionTracker versionTracker,
+                                                        MeterRegistry registry) {
+        TranslationService service = new TranslationService(
+                transport,
+                scheduler,
+                new TranslationResultCache(1 << 20, 10, registry),
+                versionTracker,
+                new TranslationRequestCoalescer(registry),
+                strategy,
+                modelGuard(registry),
+                new GlossaryTermMatcherCache(glossaryService, versionTracker, REFRESH_EXECUTOR, registry,
+                        KoreanTermNormalizer.DEFAULT, 1 << 20, 60),
+                new GlossaryEnforcer(registry, KoreanTermNormalizer.DEFAULT, true));
+        ReflectionTestUtils.setField(service, "fastApiUrl", fastApiUrl);
+        return service;
+    }
+}